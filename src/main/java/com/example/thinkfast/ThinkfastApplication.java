@@ -1,8 +1,12 @@
 package com.example.thinkfast;
 
+import com.example.thinkfast.service.survey.ResponseCountRebuildRunner;
+import org.springframework.boot.DefaultApplicationArguments;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
@@ -13,6 +17,13 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 public class ThinkfastApplication {
 
 	public static void main(String[] args) {
+		// 재집계 명령은 웹 서버 없이 실행하고, 끝나면 ResponseCountRebuildRunner 의 종료 코드로 종료
+		if (new DefaultApplicationArguments(args).containsOption(ResponseCountRebuildRunner.REBUILD_OPTION)) {
+			SpringApplication application = new SpringApplication(ThinkfastApplication.class);
+			application.setWebApplicationType(WebApplicationType.NONE);
+			ConfigurableApplicationContext context = application.run(args);
+			System.exit(SpringApplication.exit(context));
+		}
 		SpringApplication.run(ThinkfastApplication.class, args);
 		System.setProperty("file.encoding","UTF-8");
 	}
@@ -0,0 +1,47 @@
+package com.example.thinkfast.common.aop;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * 미리 직렬화된 JSON 조각 (BaseResponse.data 에 그대로 삽입)
+ * 변경되지 않는 응답을 요청마다 다시 직렬화하지 않도록, UTF-8 바이트를 캐시해 두고 raw value 로 기록한다.
+ */
+public final class RawJson implements JsonSerializable {
+
+    private final SerializedString value;
+
+    private RawJson(String json) {
+        this.value = new SerializedString(json);
+        // UTF-8 인코딩 결과를 미리 만들어 두어 요청 경로에서는 바이트 복사만 일어나게 함
+        this.value.asUnquotedUTF8();
+    }
+
+    public static RawJson of(String json) {
+        return new RawJson(json);
+    }
+
+    public int byteLength() {
+        return value.asUnquotedUTF8().length;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeRawValue(value);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+
+    @Override
+    public String toString() {
+        return value.getValue();
+    }
+}
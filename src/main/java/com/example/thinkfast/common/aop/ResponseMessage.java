@@ -9,6 +9,7 @@ public enum ResponseMessage {
     UNAUTHORIZED("인증이 필요합니다."),
     ACCOUNT_ALREADY_EXISTS("이미 가입된 계정입니다."),
     RESPONSE_DUPLICATED("이미 제출한 응답입니다."),
+    RESPONSE_IN_PROGRESS("같은 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."),
     INVALID_CREDENTIALS("아이디 또는 비밀번호가 올바르지 않습니다."),
     INVALID_USERNAME("아이디가 올바르지 않습니다."),
     INVALID_PASSWORD("비밀번호가 올바르지 않습니다."),
@@ -17,6 +18,7 @@ public enum ResponseMessage {
     INVALID_PAGE_NUMBER("잘못된 페이지 번호입니다."),
     INVALID_PAGE_SIZE("페이지 크기는 1 이상 100 이하여야 합니다."),
     RESPONSE_FETCH_ERROR("응답을 불러오는데 실패했습니다."),
+    RESPONSE_TIMELINE_ERROR("응답 추이를 불러오는데 실패했습니다."),
     NO_RESPONSE("설문에 응답이 없습니다.");
 
     private final String message;
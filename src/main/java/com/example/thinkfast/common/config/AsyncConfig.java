@@ -0,0 +1,144 @@
+package com.example.thinkfast.common.config;
+
+import com.example.thinkfast.common.logger.CustomAsyncUncaughtExceptionHandler;
+import com.example.thinkfast.common.logger.MdcTaskDecorator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collections;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 실행기 설정
+ * - taskExecutor: 기본 실행기 (spring.task.execution.* 설정 사용)
+ *   Executor 빈을 직접 등록하면 Boot 기본 실행기가 생성되지 않으므로 여기서 함께 등록한다.
+ * - responseEventExecutor: 응답 제출 후속 처리(ResponseSubmittedEvent 리스너) 전용 bounded 실행기
+ * - llmExecutor: 리포트 생성 진입 (설문 데이터 스냅샷 적재 후 Reactor 파이프라인 구독, Gemini 응답은 기다리지 않음)
+ * - analysisExecutor: TextAnalysisService 키워드 추출 등 CPU 작업 (코어 수 기준)
+ * - persistenceExecutor: 생성된 리포트 저장 (LLM 호출 동안 DB 커넥션/트랜잭션을 잡지 않도록 분리)
+ * - persistenceScheduler: Reactor 파이프라인의 blocking 작업(DB/Redis 조회, 위 실행기로의 작업 제출) 전용 bounded elastic 스케줄러
+ *   CallerRuns 실행기에 Netty 이벤트 루프에서 바로 제출하면 큐가 가득 찼을 때 이벤트 루프가 저장/분석을 떠안으므로,
+ *   파이프라인은 이 스케줄러로 옮긴 뒤 제출한다. 이 스케줄러는 큐가 가득 차면 거부하고, 거부된 설문은 다음 실행에서 다시 생성한다.
+ * 모든 bounded 실행기는 MDC 를 전파하고, 스레드/큐 상태(executor.* , name 태그)와 작업 지연 시간(async.task.*)을 기록한다.
+ */
+@Configuration
+public class AsyncConfig implements AsyncConfigurer {
+
+    @Value("${survey.response-event.executor.core-size:2}")
+    private int responseEventCoreSize;
+
+    @Value("${survey.response-event.executor.max-size:4}")
+    private int responseEventMaxSize;
+
+    @Value("${survey.response-event.executor.queue-capacity:1000}")
+    private int responseEventQueueCapacity;
+
+    @Value("${survey.reports.executors.llm.core-size:4}")
+    private int llmCoreSize;
+
+    @Value("${survey.reports.executors.llm.max-size:8}")
+    private int llmMaxSize;
+
+    @Value("${survey.reports.executors.llm.queue-capacity:500}")
+    private int llmQueueCapacity;
+
+    @Value("${survey.reports.executors.analysis.queue-capacity:200}")
+    private int analysisQueueCapacity;
+
+    @Value("${survey.reports.executors.persistence.core-size:2}")
+    private int persistenceCoreSize;
+
+    @Value("${survey.reports.executors.persistence.max-size:4}")
+    private int persistenceMaxSize;
+
+    @Value("${survey.reports.executors.persistence.queue-capacity:1000}")
+    private int persistenceQueueCapacity;
+
+    @Value("${survey.reports.executors.blocking.thread-cap:16}")
+    private int blockingThreadCap;
+
+    @Value("${survey.reports.executors.blocking.queued-task-cap:1000}")
+    private int blockingQueuedTaskCap;
+
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = "responseEventExecutor")
+    public ThreadPoolTaskExecutor responseEventExecutor(MeterRegistry meterRegistry) {
+        // 큐가 가득 차면 호출 스레드에서 실행 (알림/종료 체크 유실 방지, 자연스러운 backpressure)
+        return boundedExecutor("responseEventExecutor", "response-event-",
+                responseEventCoreSize, responseEventMaxSize, responseEventQueueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistry);
+    }
+
+    @Bean(name = "llmExecutor")
+    public ThreadPoolTaskExecutor llmExecutor(MeterRegistry meterRegistry) {
+        // 큐가 가득 차면 거부 (스케줄러 스레드가 Gemini 호출을 떠안지 않도록, 거부된 설문은 dirty 로 남아 다음 실행에서 재시도)
+        return boundedExecutor("llmExecutor", "llm-",
+                llmCoreSize, llmMaxSize, llmQueueCapacity,
+                new ThreadPoolExecutor.AbortPolicy(), meterRegistry);
+    }
+
+    @Bean(name = "analysisExecutor")
+    public ThreadPoolTaskExecutor analysisExecutor(MeterRegistry meterRegistry) {
+        // CPU 작업이므로 코어 수만큼만 실행, 큐가 가득 차면 호출 스레드에서 실행
+        int processors = Runtime.getRuntime().availableProcessors();
+        return boundedExecutor("analysisExecutor", "analysis-",
+                processors, processors, analysisQueueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistry);
+    }
+
+    @Bean(name = "persistenceExecutor")
+    public ThreadPoolTaskExecutor persistenceExecutor(MeterRegistry meterRegistry) {
+        // 생성 결과 유실 방지를 위해 큐가 가득 차면 호출 스레드에서 저장
+        return boundedExecutor("persistenceExecutor", "persistence-",
+                persistenceCoreSize, persistenceMaxSize, persistenceQueueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy(), meterRegistry);
+    }
+
+    @Bean(name = "persistenceScheduler", destroyMethod = "dispose")
+    public Scheduler persistenceScheduler() {
+        // Netty 이벤트 루프에서 blocking 호출을 하지 않도록 publishOn/subscribeOn 대상으로 사용
+        // 큐가 가득 차면 호출 스레드에서 실행하지 않고 RejectedExecutionException 으로 실패
+        // 거부된 리포트는 생성 실패로 집계되어 SurveyReportService 가 watermark 를 남기지 않으므로, 설문은 dirty 로 남아 다음 실행에서 재시도된다
+        return Schedulers.newBoundedElastic(blockingThreadCap, blockingQueuedTaskCap, "report-blocking");
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return new CustomAsyncUncaughtExceptionHandler();
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String name, String threadNamePrefix,
+                                                   int coreSize, int maxSize, int queueCapacity,
+                                                   RejectedExecutionHandler rejectedExecutionHandler,
+                                                   MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+        executor.setTaskDecorator(new MdcTaskDecorator(name, meterRegistry));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        // executor.active, executor.queued, executor.queue.remaining, executor.pool.size 등 (name 태그)
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Collections.emptyList())
+                .bindTo(meterRegistry);
+        return executor;
+    }
+}
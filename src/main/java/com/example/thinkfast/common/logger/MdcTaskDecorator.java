@@ -0,0 +1,59 @@
+package com.example.thinkfast.common.logger;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 작업 MDC 전파 및 지연 시간 기록
+ * - 제출 시점의 MDC(request_id, trace_id, scheduler.* 등)를 작업 스레드에 복사하고, 작업 후 원래 상태로 되돌린다.
+ * - 큐 대기 시간(async.task.wait)과 실행 시간(async.task.execution)을 실행기 이름(executor 태그)별로 기록한다.
+ */
+public class MdcTaskDecorator implements TaskDecorator {
+
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+
+    public MdcTaskDecorator(String executorName, MeterRegistry meterRegistry) {
+        this.waitTimer = Timer.builder("async.task.wait")
+                .description("비동기 작업이 제출된 후 실행되기까지 대기한 시간")
+                .tag("executor", executorName)
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("async.task.execution")
+                .description("비동기 작업 실행 시간")
+                .tag("executor", executorName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        long submittedAt = System.nanoTime();
+
+        return () -> {
+            long startedAt = System.nanoTime();
+            waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (context != null) {
+                MDC.setContextMap(context);
+            } else {
+                MDC.clear();
+            }
+            try {
+                runnable.run();
+            } finally {
+                executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                if (previous != null) {
+                    MDC.setContextMap(previous);
+                } else {
+                    MDC.clear();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.thinkfast.common.logger;
+
+import org.slf4j.MDC;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Reactor 파이프라인 MDC 전파
+ * Reactor 연산자는 Netty 이벤트 루프, 실행기 스레드를 옮겨 다니며 실행되므로 ThreadLocal 인 MDC 가 따라가지 않는다.
+ * - capture(): 구독 시점의 MDC(request_id, trace_id, scheduler.* 등)를 Reactor Context 에 저장 (파이프라인 끝에서 contextWrite 로 사용)
+ * - defer/fromCallable/onNext/onError: Context 의 MDC 를 현재 스레드에 복원한 상태로 실행하고, 끝나면 원래 MDC 로 되돌린다.
+ *   @Async 실행기 제출도 defer 안에서 하면 MdcTaskDecorator 가 같은 MDC 를 작업 스레드로 복사한다.
+ */
+public final class ReactorMdc {
+
+    private static final String CONTEXT_KEY = ReactorMdc.class.getName();
+
+    private ReactorMdc() {
+    }
+
+    /**
+     * 현재 스레드의 MDC 를 Context 에 저장 (이미 저장된 MDC 가 있으면 바깥 파이프라인 것을 유지)
+     */
+    public static Function<Context, Context> capture() {
+        return context -> {
+            if (context.hasKey(CONTEXT_KEY)) {
+                return context;
+            }
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            return mdc == null || mdc.isEmpty() ? context : context.put(CONTEXT_KEY, mdc);
+        };
+    }
+
+    /**
+     * MDC 를 복원한 상태로 Mono 를 조립 (조립 중 예외는 에러 신호로 전달)
+     */
+    public static <T> Mono<T> defer(Callable<? extends Mono<? extends T>> supplier) {
+        return Mono.deferContextual(context -> {
+            try {
+                return call(context, supplier);
+            } catch (Exception e) {
+                return Mono.error(e);
+            }
+        });
+    }
+
+    /**
+     * MDC 를 복원한 상태로 값 계산 (null 이면 빈 Mono)
+     */
+    public static <T> Mono<T> fromCallable(Callable<? extends T> callable) {
+        return Mono.deferContextual(context -> Mono.fromCallable(() -> call(context, callable)));
+    }
+
+    /**
+     * doOnEach 용 onNext 처리 (MDC 복원)
+     */
+    public static <T> Consumer<Signal<T>> onNext(Consumer<? super T> consumer) {
+        return signal -> {
+            if (signal.isOnNext()) {
+                run(signal.getContextView(), () -> consumer.accept(signal.get()));
+            }
+        };
+    }
+
+    /**
+     * doOnEach 용 onError 처리 (MDC 복원)
+     */
+    public static <T> Consumer<Signal<T>> onError(Consumer<? super Throwable> consumer) {
+        return signal -> {
+            if (signal.isOnError()) {
+                run(signal.getContextView(), () -> consumer.accept(signal.getThrowable()));
+            }
+        };
+    }
+
+    private static void run(ContextView context, Runnable runnable) {
+        try {
+            call(context, () -> {
+                runnable.run();
+                return null;
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> T call(ContextView context, Callable<T> callable) throws Exception {
+        Map<String, String> mdc = context.getOrDefault(CONTEXT_KEY, null);
+        if (mdc == null) {
+            return callable.call();
+        }
+
+        Map<String, String> previous = MDC.getCopyOfContextMap();
+        MDC.setContextMap(mdc);
+        try {
+            return callable.call();
+        } finally {
+            if (previous != null) {
+                MDC.setContextMap(previous);
+            } else {
+                MDC.clear();
+            }
+        }
+    }
+}
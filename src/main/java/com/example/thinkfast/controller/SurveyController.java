@@ -2,6 +2,7 @@ package com.example.thinkfast.controller;
 
 import com.example.thinkfast.common.aop.BaseResponse;
 import com.example.thinkfast.common.aop.BaseResponseBody;
+import com.example.thinkfast.common.aop.RawJson;
 import com.example.thinkfast.common.aop.ResponseMessage;
 import com.example.thinkfast.common.utils.IpUtil;
 import com.example.thinkfast.domain.survey.Question;
@@ -10,23 +11,27 @@ import com.example.thinkfast.dto.survey.CreateSurveyRequest;
 import com.example.thinkfast.dto.survey.GetRecentSurveysResponse;
 import com.example.thinkfast.dto.survey.GetSurveyDetailResponse;
 import com.example.thinkfast.dto.survey.PublicSurveyListResponse;
-import com.example.thinkfast.dto.survey.QuestionDto;
-import com.example.thinkfast.realtime.RedisPublisher;
+import com.example.thinkfast.dto.survey.ResponseTimelineResponse;
+import com.example.thinkfast.dto.survey.SurveyMetadata;
 import com.example.thinkfast.security.UserDetailImpl;
-
 import com.example.thinkfast.service.survey.SurveyService;
 import com.example.thinkfast.service.survey.ResponseService;
-import com.example.thinkfast.service.survey.QuestionService;
+import com.example.thinkfast.service.survey.ResponseIngestionBuffer;
+import com.example.thinkfast.service.survey.ResponseIdempotencyStore;
+import com.example.thinkfast.service.survey.ResponseTimelineService;
+import com.example.thinkfast.service.survey.SurveyMetadataCache;
+import com.example.thinkfast.service.survey.SurveySchema;
+import com.example.thinkfast.service.survey.SurveySchemaCache;
 import com.example.thinkfast.service.ai.SummaryService;
 import com.example.thinkfast.dto.ai.SummaryReportDto;
 import com.example.thinkfast.service.ai.WordCloudService;
 import com.example.thinkfast.dto.ai.WordCloudResponseDto;
 import com.example.thinkfast.service.ai.InsightService;
 import com.example.thinkfast.service.ai.SurveyStatisticsService;
+import com.example.thinkfast.dto.ai.CrossTabRequest;
+import com.example.thinkfast.dto.ai.CrossTabResponseDto;
+import com.example.thinkfast.dto.ai.QuestionStatisticsDto;
 import com.example.thinkfast.dto.ai.QuestionStatisticsResponseDto;
-import com.example.thinkfast.domain.survey.Survey;
-import com.example.thinkfast.repository.auth.UserRepository;
-import com.example.thinkfast.repository.survey.SurveyRepository;
 import com.example.thinkfast.repository.survey.QuestionRepository;
 import com.example.thinkfast.dto.survey.QuestionResponsesResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
@@ -37,11 +42,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import javax.servlet.http.HttpServletRequest;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -56,15 +59,16 @@ import java.util.Optional;
  */
 public class SurveyController {
     private final SurveyService surveyService;
-    private final QuestionService questionService;
     private final ResponseService responseService;
-    private final RedisPublisher redisPublisher;
+    private final ResponseIngestionBuffer responseIngestionBuffer;
+    private final ResponseIdempotencyStore responseIdempotencyStore;
     private final SummaryService summaryService;
     private final WordCloudService wordCloudService;
     private final InsightService insightService;
     private final SurveyStatisticsService statisticsService;
-    private final UserRepository userRepository;
-    private final SurveyRepository surveyRepository;
+    private final ResponseTimelineService responseTimelineService;
+    private final SurveyMetadataCache surveyMetadataCache;
+    private final SurveySchemaCache surveySchemaCache;
     private final QuestionRepository questionRepository;
 
     /**
@@ -147,28 +151,18 @@ public class SurveyController {
     }
 
     /**
-     * 개선 사항: 조회 속도 개선 필요
+     * 설문 질문 목록 조회 (컴파일된 설문 스키마 캐시 사용)
      * @param surveyId
      * @return
      */
     @GetMapping("/{surveyId}/questions")
-    public BaseResponse<List<QuestionDto>> getQuestionsBySurveyId(@PathVariable Long surveyId) {
-        // 1. 설문 기반 question 리스트 조회
-
-        List<Question> questions = questionService.getIdsBySurveyId(surveyId);
-        if (questions.isEmpty()){
+    public BaseResponse<RawJson> getQuestionsBySurveyId(@PathVariable Long surveyId) {
+        Optional<SurveySchema> schema = surveySchemaCache.get(surveyId);
+        if (!schema.isPresent()){
             return BaseResponse.fail(ResponseMessage.SURVEY_NOT_FOUND);
         }
-
-        List<QuestionDto> questionDtos = new ArrayList<>();;
-
-        // 2. question id 기반 survey + option 조회
-        for (Question question : questions){
-            QuestionDto questionDto = questionService.getQuestionWithOptions(question.getId());
-            questionDtos.add(questionDto);
-        }
-
-        return BaseResponse.success(questionDtos);
+        // 캐시된 List<QuestionDto> JSON 을 그대로 data 에 삽입 (요청마다 재직렬화하지 않음)
+        return BaseResponse.success(schema.get().getQuestionsJson());
     }
 
     /**
@@ -177,13 +171,42 @@ public class SurveyController {
      * 개선 사항2: 알람 메시지 DB 저장 후 read, unread 등 status 관리
      * @param createResponseRequest
      */
-    @Operation(summary = "설문 응답 생성", description = "설문에 응답을 제출합니다. 비회원도 참여 가능하며, 중복 응답은 방지됩니다.")
+    @Operation(summary = "설문 응답 생성", description = "설문에 응답을 제출합니다. 비회원도 참여 가능하며, 중복 응답은 방지됩니다. " +
+            "Idempotency-Key 헤더(또는 요청 본문의 idempotencyKey)를 보내면 재시도 시 저장된 결과를 그대로 반환합니다.")
     @PostMapping("/{surveyId}/responses")
-    @Transactional
     public BaseResponse createResponse(@Parameter(description = "설문 ID") @PathVariable Long surveyId, @AuthenticationPrincipal UserDetailImpl userDetail,
-                                       @RequestBody CreateResponseRequest createResponseRequest, HttpServletRequest request) {
+                                       @RequestBody CreateResponseRequest createResponseRequest, HttpServletRequest request,
+                                       @Parameter(description = "재시도 식별 키 (선택)") @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKeyHeader) {
         String clientIpAddress = IpUtil.getClientIp(request);
-        
+        String idempotencyKey = idempotencyKeyHeader != null ? idempotencyKeyHeader : createResponseRequest.getIdempotencyKey();
+
+        if (idempotencyKey == null || idempotencyKey.trim().isEmpty()) {
+            return toBaseResponse(submitResponse(surveyId, userDetail, createResponseRequest, clientIpAddress));
+        }
+        if (idempotencyKey.length() > ResponseIdempotencyStore.MAX_KEY_LENGTH) {
+            return BaseResponse.fail(ResponseMessage.INVALID_REQUEST);
+        }
+
+        // 재시도: 저장된 결과를 Redis 조회 1회로 반환 (DB, 알림 미발생)
+        ResponseMessage storedOutcome = responseIdempotencyStore.claim(surveyId, idempotencyKey);
+        if (storedOutcome != null) {
+            log.info("[응답 생성 재시도] surveyId={}, 저장된 결과 반환={}", surveyId, storedOutcome);
+            return toBaseResponse(storedOutcome);
+        }
+
+        // 컨트롤러는 트랜잭션 없이 실행되므로, 결과는 저장 트랜잭션(ResponseService)이 커밋된 뒤에 기록된다
+        try {
+            ResponseMessage outcome = submitResponse(surveyId, userDetail, createResponseRequest, clientIpAddress);
+            responseIdempotencyStore.complete(surveyId, idempotencyKey, outcome);
+            return toBaseResponse(outcome);
+        } catch (RuntimeException e) {
+            responseIdempotencyStore.release(surveyId, idempotencyKey);
+            throw e;
+        }
+    }
+
+    private ResponseMessage submitResponse(Long surveyId, UserDetailImpl userDetail,
+                                           CreateResponseRequest createResponseRequest, String clientIpAddress) {
         String deviceId = createResponseRequest.getClientInfo() != null 
             ? createResponseRequest.getClientInfo().getDeviceId() 
             : null;
@@ -196,17 +219,27 @@ public class SurveyController {
 
         if (surveyService.isSurveyInactive(surveyId)) {
             log.warn("[응답 생성 실패] surveyId={}, 사유=설문 비활성화 또는 삭제됨", surveyId);
-            return BaseResponse.fail(ResponseMessage.SURVEY_UNAVAILABLE);
+            return ResponseMessage.SURVEY_UNAVAILABLE;
+        }
+
+        // 답변 검증: 설문에 속한 질문/선택지인지, 타입이 맞는지 (컴파일된 설문 스키마 사용, DB 조회 없음)
+        String violation = surveySchemaCache.get(surveyId)
+                .map(schema -> schema.validate(createResponseRequest.getAnswers()))
+                .orElse("설문 질문 없음");
+        if (violation != null) {
+            log.warn("[응답 생성 실패] surveyId={}, 사유=잘못된 답변 ({})", surveyId, violation);
+            return ResponseMessage.INVALID_REQUEST;
         }
         
-        // 중복 응답 방지: 같은 설문에 대해 같은 deviceId/IP로는 한 번만 응답 가능
-        // deviceId나 ipAddress가 null/빈 값이면 중복 체크를 건너뜀
-        if (surveyService.isDuplicateResponse(surveyId, deviceId, clientIpAddress)) {
+        // 중복 응답 사전 체크: 같은 설문에 대해 같은 deviceId/IP로는 한 번만 응답 가능
+        // DB 조회 없이 Redis/대기 중 제출로만 거르며, 최종 판정은 저장 시 UNIQUE 키로 이루어짐
+        if (responseIngestionBuffer.isPending(surveyId, deviceId, clientIpAddress)
+                || surveyService.isDuplicateResponse(surveyId, deviceId, clientIpAddress)) {
             log.warn("[응답 생성 실패] surveyId={}, deviceId={}, ipAddress={}, 사유=중복 응답", 
                 surveyId,
                 deviceId != null ? (deviceId.length() > 20 ? deviceId.substring(0, 20) + "..." : deviceId) : "null",
                 clientIpAddress);
-            return BaseResponse.fail(ResponseMessage.RESPONSE_DUPLICATED);
+            return ResponseMessage.RESPONSE_DUPLICATED;
         }
         
         log.info("[응답 생성 시작] surveyId={}, deviceId={}, ipAddress={}", 
@@ -214,15 +247,54 @@ public class SurveyController {
             deviceId != null ? (deviceId.length() > 20 ? deviceId.substring(0, 20) + "..." : deviceId) : "null",
             clientIpAddress);
         
-        responseService.createResponse(userDetail, surveyId, clientIpAddress, createResponseRequest);
-        redisPublisher.sendAlarm(surveyId, "SURVEY_RESPONSE");
+        // write-behind 모드: 큐에 적재 후 즉시 응답 (저장은 writer 스레드가 group commit 으로 처리)
+        // 큐가 가득 찬 경우에는 기존 동기 경로로 저장한다.
+        ResponseIngestionBuffer.OfferResult offerResult =
+                responseIngestionBuffer.offer(surveyId, clientIpAddress, createResponseRequest);
+        if (offerResult == ResponseIngestionBuffer.OfferResult.ACCEPTED) {
+            log.info("[응답 접수 완료] surveyId={}, mode=write-behind", surveyId);
+            return ResponseMessage.SUCCESS;
+        }
+        if (offerResult == ResponseIngestionBuffer.OfferResult.DUPLICATE) {
+            log.warn("[응답 생성 실패] surveyId={}, 사유=중복 응답 (flush 대기 중인 제출)", surveyId);
+            return ResponseMessage.RESPONSE_DUPLICATED;
+        }
+
+        // 사전 체크를 통과해도 동시에 들어온 같은 제출이 먼저 저장되었으면 저장 시 중복으로 판정됨
+        if (!responseService.createResponse(userDetail, surveyId, clientIpAddress, createResponseRequest)) {
+            log.warn("[응답 생성 실패] surveyId={}, 사유=중복 응답 (저장 시 판정)", surveyId);
+            return ResponseMessage.RESPONSE_DUPLICATED;
+        }
         
         log.info("[응답 생성 완료] surveyId={}, deviceId={}, ipAddress={}", 
             surveyId,
             deviceId != null ? (deviceId.length() > 20 ? deviceId.substring(0, 20) + "..." : deviceId) : "null",
             clientIpAddress);
         
-        return BaseResponse.success();
+        return ResponseMessage.SUCCESS;
+    }
+
+    private BaseResponse toBaseResponse(ResponseMessage outcome) {
+        return outcome == ResponseMessage.SUCCESS ? BaseResponse.success() : BaseResponse.fail(outcome);
+    }
+
+    /**
+     * 결과 조회 권한 확인 (설문 메타데이터 캐시 사용, 소유자는 username 으로 직접 비교)
+     *
+     * @return 거부 사유 (허용이면 null)
+     */
+    private ResponseMessage checkResultAccess(Long surveyId, UserDetailImpl userDetail) {
+        Optional<SurveyMetadata> metadataOpt = surveyMetadataCache.get(surveyId);
+        if (!metadataOpt.isPresent() || metadataOpt.get().isDeletedSurvey()) {
+            return ResponseMessage.SURVEY_NOT_FOUND;
+        }
+
+        SurveyMetadata metadata = metadataOpt.get();
+        if (Boolean.FALSE.equals(metadata.getShowResults())
+                && (userDetail == null || !metadata.isOwnedBy(userDetail.getUsername()))) {
+            return ResponseMessage.UNAUTHORIZED;
+        }
+        return null;
     }
 
     /**
@@ -239,27 +311,11 @@ public class SurveyController {
             @Parameter(description = "설문 ID") @PathVariable Long id,
             @AuthenticationPrincipal UserDetailImpl userDetail) {
         
-        // 1. 설문 존재 여부 확인
-        Optional<Survey> surveyOpt = surveyRepository.findById(id);
-        if (!surveyOpt.isPresent() || surveyOpt.get().getIsDeleted()) {
-            return BaseResponse.fail(ResponseMessage.SURVEY_NOT_FOUND);
+        // 1~2. 설문 존재 여부 및 결과 조회 권한 확인 (공개 설문은 누구나, 비공개 설문은 소유자만)
+        ResponseMessage accessDenied = checkResultAccess(id, userDetail);
+        if (accessDenied != null) {
+            return BaseResponse.fail(accessDenied);
         }
-        
-        Survey survey = surveyOpt.get();
-
-        // 2-1. 인증 유저 지만 비공개 설문 조회 시, userId 가 다를 경우 UNAUTHORIZED
-        if (userDetail!=null){
-            Long currentUserId = userRepository.findIdByUsername(userDetail.getUsername());
-            if (survey.getShowResults().equals(false) && !survey.getUserId().equals(currentUserId)) {
-                return BaseResponse.fail(ResponseMessage.UNAUTHORIZED);
-            }
-        }
-
-        // 2-2. 비인증 유저가 비공개 설문 조회 시, UNAUTHORIZED
-        if (userDetail==null && survey.getShowResults().equals(false)){
-            return BaseResponse.fail(ResponseMessage.UNAUTHORIZED);
-        }
-
 
         // 3. 요약 리포트 조회 (DB 우선, 없으면 실시간 생성)
         SummaryReportDto summaryReport = summaryService.getSummaryReport(id);
@@ -284,25 +340,10 @@ public class SurveyController {
             @PathVariable Long questionId,
             @AuthenticationPrincipal UserDetailImpl userDetail) {
         
-        // 1. 설문 존재 여부 확인
-        Optional<Survey> surveyOpt = surveyRepository.findById(surveyId);
-        if (!surveyOpt.isPresent() || surveyOpt.get().getIsDeleted()) {
-            return BaseResponse.fail(ResponseMessage.SURVEY_NOT_FOUND);
-        }
-        
-        Survey survey = surveyOpt.get();
-
-        // 2-1. 인증 유저지만 비공개 설문 조회 시, userId가 다를 경우 UNAUTHORIZED
-        if (userDetail != null) {
-            Long currentUserId = userRepository.findIdByUsername(userDetail.getUsername());
-            if (survey.getShowResults().equals(false) && !survey.getUserId().equals(currentUserId)) {
-                return BaseResponse.fail(ResponseMessage.UNAUTHORIZED);
-            }
-        }
-
-        // 2-2. 비인증 유저가 비공개 설문 조회 시, UNAUTHORIZED
-        if (userDetail == null && survey.getShowResults().equals(false)) {
-            return BaseResponse.fail(ResponseMessage.UNAUTHORIZED);
+        // 1~2. 설문 존재 여부 및 결과 조회 권한 확인 (공개 설문은 누구나, 비공개 설문은 소유자만)
+        ResponseMessage accessDenied = checkResultAccess(surveyId, userDetail);
+        if (accessDenied != null) {
+            return BaseResponse.fail(accessDenied);
         }
         
         // 3. 질문 존재 여부 및 타입 확인
@@ -339,25 +380,10 @@ public class SurveyController {
             @PathVariable Long questionId,
             @AuthenticationPrincipal UserDetailImpl userDetail) {
 
-        // 1. 설문 존재 여부 확인
-        Optional<Survey> surveyOpt = surveyRepository.findById(surveyId);
-        if (!surveyOpt.isPresent() || surveyOpt.get().getIsDeleted()) {
-            return BaseResponse.fail(ResponseMessage.SURVEY_NOT_FOUND);
-        }
-
-        Survey survey = surveyOpt.get();
-
-        // 2-1. 인증 유저지만 비공개 설문 조회 시, userId가 다를 경우 UNAUTHORIZED
-        if (userDetail != null) {
-            Long currentUserId = userRepository.findIdByUsername(userDetail.getUsername());
-            if (survey.getShowResults().equals(false) && !survey.getUserId().equals(currentUserId)) {
-                return BaseResponse.fail(ResponseMessage.UNAUTHORIZED);
-            }
-        }
-
-        // 2-2. 비인증 유저가 비공개 설문 조회 시, UNAUTHORIZED
-        if (userDetail == null && survey.getShowResults().equals(false)) {
-            return BaseResponse.fail(ResponseMessage.UNAUTHORIZED);
+        // 1~2. 설문 존재 여부 및 결과 조회 권한 확인 (공개 설문은 누구나, 비공개 설문은 소유자만)
+        ResponseMessage accessDenied = checkResultAccess(surveyId, userDetail);
+        if (accessDenied != null) {
+            return BaseResponse.fail(accessDenied);
         }
         
         // 3. 질문 존재 여부 확인
@@ -379,6 +405,110 @@ public class SurveyController {
         return BaseResponse.success(insight);
     }
 
+    /**
+     * 설문 전체 통계 조회
+     * 모든 객관식 질문의 선택지별 응답 수/비율을 한 번에 반환 (다음 제출 전까지 캐시)
+     *
+     * @param surveyId 설문 ID
+     * @param userDetail 현재 사용자 정보
+     * @return 질문별 통계 리스트 (orderIndex 순)
+     */
+    @Operation(summary = "설문 전체 통계 조회", description = "설문의 모든 객관식 질문에 대한 선택지별 응답 수/비율을 조회합니다. 공개 설문은 인증 없이, 비공개 설문은 소유자만 조회 가능합니다.")
+    @GetMapping("/{surveyId}/statistics")
+    public BaseResponse<List<QuestionStatisticsDto>> getSurveyStatistics(
+            @Parameter(description = "설문 ID") @PathVariable Long surveyId,
+            @AuthenticationPrincipal UserDetailImpl userDetail) {
+
+        // 1~2. 설문 존재 여부 및 결과 조회 권한 확인 (공개 설문은 누구나, 비공개 설문은 소유자만)
+        ResponseMessage accessDenied = checkResultAccess(surveyId, userDetail);
+        if (accessDenied != null) {
+            return BaseResponse.fail(accessDenied);
+        }
+
+        // 3. 통계 조회
+        try {
+            return BaseResponse.success(statisticsService.getSurveyStatistics(surveyId));
+        } catch (Exception e) {
+            log.error("설문 통계 조회 중 오류 발생: surveyId={}", surveyId, e);
+            return BaseResponse.fail(ResponseMessage.QUESTION_STATISTICS_ERROR);
+        }
+    }
+
+    /**
+     * 설문 교차 분석 (필터 통계)
+     * 필터 조건(질문별 선택지)을 만족하는 응답자만 대상으로 객관식 질문별 분포를 반환
+     *
+     * @param surveyId 설문 ID
+     * @param crossTabRequest 필터 조건 및 대상 질문
+     * @param userDetail 현재 사용자 정보
+     * @return 필터 적용 통계
+     */
+    @Operation(summary = "설문 교차 분석", description = "특정 선택지를 고른 응답자들이 다른 객관식 질문에 어떻게 답했는지 조회합니다. " +
+            "같은 질문의 선택지는 OR, 질문 간 조건은 AND 로 적용됩니다.")
+    @PostMapping("/{surveyId}/statistics/filter")
+    public BaseResponse<CrossTabResponseDto> getCrossTabStatistics(
+            @Parameter(description = "설문 ID") @PathVariable Long surveyId,
+            @RequestBody CrossTabRequest crossTabRequest,
+            @AuthenticationPrincipal UserDetailImpl userDetail) {
+
+        // 1~2. 설문 존재 여부 및 결과 조회 권한 확인 (공개 설문은 누구나, 비공개 설문은 소유자만)
+        ResponseMessage accessDenied = checkResultAccess(surveyId, userDetail);
+        if (accessDenied != null) {
+            return BaseResponse.fail(accessDenied);
+        }
+
+        // 3. 교차 분석
+        try {
+            CrossTabResponseDto result = statisticsService.getCrossTabStatistics(surveyId, crossTabRequest);
+            if (result == null) {
+                return BaseResponse.fail(ResponseMessage.SURVEY_NOT_FOUND);
+            }
+            return BaseResponse.success(result);
+        } catch (IllegalArgumentException e) {
+            log.warn("설문 교차 분석 요청 오류: surveyId={}, error={}", surveyId, e.getMessage());
+            return BaseResponse.fail(ResponseMessage.INVALID_REQUEST);
+        } catch (Exception e) {
+            log.error("설문 교차 분석 중 오류 발생: surveyId={}", surveyId, e);
+            return BaseResponse.fail(ResponseMessage.QUESTION_STATISTICS_ERROR);
+        }
+    }
+
+    /**
+     * 설문 제출 추이 조회
+     * 최근 구간부터 limit 개의 분/시간/일 단위 제출 수를 반환 (제출이 없는 구간은 0)
+     *
+     * @param surveyId 설문 ID
+     * @param granularity 구간 단위 (minute, hour, day)
+     * @param limit 구간 수 (minute 최대 1440, hour 최대 744, day 최대 366)
+     * @param userDetail 현재 사용자 정보
+     * @return 구간별 제출 수
+     */
+    @Operation(summary = "설문 제출 추이 조회", description = "분/시간/일 단위 제출 수를 조회합니다. 현재 구간을 포함한 최근 limit 개 구간을 오래된 순으로 반환합니다.")
+    @GetMapping("/{surveyId}/timeline")
+    public BaseResponse<ResponseTimelineResponse> getResponseTimeline(
+            @Parameter(description = "설문 ID") @PathVariable Long surveyId,
+            @Parameter(description = "구간 단위 (minute, hour, day)") @RequestParam(defaultValue = "hour") String granularity,
+            @Parameter(description = "구간 수") @RequestParam(defaultValue = "24") int limit,
+            @AuthenticationPrincipal UserDetailImpl userDetail) {
+
+        // 1~2. 설문 존재 여부 및 결과 조회 권한 확인 (공개 설문은 누구나, 비공개 설문은 소유자만)
+        ResponseMessage accessDenied = checkResultAccess(surveyId, userDetail);
+        if (accessDenied != null) {
+            return BaseResponse.fail(accessDenied);
+        }
+
+        // 3. 제출 추이 조회
+        try {
+            return BaseResponse.success(responseTimelineService.getTimeline(surveyId, granularity, limit));
+        } catch (IllegalArgumentException e) {
+            log.warn("설문 제출 추이 요청 오류: surveyId={}, error={}", surveyId, e.getMessage());
+            return BaseResponse.fail(ResponseMessage.INVALID_REQUEST);
+        } catch (Exception e) {
+            log.error("설문 제출 추이 조회 중 오류 발생: surveyId={}", surveyId, e);
+            return BaseResponse.fail(ResponseMessage.RESPONSE_TIMELINE_ERROR);
+        }
+    }
+
     /**
      * 질문별 통계 조회
      * 설문 소유자만 조회 가능
@@ -398,25 +528,10 @@ public class SurveyController {
             @AuthenticationPrincipal UserDetailImpl userDetail) {
         
         try {
-            // 1. 설문 존재 여부 확인
-            Optional<Survey> surveyOpt = surveyRepository.findById(surveyId);
-            if (!surveyOpt.isPresent() || surveyOpt.get().getIsDeleted()) {
-                return BaseResponse.fail(ResponseMessage.SURVEY_NOT_FOUND);
-            }
-            
-            Survey survey = surveyOpt.get();
-
-            // 2-1. 인증 유저지만 비공개 설문 조회 시, userId가 다를 경우 UNAUTHORIZED
-            if (userDetail != null) {
-                Long currentUserId = userRepository.findIdByUsername(userDetail.getUsername());
-                if (survey.getShowResults().equals(false) && !survey.getUserId().equals(currentUserId)) {
-                    return BaseResponse.fail(ResponseMessage.UNAUTHORIZED);
-                }
-            }
-
-            // 2-2. 비인증 유저가 비공개 설문 조회 시, UNAUTHORIZED
-            if (userDetail == null && survey.getShowResults().equals(false)) {
-                return BaseResponse.fail(ResponseMessage.UNAUTHORIZED);
+            // 1~2. 설문 존재 여부 및 결과 조회 권한 확인 (공개 설문은 누구나, 비공개 설문은 소유자만)
+            ResponseMessage accessDenied = checkResultAccess(surveyId, userDetail);
+            if (accessDenied != null) {
+                return BaseResponse.fail(accessDenied);
             }
             
             // 3. 질문 존재 여부 확인
@@ -487,25 +602,10 @@ public class SurveyController {
                 return BaseResponse.fail(ResponseMessage.INVALID_PAGE_SIZE);
             }
             
-            // 2. 설문 존재 여부 확인
-            Optional<Survey> surveyOpt = surveyRepository.findById(surveyId);
-            if (!surveyOpt.isPresent() || surveyOpt.get().getIsDeleted()) {
-                return BaseResponse.fail(ResponseMessage.SURVEY_NOT_FOUND);
-            }
-            
-            Survey survey = surveyOpt.get();
-
-            // 3-1. 인증 유저지만 비공개 설문 조회 시, userId가 다를 경우 UNAUTHORIZED
-            if (userDetail != null) {
-                Long currentUserId = userRepository.findIdByUsername(userDetail.getUsername());
-                if (survey.getShowResults().equals(false) && !survey.getUserId().equals(currentUserId)) {
-                    return BaseResponse.fail(ResponseMessage.UNAUTHORIZED);
-                }
-            }
-
-            // 3-2. 비인증 유저가 비공개 설문 조회 시, UNAUTHORIZED
-            if (userDetail == null && survey.getShowResults().equals(false)) {
-                return BaseResponse.fail(ResponseMessage.UNAUTHORIZED);
+            // 2~3. 설문 존재 여부 및 결과 조회 권한 확인 (공개 설문은 누구나, 비공개 설문은 소유자만)
+            ResponseMessage accessDenied = checkResultAccess(surveyId, userDetail);
+            if (accessDenied != null) {
+                return BaseResponse.fail(accessDenied);
             }
             
             // 4. 질문 존재 여부 확인
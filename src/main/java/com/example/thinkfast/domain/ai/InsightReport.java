@@ -39,6 +39,12 @@ public class InsightReport {
     @Column(name = "SENTIMENT_SUMMARY", columnDefinition = "TEXT")
     private String sentimentSummary; // 향후 사용 가능
 
+    @Column(name = "LAST_SESSION_COUNT")
+    private Long lastSessionCount; // 리포트 생성에 반영된 설문 응답 수 (재생성 watermark)
+
+    @Column(name = "GENERATED_AT")
+    private LocalDateTime generatedAt; // 마지막 리포트 생성 완료 시각
+
     @Column(name = "CREATED_AT", nullable = false, updatable = false)
     @CreationTimestamp
     private LocalDateTime createdAt;
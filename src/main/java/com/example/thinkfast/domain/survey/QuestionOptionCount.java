@@ -0,0 +1,50 @@
+package com.example.thinkfast.domain.survey;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+import java.io.Serializable;
+
+/**
+ * 질문/선택지별 응답 수 집계
+ * OPTION_ID = 0 (TOTAL_OPTION_ID) 인 row 는 질문 전체 응답(세션) 수이다.
+ * 응답 저장 트랜잭션에서 ResponseCountJdbcRepository 로만 증가시키며, JPA 로는 조회만 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(QuestionOptionCount.Key.class)
+@Table(name = "QUESTION_OPTION_COUNTS")
+public class QuestionOptionCount {
+    public static final long TOTAL_OPTION_ID = 0L;
+
+    @Id
+    @Column(name = "QUESTION_ID")
+    private Long questionId;
+
+    @Id
+    @Column(name = "OPTION_ID")
+    private Long optionId;
+
+    @Column(name = "RESPONSE_COUNT", nullable = false)
+    private Long responseCount;
+
+    public boolean isTotal() {
+        return optionId != null && optionId == TOTAL_OPTION_ID;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long questionId;
+        private Long optionId;
+    }
+}
@@ -34,7 +34,7 @@ public class SurveyResponseHistory {
     @Column(name = "DEVICE_ID_HASH", nullable = false, length = 255)
     private String deviceIdHash;
 
-    @Column(name = "IP_ADDRESS_HASH", length = 255)
+    @Column(name = "IP_ADDRESS_HASH", nullable = false, length = 255)
     private String ipAddressHash;
 
     @Column(name = "RESPONDED_AT")
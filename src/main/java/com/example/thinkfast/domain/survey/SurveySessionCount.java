@@ -0,0 +1,31 @@
+package com.example.thinkfast.domain.survey;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 설문별 응답(세션) 수 집계
+ * 응답 저장 트랜잭션에서 ResponseCountJdbcRepository 로만 증가시키며, JPA 로는 조회만 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "SURVEY_SESSION_COUNTS")
+public class SurveySessionCount {
+    @Id
+    @Column(name = "SURVEY_ID")
+    private Long surveyId;
+
+    @Column(name = "SESSION_COUNT", nullable = false)
+    private Long sessionCount;
+
+    @Column(name = "UPDATED_AT", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+}
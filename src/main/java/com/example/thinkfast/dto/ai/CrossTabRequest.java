@@ -0,0 +1,25 @@
+package com.example.thinkfast.dto.ai;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 교차 분석(필터 통계) 요청 DTO
+ * - filters: 질문별 선택지 조건 (같은 질문의 선택지는 OR, 질문 간에는 AND)
+ * - questionIds: 통계를 볼 객관식 질문 (비어 있으면 전체 객관식 질문)
+ */
+@Data
+@NoArgsConstructor
+public class CrossTabRequest {
+    private List<Filter> filters;
+    private List<Long> questionIds;
+
+    @Data
+    @NoArgsConstructor
+    public static class Filter {
+        private Long questionId;
+        private List<Long> optionIds;
+    }
+}
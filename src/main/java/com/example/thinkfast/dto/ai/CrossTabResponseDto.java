@@ -0,0 +1,20 @@
+package com.example.thinkfast.dto.ai;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 교차 분석(필터 통계) 응답 DTO
+ * 질문별 통계의 응답 수/비율은 필터 조건을 만족하는 응답자만 기준으로 한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrossTabResponseDto {
+    private Long totalRespondents; // 객관식 질문에 응답한 전체 응답자 수
+    private Long matchedRespondents; // 필터 조건을 만족하는 응답자 수
+    private List<QuestionStatisticsDto> questions;
+}
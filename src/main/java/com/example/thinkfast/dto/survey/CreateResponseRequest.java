@@ -9,6 +9,7 @@ import java.util.List;
 public class CreateResponseRequest {
     ClientInfoDto clientInfo;
     List<CreateResponseDto> answers;
+    String idempotencyKey; // 재시도 식별 키 (nullable, Idempotency-Key 헤더가 우선)
 
     @Getter
     public static class CreateResponseDto{
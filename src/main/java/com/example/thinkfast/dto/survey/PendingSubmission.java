@@ -0,0 +1,23 @@
+package com.example.thinkfast.dto.survey;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * write-behind 모드에서 접수 후 아직 DB 에 반영되지 않은 응답 제출 1건
+ * 종료 시 디스크로 spill 되므로 JSON 직렬화가 가능해야 한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingSubmission {
+    private Long surveyId;
+    private String responseSessionId;
+    private String ipAddress;
+    private String deviceId;
+    private List<CreateResponseRequest.CreateResponseDto> answers;
+    private long acceptedAtMillis;
+}
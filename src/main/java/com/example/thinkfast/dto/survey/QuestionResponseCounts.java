@@ -0,0 +1,22 @@
+package com.example.thinkfast.dto.survey;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 질문별 응답 수 스냅샷 (ResponseCountStore)
+ * - totalResponses: 질문에 응답한 제출(세션) 수
+ * - optionCounts: 선택지 ID 별 응답 수 (응답이 없는 선택지는 포함되지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class QuestionResponseCounts {
+    private final long totalResponses;
+    private final Map<Long, Long> optionCounts;
+
+    public long getOptionCount(Long optionId) {
+        return optionCounts.getOrDefault(optionId, 0L);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.thinkfast.dto.survey;
+
+import com.example.thinkfast.domain.survey.QuestionOptionCount;
+import lombok.Getter;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 한 트랜잭션에서 저장한 제출들의 응답 수 증분
+ * 키 순서대로 UPSERT 해야 동시 트랜잭션 간 잠금 순서가 같아지므로 정렬된 맵을 사용한다.
+ */
+@Getter
+public class ResponseCountDelta {
+    // surveyId → 제출 수
+    private final SortedMap<Long, Long> surveySessions = new TreeMap<>();
+    // questionId → (optionId → 응답 수), optionId = 0 은 질문 전체 응답(세션) 수
+    private final SortedMap<Long, SortedMap<Long, Long>> questionOptions = new TreeMap<>();
+
+    /**
+     * 제출 1건 반영
+     * 질문별 전체 수는 제출당 1, 선택지는 답변 row 마다 1 을 더한다.
+     */
+    public void addSubmission(Long surveyId, List<CreateResponseRequest.CreateResponseDto> answers) {
+        surveySessions.merge(surveyId, 1L, Long::sum);
+
+        Set<Long> answeredQuestions = new HashSet<>();
+        for (CreateResponseRequest.CreateResponseDto answer : answers) {
+            SortedMap<Long, Long> options = questionOptions.computeIfAbsent(answer.getQuestionId(), id -> new TreeMap<>());
+            if (answeredQuestions.add(answer.getQuestionId())) {
+                options.merge(QuestionOptionCount.TOTAL_OPTION_ID, 1L, Long::sum);
+            }
+            if (answer.getOptionId() != null) {
+                options.merge(answer.getOptionId(), 1L, Long::sum);
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return surveySessions.isEmpty();
+    }
+}
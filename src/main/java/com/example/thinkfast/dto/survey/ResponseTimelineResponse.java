@@ -0,0 +1,29 @@
+package com.example.thinkfast.dto.survey;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 설문 제출 추이 응답 DTO (GET /survey/{surveyId}/timeline)
+ * 구간은 오래된 순이며, 제출이 없는 구간도 count 0 으로 포함된다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResponseTimelineResponse {
+    private String granularity; // minute, hour, day
+    private Long totalCount; // 조회 구간 전체 제출 수
+    private List<Bucket> buckets;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private LocalDateTime start; // 구간 시작 시각 (서버 로컬 시간)
+        private Long count;
+    }
+}
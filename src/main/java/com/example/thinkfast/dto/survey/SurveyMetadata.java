@@ -0,0 +1,40 @@
+package com.example.thinkfast.dto.survey;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 설문 메타데이터 (SurveyMetadataCache 캐시 항목)
+ * 응답 제출, 결과 조회 권한 확인, 알림 전송에 필요한 설문/소유자 정보만 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class SurveyMetadata {
+    private final Long id;
+    private final Long ownerId;
+    private final String ownerUsername;
+    private final String ownerRealUsername;
+    private final Boolean isActive;
+    private final Boolean isDeleted;
+    private final Boolean showResults;
+    private final LocalDateTime endTime;
+
+    // realUsername이 있으면 realUsername 사용, 없으면 username 사용
+    public String getOwnerDisplayName() {
+        return (ownerRealUsername != null && !ownerRealUsername.isEmpty()) ? ownerRealUsername : ownerUsername;
+    }
+
+    public boolean isDeletedSurvey() {
+        return Boolean.TRUE.equals(isDeleted);
+    }
+
+    public boolean isAcceptingResponses() {
+        return Boolean.TRUE.equals(isActive) && !isDeletedSurvey();
+    }
+
+    public boolean isOwnedBy(String username) {
+        return username != null && username.equals(ownerUsername);
+    }
+}
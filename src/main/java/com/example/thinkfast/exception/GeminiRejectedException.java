@@ -0,0 +1,11 @@
+package com.example.thinkfast.exception;
+
+/**
+ * GeminiGateway 가 호출 전에 거부한 요청 (회로 열림, 요청 한도 초과, 동시 호출 한도 초과)
+ * 네트워크 호출 없이 바로 발생하므로 호출부는 즉시 폴백 경로를 사용한다.
+ */
+public class GeminiRejectedException extends AiServiceException {
+    public GeminiRejectedException(String message) {
+        super(message);
+    }
+}
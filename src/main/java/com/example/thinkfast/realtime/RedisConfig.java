@@ -1,5 +1,6 @@
 package com.example.thinkfast.realtime;
 
+import com.example.thinkfast.service.survey.SurveyMetadataCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,6 +13,7 @@ import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 public class RedisConfig {
 
     private final RedisSubscriber redisSubscriber;
+    private final SurveyMetadataCache surveyMetadataCache;
 
     @Bean
     public ChannelTopic alarmChannelTopic() {
@@ -23,6 +25,8 @@ public class RedisConfig {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
         container.addMessageListener(redisSubscriber, alarmChannelTopic);
+        // 설문 메타데이터 캐시 무효화 전파 (노드 간)
+        container.addMessageListener(surveyMetadataCache, new ChannelTopic(SurveyMetadataCache.INVALIDATION_CHANNEL));
         return container;
     }
 }
@@ -1,12 +1,12 @@
 package com.example.thinkfast.realtime;
 
 import com.example.thinkfast.domain.Notification;
+import com.example.thinkfast.dto.survey.SurveyMetadata;
 import com.example.thinkfast.realtime.dto.AlarmMessage;
 import com.example.thinkfast.realtime.dto.NotificationMessage;
 import com.example.thinkfast.realtime.dto.ResponseCreatedAlarm;
 import com.example.thinkfast.repository.NotificationRepository;
-import com.example.thinkfast.repository.auth.UserRepository;
-import com.example.thinkfast.repository.survey.SurveyRepository;
+import com.example.thinkfast.service.survey.SurveyMetadataCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,8 +23,7 @@ import java.util.List;
 public class RedisPublisher {
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
-    private final SurveyRepository surveyRepository;
-    private final UserRepository userRepository;
+    private final SurveyMetadataCache surveyMetadataCache;
     private final NotificationRepository notificationRepository;
 
     private final String CHANNEL = "alarm-channel";
@@ -42,14 +41,12 @@ public class RedisPublisher {
             MDC.put("external_api.operation", "pubsub_send");
             MDC.put("external_api.channel", CHANNEL);
 
-            Long userId = surveyRepository.findUserIdById(surveyId);
-            String username = userRepository.findUsernameById(userId);
-            String realUsername = userRepository.findRealUsernameById(userId);
-            
-            // realUsername이 있으면 realUsername 사용, 없으면 username 사용
-            String displayName = (realUsername != null && !realUsername.isEmpty()) 
-                    ? realUsername 
-                    : username;
+            // 설문 소유자 정보는 메타데이터 캐시에서 조회 (설문/유저 조회 3회 생략)
+            SurveyMetadata metadata = surveyMetadataCache.get(surveyId)
+                    .orElseThrow(() -> new IllegalArgumentException("설문을 찾을 수 없습니다. surveyId=" + surveyId));
+            Long userId = metadata.getOwnerId();
+            String username = metadata.getOwnerUsername();
+            String displayName = metadata.getOwnerDisplayName();
 
             String message = String.valueOf(NotificationMessage.valueOf(type));
 
@@ -2,7 +2,10 @@ package com.example.thinkfast.repository.ai;
 
 import com.example.thinkfast.domain.ai.InsightReport;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface InsightReportRepository extends JpaRepository<InsightReport, Long> {
@@ -15,5 +18,12 @@ public interface InsightReportRepository extends JpaRepository<InsightReport, Lo
      * 설문 ID로 인사이트 리포트 존재 여부 확인
      */
     boolean existsBySurveyId(Long surveyId);
-}
 
+    /**
+     * 여러 설문의 리포트 재생성 watermark 조회 (스케줄러용)
+     *
+     * @return [surveyId, lastSessionCount] 형태의 Object 배열 리스트 (리포트가 없는 설문은 포함되지 않음)
+     */
+    @Query("SELECT r.surveyId, r.lastSessionCount FROM InsightReport r WHERE r.surveyId IN :surveyIds")
+    List<Object[]> findLastSessionCountsBySurveyIds(@Param("surveyIds") List<Long> surveyIds);
+}
@@ -0,0 +1,57 @@
+package com.example.thinkfast.repository.ai;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Gemini 생성 결과 캐시(LLM_RESULT_CACHE) 전용 JDBC 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class LlmResultCacheJdbcRepository {
+
+    private static final String SELECT_VALID =
+            "SELECT RESULT_TEXT FROM LLM_RESULT_CACHE WHERE PROMPT_HASH = ? AND EXPIRES_AT > ?";
+
+    private static final String UPSERT =
+            "INSERT INTO LLM_RESULT_CACHE (PROMPT_HASH, CACHE_NAMESPACE, RESULT_TEXT, CREATED_AT, EXPIRES_AT) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE CACHE_NAMESPACE = VALUES(CACHE_NAMESPACE), RESULT_TEXT = VALUES(RESULT_TEXT), " +
+            "CREATED_AT = VALUES(CREATED_AT), EXPIRES_AT = VALUES(EXPIRES_AT)";
+
+    private static final String DELETE_EXPIRED =
+            "DELETE FROM LLM_RESULT_CACHE WHERE EXPIRES_AT <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 만료되지 않은 결과 조회
+     */
+    public Optional<String> findValid(String promptHash, LocalDateTime now) {
+        List<String> results = jdbcTemplate.queryForList(SELECT_VALID, String.class, promptHash, Timestamp.valueOf(now));
+        return results.isEmpty() ? Optional.empty() : Optional.of(results.get(0));
+    }
+
+    /**
+     * 결과 저장 (같은 키가 있으면 덮어쓰기)
+     */
+    public void upsert(String promptHash, String namespace, String resultText, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        jdbcTemplate.update(UPSERT, promptHash, namespace, resultText,
+                Timestamp.valueOf(createdAt), Timestamp.valueOf(expiresAt));
+    }
+
+    /**
+     * 만료 row 삭제
+     *
+     * @return 삭제된 row 수
+     */
+    public int deleteExpired(LocalDateTime now) {
+        return jdbcTemplate.update(DELETE_EXPIRED, Timestamp.valueOf(now));
+    }
+}
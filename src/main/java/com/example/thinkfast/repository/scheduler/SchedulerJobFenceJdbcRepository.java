@@ -0,0 +1,59 @@
+package com.example.thinkfast.repository.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 스케줄러 job fencing token(SCHEDULER_JOB_FENCES) 전용 JDBC 저장소
+ * 호출한 트랜잭션에 참여하므로, 갱신한 row 의 잠금은 job 의 쓰기가 커밋될 때까지 유지된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SchedulerJobFenceJdbcRepository {
+
+    private static final String ADVANCE =
+            "UPDATE SCHEDULER_JOB_FENCES SET FENCING_TOKEN = ?, NODE_ID = ?, UPDATED_AT = ? " +
+            "WHERE JOB_NAME = ? AND FENCING_TOKEN < ?";
+
+    // job row 가 없을 때만 추가 (이미 있으면 아무것도 바꾸지 않음, strict mode 오류는 그대로 발생)
+    private static final String INSERT_IF_ABSENT =
+            "INSERT INTO SCHEDULER_JOB_FENCES (JOB_NAME, FENCING_TOKEN, NODE_ID, UPDATED_AT) VALUES (?, 0, NULL, ?) " +
+            "ON DUPLICATE KEY UPDATE JOB_NAME = JOB_NAME";
+
+    private static final String SELECT_TOKEN =
+            "SELECT FENCING_TOKEN FROM SCHEDULER_JOB_FENCES WHERE JOB_NAME = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 저장된 token 이 fencingToken 보다 작을 때만 fencingToken 으로 갱신
+     *
+     * @return 갱신되었으면 true (더 크거나 같은 token 으로 이미 쓴 노드가 있으면 false)
+     */
+    public boolean advance(String jobName, long fencingToken, String nodeId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (jdbcTemplate.update(ADVANCE, fencingToken, nodeId, now, jobName, fencingToken) == 1) {
+            return true;
+        }
+        if (!findToken(jobName).isPresent()) {
+            // 마이그레이션에 없는 job 은 처음 사용할 때 row 생성
+            jdbcTemplate.update(INSERT_IF_ABSENT, jobName, now);
+            return jdbcTemplate.update(ADVANCE, fencingToken, nodeId, now, jobName, fencingToken) == 1;
+        }
+        return false;
+    }
+
+    /**
+     * 마지막으로 쓰기를 허용한 token 조회
+     */
+    public Optional<Long> findToken(String jobName) {
+        List<Long> tokens = jdbcTemplate.queryForList(SELECT_TOKEN, Long.class, jobName);
+        return tokens.isEmpty() ? Optional.empty() : Optional.of(tokens.get(0));
+    }
+}
@@ -29,4 +29,9 @@ public interface OptionRepository extends JpaRepository<Option, Long> {
      * 질문 ID로 모든 옵션 조회 (엔티티 반환)
      */
     List<Option> findByQuestionIdOrderByIdAsc(Long questionId);
+
+    /**
+     * 여러 질문의 옵션 일괄 조회 (설문 스키마 로딩 용)
+     */
+    List<Option> findByQuestionIdInOrderByIdAsc(List<Long> questionIds);
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.thinkfast.repository.survey;
+
+import com.example.thinkfast.domain.survey.QuestionOptionCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface QuestionOptionCountRepository extends JpaRepository<QuestionOptionCount, QuestionOptionCount.Key> {
+    // 질문의 전체 응답 수(OPTION_ID = 0) + 선택지별 응답 수
+    List<QuestionOptionCount> findByQuestionId(Long questionId);
+
+    // 설문 전체 통계용 (여러 질문의 집계 row 를 한 번에 조회)
+    List<QuestionOptionCount> findByQuestionIdIn(List<Long> questionIds);
+
+    // 질문의 전체 응답(세션) 수 (응답이 없으면 0)
+    @Query("SELECT COALESCE(MAX(c.responseCount), 0) FROM QuestionOptionCount c " +
+           "WHERE c.questionId = :questionId AND c.optionId = " + QuestionOptionCount.TOTAL_OPTION_ID)
+    Long findTotalCountByQuestionId(@Param("questionId") Long questionId);
+}
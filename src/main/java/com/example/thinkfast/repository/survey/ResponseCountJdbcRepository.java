@@ -0,0 +1,124 @@
+package com.example.thinkfast.repository.survey;
+
+import com.example.thinkfast.dto.survey.ResponseCountDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * 응답 수 집계 테이블(QUESTION_OPTION_COUNTS, SURVEY_SESSION_COUNTS) 전용 JDBC 저장소
+ * - increment: 응답 저장 트랜잭션 안에서 multi-row INSERT ... ON DUPLICATE KEY UPDATE 로 증가
+ * - rebuildSurvey: RESPONSES 에서 설문 단위로 다시 집계 (--statistics.rebuild)
+ * 두 경로 모두 SURVEY_SESSION_COUNTS row 를 먼저 잠그므로, 재집계 중 저장되는 제출은 재집계 커밋 이후에 반영된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ResponseCountJdbcRepository {
+
+    private static final String UPSERT_SURVEY_SESSION_COUNTS_PREFIX =
+            "INSERT INTO SURVEY_SESSION_COUNTS (SURVEY_ID, SESSION_COUNT) VALUES ";
+    private static final String UPSERT_SURVEY_SESSION_COUNTS_SUFFIX =
+            " ON DUPLICATE KEY UPDATE SESSION_COUNT = SESSION_COUNT + VALUES(SESSION_COUNT)";
+
+    private static final String UPSERT_QUESTION_OPTION_COUNTS_PREFIX =
+            "INSERT INTO QUESTION_OPTION_COUNTS (QUESTION_ID, OPTION_ID, RESPONSE_COUNT) VALUES ";
+    private static final String UPSERT_QUESTION_OPTION_COUNTS_SUFFIX =
+            " ON DUPLICATE KEY UPDATE RESPONSE_COUNT = RESPONSE_COUNT + VALUES(RESPONSE_COUNT)";
+
+    private static final String LOCK_SURVEY_SESSION_COUNT =
+            "INSERT INTO SURVEY_SESSION_COUNTS (SURVEY_ID, SESSION_COUNT) VALUES (?, 0) " +
+            "ON DUPLICATE KEY UPDATE SESSION_COUNT = SESSION_COUNT";
+
+    private static final String DELETE_QUESTION_OPTION_COUNTS_BY_SURVEY =
+            "DELETE c FROM QUESTION_OPTION_COUNTS c " +
+            "JOIN QUESTIONS q ON q.ID = c.QUESTION_ID " +
+            "WHERE q.SURVEY_ID = ?";
+
+    private static final String INSERT_QUESTION_TOTALS_BY_SURVEY =
+            "INSERT INTO QUESTION_OPTION_COUNTS (QUESTION_ID, OPTION_ID, RESPONSE_COUNT) " +
+            "SELECT r.QUESTION_ID, 0, COUNT(DISTINCT r.RESPONSE_SESSION_ID) " +
+            "FROM RESPONSES r JOIN QUESTIONS q ON q.ID = r.QUESTION_ID " +
+            "WHERE q.SURVEY_ID = ? " +
+            "GROUP BY r.QUESTION_ID";
+
+    private static final String INSERT_OPTION_COUNTS_BY_SURVEY =
+            "INSERT INTO QUESTION_OPTION_COUNTS (QUESTION_ID, OPTION_ID, RESPONSE_COUNT) " +
+            "SELECT r.QUESTION_ID, r.OPTION_ID, COUNT(*) " +
+            "FROM RESPONSES r JOIN QUESTIONS q ON q.ID = r.QUESTION_ID " +
+            "WHERE q.SURVEY_ID = ? AND r.OPTION_ID IS NOT NULL " +
+            "GROUP BY r.QUESTION_ID, r.OPTION_ID";
+
+    private static final String UPDATE_SURVEY_SESSION_COUNT =
+            "UPDATE SURVEY_SESSION_COUNTS SET SESSION_COUNT = (" +
+            "SELECT COUNT(DISTINCT r.RESPONSE_SESSION_ID) " +
+            "FROM RESPONSES r JOIN QUESTIONS q ON q.ID = r.QUESTION_ID " +
+            "WHERE q.SURVEY_ID = ?) " +
+            "WHERE SURVEY_ID = ?";
+
+    private static final String SELECT_SURVEY_IDS = "SELECT ID FROM SURVEYS ORDER BY ID";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 응답 수 증가 (호출부 트랜잭션 안에서 실행)
+     * 설문 row 를 먼저, 이후 질문/선택지 row 를 키 순서대로 갱신한다. (잠금 순서 고정)
+     */
+    public void increment(ResponseCountDelta delta) {
+        if (delta == null || delta.isEmpty()) {
+            return;
+        }
+
+        StringBuilder surveySql = new StringBuilder(UPSERT_SURVEY_SESSION_COUNTS_PREFIX);
+        List<Object> surveyArgs = new ArrayList<>(delta.getSurveySessions().size() * 2);
+        for (Map.Entry<Long, Long> entry : delta.getSurveySessions().entrySet()) {
+            if (!surveyArgs.isEmpty()) {
+                surveySql.append(", ");
+            }
+            surveySql.append("(?, ?)");
+            surveyArgs.add(entry.getKey());
+            surveyArgs.add(entry.getValue());
+        }
+        surveySql.append(UPSERT_SURVEY_SESSION_COUNTS_SUFFIX);
+        jdbcTemplate.update(surveySql.toString(), surveyArgs.toArray());
+
+        if (delta.getQuestionOptions().isEmpty()) {
+            return;
+        }
+        StringBuilder questionSql = new StringBuilder(UPSERT_QUESTION_OPTION_COUNTS_PREFIX);
+        List<Object> questionArgs = new ArrayList<>();
+        for (Map.Entry<Long, SortedMap<Long, Long>> question : delta.getQuestionOptions().entrySet()) {
+            for (Map.Entry<Long, Long> option : question.getValue().entrySet()) {
+                if (!questionArgs.isEmpty()) {
+                    questionSql.append(", ");
+                }
+                questionSql.append("(?, ?, ?)");
+                questionArgs.add(question.getKey());
+                questionArgs.add(option.getKey());
+                questionArgs.add(option.getValue());
+            }
+        }
+        questionSql.append(UPSERT_QUESTION_OPTION_COUNTS_SUFFIX);
+        jdbcTemplate.update(questionSql.toString(), questionArgs.toArray());
+    }
+
+    /**
+     * 설문 1건의 응답 수를 RESPONSES 에서 다시 집계 (호출부 트랜잭션 안에서 실행)
+     */
+    public void rebuildSurvey(Long surveyId) {
+        // 설문 row 잠금: 이 트랜잭션이 끝날 때까지 같은 설문의 increment 는 대기
+        jdbcTemplate.update(LOCK_SURVEY_SESSION_COUNT, surveyId);
+        jdbcTemplate.update(DELETE_QUESTION_OPTION_COUNTS_BY_SURVEY, surveyId);
+        jdbcTemplate.update(INSERT_QUESTION_TOTALS_BY_SURVEY, surveyId);
+        jdbcTemplate.update(INSERT_OPTION_COUNTS_BY_SURVEY, surveyId);
+        jdbcTemplate.update(UPDATE_SURVEY_SESSION_COUNT, surveyId, surveyId);
+    }
+
+    public List<Long> findAllSurveyIds() {
+        return jdbcTemplate.queryForList(SELECT_SURVEY_IDS, Long.class);
+    }
+}
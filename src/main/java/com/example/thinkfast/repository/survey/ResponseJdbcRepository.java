@@ -0,0 +1,259 @@
+package com.example.thinkfast.repository.survey;
+
+import com.example.thinkfast.domain.survey.Response;
+import com.example.thinkfast.domain.survey.SurveyResponseHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 응답 제출 전용 JDBC 저장소
+ * Response 엔티티는 IDENTITY 전략이라 Hibernate 배치 INSERT 가 동작하지 않으므로,
+ * 한 번의 제출에 포함된 모든 응답을 multi-row INSERT 한 문장으로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ResponseJdbcRepository {
+
+    // 한 INSERT 문에 담을 최대 row 수 (placeholder 수 및 패킷 크기 제한 대비)
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_RESPONSES_PREFIX =
+            "INSERT INTO RESPONSES " +
+            "(RESPONSE_SESSION_ID, QUESTION_ID, QUESTION_TYPE, OPTION_ID, SUBJECTIVE_CONTENT, SCALE_VALUE, CREATED_AT) " +
+            "VALUES ";
+    private static final String RESPONSE_ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?)";
+
+    // UNIQUE 키 충돌 시 DUPLICATE_ATTEMPTS 를 올려 건별 결과가 2 가 되게 한다 (insert 는 1)
+    // INSERT IGNORE 와 달리 strict 모드의 데이터 오류(길이 초과 등)가 경고로 바뀌지 않고 예외로 남는다.
+    private static final String UPSERT_HISTORY =
+            "INSERT INTO SURVEY_RESPONSE_HISTORY " +
+            "(SURVEY_ID, DEVICE_ID_HASH, IP_ADDRESS_HASH, RESPONDED_AT) " +
+            "VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE DUPLICATE_ATTEMPTS = DUPLICATE_ATTEMPTS + 1";
+    // 설문별 deviceId / IP claim (이미 있으면 ATTEMPTS 를 올려 결과가 2)
+    private static final String UPSERT_CLAIM =
+            "INSERT INTO SURVEY_RESPONSE_CLAIMS (SURVEY_ID, CLAIM_TYPE, CLAIM_HASH, CREATED_AT) " +
+            "VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE ATTEMPTS = ATTEMPTS + 1";
+    private static final int UPSERT_INSERTED = 1;
+    private static final int UPSERT_DUPLICATED = 2;
+
+    public static final String CLAIM_DEVICE = "DEVICE";
+    public static final String CLAIM_IP_ADDRESS = "IP";
+
+    private static final String SELECT_CHOICE_ANSWERS_PREFIX =
+            "SELECT RESPONSE_SESSION_ID, QUESTION_ID, OPTION_ID FROM RESPONSES " +
+            "WHERE OPTION_ID IS NOT NULL AND QUESTION_ID IN (";
+    private static final String SELECT_ANSWER_SESSIONS_PREFIX =
+            "SELECT QUESTION_ID, RESPONSE_SESSION_ID FROM RESPONSES WHERE QUESTION_ID IN (";
+    private static final String SELECT_ANALYSIS_ROWS_PREFIX =
+            "SELECT ID, RESPONSE_SESSION_ID, QUESTION_ID, OPTION_ID, SUBJECTIVE_CONTENT FROM RESPONSES WHERE QUESTION_ID IN (";
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 객관식 답변 row 스트리밍 처리기
+     */
+    @FunctionalInterface
+    public interface ChoiceAnswerHandler {
+        void handle(String responseSessionId, long questionId, long optionId);
+    }
+
+    /**
+     * 답변 세션 row 스트리밍 처리기
+     */
+    @FunctionalInterface
+    public interface AnswerSessionHandler {
+        void handle(long questionId, String responseSessionId);
+    }
+
+    /**
+     * 리포트 분석용 답변 row 스트리밍 처리기
+     * optionId, subjectiveContent 는 질문 타입에 따라 null 일 수 있다.
+     */
+    @FunctionalInterface
+    public interface AnalysisRowHandler {
+        void handle(long responseId, String responseSessionId, long questionId, Long optionId, String subjectiveContent);
+    }
+
+    /**
+     * 응답 목록을 multi-row INSERT 로 저장
+     *
+     * @param responses 저장할 응답 리스트
+     * @return 저장된 row 수
+     */
+    public int insertAll(List<Response> responses) {
+        if (responses == null || responses.isEmpty()) {
+            return 0;
+        }
+
+        int inserted = 0;
+        for (int from = 0; from < responses.size(); from += MAX_ROWS_PER_STATEMENT) {
+            int to = Math.min(from + MAX_ROWS_PER_STATEMENT, responses.size());
+            inserted += insertChunk(responses.subList(from, to));
+        }
+        return inserted;
+    }
+
+    /**
+     * 응답 이력 1건 저장 (UNIQUE (SURVEY_ID, DEVICE_ID_HASH, IP_ADDRESS_HASH) 충돌 시 저장하지 않음)
+     * 동시 제출이 있어도 한 건만 1 을 받으므로, 반환값으로 중복 여부를 판정한다.
+     *
+     * @param history 응답 이력
+     * @return 저장된 row 수 (0 이면 이미 응답한 제출)
+     */
+    public int insertHistoryIfAbsent(SurveyResponseHistory history) {
+        return toInserted(UPSERT_HISTORY, jdbcTemplate.update(UPSERT_HISTORY, historyArgs(history)));
+    }
+
+    /**
+     * 설문의 deviceId 또는 IP claim 저장 (이미 있으면 저장하지 않음)
+     * claim row 잠금은 트랜잭션이 끝날 때까지 유지되므로, 같은 설문/deviceId(IP) 의 제출은 여기서 직렬화된다.
+     *
+     * @param claimType CLAIM_DEVICE 또는 CLAIM_IP_ADDRESS
+     * @param claimHash deviceId 또는 IP 해시
+     * @return 저장된 row 수 (0 이면 같은 설문에 그 deviceId/IP 의 이력이 이미 있음)
+     */
+    public int claimIfAbsent(Long surveyId, String claimType, String claimHash) {
+        return toInserted(UPSERT_CLAIM, jdbcTemplate.update(UPSERT_CLAIM,
+                surveyId, claimType, claimHash, Timestamp.valueOf(LocalDateTime.now())));
+    }
+
+    /**
+     * 질문들의 객관식 답변을 ID 순으로 스트리밍 조회 (교차 분석 큐브 생성용)
+     * 결과 전체를 메모리에 올리지 않도록 fetch size 단위로 읽어 handler 에 넘긴다.
+     */
+    public void forEachChoiceAnswer(List<Long> questionIds, ChoiceAnswerHandler handler) {
+        if (questionIds == null || questionIds.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder(SELECT_CHOICE_ANSWERS_PREFIX);
+        for (int i = 0; i < questionIds.size(); i++) {
+            sql.append(i > 0 ? ", ?" : "?");
+        }
+        sql.append(") ORDER BY ID");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            for (int i = 0; i < questionIds.size(); i++) {
+                statement.setLong(i + 1, questionIds.get(i));
+            }
+            return statement;
+        }, (RowCallbackHandler) rs -> handler.handle(rs.getString(1), rs.getLong(2), rs.getLong(3)));
+    }
+
+    /**
+     * 질문들의 답변 세션을 스트리밍 조회 (응답자 수 HyperLogLog 적재용)
+     * 같은 세션이 여러 번 나와도 되므로 DISTINCT 없이 읽고, fetch size 단위로 handler 에 넘긴다.
+     */
+    public void forEachAnswerSession(List<Long> questionIds, AnswerSessionHandler handler) {
+        if (questionIds == null || questionIds.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder(SELECT_ANSWER_SESSIONS_PREFIX);
+        for (int i = 0; i < questionIds.size(); i++) {
+            sql.append(i > 0 ? ", ?" : "?");
+        }
+        sql.append(")");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            for (int i = 0; i < questionIds.size(); i++) {
+                statement.setLong(i + 1, questionIds.get(i));
+            }
+            return statement;
+        }, (RowCallbackHandler) rs -> handler.handle(rs.getLong(1), rs.getString(2)));
+    }
+
+    /**
+     * 질문들의 답변 row 를 ID 순으로 스트리밍 조회 (리포트 생성용 SurveyAnalysisContext 적재)
+     * 요약/워드클라우드/인사이트가 같은 결과를 쓰므로 설문당 한 번만 읽는다.
+     */
+    public void forEachAnalysisRow(List<Long> questionIds, AnalysisRowHandler handler) {
+        if (questionIds == null || questionIds.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder(SELECT_ANALYSIS_ROWS_PREFIX);
+        for (int i = 0; i < questionIds.size(); i++) {
+            sql.append(i > 0 ? ", ?" : "?");
+        }
+        sql.append(") ORDER BY ID");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            for (int i = 0; i < questionIds.size(); i++) {
+                statement.setLong(i + 1, questionIds.get(i));
+            }
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            long optionId = rs.getLong(4);
+            handler.handle(rs.getLong(1), rs.getString(2), rs.getLong(3),
+                    rs.wasNull() ? null : optionId, rs.getString(5));
+        });
+    }
+
+    private int insertChunk(List<Response> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT_RESPONSES_PREFIX.length() + chunk.size() * 24);
+        sql.append(INSERT_RESPONSES_PREFIX);
+
+        List<Object> args = new ArrayList<>(chunk.size() * 7);
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(RESPONSE_ROW_PLACEHOLDER);
+
+            Response response = chunk.get(i);
+            LocalDateTime createdAt = response.getCreatedAt() != null ? response.getCreatedAt() : LocalDateTime.now();
+            args.add(response.getResponseSessionId());
+            args.add(response.getQuestionId());
+            args.add(response.getQuestionType());
+            args.add(response.getOptionId());
+            args.add(response.getSubjectiveContent());
+            args.add(response.getScaleValue());
+            args.add(Timestamp.valueOf(createdAt));
+        }
+
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private int toInserted(String sql, int affectedRows) {
+        if (affectedRows == UPSERT_INSERTED) {
+            return 1;
+        }
+        if (affectedRows == UPSERT_DUPLICATED) {
+            return 0;
+        }
+        throw new JdbcUpdateAffectedIncorrectNumberOfRowsException(sql, UPSERT_INSERTED, affectedRows);
+    }
+
+    private Object[] historyArgs(SurveyResponseHistory history) {
+        LocalDateTime respondedAt = history.getRespondedAt() != null ? history.getRespondedAt() : LocalDateTime.now();
+        return new Object[]{
+                history.getSurveyId(),
+                history.getDeviceIdHash(),
+                history.getIpAddressHash(),
+                Timestamp.valueOf(respondedAt)
+        };
+    }
+}
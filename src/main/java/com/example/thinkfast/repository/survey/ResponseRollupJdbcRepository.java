@@ -0,0 +1,113 @@
+package com.example.thinkfast.repository.survey;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 설문 제출 수 rollup(SURVEY_RESPONSE_ROLLUPS) 전용 JDBC 저장소
+ * 분 단위 row 만 저장하고, 시간/일 단위는 조회 시 rollup row 를 합산한다. (RESPONSES 는 조회하지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ResponseRollupJdbcRepository {
+
+    public static final String GRANULARITY_MINUTE = "%Y-%m-%d %H:%i:00";
+    public static final String GRANULARITY_HOUR = "%Y-%m-%d %H:00:00";
+    public static final String GRANULARITY_DAY = "%Y-%m-%d 00:00:00";
+
+    // [from, to) 범위의 이력을 분 단위로 다시 집계해 덮어쓴다 (늦게 커밋된 제출도 재실행 시 반영)
+    private static final String ROLLUP_MINUTES =
+            "INSERT INTO SURVEY_RESPONSE_ROLLUPS (SURVEY_ID, BUCKET_MINUTE, SUBMISSION_COUNT) " +
+            "SELECT SURVEY_ID, DATE_FORMAT(RESPONDED_AT, '" + GRANULARITY_MINUTE + "'), COUNT(*) " +
+            "FROM SURVEY_RESPONSE_HISTORY " +
+            "WHERE RESPONDED_AT >= ? AND RESPONDED_AT < ? " +
+            "GROUP BY SURVEY_ID, DATE_FORMAT(RESPONDED_AT, '" + GRANULARITY_MINUTE + "') " +
+            "ON DUPLICATE KEY UPDATE SUBMISSION_COUNT = VALUES(SUBMISSION_COUNT)";
+
+    private static final String SELECT_WATERMARK =
+            "SELECT LAST_MINUTE FROM SURVEY_RESPONSE_ROLLUP_STATE WHERE ID = 1";
+
+    private static final String ADVANCE_WATERMARK =
+            "UPDATE SURVEY_RESPONSE_ROLLUP_STATE SET LAST_MINUTE = GREATEST(LAST_MINUTE, ?) WHERE ID = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 분 단위 rollup ([from, to) 범위 재집계)
+     *
+     * @return 갱신된 row 수
+     */
+    public int rollupMinutes(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.update(ROLLUP_MINUTES, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    /**
+     * rollup 반영 완료 시각 (이 시각 이전의 분은 rollup 에서 조회)
+     */
+    public LocalDateTime findWatermark() {
+        Timestamp watermark = jdbcTemplate.queryForObject(SELECT_WATERMARK, Timestamp.class);
+        return watermark.toLocalDateTime();
+    }
+
+    public void advanceWatermark(LocalDateTime watermark) {
+        jdbcTemplate.update(ADVANCE_WATERMARK, Timestamp.valueOf(watermark));
+    }
+
+    /**
+     * 설문 1건의 [from, to) 구간 제출 수 (granularity 단위 합산)
+     *
+     * @param granularity GRANULARITY_MINUTE / GRANULARITY_HOUR / GRANULARITY_DAY
+     * @return 구간 시작 시각 → 제출 수 (제출이 없는 구간은 포함되지 않음)
+     */
+    public Map<LocalDateTime, Long> findBuckets(Long surveyId, String granularity, LocalDateTime from, LocalDateTime to) {
+        String sql = "SELECT STR_TO_DATE(DATE_FORMAT(BUCKET_MINUTE, '" + granularity + "'), '%Y-%m-%d %H:%i:%s') AS BUCKET, " +
+                "SUM(SUBMISSION_COUNT) " +
+                "FROM SURVEY_RESPONSE_ROLLUPS " +
+                "WHERE SURVEY_ID = ? AND BUCKET_MINUTE >= ? AND BUCKET_MINUTE < ? " +
+                "GROUP BY BUCKET";
+
+        Map<LocalDateTime, Long> buckets = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            buckets.put(rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2));
+        }, surveyId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+        return buckets;
+    }
+
+    /**
+     * 여러 설문의 [from, to) 구간 제출 수 합계 (스케줄러용)
+     *
+     * @return surveyId → 제출 수 (제출이 없는 설문은 포함되지 않음)
+     */
+    public Map<Long, Long> sumBySurveyIds(List<Long> surveyIds, LocalDateTime from, LocalDateTime to) {
+        Map<Long, Long> sums = new HashMap<>();
+        if (surveyIds.isEmpty() || !from.isBefore(to)) {
+            return sums;
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "SELECT SURVEY_ID, SUM(SUBMISSION_COUNT) FROM SURVEY_RESPONSE_ROLLUPS " +
+                "WHERE BUCKET_MINUTE >= ? AND BUCKET_MINUTE < ? AND SURVEY_ID IN (");
+        List<Object> args = new ArrayList<>(surveyIds.size() + 2);
+        args.add(Timestamp.valueOf(from));
+        args.add(Timestamp.valueOf(to));
+        for (int i = 0; i < surveyIds.size(); i++) {
+            sql.append(i > 0 ? ", ?" : "?");
+            args.add(surveyIds.get(i));
+        }
+        sql.append(") GROUP BY SURVEY_ID");
+
+        jdbcTemplate.query(sql.toString(), rs -> {
+            sums.put(rs.getLong(1), rs.getLong(2));
+        }, args.toArray());
+        return sums;
+    }
+}
@@ -5,6 +5,7 @@ import com.example.thinkfast.domain.survey.Survey;
 import com.example.thinkfast.dto.survey.GetRecentSurveysResponse;
 import com.example.thinkfast.dto.survey.GetSurveyDetailResponse;
 import com.example.thinkfast.dto.survey.PublicSurveyDto;
+import com.example.thinkfast.dto.survey.SurveyMetadata;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -18,6 +19,16 @@ import java.util.Optional;
 
 @Repository
 public interface SurveyRepository extends JpaRepository<Survey, Long> {
+    // 공개 설문 목록 페이징용 전체 건수 쿼리 (응답 수 조인 없이 검색 조건만 적용)
+    String PUBLIC_SURVEY_COUNT_QUERY = "SELECT COUNT(s) " +
+            "FROM Survey s " +
+            "JOIN User u ON s.userId = u.id " +
+            "WHERE s.showResults = true AND s.isDeleted = false " +
+            "AND (:search IS NULL OR :search = '' OR " +
+            "LOWER(s.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            "LOWER(s.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            "LOWER(u.realUsername) LIKE LOWER(CONCAT('%', :search, '%')))";
+
     // 기본 CRUD 메서드가 자동으로 제공됩니다:
     // - save(Survey entity)
     // - findById(Long id)
@@ -43,19 +54,25 @@ public interface SurveyRepository extends JpaRepository<Survey, Long> {
            "AND s.endTime > :now")
     List<Survey> findActiveSurveysByEndTimeAfter(@Param("now") LocalDateTime now);
 
+    // 응답 수는 SURVEY_SESSION_COUNTS 집계 테이블에서 조회 (RESPONSES 조인/GROUP BY 없음)
     @Query("SELECT new com.example.thinkfast.dto.survey.GetRecentSurveysResponse(" +
             "s.id, s.title, s.description, s.startTime, s.isActive, s.createdAt, " +
-            "COUNT(DISTINCT r.responseSessionId)) " +
+            "COALESCE(c.sessionCount, 0L)) " +
             "FROM Survey s " +
-            "LEFT JOIN Question q on s.id = q.surveyId " +
-            "LEFT JOIN Response r ON q.id = r.questionId " +
+            "LEFT JOIN SurveySessionCount c ON c.surveyId = s.id " +
             "WHERE s.userId = :userId AND s.isDeleted = false AND s.showResults = true " +
-            "GROUP BY s.id, s.title, s.description, s.startTime, s.isActive, s.createdAt " +
             "ORDER BY s.createdAt DESC")
     List<GetRecentSurveysResponse> getRecentSurveys(@Param("userId") Long userId);
 
     GetSurveyDetailResponse findByIdAndIsDeletedFalse(Long id);
 
+    // 설문 메타데이터 캐시 로딩 용 (설문 + 소유자 정보를 한 번에 조회)
+    @Query("SELECT new com.example.thinkfast.dto.survey.SurveyMetadata(" +
+            "s.id, s.userId, u.username, u.realUsername, s.isActive, s.isDeleted, s.showResults, s.endTime) " +
+            "FROM Survey s, User u " +
+            "WHERE u.id = s.userId AND s.id = :id")
+    Optional<SurveyMetadata> findMetadataById(@Param("id") Long id);
+
     @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END " +
             "FROM Survey s " +
             "WHERE s.id = :id AND (s.isDeleted = :isDeleted OR s.isActive = :isActive)")
@@ -73,22 +90,21 @@ public interface SurveyRepository extends JpaRepository<Survey, Long> {
      * - showResults = true
      * - isDeleted = false
      * - search: 제목, 설명, 작성자명 부분 검색
+     * - 응답 수는 SURVEY_SESSION_COUNTS 집계 테이블에서 조회
      */
-    @Query("SELECT new com.example.thinkfast.dto.survey.PublicSurveyDto(" +
+    @Query(value = "SELECT new com.example.thinkfast.dto.survey.PublicSurveyDto(" +
             "s.id, s.title, s.description, s.isActive, s.endTime, " +
-            "COUNT(DISTINCT r.responseSessionId), s.createdAt, s.showResults, " +
+            "COALESCE(c.sessionCount, 0L), s.createdAt, s.showResults, " +
             "s.userId, u.realUsername) " +
             "FROM Survey s " +
             "JOIN User u ON s.userId = u.id " +
-            "LEFT JOIN Question q on s.id = q.surveyId " +
-            "LEFT JOIN Response r ON q.id = r.questionId " +
+            "LEFT JOIN SurveySessionCount c ON c.surveyId = s.id " +
             "WHERE s.showResults = true AND s.isDeleted = false " +
             "AND (:search IS NULL OR :search = '' OR " +
             "LOWER(s.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
             "LOWER(s.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-            "LOWER(u.realUsername) LIKE LOWER(CONCAT('%', :search, '%'))) " +
-            "GROUP BY s.id, s.title, s.description, s.isActive, s.endTime, " +
-            "s.createdAt, s.showResults, s.userId, u.realUsername")
+            "LOWER(u.realUsername) LIKE LOWER(CONCAT('%', :search, '%')))",
+            countQuery = PUBLIC_SURVEY_COUNT_QUERY)
     Page<PublicSurveyDto> findPublicSurveys(
             @Param("search") String search,
             Pageable pageable);
@@ -96,22 +112,20 @@ public interface SurveyRepository extends JpaRepository<Survey, Long> {
     /**
      * 공개 설문 목록 조회 - 응답 수 기준 내림차순 정렬
      */
-    @Query("SELECT new com.example.thinkfast.dto.survey.PublicSurveyDto(" +
+    @Query(value = "SELECT new com.example.thinkfast.dto.survey.PublicSurveyDto(" +
             "s.id, s.title, s.description, s.isActive, s.endTime, " +
-            "COUNT(DISTINCT r.responseSessionId), s.createdAt, s.showResults, " +
+            "COALESCE(c.sessionCount, 0L), s.createdAt, s.showResults, " +
             "s.userId, u.realUsername) " +
             "FROM Survey s " +
             "JOIN User u ON s.userId = u.id " +
-            "LEFT JOIN Question q on s.id = q.surveyId " +
-            "LEFT JOIN Response r ON q.id = r.questionId " +
+            "LEFT JOIN SurveySessionCount c ON c.surveyId = s.id " +
             "WHERE s.showResults = true AND s.isDeleted = false " +
             "AND (:search IS NULL OR :search = '' OR " +
             "LOWER(s.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
             "LOWER(s.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
             "LOWER(u.realUsername) LIKE LOWER(CONCAT('%', :search, '%'))) " +
-            "GROUP BY s.id, s.title, s.description, s.isActive, s.endTime, " +
-            "s.createdAt, s.showResults, s.userId, u.realUsername " +
-            "ORDER BY COUNT(DISTINCT r.responseSessionId) DESC, s.createdAt DESC")
+            "ORDER BY COALESCE(c.sessionCount, 0L) DESC, s.createdAt DESC",
+            countQuery = PUBLIC_SURVEY_COUNT_QUERY)
     Page<PublicSurveyDto> findPublicSurveysOrderByResponses(
             @Param("search") String search,
             Pageable pageable);
@@ -0,0 +1,26 @@
+package com.example.thinkfast.repository.survey;
+
+import com.example.thinkfast.domain.survey.SurveySessionCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SurveySessionCountRepository extends JpaRepository<SurveySessionCount, Long> {
+    /**
+     * 설문 응답 수 조회 (응답이 없으면 0)
+     */
+    @Query("SELECT COALESCE(MAX(c.sessionCount), 0) FROM SurveySessionCount c WHERE c.surveyId = :surveyId")
+    Long findSessionCountBySurveyId(@Param("surveyId") Long surveyId);
+
+    /**
+     * 여러 설문의 응답 수 조회 (배치 처리용)
+     *
+     * @return [surveyId, sessionCount] 형태의 Object 배열 리스트 (응답이 없는 설문은 포함되지 않음)
+     */
+    @Query("SELECT c.surveyId, c.sessionCount FROM SurveySessionCount c WHERE c.surveyId IN :surveyIds")
+    List<Object[]> findSessionCountsBySurveyIds(@Param("surveyIds") List<Long> surveyIds);
+}
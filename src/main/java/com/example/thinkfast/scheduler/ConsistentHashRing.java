@@ -0,0 +1,53 @@
+package com.example.thinkfast.scheduler;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 노드 consistent hashing 링 (설문 ID → 담당 노드)
+ * - 노드마다 virtualNodes 개의 지점을 링에 두어 설문이 노드 수에 비례해 고르게 나뉜다.
+ * - 노드가 추가/제거되면 그 노드 몫의 설문만 옮겨가고 나머지 설문의 담당 노드는 그대로다.
+ * - 같은 노드 목록이면 어느 노드에서 만들어도 같은 결과 (MD5 기반, JVM 해시 사용 안 함)
+ */
+public final class ConsistentHashRing {
+
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+
+    /**
+     * @param nodeIds 살아 있는 노드 ID 목록 (1개 이상)
+     * @param virtualNodes 노드당 링 지점 수
+     */
+    public ConsistentHashRing(Collection<String> nodeIds, int virtualNodes) {
+        if (nodeIds.isEmpty()) {
+            throw new IllegalArgumentException("노드가 없습니다.");
+        }
+        int points = Math.max(1, virtualNodes);
+        for (String nodeId : nodeIds) {
+            for (int i = 0; i < points; i++) {
+                ring.put(hash(nodeId + "#" + i), nodeId);
+            }
+        }
+    }
+
+    /**
+     * 설문 담당 노드
+     */
+    public String ownerOf(long surveyId) {
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash("survey:" + surveyId));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    private static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 algorithm not found", e);
+        }
+    }
+}
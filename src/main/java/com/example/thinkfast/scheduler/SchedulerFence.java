@@ -0,0 +1,64 @@
+package com.example.thinkfast.scheduler;
+
+import com.example.thinkfast.repository.scheduler.SchedulerJobFenceJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스케줄러 job 의 DB 쓰기 fencing (SCHEDULER_JOB_FENCES)
+ * job 트랜잭션 안에서 쓰기 전에 호출하면, 저장된 token 보다 큰 token 을 가진 lease 만 통과하고 row 잠금을 커밋까지 잡는다.
+ * lease 가 만료된 뒤 새 소유자가 이미 통과했다면 늦게 깨어난 노드는 여기서 거부되어 롤백한다.
+ * (Redis 확인과 쓰기 사이의 경합이 없도록, 판정은 쓰기와 같은 트랜잭션의 DB 에서 한다)
+ */
+@Slf4j
+@Component
+public class SchedulerFence {
+
+    private static final String REJECTED_COUNTER = "scheduler.fence.rejected";
+
+    private final SchedulerJobFenceJdbcRepository schedulerJobFenceJdbcRepository;
+    private final SchedulerLock schedulerLock;
+    private final MeterRegistry meterRegistry;
+
+    public SchedulerFence(SchedulerJobFenceJdbcRepository schedulerJobFenceJdbcRepository,
+                          SchedulerLock schedulerLock,
+                          MeterRegistry meterRegistry) {
+        this.schedulerJobFenceJdbcRepository = schedulerJobFenceJdbcRepository;
+        this.schedulerLock = schedulerLock;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 현재 트랜잭션에서 lease 의 token 으로 job fence 갱신
+     * 잠금 없이 실행 중인 lease(lock-fail-open)는 token 이 없으므로 그대로 통과한다.
+     *
+     * @return 쓰기를 계속해도 되면 true, false 면 호출한 트랜잭션을 롤백해야 한다
+     */
+    public boolean tryEnter(SchedulerLease lease) {
+        if (lease.isLocal()) {
+            return true;
+        }
+        if (schedulerJobFenceJdbcRepository.advance(lease.getJobName(), lease.getFencingToken(), lease.getNodeId())) {
+            return true;
+        }
+
+        rejectedCounter(lease.getJobName()).increment();
+        long stored = schedulerJobFenceJdbcRepository.findToken(lease.getJobName()).orElse(0L);
+        if (schedulerLock.isHeld(lease)) {
+            // 잠금은 보유 중인데 DB 에 더 큰 token 이 있으면 Redis 카운터가 초기화된 것 (다음 획득부터 큰 token 발급)
+            schedulerLock.raiseFencingToken(lease.getJobName(), stored);
+        }
+        log.warn("[스케줄러 fence] 더 큰 token 으로 이미 실행됨, 쓰기 중단: job={}, nodeId={}, fencingToken={}, storedToken={}",
+                lease.getJobName(), lease.getNodeId(), lease.getFencingToken(), stored);
+        return false;
+    }
+
+    private Counter rejectedCounter(String jobName) {
+        return Counter.builder(REJECTED_COUNTER)
+                .description("DB fence 에서 거부된 스케줄러 실행 수 (만료된 lease 의 쓰기)")
+                .tag("job", jobName)
+                .register(meterRegistry);
+    }
+}
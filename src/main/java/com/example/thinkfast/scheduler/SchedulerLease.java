@@ -0,0 +1,32 @@
+package com.example.thinkfast.scheduler;
+
+import lombok.Getter;
+
+/**
+ * 스케줄러 job 실행 권한 (SchedulerLock 이 발급)
+ * fencingToken 은 job 별로 발급할 때마다 증가하므로, 잠금이 만료된 뒤 늦게 깨어난 노드의 lease 는
+ * 새 소유자의 lease 와 구분되어 SchedulerLock.isHeld 와 SchedulerFence(DB 쓰기)에서 거부된다.
+ */
+@Getter
+public class SchedulerLease {
+
+    private final String jobName;
+    private final String nodeId;
+    private final long fencingToken;
+    private final long acquiredAtMillis;
+    // Redis 장애로 잠금 없이 실행하는 경우 (scheduler.cluster.lock-fail-open)
+    private final boolean local;
+
+    SchedulerLease(String jobName, String nodeId, long fencingToken, long acquiredAtMillis, boolean local) {
+        this.jobName = jobName;
+        this.nodeId = nodeId;
+        this.fencingToken = fencingToken;
+        this.acquiredAtMillis = acquiredAtMillis;
+        this.local = local;
+    }
+
+    // 잠금 키에 저장되는 값 (노드 ID + fencing token)
+    String ownerValue() {
+        return nodeId + ":" + fencingToken;
+    }
+}
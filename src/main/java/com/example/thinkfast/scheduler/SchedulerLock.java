@@ -0,0 +1,192 @@
+package com.example.thinkfast.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스케줄러 job 분산 잠금 (Redis lease + fencing token)
+ * 노드마다 같은 주기로 실행되는 job 을 주기당 한 노드만 실행하도록 한다.
+ * - 획득: scheduler:lock:{job} 이 없으면 scheduler:lock:{job}:fence 를 INCR 한 값(fencing token)과
+ *   노드 ID 를 lock-at-most-seconds TTL 로 저장 (Lua 로 원자적으로 처리)
+ * - 확인: 잠금 값이 자신의 노드 ID + token 과 같을 때만 보유 중. (빠른 사전 확인용)
+ *   확인과 쓰기 사이에 lease 가 넘어갈 수 있으므로, DB 쓰기는 SchedulerFence 가 같은 트랜잭션에서 token 으로 막는다.
+ * - 해제: 실행이 빨리 끝나도 획득 후 lock-at-least-seconds 까지는 유지해, 실행 주기가 어긋난 다른 노드가
+ *   같은 주기에 다시 실행하지 않도록 한다.
+ * - Redis 장애 시 lock-fail-open=true 면 잠금 없이 실행하고, false 면 이번 주기를 건너뛴다.
+ */
+@Slf4j
+@Component
+public class SchedulerLock {
+
+    private static final String KEY_PREFIX = "scheduler:lock:";
+    private static final String FENCE_SUFFIX = ":fence";
+    private static final String ACQUIRE_TIMER = "scheduler.lock.acquire";
+    private static final String LOST_COUNTER = "scheduler.lock.lost";
+
+    // 잠금이 없으면 token 발급 후 저장 (KEYS[1]: 잠금, KEYS[2]: token 카운터, ARGV[1]: 노드 ID, ARGV[2]: TTL ms)
+    private static final RedisScript<Long> ACQUIRE = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "local token = redis.call('INCR', KEYS[2]) " +
+            "redis.call('SET', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2]) " +
+            "return token", Long.class);
+
+    // 잠금 값이 같으면 보유 중 (ARGV[1]: 노드 ID:token)
+    private static final RedisScript<Long> IS_HELD = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return 1 end " +
+            "return 0", Long.class);
+
+    // 잠금 값이 같을 때만 해제 (ARGV[2] > 0 이면 그 시간 동안 더 유지)
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "if tonumber(ARGV[2]) > 0 then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return redis.call('DEL', KEYS[1])", Long.class);
+
+    // token 카운터가 ARGV[1] 보다 작으면 올림 (Redis 데이터 유실로 카운터가 DB 에 기록된 token 아래로 내려간 경우)
+    private static final RedisScript<Long> RAISE_FENCE = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "if current < tonumber(ARGV[1]) then redis.call('SET', KEYS[1], ARGV[1]) return 1 end " +
+            "return 0", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final SchedulerNodeRegistry schedulerNodeRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${scheduler.cluster.lock-at-most-seconds:300}")
+    private long lockAtMostSeconds;
+
+    @Value("${scheduler.cluster.lock-at-least-seconds:50}")
+    private long lockAtLeastSeconds;
+
+    @Value("${scheduler.cluster.lock-fail-open:false}")
+    private boolean lockFailOpen;
+
+    public SchedulerLock(StringRedisTemplate redisTemplate,
+                         SchedulerNodeRegistry schedulerNodeRegistry,
+                         MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.schedulerNodeRegistry = schedulerNodeRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * job 잠금 획득 시도 (대기하지 않음)
+     *
+     * @param jobName job 이름
+     * @return 획득한 lease, 다른 노드가 실행 중이면 empty
+     */
+    public Optional<SchedulerLease> tryAcquire(String jobName) {
+        String nodeId = schedulerNodeRegistry.getNodeId();
+        long start = System.nanoTime();
+        try {
+            Long token = redisTemplate.execute(ACQUIRE, Arrays.asList(lockKey(jobName), lockKey(jobName) + FENCE_SUFFIX),
+                    nodeId, String.valueOf(TimeUnit.SECONDS.toMillis(lockAtMostSeconds)));
+            if (token == null || token == 0L) {
+                record(jobName, "busy", start);
+                log.debug("[스케줄러 잠금] 다른 노드가 실행 중: job={}, nodeId={}", jobName, nodeId);
+                return Optional.empty();
+            }
+            record(jobName, "acquired", start);
+            return Optional.of(new SchedulerLease(jobName, nodeId, token, System.currentTimeMillis(), false));
+        } catch (DataAccessException e) {
+            record(jobName, "error", start);
+            if (!lockFailOpen) {
+                log.warn("[스케줄러 잠금] 획득 실패, 이번 주기 건너뜀: job={}, reason={}", jobName, e.getMessage());
+                return Optional.empty();
+            }
+            log.warn("[스케줄러 잠금] 획득 실패, 잠금 없이 실행: job={}, reason={}", jobName, e.getMessage());
+            return Optional.of(new SchedulerLease(jobName, nodeId, 0L, System.currentTimeMillis(), true));
+        }
+    }
+
+    /**
+     * lease 가 아직 유효한지 확인 (Redis 기준 사전 확인, DB 쓰기 판정은 SchedulerFence)
+     *
+     * @return 잠금 값이 이 lease 의 노드 ID + fencing token 과 같으면 true
+     */
+    public boolean isHeld(SchedulerLease lease) {
+        if (lease.isLocal()) {
+            return true;
+        }
+        try {
+            Long held = redisTemplate.execute(IS_HELD, Collections.singletonList(lockKey(lease.getJobName())),
+                    lease.ownerValue());
+            if (held != null && held == 1L) {
+                return true;
+            }
+            lostCounter(lease.getJobName()).increment();
+            log.warn("[스케줄러 잠금] lease 만료 또는 다른 노드로 이전: job={}, nodeId={}, fencingToken={}",
+                    lease.getJobName(), lease.getNodeId(), lease.getFencingToken());
+            return false;
+        } catch (DataAccessException e) {
+            log.warn("[스케줄러 잠금] 확인 실패: job={}, reason={}", lease.getJobName(), e.getMessage());
+            return lockFailOpen;
+        }
+    }
+
+    /**
+     * 잠금 해제 (획득 후 lock-at-least-seconds 가 지나지 않았으면 남은 시간만큼 유지)
+     */
+    public void release(SchedulerLease lease) {
+        if (lease.isLocal()) {
+            return;
+        }
+        long elapsed = System.currentTimeMillis() - lease.getAcquiredAtMillis();
+        long remaining = Math.min(TimeUnit.SECONDS.toMillis(lockAtLeastSeconds), TimeUnit.SECONDS.toMillis(lockAtMostSeconds))
+                - elapsed;
+        try {
+            redisTemplate.execute(RELEASE, Collections.singletonList(lockKey(lease.getJobName())),
+                    lease.ownerValue(), String.valueOf(Math.max(0L, remaining)));
+        } catch (DataAccessException e) {
+            log.warn("[스케줄러 잠금] 해제 실패 (TTL 만료 후 해제됨): job={}, reason={}", lease.getJobName(), e.getMessage());
+        }
+    }
+
+    /**
+     * token 카운터를 최소 minToken 까지 올림 (다음 획득부터 DB 에 기록된 token 보다 큰 token 발급)
+     */
+    public void raiseFencingToken(String jobName, long minToken) {
+        try {
+            Long raised = redisTemplate.execute(RAISE_FENCE, Collections.singletonList(lockKey(jobName) + FENCE_SUFFIX),
+                    String.valueOf(minToken));
+            if (raised != null && raised == 1L) {
+                log.warn("[스케줄러 잠금] token 카운터가 DB 기록보다 작아 올림: job={}, token={}", jobName, minToken);
+            }
+        } catch (DataAccessException e) {
+            log.warn("[스케줄러 잠금] token 카운터 갱신 실패: job={}, reason={}", jobName, e.getMessage());
+        }
+    }
+
+    private void record(String jobName, String result, long startNanos) {
+        Timer.builder(ACQUIRE_TIMER)
+                .description("스케줄러 잠금 획득 시도 (result: acquired/busy/error)")
+                .tag("job", jobName)
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter lostCounter(String jobName) {
+        return Counter.builder(LOST_COUNTER)
+                .description("실행 중 다른 노드로 넘어간 스케줄러 lease 수")
+                .tag("job", jobName)
+                .register(meterRegistry);
+    }
+
+    // 잠금과 token 카운터가 같은 slot 에 있도록 job 이름을 hash tag 로 사용 (Redis Cluster)
+    private static String lockKey(String jobName) {
+        return KEY_PREFIX + "{" + jobName + "}";
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.thinkfast.scheduler;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 스케줄러 노드 목록 (Redis ZSET scheduler:nodes, score = 마지막 heartbeat 시각)
+ * - 노드마다 heartbeat-interval-ms 주기로 자신의 시각을 기록하고, node-ttl-seconds 동안 기록이 없는 노드는 정리한다.
+ * - currentRing(): 살아 있는 노드로 consistent hashing 링 구성 (설문 리포트 샤딩용)
+ * - Redis 조회 실패 시 lock-fail-open=false 면 링을 돌려주지 않아 그 주기를 건너뛰고,
+ *   true 면 자신만 있는 링을 돌려준다. (모든 노드가 모든 설문을 처리하므로 SchedulerLock 의 fail-open 과 같은 의미)
+ */
+@Slf4j
+@Component
+public class SchedulerNodeRegistry {
+
+    private static final String NODES_KEY = "scheduler:nodes";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId;
+    private final AtomicInteger liveNodeCount = new AtomicInteger(1);
+
+    @Value("${scheduler.cluster.node-ttl-seconds:30}")
+    private long nodeTtlSeconds;
+
+    @Value("${scheduler.cluster.virtual-nodes:64}")
+    private int virtualNodes;
+
+    @Value("${scheduler.cluster.lock-fail-open:false}")
+    private boolean lockFailOpen;
+
+    public SchedulerNodeRegistry(StringRedisTemplate redisTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${scheduler.cluster.node-id:}") String nodeId) {
+        this.redisTemplate = redisTemplate;
+        this.nodeId = nodeId == null || nodeId.isEmpty() ? defaultNodeId() : nodeId;
+        Gauge.builder("scheduler.cluster.nodes", liveNodeCount, AtomicInteger::get)
+                .description("마지막으로 확인한 살아 있는 스케줄러 노드 수")
+                .register(meterRegistry);
+        log.info("[스케줄러 노드] nodeId={}", this.nodeId);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * heartbeat 기록 및 만료 노드 정리
+     */
+    @Scheduled(fixedDelayString = "${scheduler.cluster.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            redisTemplate.opsForZSet().add(NODES_KEY, nodeId, now);
+            redisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, now - nodeTtlSeconds * 1000);
+        } catch (DataAccessException e) {
+            log.warn("[스케줄러 노드] heartbeat 실패: nodeId={}, reason={}", nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 살아 있는 노드로 구성한 링 (자신은 항상 포함)
+     *
+     * @return 노드 목록을 읽지 못했고 lock-fail-open=false 면 empty (호출한 job 은 이번 주기를 건너뜀)
+     */
+    public Optional<ConsistentHashRing> currentRing() {
+        Set<String> nodes = new TreeSet<>(Collections.singleton(nodeId));
+        try {
+            long liveSince = System.currentTimeMillis() - nodeTtlSeconds * 1000;
+            Set<String> live = redisTemplate.opsForZSet().rangeByScore(NODES_KEY, liveSince, Double.MAX_VALUE);
+            if (live != null) {
+                nodes.addAll(live);
+            }
+        } catch (DataAccessException e) {
+            if (!lockFailOpen) {
+                log.warn("[스케줄러 노드] 노드 목록 조회 실패, 이번 주기 건너뜀: nodeId={}, reason={}", nodeId, e.getMessage());
+                return Optional.empty();
+            }
+            log.warn("[스케줄러 노드] 노드 목록 조회 실패, 단독 처리: nodeId={}, reason={}", nodeId, e.getMessage());
+        }
+        liveNodeCount.set(nodes.size());
+        return Optional.of(new ConsistentHashRing(nodes, virtualNodes));
+    }
+
+    /**
+     * 종료 시 노드 목록에서 제거 (다른 노드가 TTL 을 기다리지 않고 담당 설문을 넘겨받음)
+     */
+    @PreDestroy
+    public void leave() {
+        try {
+            redisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+        } catch (DataAccessException e) {
+            log.warn("[스케줄러 노드] 제거 실패 (TTL 만료 후 제거됨): nodeId={}, reason={}", nodeId, e.getMessage());
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        // 같은 호스트에서 여러 인스턴스가 떠도 구분되도록 실행마다 접미사 추가
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
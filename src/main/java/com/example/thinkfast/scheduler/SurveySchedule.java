@@ -5,21 +5,27 @@ import com.example.thinkfast.domain.survey.Survey;
 import com.example.thinkfast.realtime.RedisPublisher;
 import com.example.thinkfast.repository.ai.InsightReportRepository;
 import com.example.thinkfast.repository.survey.QuestionRepository;
-import com.example.thinkfast.repository.survey.ResponseRepository;
 import com.example.thinkfast.repository.survey.SurveyRepository;
-import com.example.thinkfast.service.ai.SummaryService;
-import com.example.thinkfast.service.ai.WordCloudService;
-import com.example.thinkfast.service.ai.InsightService;
+import com.example.thinkfast.repository.survey.SurveySessionCountRepository;
+import com.example.thinkfast.service.ai.ReportDirtyTracker;
+import com.example.thinkfast.service.ai.SurveyReportService;
+import com.example.thinkfast.service.survey.CountMode;
+import com.example.thinkfast.service.survey.RespondentCountService;
+import com.example.thinkfast.service.survey.ResponseTimelineService;
+import com.example.thinkfast.service.survey.SurveyMetadataCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -30,13 +36,41 @@ public class SurveySchedule {
 
     private final SurveyRepository surveyRepository;
     private final QuestionRepository questionRepository;
-    private final ResponseRepository responseRepository;
+    private final RespondentCountService respondentCountService;
     private final RedisPublisher redisPublisher;
-    private final SummaryService summaryService;
-    private final WordCloudService wordCloudService;
-    private final InsightService insightService;
+    private final SurveyReportService surveyReportService;
     private final InsightReportRepository insightReportRepository;
+    private final SurveySessionCountRepository surveySessionCountRepository;
+    private final ReportDirtyTracker reportDirtyTracker;
+    private final SurveyMetadataCache surveyMetadataCache;
+    private final ResponseTimelineService responseTimelineService;
+    private final SchedulerLock schedulerLock;
+    private final SchedulerFence schedulerFence;
+    private final SchedulerNodeRegistry schedulerNodeRegistry;
 
+    // 설문별 마지막 리포트 갱신 요청 시점 (진행 중인 설문만 유지)
+    private final Map<Long, LocalDateTime> lastReportRefresh = new ConcurrentHashMap<>();
+
+    // 최근 제출 속도 계산 구간
+    @Value("${survey.reports.hot-window-minutes:5}")
+    private int hotWindowMinutes;
+
+    // 분당 제출 수가 이 값 이상이면 매 실행마다 갱신
+    @Value("${survey.reports.hot-rate-per-minute:1.0}")
+    private double hotRatePerMinute;
+
+    // 제출이 뜸한 설문의 갱신 간격
+    @Value("${survey.reports.idle-refresh-minutes:10}")
+    private long idleRefreshMinutes;
+
+    // true 면 리포트 갱신을 잠금 대신 노드별 담당 설문(consistent hashing)으로 나눠 모든 노드가 실행
+    @Value("${scheduler.cluster.report-sharding:false}")
+    private boolean reportSharding;
+
+    /**
+     * 종료 시간이 지난 설문 비활성화 및 최종 리포트 생성
+     * 클러스터에서 주기당 한 노드만 실행 (SchedulerLock), 저장은 같은 트랜잭션의 SchedulerFence 를 통과할 때만 커밋
+     */
     @Scheduled(fixedRate = 60000)
     @Transactional
     public void updateExpiredSurvey() {
@@ -44,11 +78,19 @@ public class SurveySchedule {
         long startTime = System.currentTimeMillis();
         int processedCount = 0;
         AtomicInteger failedCount = new AtomicInteger(0);
+        SchedulerLease lease = null;
 
         try {
             MDC.put("log_type", "scheduler");
             MDC.put("scheduler.job_name", "updateExpiredSurvey");
             MDC.put("scheduler.job_id", jobId);
+            MDC.put("scheduler.node_id", schedulerNodeRegistry.getNodeId());
+
+            lease = schedulerLock.tryAcquire("updateExpiredSurvey").orElse(null);
+            if (lease == null) {
+                return;
+            }
+            MDC.put("scheduler.fencing_token", String.valueOf(lease.getFencingToken()));
 
             log.info("Scheduler job started: updateExpiredSurvey (jobId: {})", jobId);
 
@@ -69,22 +111,25 @@ public class SurveySchedule {
                 }
             });
             
+            // 더 큰 token 으로 이미 실행한 노드가 있으면 롤백 (새 소유자가 같은 설문을 처리)
+            // fence row 잠금은 커밋까지 유지되므로, 통과한 뒤 lease 가 넘어가도 새 소유자는 이 커밋 이후에 판정된다
+            if (!schedulerFence.tryEnter(lease)) {
+                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+                return;
+            }
+
             // 변경사항 저장
             surveyRepository.saveAll(expiredSurveys);
+            expiredSurveys.forEach(survey -> surveyMetadataCache.invalidate(survey.getId()));
             processedCount = expiredSurveys.size();
 
             expiredSurveys.forEach(survey -> {
                 try {
                     redisPublisher.sendAlarm(survey.getId(), "SURVEY_EXPIRED");
                     
-                    // 설문 종료 후 요약 리포트 비동기 생성
-                    generateSummaryReportIfNotExists(survey.getId());
-                    
-                    // 설문 종료 후 워드클라우드 비동기 생성
-                    wordCloudService.saveWordCloudsForSurveyAsync(survey.getId());
-                    
-                    // 설문 종료 후 인사이트 텍스트 비동기 생성
-                    insightService.saveInsightsForSurveyAsync(survey.getId());
+                    // 설문 종료 후 요약 리포트, 워드클라우드, 인사이트 비동기 생성 (설문 데이터는 1회 조회)
+                    log.info("설문 종료 감지 - 리포트 생성 시작: surveyId={}", survey.getId());
+                    surveyReportService.generateReportsAsync(survey.getId());
                 } catch (Exception e) {
                     failedCount.incrementAndGet();
                     log.warn("Failed to process expired survey: ID={}", survey.getId(), e);
@@ -112,10 +157,15 @@ public class SurveySchedule {
             log.error("Scheduler job failed: updateExpiredSurvey (jobId: {}, duration: {}ms)", 
                     jobId, duration, e);
         } finally {
+            if (lease != null) {
+                schedulerLock.release(lease);
+            }
             // MDC 정리
             MDC.remove("log_type");
             MDC.remove("scheduler.job_name");
             MDC.remove("scheduler.job_id");
+            MDC.remove("scheduler.node_id");
+            MDC.remove("scheduler.fencing_token");
             MDC.remove("scheduler.execution_time_ms");
             MDC.remove("scheduler.processed_count");
             MDC.remove("scheduler.failed_count");
@@ -124,12 +174,60 @@ public class SurveySchedule {
         }
     }
 
+    /**
+     * 제출 추이 rollup 스케줄러
+     * 1분마다 지난 분들의 제출 수를 SURVEY_RESPONSE_ROLLUPS 에 반영 (GET /survey/{id}/timeline, 리포트 갱신 주기 판단)
+     * rollup 은 여러 노드에서 실행해도 결과가 같고 노드별 링 버퍼 정리도 함께 하므로 잠금 없이 모든 노드에서 실행
+     */
+    @Scheduled(fixedRate = 60000)
+    public void rollupResponseTimeline() {
+        String jobId = "job-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + "-timeline";
+        long startTime = System.currentTimeMillis();
+
+        try {
+            MDC.put("log_type", "scheduler");
+            MDC.put("scheduler.job_name", "rollupResponseTimeline");
+            MDC.put("scheduler.job_id", jobId);
+
+            int rows = responseTimelineService.rollup();
+
+            long duration = System.currentTimeMillis() - startTime;
+            MDC.put("scheduler.execution_time_ms", String.valueOf(duration));
+            MDC.put("scheduler.processed_count", String.valueOf(rows));
+            MDC.put("scheduler.status", "success");
+
+            log.debug("Scheduler job completed: rollupResponseTimeline (jobId: {}, duration: {}ms, rows: {})",
+                    jobId, duration, rows);
+        } catch (Exception e) {
+            long duration = System.currentTimeMillis() - startTime;
+            MDC.put("scheduler.execution_time_ms", String.valueOf(duration));
+            MDC.put("scheduler.status", "failure");
+            MDC.put("scheduler.error_message", e.getMessage());
+
+            log.error("Scheduler job failed: rollupResponseTimeline (jobId: {}, duration: {}ms)",
+                    jobId, duration, e);
+        } finally {
+            // MDC 정리
+            MDC.remove("log_type");
+            MDC.remove("scheduler.job_name");
+            MDC.remove("scheduler.job_id");
+            MDC.remove("scheduler.execution_time_ms");
+            MDC.remove("scheduler.processed_count");
+            MDC.remove("scheduler.status");
+            MDC.remove("scheduler.error_message");
+        }
+    }
+
     /**
      * 실시간 통계 업데이트 스케줄러
      * 1분마다 진행 중인 설문에 대해 요약 리포트, 워드클라우드, 인사이트, 통계를 저장 또는 수정
      * - 진행 중인 설문 (isActive = true, isDeleted = false, endTime > 현재 시간)
      * - 최소 응답 수 1개 이상인 설문만 처리
+     * - 마지막 리포트 생성(watermark) 이후 새 응답이 없으면 건너뜀 (제출 시 dirty 표시된 설문만 확인)
+     * - 최근 제출 속도가 hot-rate-per-minute 이상이면 매번, 아니면 idle-refresh-minutes 마다 갱신
      * - 배치 처리로 성능 최적화
+     * - 클러스터에서는 주기당 한 노드만 실행 (SchedulerLock, 리포트 생성 요청 전 SchedulerFence 통과),
+     *   report-sharding 이면 노드마다 담당 설문만 처리
      */
     @Scheduled(fixedRate = 60000)
     @Transactional
@@ -138,11 +236,21 @@ public class SurveySchedule {
         long startTime = System.currentTimeMillis();
         int processedCount = 0;
         AtomicInteger failedCount = new AtomicInteger(0);
+        SchedulerLease lease = null;
 
         try {
             MDC.put("log_type", "scheduler");
             MDC.put("scheduler.job_name", "updateActiveSurveyReports");
             MDC.put("scheduler.job_id", jobId);
+            MDC.put("scheduler.node_id", schedulerNodeRegistry.getNodeId());
+
+            if (!reportSharding) {
+                lease = schedulerLock.tryAcquire("updateActiveSurveyReports").orElse(null);
+                if (lease == null) {
+                    return;
+                }
+                MDC.put("scheduler.fencing_token", String.valueOf(lease.getFencingToken()));
+            }
 
             log.info("Scheduler job started: updateActiveSurveyReports (jobId: {})", jobId);
 
@@ -158,35 +266,61 @@ public class SurveySchedule {
             
             log.debug("Active surveys found: {}", activeSurveys.size());
             
-            // 2. 설문 ID 리스트 추출
+            // 2. 설문 ID 리스트 추출 (샤딩 시 이 노드가 담당하는 설문만)
             List<Long> surveyIds = activeSurveys.stream()
                     .map(Survey::getId)
                     .collect(Collectors.toList());
+            if (reportSharding) {
+                surveyIds = filterOwnedSurveyIds(surveyIds);
+                if (surveyIds.isEmpty()) {
+                    log.debug("No active surveys owned by this node");
+                    return;
+                }
+            }
             
-            // 3. 배치 처리: 여러 설문의 응답 수를 한 번에 조회
-            List<Object[]> responseCounts = responseRepository.countDistinctResponseSessionsBySurveyIds(surveyIds);
-            
-            // 4. 설문 ID별 응답 수 매핑
-            Map<Long, Long> responseCountMap = responseCounts.stream()
-                    .collect(Collectors.toMap(
-                            arr -> (Long) arr[0],
-                            arr -> ((Number) arr[1]).longValue()
-                    ));
+            // 3~4. 배치 처리: 여러 설문의 응답 수를 한 번에 조회 (HyperLogLog 추정치, 준비 전이면 집계 테이블)
+            Map<Long, Long> responseCountMap = respondentCountService.countSurveyRespondents(surveyIds, CountMode.APPROXIMATE);
             
             // 5. 최소 응답 수 1개 이상인 설문만 필터링
-            List<Long> targetSurveyIds = surveyIds.stream()
+            List<Long> respondedSurveyIds = surveyIds.stream()
                     .filter(surveyId -> {
                         Long count = responseCountMap.getOrDefault(surveyId, 0L);
                         return count >= 1;
                     })
                     .collect(Collectors.toList());
             
-            if (targetSurveyIds.isEmpty()) {
+            if (respondedSurveyIds.isEmpty()) {
                 log.debug("No active surveys with responses found");
                 return;
             }
+
+            // 5-1. 마지막 리포트 생성 이후 새 응답이 있는 설문만 선별
+            List<Long> changedSurveyIds = findChangedSurveyIds(respondedSurveyIds);
+            if (changedSurveyIds.isEmpty()) {
+                log.debug("No active surveys with new responses since last report");
+                return;
+            }
+
+            // 5-2. 제출 추이로 갱신 대상 선별 (종료/삭제된 설문의 갱신 기록은 정리)
+            lastReportRefresh.keySet().retainAll(surveyIds);
+            Map<Long, Long> recentCounts = responseTimelineService.countSubmissionsSince(
+                    changedSurveyIds, now.minusMinutes(hotWindowMinutes));
+            List<Long> targetSurveyIds = changedSurveyIds.stream()
+                    .filter(surveyId -> isReportRefreshDue(surveyId, recentCounts.getOrDefault(surveyId, 0L), now))
+                    .collect(Collectors.toList());
+
+            if (targetSurveyIds.isEmpty()) {
+                log.debug("No active surveys due for report refresh");
+                return;
+            }
             
             log.debug("Target surveys for update: {}", targetSurveyIds.size());
+
+            // 더 큰 token 으로 이미 실행한 노드가 있으면 리포트 생성을 요청하지 않음 (새 소유자가 처리)
+            // 요청이 겹쳐도 watermark 는 각 생성이 세 리포트를 모두 저장한 뒤에 남기므로, 현재 응답 수와 다르면 다시 생성된다
+            if (lease != null && !schedulerFence.tryEnter(lease)) {
+                return;
+            }
             
             // 6. 배치 처리: 여러 설문의 질문을 한 번에 조회
             List<Question> allQuestions = questionRepository.findBySurveyIdIn(targetSurveyIds);
@@ -205,15 +339,10 @@ public class SurveySchedule {
                         continue;
                     }
                     
-                    // 요약 리포트 업데이트 (비동기)
-                    summaryService.saveSummaryReportAsync(surveyId);
-                    
-                    // 워드클라우드 업데이트 (비동기)
-                    wordCloudService.saveWordCloudsForSurveyAsync(surveyId);
-                    
-                    // 인사이트 업데이트 (비동기)
-                    insightService.saveInsightsForSurveyAsync(surveyId);
-                    
+                    // 요약 리포트, 워드클라우드, 인사이트 업데이트 (비동기, 설문 데이터는 1회 조회)
+                    surveyReportService.generateReportsAsync(surveyId);
+
+                    lastReportRefresh.put(surveyId, now);
                     processedCount++;
                 } catch (Exception e) {
                     failedCount.incrementAndGet();
@@ -243,10 +372,15 @@ public class SurveySchedule {
             log.error("Scheduler job failed: updateActiveSurveyReports (jobId: {}, duration: {}ms)", 
                     jobId, duration, e);
         } finally {
+            if (lease != null) {
+                schedulerLock.release(lease);
+            }
             // MDC 정리
             MDC.remove("log_type");
             MDC.remove("scheduler.job_name");
             MDC.remove("scheduler.job_id");
+            MDC.remove("scheduler.node_id");
+            MDC.remove("scheduler.fencing_token");
             MDC.remove("scheduler.execution_time_ms");
             MDC.remove("scheduler.processed_count");
             MDC.remove("scheduler.failed_count");
@@ -256,20 +390,79 @@ public class SurveySchedule {
     }
 
     /**
-     * 요약 리포트가 없으면 비동기로 생성
-     *
-     * @param surveyId 설문 ID
+     * 이 노드가 담당하는 설문만 선별 (살아 있는 노드로 구성한 consistent hashing 링 기준)
+     * 노드가 추가/제거되면 그 노드 몫의 설문만 담당이 바뀌고, 새 담당 노드는 첫 실행에서 바로 갱신한다.
+     * 노드 목록을 읽지 못하면(lock-fail-open=false) 빈 목록을 돌려 이번 주기를 건너뛴다.
+     */
+    private List<Long> filterOwnedSurveyIds(List<Long> surveyIds) {
+        Optional<ConsistentHashRing> currentRing = schedulerNodeRegistry.currentRing();
+        if (!currentRing.isPresent()) {
+            return Collections.emptyList();
+        }
+        ConsistentHashRing ring = currentRing.get();
+        String nodeId = schedulerNodeRegistry.getNodeId();
+        List<Long> owned = surveyIds.stream()
+                .filter(surveyId -> nodeId.equals(ring.ownerOf(surveyId)))
+                .collect(Collectors.toList());
+        log.debug("Owned surveys on this node: {}/{}", owned.size(), surveyIds.size());
+        return owned;
+    }
+
+    /**
+     * 마지막 리포트 생성 이후 새 응답이 있는 설문 선별
+     * - 후보: 제출로 dirty 표시된 설문 + watermark 가 없는 설문 (Redis 조회 실패 시 전체)
+     * - 후보의 현재 응답 수(SURVEY_SESSION_COUNTS)가 INSIGHT_REPORTS.LAST_SESSION_COUNT 와 다르면 재생성 대상
+     *   (응답 ID 는 커밋 순서와 다르게 발급되므로 비교하지 않음, 응답 수는 제출 트랜잭션에서 함께 증가)
+     * - 새 응답이 없는 dirty 설문은 표시를 해제 (생성이 하나라도 실패했다면 watermark 가 그대로라 dirty 가 남아 다음 실행에서 다시 대상이 됨)
      */
-    private void generateSummaryReportIfNotExists(Long surveyId) {
-        // 이미 리포트가 생성되어 있는지 확인
-//        boolean exists = insightReportRepository.existsBySurveyId(surveyId);
-        
-//        if (!exists) {
-            log.info("설문 종료 감지 - 요약 리포트 생성 시작: surveyId={}", surveyId);
-            // 비동기로 요약 리포트 생성 및 저장
-            summaryService.saveSummaryReportAsync(surveyId);
-//        } else {
-            log.debug("요약 리포트가 이미 존재함: surveyId={}", surveyId);
-//        }
+    private List<Long> findChangedSurveyIds(List<Long> surveyIds) {
+        Map<Long, Long> watermarks = new HashMap<>();
+        for (Object[] row : insightReportRepository.findLastSessionCountsBySurveyIds(surveyIds)) {
+            if (row[1] != null) {
+                watermarks.put((Long) row[0], ((Number) row[1]).longValue());
+            }
+        }
+
+        Map<Long, String> dirty = reportDirtyTracker.snapshot();
+        List<Long> candidates = surveyIds.stream()
+                .filter(surveyId -> dirty == null || dirty.containsKey(surveyId) || !watermarks.containsKey(surveyId))
+                .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        Map<Long, Long> sessionCounts = new HashMap<>();
+        for (Object[] row : surveySessionCountRepository.findSessionCountsBySurveyIds(candidates)) {
+            sessionCounts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+
+        List<Long> changed = new ArrayList<>();
+        for (Long surveyId : candidates) {
+            long sessionCount = sessionCounts.getOrDefault(surveyId, 0L);
+            Long watermark = watermarks.get(surveyId);
+            if (watermark == null || sessionCount != watermark) {
+                changed.add(surveyId);
+            } else if (dirty != null && dirty.containsKey(surveyId)) {
+                reportDirtyTracker.clear(surveyId, dirty.get(surveyId));
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 리포트 갱신 필요 여부 (새 응답이 있는 설문 중)
+     * - 처음 보는 설문은 갱신
+     * - 최근 hot-window-minutes 동안의 분당 제출 수가 hot-rate-per-minute 이상이면 갱신
+     * - 그 외에는 마지막 갱신 후 idle-refresh-minutes 가 지났을 때 갱신
+     */
+    private boolean isReportRefreshDue(Long surveyId, long recentCount, LocalDateTime now) {
+        LocalDateTime lastRefreshedAt = lastReportRefresh.get(surveyId);
+        if (lastRefreshedAt == null) {
+            return true;
+        }
+        if ((double) recentCount / hotWindowMinutes >= hotRatePerMinute) {
+            return true;
+        }
+        return !lastRefreshedAt.plusMinutes(idleRefreshMinutes).isAfter(now);
     }
-}
\ No newline at end of file
+}
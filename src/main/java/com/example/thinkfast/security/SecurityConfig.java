@@ -47,9 +47,13 @@ public class SecurityConfig {
                 .antMatchers("/survey/*/responses").permitAll()
                 .antMatchers("/survey/*").permitAll()
                 .antMatchers("/survey/*/summary").permitAll()  // 추가
+                .antMatchers("/survey/*/statistics", "/survey/*/statistics/**").permitAll()  // 공개 여부는 컨트롤러에서 확인
+                .antMatchers("/survey/*/timeline").permitAll()  // 공개 여부는 컨트롤러에서 확인
                 .antMatchers("/survey/*/questions/**").permitAll()  // wordcloud, insight, statistics 등도 필요하면 추가
                 .antMatchers("/swagger-ui/**", "/swagger-ui.html", "/swagger-resources/**", "/v3/api-docs/**", "/v2/api-docs", "/webjars/**").permitAll()
                 .antMatchers("/admin/**").hasRole("ADMIN")
+                .antMatchers("/actuator/health").permitAll()
+                .antMatchers("/actuator/**").hasRole("ADMIN")
                 .antMatchers("/creator/**").hasRole("CREATOR")
                 .antMatchers("/alarm/**").permitAll()
                 .antMatchers("/notification").permitAll()
@@ -1,8 +1,10 @@
 package com.example.thinkfast.service.ai;
 
+import com.example.thinkfast.common.logger.ReactorMdc;
 import com.example.thinkfast.dto.ai.GeminiRequest;
 import com.example.thinkfast.dto.ai.GeminiResponse;
 import com.example.thinkfast.exception.AiServiceException;
+import com.example.thinkfast.exception.GeminiRejectedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
@@ -13,11 +15,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
+import reactor.core.scheduler.Scheduler;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -25,6 +27,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class GeminiApiService {
 
     private final WebClient webClient;
+    private final LlmResultCache llmResultCache;
+    private final GeminiGateway geminiGateway;
+    private final Scheduler persistenceScheduler;
 
     @Value("${gemini.api-key}")
     private String apiKey;
@@ -36,15 +41,38 @@ public class GeminiApiService {
     private int timeoutSeconds;
 
     /**
-     * Gemini API를 호출하여 텍스트를 생성합니다.
+     * Gemini 응답 해석기
+     * 해석할 수 없는 응답이면 empty 를 반환하거나 예외를 던진다. 해석된 응답만 LlmResultCache 에 저장된다.
+     */
+    @FunctionalInterface
+    public interface ReplyParser<T> {
+        Optional<T> parse(String raw) throws Exception;
+    }
+
+    /**
+     * Gemini API를 호출하여 텍스트를 생성하고 parser 로 해석합니다.
+     * 같은 프롬프트의 결과가 LlmResultCache 에 있고 해석되면 호출하지 않고 저장된 결과를 사용합니다.
+     * 해석에 성공한 응답만 캐시에 저장하므로, 형식이 어긋난 응답은 TTL 동안 재사용되지 않습니다.
      *
      * @param prompt 생성할 텍스트의 프롬프트
-     * @return 생성된 텍스트
-     * @throws AiServiceException API 호출 실패 시
+     * @param parser 응답 해석기
+     * @return 해석된 결과
+     * @throws AiServiceException API 호출 실패 또는 응답을 해석할 수 없을 때
      */
-    public String generateText(String prompt) {
+    public <T> T generateText(String prompt, ReplyParser<T> parser) {
+        Optional<T> cached = llmResultCache.get(prompt).flatMap(raw -> parseCached(parser, raw));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        String text = callGemini(prompt);
+        T result = parse(parser, text).orElseThrow(GeminiApiService::unparsable);
+        llmResultCache.put(prompt, text);
+        return result;
+    }
+
+    private String callGemini(String prompt) {
         Instant startTime = Instant.now();
-        AtomicInteger retryCount = new AtomicInteger(0);
         
         try {
             GeminiRequest request = GeminiRequest.create(prompt);
@@ -55,7 +83,8 @@ public class GeminiApiService {
             MDC.put("external_api.operation", "generateContent");
             MDC.put("external_api.request_url", apiUrl);
 
-            GeminiResponse response = webClient.post()
+            // 요청 한도/동시 호출 수/회로 상태는 GeminiGateway 가 관리 (429/503 재시도 없음)
+            GeminiResponse response = geminiGateway.execute(() -> webClient.post()
                     .uri(apiUrl)
                     .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                     .header("X-goog-api-key", apiKey)
@@ -63,25 +92,15 @@ public class GeminiApiService {
                     .retrieve()
                     .bodyToMono(GeminiResponse.class)
                     .timeout(Duration.ofSeconds(timeoutSeconds))
-                    .retryWhen(Retry.backoff(2, Duration.ofSeconds(1))
-                            .filter(throwable -> throwable instanceof WebClientResponseException.TooManyRequests
-                                    || throwable instanceof WebClientResponseException.ServiceUnavailable)
-                            .doBeforeRetry(retrySignal -> {
-                                int count = (int) (retrySignal.totalRetries() + 1);
-                                retryCount.set(count);
-                                MDC.put("external_api.retry_count", String.valueOf(count));
-                                log.warn("Gemini API 재시도: {}", count);
-                            }))
-                    .block();
+                    .block());
 
             long duration = Duration.between(startTime, Instant.now()).toMillis();
             MDC.put("external_api.duration_ms", String.valueOf(duration));
-            MDC.put("external_api.retry_count", String.valueOf(retryCount.get()));
 
             if (response == null) {
                 MDC.put("external_api.status", "failure");
                 MDC.put("external_api.error_message", "Response is null");
-                log.error("Gemini API 응답이 null입니다. ({}ms, retries: {})", duration, retryCount.get());
+                log.error("Gemini API 응답이 null입니다. ({}ms)", duration);
                 throw new AiServiceException("Gemini API 응답이 null입니다.");
             }
 
@@ -91,35 +110,37 @@ public class GeminiApiService {
                     ? response.getCandidates().get(0).getFinishReason() : "unknown";
                 MDC.put("external_api.status", "failure");
                 MDC.put("external_api.error_message", "Empty response text. finishReason: " + finishReason);
-                log.warn("Gemini API 응답에 텍스트가 없습니다. finishReason: {} ({}ms, retries: {})", 
-                    finishReason, duration, retryCount.get());
+                log.warn("Gemini API 응답에 텍스트가 없습니다. finishReason: {} ({}ms)", 
+                    finishReason, duration);
                 throw new AiServiceException("Gemini API 응답에 텍스트가 없습니다.");
             }
 
             MDC.put("external_api.status", "success");
             MDC.put("external_api.response_status", "200");
-            log.info("Gemini API 호출 성공: generateContent ({}ms, retries: {})", duration, retryCount.get());
-
+            log.info("Gemini API 호출 성공: generateContent ({}ms)", duration);
             return text;
+        } catch (GeminiRejectedException e) {
+            MDC.put("external_api.status", "rejected");
+            MDC.put("external_api.error_message", e.getMessage());
+            log.warn("Gemini API 호출 생략: {}", e.getMessage());
+            throw e;
         } catch (WebClientResponseException e) {
             long duration = Duration.between(startTime, Instant.now()).toMillis();
             MDC.put("external_api.duration_ms", String.valueOf(duration));
             MDC.put("external_api.status", "failure");
             MDC.put("external_api.response_status", String.valueOf(e.getStatusCode().value()));
             MDC.put("external_api.error_message", e.getMessage());
-            MDC.put("external_api.retry_count", String.valueOf(retryCount.get()));
             
-            log.error("Gemini API 호출 실패: status={}, body={} ({}ms, retries: {})", 
-                    e.getStatusCode(), e.getResponseBodyAsString(), duration, retryCount.get());
+            log.error("Gemini API 호출 실패: status={}, body={} ({}ms)", 
+                    e.getStatusCode(), e.getResponseBodyAsString(), duration);
             throw new AiServiceException("Gemini API 호출 실패: " + e.getMessage(), e);
         } catch (Exception e) {
             long duration = Duration.between(startTime, Instant.now()).toMillis();
             MDC.put("external_api.duration_ms", String.valueOf(duration));
             MDC.put("external_api.status", "failure");
             MDC.put("external_api.error_message", e.getMessage());
-            MDC.put("external_api.retry_count", String.valueOf(retryCount.get()));
             
-            log.error("Gemini API 호출 중 예외 발생 ({}ms, retries: {})", duration, retryCount.get(), e);
+            log.error("Gemini API 호출 중 예외 발생 ({}ms)", duration, e);
             throw new AiServiceException("Gemini API 호출 중 예외 발생: " + e.getMessage(), e);
         } finally {
             // MDC 정리
@@ -131,83 +152,120 @@ public class GeminiApiService {
             MDC.remove("external_api.status");
             MDC.remove("external_api.response_status");
             MDC.remove("external_api.error_message");
-            MDC.remove("external_api.retry_count");
         }
     }
 
     /**
-     * Gemini API를 비동기로 호출합니다.
+     * Gemini API를 비동기로 호출하고 parser 로 해석합니다.
+     * 같은 프롬프트의 결과가 LlmResultCache 에 있고 해석되면 호출하지 않고 저장된 결과를 사용합니다.
+     * 응답을 기다리는 동안 스레드를 점유하지 않으며, 캐시 조회/저장(Redis, DB)은 persistenceScheduler 에서 실행합니다.
+     * 로그의 MDC 는 구독 시 Reactor Context 에 저장된 값(ReactorMdc.capture)을 사용합니다.
      *
      * @param prompt 생성할 텍스트의 프롬프트
-     * @return 생성된 텍스트를 포함한 Mono
+     * @param parser 응답 해석기 (해석에 성공한 응답만 캐시에 저장)
+     * @return 해석된 결과를 포함한 Mono (해석할 수 없으면 AiServiceException)
      */
-    public Mono<String> generateTextAsync(String prompt) {
-        final Instant startTime = Instant.now();
+    public <T> Mono<T> generateTextAsync(String prompt, ReplyParser<T> parser) {
+        return ReactorMdc.fromCallable(() -> llmResultCache.get(prompt).flatMap(raw -> parseCached(parser, raw)))
+                .subscribeOn(persistenceScheduler)
+                .flatMap(cached -> cached.isPresent()
+                        ? Mono.just(cached.get())
+                        : callGeminiAsync(prompt)
+                                .flatMap(text -> ReactorMdc.fromCallable(() -> {
+                                    T result = parse(parser, text).orElseThrow(GeminiApiService::unparsable);
+                                    llmResultCache.put(prompt, text);
+                                    return result;
+                                }).subscribeOn(persistenceScheduler)));
+    }
+
+    private Mono<String> callGeminiAsync(String prompt) {
         GeminiRequest request = GeminiRequest.create(prompt);
 
-        // 구조화된 로깅을 위한 MDC 설정
+        return Mono.defer(() -> {
+            Instant startTime = Instant.now();
+
+            // 요청 한도/동시 호출 수/회로 상태는 GeminiGateway 가 관리 (슬롯 대기도 스레드를 점유하지 않음)
+            return geminiGateway.execute(webClient.post()
+                    .uri(apiUrl)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .header("X-goog-api-key", apiKey)
+                    .bodyValue(request)
+                    .retrieve()
+                    .bodyToMono(GeminiResponse.class)
+                    .timeout(Duration.ofSeconds(timeoutSeconds)))
+                    .flatMap(response -> ReactorMdc.fromCallable(() -> {
+                        long duration = Duration.between(startTime, Instant.now()).toMillis();
+                        putExternalApiMdc();
+                        MDC.put("external_api.duration_ms", String.valueOf(duration));
+
+                        String text = response.getText();
+                        if (text == null || text.isEmpty()) {
+                            MDC.put("external_api.status", "failure");
+                            MDC.put("external_api.error_message", "Empty response text");
+                            log.warn("Gemini API 비동기 호출: 응답에 텍스트가 없습니다. ({}ms)", duration);
+                            throw new AiServiceException("Gemini API 응답에 텍스트가 없습니다.");
+                        }
+
+                        MDC.put("external_api.status", "success");
+                        MDC.put("external_api.response_status", "200");
+                        log.info("Gemini API 비동기 호출 성공: generateContent ({}ms)", duration);
+                        return text;
+                    }))
+                    .doOnEach(ReactorMdc.onError(error -> {
+                        if (error instanceof AiServiceException && !(error instanceof GeminiRejectedException)) {
+                            // 빈 응답은 위에서 기록
+                            return;
+                        }
+                        long duration = Duration.between(startTime, Instant.now()).toMillis();
+                        putExternalApiMdc();
+                        MDC.put("external_api.duration_ms", String.valueOf(duration));
+                        MDC.put("external_api.error_message", error.getMessage());
+                        if (error instanceof GeminiRejectedException) {
+                            MDC.put("external_api.status", "rejected");
+                            log.warn("Gemini API 비동기 호출 생략: {}", error.getMessage());
+                        } else {
+                            MDC.put("external_api.status", "failure");
+                            if (error instanceof WebClientResponseException) {
+                                MDC.put("external_api.response_status",
+                                        String.valueOf(((WebClientResponseException) error).getStatusCode().value()));
+                            }
+                            log.error("Gemini API 비동기 호출 실패 ({}ms)", duration, error);
+                        }
+                    }));
+        });
+    }
+
+    // 캐시에 남아 있던 해석할 수 없는 결과(이전 버전에서 저장된 값 등)는 없는 것으로 보고 다시 호출
+    private <T> Optional<T> parseCached(ReplyParser<T> parser, String raw) {
+        Optional<T> parsed = parse(parser, raw);
+        if (parsed.isPresent()) {
+            log.debug("Gemini 결과 캐시 적중: generateContent");
+        } else {
+            log.warn("Gemini 결과 캐시 항목을 해석할 수 없어 다시 호출합니다.");
+        }
+        return parsed;
+    }
+
+    private static <T> Optional<T> parse(ReplyParser<T> parser, String raw) {
+        try {
+            Optional<T> parsed = parser.parse(raw);
+            return parsed != null ? parsed : Optional.empty();
+        } catch (Exception e) {
+            log.warn("Gemini 응답 해석 실패: reason={}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static AiServiceException unparsable() {
+        return new AiServiceException("Gemini API 응답을 해석할 수 없습니다.");
+    }
+
+    // 구조화된 로깅을 위한 MDC 설정 (ReactorMdc 가 콜백 종료 후 원래 MDC 로 되돌림)
+    private void putExternalApiMdc() {
         MDC.put("log_type", "external_api");
         MDC.put("external_api.system", "gemini");
         MDC.put("external_api.operation", "generateContent");
         MDC.put("external_api.request_url", apiUrl);
-
-        return webClient.post()
-                .uri(apiUrl)
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .header("X-goog-api-key", apiKey)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(GeminiResponse.class)
-                .timeout(Duration.ofSeconds(timeoutSeconds))
-                .retryWhen(Retry.backoff(2, Duration.ofSeconds(1))
-                        .filter(throwable -> throwable instanceof WebClientResponseException.TooManyRequests
-                                || throwable instanceof WebClientResponseException.ServiceUnavailable)
-                        .doBeforeRetry(retrySignal -> {
-                            MDC.put("external_api.retry_count", String.valueOf(retrySignal.totalRetries() + 1));
-                            log.warn("Gemini API 비동기 재시도: {}", retrySignal.totalRetries() + 1);
-                        }))
-                .map(response -> {
-                    long duration = Duration.between(startTime, Instant.now()).toMillis();
-                    MDC.put("external_api.duration_ms", String.valueOf(duration));
-                    
-                    if (response == null) {
-                        MDC.put("external_api.status", "failure");
-                        MDC.put("external_api.error_message", "Response is null");
-                        log.error("Gemini API 비동기 호출: 응답이 null입니다. ({}ms)", duration);
-                        throw new AiServiceException("Gemini API 응답이 null입니다.");
-                    }
-                    String text = response.getText();
-                    if (text == null || text.isEmpty()) {
-                        MDC.put("external_api.status", "failure");
-                        MDC.put("external_api.error_message", "Empty response text");
-                        log.warn("Gemini API 비동기 호출: 응답에 텍스트가 없습니다. ({}ms)", duration);
-                        throw new AiServiceException("Gemini API 응답에 텍스트가 없습니다.");
-                    }
-                    
-                    MDC.put("external_api.status", "success");
-                    MDC.put("external_api.response_status", "200");
-                    log.info("Gemini API 비동기 호출 성공: generateContent ({}ms)", duration);
-                    return text;
-                })
-                .doOnError(error -> {
-                    long duration = Duration.between(startTime, Instant.now()).toMillis();
-                    MDC.put("external_api.duration_ms", String.valueOf(duration));
-                    MDC.put("external_api.status", "failure");
-                    MDC.put("external_api.error_message", error.getMessage());
-                    log.error("Gemini API 비동기 호출 실패 ({}ms)", duration, error);
-                })
-                .doFinally(signalType -> {
-                    // MDC 정리
-                    MDC.remove("log_type");
-                    MDC.remove("external_api.system");
-                    MDC.remove("external_api.operation");
-                    MDC.remove("external_api.request_url");
-                    MDC.remove("external_api.duration_ms");
-                    MDC.remove("external_api.status");
-                    MDC.remove("external_api.response_status");
-                    MDC.remove("external_api.error_message");
-                    MDC.remove("external_api.retry_count");
-                });
     }
 }
 
@@ -0,0 +1,301 @@
+package com.example.thinkfast.service.ai;
+
+import com.example.thinkfast.exception.GeminiRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Gemini 호출 관문 (모든 호출부 공유)
+ * - 분당 요청 수 토큰 버킷: 토큰이 없으면 acquire-timeout-ms 안에 채워질 때만 기다리고, 아니면 거부한다.
+ * - 동시 호출 수 제한: max-in-flight 개를 넘으면 acquire-timeout-ms 동안만 기다린다. (비동기 호출은 50ms 간격으로 슬롯을 다시 확인)
+ * - 회로 차단: 429/503/시간 초과가 failure-threshold 번 연속되면 open-seconds 동안 호출 없이 거부하고,
+ *   이후 1건만 시험 호출해 성공하면 닫는다.
+ * 거부는 GeminiRejectedException 으로 즉시 알리므로 호출부는 30초 timeout 을 기다리지 않고 Java 기반 폴백을 사용한다.
+ * 재시도는 하지 않는다. (한도 초과 상황에서 재시도는 요청 수만 늘린다)
+ */
+@Slf4j
+@Component
+public class GeminiGateway {
+
+    enum CircuitState {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private static final Duration PERMIT_POLL_INTERVAL = Duration.ofMillis(50);
+    // 비동기 호출의 슬롯 재확인 신호 (스택 트레이스 없음)
+    private static final RuntimeException PERMIT_UNAVAILABLE = new RuntimeException("in-flight permit unavailable", null, false, false) {
+    };
+
+    private final TokenBucket tokenBucket;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private final long acquireTimeoutNanos;
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private final AtomicReference<CircuitState> circuitState = new AtomicReference<>(CircuitState.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private volatile long openedAt;
+
+    private final Counter circuitRejectedCounter;
+    private final Counter rateRejectedCounter;
+    private final Counter concurrencyRejectedCounter;
+
+    public GeminiGateway(MeterRegistry meterRegistry,
+                         @Value("${gemini.gateway.requests-per-minute:15}") int requestsPerMinute,
+                         @Value("${gemini.gateway.max-in-flight:4}") int maxInFlight,
+                         @Value("${gemini.gateway.acquire-timeout-ms:5000}") long acquireTimeoutMs,
+                         @Value("${gemini.gateway.failure-threshold:3}") int failureThreshold,
+                         @Value("${gemini.gateway.open-seconds:60}") long openSeconds) {
+        this.tokenBucket = new TokenBucket(Math.max(1, requestsPerMinute));
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.inFlight = new Semaphore(this.maxInFlight, true);
+        this.acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMs);
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = TimeUnit.SECONDS.toNanos(openSeconds);
+
+        Gauge.builder("gemini.gateway.tokens", tokenBucket, TokenBucket::available)
+                .description("Gemini 요청 토큰 버킷의 남은 토큰 수")
+                .register(meterRegistry);
+        Gauge.builder("gemini.gateway.in_flight", inFlight, semaphore -> this.maxInFlight - semaphore.availablePermits())
+                .description("진행 중인 Gemini 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("gemini.gateway.waiting", waiting, AtomicInteger::get)
+                .description("토큰/동시 호출 슬롯을 기다리는 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("gemini.gateway.circuit.state", circuitState, state -> state.get().ordinal())
+                .description("회로 상태 (0: closed, 1: half-open, 2: open)")
+                .register(meterRegistry);
+        this.circuitRejectedCounter = rejectedCounter(meterRegistry, "circuit_open");
+        this.rateRejectedCounter = rejectedCounter(meterRegistry, "rate_limited");
+        this.concurrencyRejectedCounter = rejectedCounter(meterRegistry, "concurrency");
+    }
+
+    /**
+     * 동기 호출 (토큰/슬롯을 기다리는 동안 호출 스레드가 대기)
+     *
+     * @throws GeminiRejectedException 호출 전 거부된 경우
+     */
+    public <T> T execute(Supplier<T> call) {
+        boolean probe = admit();
+        long waitNanos = reserveToken(probe);
+
+        waiting.incrementAndGet();
+        boolean acquired;
+        try {
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+            acquired = inFlight.tryAcquire(Math.max(0L, acquireTimeoutNanos - waitNanos), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            releaseProbe(probe);
+            throw new GeminiRejectedException("Gemini 호출 대기 중 인터럽트");
+        } finally {
+            waiting.decrementAndGet();
+        }
+        if (!acquired) {
+            releaseProbe(probe);
+            concurrencyRejectedCounter.increment();
+            throw new GeminiRejectedException("Gemini 동시 호출 한도 초과: maxInFlight=" + maxInFlight);
+        }
+
+        try {
+            T result = call.get();
+            onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            onFailure(e);
+            throw e;
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * 비동기 호출 (토큰/슬롯 대기는 지연 구독과 주기적 재시도로 처리, 기다리는 동안 스레드를 점유하지 않음)
+     */
+    public <T> Mono<T> execute(Mono<T> call) {
+        return Mono.defer(() -> {
+            boolean probe = admit();
+            long waitNanos = reserveToken(probe);
+            long maxPolls = Math.max(0L, acquireTimeoutNanos - waitNanos) / PERMIT_POLL_INTERVAL.toNanos();
+
+            waiting.incrementAndGet();
+            AtomicBoolean waited = new AtomicBoolean(true);
+            Runnable stopWaiting = () -> {
+                if (waited.compareAndSet(true, false)) {
+                    waiting.decrementAndGet();
+                }
+            };
+
+            Mono<Boolean> permit = Mono.fromCallable(() -> {
+                        if (!inFlight.tryAcquire()) {
+                            throw PERMIT_UNAVAILABLE;
+                        }
+                        return true;
+                    })
+                    .retryWhen(Retry.fixedDelay(maxPolls, PERMIT_POLL_INTERVAL)
+                            .filter(e -> e == PERMIT_UNAVAILABLE)
+                            .onRetryExhaustedThrow((spec, signal) -> {
+                                concurrencyRejectedCounter.increment();
+                                return new GeminiRejectedException("Gemini 동시 호출 한도 초과: maxInFlight=" + maxInFlight);
+                            }))
+                    .doOnNext(acquired -> stopWaiting.run())
+                    .doOnError(e -> releaseProbe(probe));
+            Mono<T> guarded = permit.flatMap(acquired -> call
+                    .doOnSuccess(result -> onSuccess())
+                    .doOnError(this::onFailure)
+                    .doFinally(signal -> inFlight.release()));
+
+            return (waitNanos > 0 ? Mono.delay(Duration.ofNanos(waitNanos)).then(guarded) : guarded)
+                    .doOnCancel(() -> releaseProbe(probe && circuitState.get() == CircuitState.HALF_OPEN))
+                    .doFinally(signal -> stopWaiting.run());
+        });
+    }
+
+    CircuitState getCircuitState() {
+        return circuitState.get();
+    }
+
+    /**
+     * 회로 상태 확인
+     *
+     * @return 시험 호출이면 true
+     */
+    private boolean admit() {
+        CircuitState state = circuitState.get();
+        if (state == CircuitState.CLOSED) {
+            return false;
+        }
+        if (state == CircuitState.OPEN && System.nanoTime() - openedAt >= openNanos
+                && circuitState.compareAndSet(CircuitState.OPEN, CircuitState.HALF_OPEN)) {
+            log.info("[Gemini 관문] 회로 half-open, 시험 호출 1건 허용");
+            return true;
+        }
+        circuitRejectedCounter.increment();
+        throw new GeminiRejectedException("Gemini 회로 열림 (429/503 연속 발생), 호출 생략");
+    }
+
+    private long reserveToken(boolean probe) {
+        long waitNanos = tokenBucket.reserve(acquireTimeoutNanos);
+        if (waitNanos < 0) {
+            releaseProbe(probe);
+            rateRejectedCounter.increment();
+            throw new GeminiRejectedException("Gemini 분당 요청 한도 초과");
+        }
+        return waitNanos;
+    }
+
+    // 시험 호출이 네트워크 호출 전에 거부되면 다음 호출이 다시 시험할 수 있도록 되돌린다
+    private void releaseProbe(boolean probe) {
+        if (probe) {
+            openedAt = System.nanoTime() - openNanos;
+            circuitState.set(CircuitState.OPEN);
+        }
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (circuitState.getAndSet(CircuitState.CLOSED) != CircuitState.CLOSED) {
+            log.info("[Gemini 관문] 회로 닫힘");
+        }
+    }
+
+    private void onFailure(Throwable error) {
+        if (!isThrottling(error)) {
+            // 한도와 무관한 오류는 연속 실패로 세지 않는다 (시험 호출이면 응답이 온 것이므로 닫음)
+            if (circuitState.compareAndSet(CircuitState.HALF_OPEN, CircuitState.CLOSED)) {
+                consecutiveFailures.set(0);
+                log.info("[Gemini 관문] 회로 닫힘");
+            }
+            return;
+        }
+        int failures = consecutiveFailures.incrementAndGet();
+        if (circuitState.get() == CircuitState.HALF_OPEN || failures >= failureThreshold) {
+            openedAt = System.nanoTime();
+            if (circuitState.getAndSet(CircuitState.OPEN) != CircuitState.OPEN) {
+                log.warn("[Gemini 관문] 회로 열림: consecutiveFailures={}, openSeconds={}",
+                        failures, TimeUnit.NANOSECONDS.toSeconds(openNanos));
+            }
+        }
+    }
+
+    private boolean isThrottling(Throwable error) {
+        Throwable cause = Exceptions.unwrap(error);
+        return cause instanceof WebClientResponseException.TooManyRequests
+                || cause instanceof WebClientResponseException.ServiceUnavailable
+                || cause instanceof TimeoutException;
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("gemini.gateway.rejected")
+                .description("네트워크 호출 전에 거부된 Gemini 요청 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 분당 요청 수 토큰 버킷 (최대 1분치 burst)
+     * 토큰을 미리 예약할 수 있어, 호출부는 반환된 시간만큼 기다린 뒤 호출한다.
+     */
+    static final class TokenBucket {
+
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(int requestsPerMinute) {
+            this.capacity = requestsPerMinute;
+            this.tokensPerNano = requestsPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.tokens = capacity;
+            this.refilledAt = System.nanoTime();
+        }
+
+        /**
+         * 토큰 1개 예약
+         *
+         * @param maxWaitNanos 허용 대기 시간
+         * @return 토큰을 쓸 수 있을 때까지 기다릴 시간(ns), 허용 대기 시간을 넘으면 -1 (예약하지 않음)
+         */
+        synchronized long reserve(long maxWaitNanos) {
+            refill();
+            long waitNanos = tokens >= 1.0 ? 0L : (long) Math.ceil((1.0 - tokens) / tokensPerNano);
+            if (waitNanos > maxWaitNanos) {
+                return -1L;
+            }
+            tokens -= 1.0;
+            return waitNanos;
+        }
+
+        synchronized double available() {
+            refill();
+            return Math.max(0.0, tokens);
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+        }
+    }
+}
@@ -24,6 +24,7 @@ public class ImprovementExtractionService {
     private final ResponseRepository responseRepository;
     private final QuestionRepository questionRepository;
     private final TextAnalysisService textAnalysisService;
+    private final SurveyAnalysisContextLoader analysisContextLoader;
 
     /**
      * 주관식 질문에서 키워드와 빈도수 추출
@@ -56,11 +57,8 @@ public class ImprovementExtractionService {
         // 모든 응답을 하나의 텍스트로 합치기
         String combinedText = String.join(" ", subjectiveContents);
 
-        // 키워드 추출 (모든 키워드)
-        List<String> keywords = textAnalysisService.extractKeywords(combinedText);
-
-        // 빈도수 계산 및 정렬
-        return textAnalysisService.getTopKeywords(keywords, 20);
+        // 키워드 추출 및 빈도수 계산/정렬 (analysisExecutor)
+        return textAnalysisService.getTopKeywordsAsync(combinedText, 20).join();
     }
 
     /**
@@ -71,30 +69,18 @@ public class ImprovementExtractionService {
      */
     @Transactional(readOnly = true)
     public List<Map.Entry<String, Integer>> extractImprovementKeywordsFromSurvey(Long surveyId) {
-        // 설문의 모든 질문 조회
-        List<Question> questions = questionRepository.findBySurveyId(surveyId);
-
-        // 주관식 질문만 필터링
-        List<Question> subjectiveQuestions = questions.stream()
-                .filter(q -> q.getType() == Question.QuestionType.SUBJECTIVE)
-                .collect(Collectors.toList());
-
-        if (subjectiveQuestions.isEmpty()) {
-            return Collections.emptyList();
-        }
+        return extractImprovementKeywords(analysisContextLoader.load(surveyId));
+    }
 
+    /**
+     * 설문 데이터 스냅샷의 모든 주관식 응답에서 키워드 추출
+     *
+     * @param context 설문 데이터 스냅샷
+     * @return 키워드와 빈도수 리스트 (모든 주관식 질문 통합)
+     */
+    public List<Map.Entry<String, Integer>> extractImprovementKeywords(SurveyAnalysisContext context) {
         // 모든 주관식 응답 수집
-        List<String> allSubjectiveContents = new ArrayList<>();
-        for (Question question : subjectiveQuestions) {
-            List<Response> responses = responseRepository.findByQuestionId(question.getId());
-            List<String> contents = responses.stream()
-                    .map(Response::getSubjectiveContent)
-                    .filter(Objects::nonNull)
-                    .filter(content -> !content.trim().isEmpty())
-                    .collect(Collectors.toList());
-            allSubjectiveContents.addAll(contents);
-        }
-
+        List<String> allSubjectiveContents = context.getAllSubjectiveContents();
         if (allSubjectiveContents.isEmpty()) {
             return Collections.emptyList();
         }
@@ -102,11 +88,8 @@ public class ImprovementExtractionService {
         // 모든 응답을 하나의 텍스트로 합치기
         String combinedText = String.join(" ", allSubjectiveContents);
 
-        // 키워드 추출 (모든 키워드)
-        List<String> keywords = textAnalysisService.extractKeywords(combinedText);
-
-        // 빈도수 계산 및 정렬
-        return textAnalysisService.getTopKeywords(keywords, 20);
+        // 키워드 추출 및 빈도수 계산/정렬 (analysisExecutor)
+        return textAnalysisService.getTopKeywordsAsync(combinedText, 20).join();
     }
 
     /**
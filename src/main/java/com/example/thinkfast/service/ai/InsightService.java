@@ -1,19 +1,23 @@
 package com.example.thinkfast.service.ai;
 
+import com.example.thinkfast.common.logger.ReactorMdc;
 import com.example.thinkfast.domain.ai.QuestionInsight;
 import com.example.thinkfast.domain.survey.Question;
 import com.example.thinkfast.dto.ai.OptionStatisticsDto;
 import com.example.thinkfast.dto.ai.QuestionStatisticsDto;
 import com.example.thinkfast.dto.ai.WordCloudDto;
 import com.example.thinkfast.dto.ai.WordCloudResponseDto;
+import com.example.thinkfast.dto.survey.QuestionDto;
 import com.example.thinkfast.repository.ai.QuestionInsightRepository;
 import com.example.thinkfast.repository.survey.QuestionRepository;
-import com.example.thinkfast.repository.survey.ResponseRepository;
+import com.example.thinkfast.service.survey.CountMode;
+import com.example.thinkfast.service.survey.RespondentCountService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -31,7 +35,10 @@ public class InsightService {
     private final WordCloudService wordCloudService;
     private final QuestionRepository questionRepository;
     private final QuestionInsightRepository questionInsightRepository;
-    private final ResponseRepository responseRepository;
+    private final RespondentCountService respondentCountService;
+    private final ReportFanOutExecutor reportFanOutExecutor;
+    private final ReportWriter reportWriter;
+    private final Scheduler persistenceScheduler;
 
     /**
      * 객관식 질문 인사이트 생성
@@ -42,7 +49,7 @@ public class InsightService {
     @Transactional(readOnly = true)
     public String generateMultipleChoiceInsight(Long questionId) {
         // 응답이 있는지 먼저 확인
-        Long totalResponses = responseRepository.countDistinctResponseSessionsByQuestionId(questionId);
+        Long totalResponses = respondentCountService.countQuestionRespondents(questionId, CountMode.EXACT);
         if (totalResponses == null || totalResponses == 0) {
             // 응답이 없으면 null 반환 (200 OK로 응답, 프론트엔드에서 처리)
             return null;
@@ -136,7 +143,7 @@ public class InsightService {
     @Transactional(readOnly = true)
     public String generateSubjectiveInsight(Long questionId) {
         // 응답이 있는지 먼저 확인
-        Long totalResponses = responseRepository.countDistinctResponseSessionsByQuestionId(questionId);
+        Long totalResponses = respondentCountService.countQuestionRespondents(questionId, CountMode.EXACT);
         if (totalResponses == null || totalResponses == 0) {
             // 응답이 없으면 null 반환 (200 OK로 응답, 프론트엔드에서 처리)
             return null;
@@ -231,6 +238,38 @@ public class InsightService {
         }
     }
 
+    /**
+     * 설문 데이터 스냅샷으로 질문별 인사이트 생성 (응답 수/선택지 통계를 다시 조회하지 않음)
+     *
+     * @param context 설문 데이터 스냅샷
+     * @param questionId 질문 ID
+     * @return 인사이트 텍스트
+     */
+    public String generateInsight(SurveyAnalysisContext context, Long questionId) {
+        QuestionDto question = context.getQuestion(questionId);
+        long totalResponses = context.getRespondentCount(questionId);
+
+        if (question.getType() == Question.QuestionType.MULTIPLE_CHOICE) {
+            List<OptionStatisticsDto> options = context.getOptionStatistics(questionId);
+            if (totalResponses == 0 || options.isEmpty()) {
+                return null;
+            }
+            return generateMultipleChoiceInsightText(options, totalResponses);
+        } else if (question.getType() == Question.QuestionType.SUBJECTIVE) {
+            if (totalResponses == 0) {
+                return null;
+            }
+            // 저장된 워드클라우드 기준 (응답을 다시 읽지 않음)
+            WordCloudResponseDto wordCloud = wordCloudService.getWordCloud(questionId);
+            if (wordCloud == null || wordCloud.getWordCloud() == null || wordCloud.getWordCloud().isEmpty()) {
+                return null;
+            }
+            return generateSubjectiveInsightText(wordCloud.getWordCloud(), totalResponses);
+        } else {
+            return "척도형 질문은 아직 인사이트를 제공하지 않습니다.";
+        }
+    }
+
     /**
      * 질문별 인사이트 조회 (DB에서만 조회, 없으면 null 반환)
      *
@@ -254,74 +293,44 @@ public class InsightService {
     }
 
     /**
-     * 인사이트 텍스트를 DB에 저장 (비동기 처리용)
+     * 인사이트 텍스트를 생성해 DB에 저장
+     * 생성(저장된 워드클라우드 조회 포함)은 persistenceScheduler 에서, 저장은 ReportWriter(persistenceExecutor)에서 실행한다.
      *
+     * @param context 설문 데이터 스냅샷
      * @param questionId 질문 ID
+     * @return 저장이 커밋되면 완료되는 Mono
      */
-    @Async("taskExecutor")
-    @Transactional
-    public void saveInsightAsync(Long questionId) {
-        try {
-            log.info("인사이트 텍스트 생성 시작: questionId={}", questionId);
-            
-            // 인사이트 생성
-            String insightText = generateInsight(questionId);
-            
-            // DB에 저장 또는 업데이트
-            Optional<QuestionInsight> existing = questionInsightRepository.findByQuestionId(questionId);
-            
-            QuestionInsight questionInsight;
-            if (existing.isPresent()) {
-                // 기존 인사이트 업데이트
-                questionInsight = existing.get();
-                questionInsight.setInsightText(insightText);
-            } else {
-                // 새 인사이트 생성
-                questionInsight = QuestionInsight.builder()
-                        .questionId(questionId)
-                        .insightText(insightText)
-                        .build();
-            }
-            
-            questionInsightRepository.save(questionInsight);
-            log.info("인사이트 텍스트 저장 완료: questionId={}", questionId);
-            
-        } catch (Exception e) {
-            log.error("인사이트 텍스트 저장 실패: questionId={}", questionId, e);
-        }
+    public Mono<Void> saveInsight(SurveyAnalysisContext context, Long questionId) {
+        return ReactorMdc.fromCallable(() -> {
+                    log.info("인사이트 텍스트 생성 시작: questionId={}", questionId);
+
+                    // 응답이 없으면 인사이트가 null 이므로 Optional 로 감싸 저장 단계까지 전달
+                    return Optional.ofNullable(generateInsight(context, questionId));
+                })
+                .subscribeOn(persistenceScheduler)
+                .flatMap(insightText -> ReactorMdc.defer(() ->
+                        // 인사이트 생성 후 저장 또는 업데이트
+                        Mono.fromFuture(reportWriter.saveInsight(questionId, insightText.orElse(null)))));
     }
 
     /**
      * 설문의 모든 질문에 대해 인사이트 생성 및 저장
+     * 질문별 생성은 설문당 per-survey-parallelism 개까지 동시에 실행된다.
      *
-     * @param surveyId 설문 ID
+     * @param context 설문 데이터 스냅샷
+     * @return 모든 질문 처리가 끝나면 완료되는 결과
      */
-    @Async("taskExecutor")
-    @Transactional
-    public void saveInsightsForSurveyAsync(Long surveyId) {
-        try {
-            log.info("설문의 모든 질문 인사이트 생성 시작: surveyId={}", surveyId);
-            
-            // 설문의 모든 질문 조회
-            List<Question> questions = questionRepository.findBySurveyId(surveyId);
-            
+    public Mono<ReportFanOutExecutor.FanOutResult> saveInsightsForSurvey(SurveyAnalysisContext context) {
+        return ReactorMdc.defer(() -> {
+            log.info("설문의 모든 질문 인사이트 생성 시작: surveyId={}", context.getSurveyId());
+
             // 객관식과 주관식 질문만 필터링 (척도형 제외)
-            List<Question> targetQuestions = questions.stream()
-                    .filter(q -> q.getType() == Question.QuestionType.MULTIPLE_CHOICE || 
-                               q.getType() == Question.QuestionType.SUBJECTIVE)
-                    .collect(Collectors.toList());
-            
-            // 각 질문에 대해 인사이트 생성 및 저장
-            for (Question question : targetQuestions) {
-                saveInsightAsync(question.getId());
-            }
-            
-            log.info("설문의 모든 질문 인사이트 생성 완료: surveyId={}, 질문 수={}", 
-                    surveyId, targetQuestions.size());
-            
-        } catch (Exception e) {
-            log.error("설문 인사이트 저장 실패: surveyId={}", surveyId, e);
-        }
+            List<Long> targetQuestionIds = context.getQuestionIds(
+                    Question.QuestionType.MULTIPLE_CHOICE, Question.QuestionType.SUBJECTIVE);
+
+            // 각 질문에 대해 인사이트 생성 및 저장 (질문별 병렬)
+            return reportFanOutExecutor.fanOut("insight", context.getSurveyId(), targetQuestionIds,
+                    questionId -> saveInsight(context, questionId));
+        });
     }
 }
-
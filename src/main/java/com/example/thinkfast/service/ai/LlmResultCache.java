@@ -0,0 +1,157 @@
+package com.example.thinkfast.service.ai;
+
+import com.example.thinkfast.common.utils.HashUtil;
+import com.example.thinkfast.repository.ai.LlmResultCacheJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gemini 생성 결과 캐시 (프롬프트 해시 키)
+ * - 프롬프트는 입력 데이터로만 만들어지므로, 같은 프롬프트면 Gemini 를 다시 호출하지 않고 저장된 결과를 쓴다.
+ * - 키: SHA-256(캐시 버전 + API URL(모델) + 프롬프트). 버전이나 모델이 바뀌면 기존 결과는 조회되지 않는다.
+ * - Redis(llm:result:{hash}) 를 먼저 보고, 없으면 LLM_RESULT_CACHE 에서 찾아 Redis 에 다시 채운다.
+ * - 캐시 조회/저장 실패는 Gemini 호출에 영향을 주지 않는다.
+ * - llm.cache.bypass=true 면 조회하지 않고 항상 Gemini 를 호출한다. (결과는 저장해 캐시를 갱신)
+ */
+@Slf4j
+@Component
+public class LlmResultCache {
+
+    private static final String KEY_PREFIX = "llm:result:";
+    private static final String METRIC_NAME = "llm.result.cache.requests";
+
+    private final StringRedisTemplate redisTemplate;
+    private final LlmResultCacheJdbcRepository llmResultCacheJdbcRepository;
+    private final Counter redisHitCounter;
+    private final Counter dbHitCounter;
+    private final Counter missCounter;
+    private final Counter bypassCounter;
+
+    @Value("${gemini.api-url}")
+    private String apiUrl;
+
+    @Value("${llm.cache.version:v1}")
+    private String cacheVersion;
+
+    @Value("${llm.cache.ttl-hours:168}")
+    private long ttlHours;
+
+    @Value("${llm.cache.bypass:false}")
+    private boolean bypass;
+
+    public LlmResultCache(StringRedisTemplate redisTemplate,
+                          LlmResultCacheJdbcRepository llmResultCacheJdbcRepository,
+                          MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.llmResultCacheJdbcRepository = llmResultCacheJdbcRepository;
+        this.redisHitCounter = requestCounter(meterRegistry, "redis_hit");
+        this.dbHitCounter = requestCounter(meterRegistry, "db_hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.bypassCounter = requestCounter(meterRegistry, "bypass");
+    }
+
+    /**
+     * 저장된 생성 결과 조회
+     *
+     * @param prompt Gemini 프롬프트
+     * @return 저장된 결과 (없거나 bypass 면 empty)
+     */
+    public Optional<String> get(String prompt) {
+        if (bypass) {
+            bypassCounter.increment();
+            return Optional.empty();
+        }
+
+        String hash = hash(prompt);
+        try {
+            String cached = redisTemplate.opsForValue().get(KEY_PREFIX + hash);
+            if (cached != null) {
+                redisHitCounter.increment();
+                return Optional.of(cached);
+            }
+        } catch (DataAccessException e) {
+            log.warn("[LLM 결과 캐시] Redis 조회 실패, DB 조회: reason={}", e.getMessage());
+        }
+
+        try {
+            Optional<String> stored = llmResultCacheJdbcRepository.findValid(hash, LocalDateTime.now());
+            if (stored.isPresent()) {
+                dbHitCounter.increment();
+                putRedis(hash, stored.get());
+                return stored;
+            }
+        } catch (DataAccessException e) {
+            log.warn("[LLM 결과 캐시] DB 조회 실패: reason={}", e.getMessage());
+        }
+
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 생성 결과 저장 (Redis + DB)
+     */
+    public void put(String prompt, String result) {
+        if (result == null || result.isEmpty()) {
+            return;
+        }
+
+        String hash = hash(prompt);
+        putRedis(hash, result);
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            llmResultCacheJdbcRepository.upsert(hash, namespace(), result, now, now.plusHours(ttlHours));
+        } catch (DataAccessException e) {
+            log.warn("[LLM 결과 캐시] DB 저장 실패: reason={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 만료된 DB 캐시 정리
+     */
+    @Scheduled(fixedDelayString = "${llm.cache.purge-interval-ms:3600000}",
+            initialDelayString = "${llm.cache.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        try {
+            int deleted = llmResultCacheJdbcRepository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                log.info("[LLM 결과 캐시] 만료 row 삭제: rows={}", deleted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("[LLM 결과 캐시] 만료 row 삭제 실패: reason={}", e.getMessage());
+        }
+    }
+
+    private void putRedis(String hash, String result) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + hash, result, ttlHours, TimeUnit.HOURS);
+        } catch (DataAccessException e) {
+            log.warn("[LLM 결과 캐시] Redis 저장 실패: reason={}", e.getMessage());
+        }
+    }
+
+    private String hash(String prompt) {
+        return HashUtil.encodeSha256(namespace() + "\n" + prompt);
+    }
+
+    private String namespace() {
+        return cacheVersion + "|" + apiUrl;
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("Gemini 호출 전 결과 캐시 조회 수 (적중률 = (redis_hit + db_hit) / 전체)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,15 +1,17 @@
 package com.example.thinkfast.service.ai;
 
+import com.example.thinkfast.common.logger.ReactorMdc;
 import com.example.thinkfast.dto.ai.OptionStatisticsDto;
 import com.example.thinkfast.exception.AiServiceException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 /**
  * LLM을 사용해 설문 요약용 자연어 인사이트를 생성하는 헬퍼.
@@ -22,49 +24,55 @@ import java.util.stream.Collectors;
 public class LlmSummaryGenerator {
 
     private final GeminiApiService geminiApiService;
+    private final PromptSamplePolicy promptSamplePolicy;
 
     @Value("${llm.summary.enabled:true}")
     private boolean llmSummaryEnabled;
 
     /**
-     * 설문 응답을 기반으로 자연어 개선/인사이트 문장을 생성한다.
+     * 설문 응답을 기반으로 자연어 개선/인사이트 문장을 생성한다. (응답을 기다리는 동안 스레드를 점유하지 않음)
      *
      * @param surveyId          설문 ID (로그 추적용)
      * @param totalResponses    총 응답 세션 수
      * @param topOption         첫 객관식 질문의 최다 응답 옵션
      * @param topKeywords       주관식 키워드 상위 N개
-     * @param sampleResponses   주관식 응답 샘플 (최대 20개 정도)
+     * @param sampleResponses   주관식 응답 샘플 (우선순위 순, 토큰 예산만큼 사용)
      * @param maxCount          생성할 문장 수 (최대 5 권장)
-     * @return LLM이 생성한 문장 리스트 (빈 리스트 가능)
+     * @return LLM이 생성한 문장 리스트 (실패 시 빈 리스트, 에러로 끝나지 않음)
      */
-    public List<String> generateInsights(Long surveyId,
-                                         Long totalResponses,
-                                         OptionStatisticsDto topOption,
-                                         List<String> topKeywords,
-                                         List<String> sampleResponses,
-                                         int maxCount) {
+    public Mono<List<String>> generateInsights(Long surveyId,
+                                               Long totalResponses,
+                                               OptionStatisticsDto topOption,
+                                               List<String> topKeywords,
+                                               List<ResponseSampler.SampledResponse> sampleResponses,
+                                               int maxCount) {
         if (!llmSummaryEnabled) {
             log.debug("LLM 요약 비활성화 - 설정값 llm.summary.enabled=false");
-            return new ArrayList<>();
+            return Mono.just(new ArrayList<>());
         }
 
-        try {
-            String prompt = buildPrompt(totalResponses, topOption, topKeywords, sampleResponses, maxCount);
-            String raw = geminiApiService.generateText(prompt);
-            return parseBullets(raw, maxCount);
-        } catch (AiServiceException e) {
-            log.warn("LLM 요약 생성 실패 (Gemini): surveyId={}, reason={}", surveyId, e.getMessage());
-            return new ArrayList<>();
-        } catch (Exception e) {
-            log.warn("LLM 요약 생성 중 예외 발생: surveyId={}", surveyId, e);
-            return new ArrayList<>();
-        }
+        return ReactorMdc.defer(() -> {
+                    String prompt = buildPrompt(totalResponses, topOption, topKeywords, sampleResponses, maxCount);
+                    // bullet 이 하나도 없으면 해석 실패로 보고 캐시에 저장하지 않음
+                    return geminiApiService.generateTextAsync(prompt, raw -> {
+                        List<String> bullets = parseBullets(raw, maxCount);
+                        return bullets.isEmpty() ? Optional.<List<String>>empty() : Optional.of(bullets);
+                    });
+                })
+                .doOnEach(ReactorMdc.onError(e -> {
+                    if (e instanceof AiServiceException) {
+                        log.warn("LLM 요약 생성 실패 (Gemini): surveyId={}, reason={}", surveyId, e.getMessage());
+                    } else {
+                        log.warn("LLM 요약 생성 중 예외 발생: surveyId={}", surveyId, e);
+                    }
+                }))
+                .onErrorResume(e -> Mono.just(new ArrayList<>()));
     }
 
     private String buildPrompt(Long totalResponses,
                                OptionStatisticsDto topOption,
                                List<String> topKeywords,
-                               List<String> sampleResponses,
+                               List<ResponseSampler.SampledResponse> sampleResponses,
                                int maxCount) {
         String topOptionText = topOption != null
                 ? String.format("- 첫 객관식 주요 선택지: \"%s\" (%.2f%%)", topOption.getOptionContent(), topOption.getPercent())
@@ -74,16 +82,13 @@ public class LlmSummaryGenerator {
                 ? "- 주요 키워드: 없음"
                 : "- 주요 키워드: " + String.join(", ", topKeywords);
 
-        String samplesText;
-        if (sampleResponses == null || sampleResponses.isEmpty()) {
-            samplesText = "- 주관식 응답 샘플: 없음";
-        } else {
-            String joined = sampleResponses.stream()
-                    .limit(20)
-                    .map(s -> "• " + s)
-                    .collect(Collectors.joining("\n"));
-            samplesText = "- 주관식 응답 샘플:\n" + joined;
-        }
+        // 토큰 예산 안의 대표 샘플 (거의 같은 응답은 건수로 표시)
+        List<String> sampleBullets = sampleResponses == null
+                ? new ArrayList<>()
+                : promptSamplePolicy.toBullets(sampleResponses);
+        String samplesText = sampleBullets.isEmpty()
+                ? "- 주관식 응답 샘플: 없음"
+                : "- 주관식 응답 샘플:\n" + String.join("\n", sampleBullets);
 
         return String.format(
                 "역할: 한국어 설문 분석가. 응답 데이터를 근거로 3~%d개의 핵심 인사이트를 bullet로 작성하라.\n" +
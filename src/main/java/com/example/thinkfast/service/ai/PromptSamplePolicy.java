@@ -0,0 +1,97 @@
+package com.example.thinkfast.service.ai;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 프롬프트 응답 샘플 정책 (llm.sampling.*)
+ * - 샘플 수: 질문(또는 설문)당 ResponseSampler 가 고르는 최대 응답 수
+ * - 토큰 예산: 샘플을 우선순위 순으로 넣다가 예산을 넘는 응답은 건너뛴다. (설문 규모와 관계없이 요청 크기 일정)
+ * - 응답 1건은 max-chars-per-response 자까지만 사용
+ */
+@Component
+public class PromptSamplePolicy {
+
+    @Value("${llm.sampling.max-samples:30}")
+    private int maxSamples;
+
+    @Value("${llm.sampling.token-budget:1500}")
+    private int tokenBudget;
+
+    @Value("${llm.sampling.max-chars-per-response:300}")
+    private int maxCharsPerResponse;
+
+    /**
+     * @param seed 난수 seed (질문 ID, 설문 ID) - 입력이 같으면 같은 샘플
+     */
+    public ResponseSampler newSampler(long seed) {
+        return new ResponseSampler(maxSamples, seed);
+    }
+
+    public int getTokenBudget() {
+        return tokenBudget;
+    }
+
+    /**
+     * 기본 토큰 예산으로 샘플을 프롬프트 bullet 목록으로 변환
+     */
+    public List<String> toBullets(List<ResponseSampler.SampledResponse> samples) {
+        return toBullets(samples, tokenBudget);
+    }
+
+    /**
+     * 샘플을 토큰 예산 안에서 프롬프트 bullet 목록으로 변환
+     *
+     * @param samples 우선순위 순 샘플
+     * @param budget 토큰 예산
+     * @return "• 응답 (유사 응답 N건)" 목록 (응답 ID 순)
+     */
+    public List<String> toBullets(List<ResponseSampler.SampledResponse> samples, int budget) {
+        List<ResponseSampler.SampledResponse> selected = new ArrayList<>();
+        int used = 0;
+        for (ResponseSampler.SampledResponse sample : samples) {
+            int tokens = estimateTokens(bullet(sample));
+            if (used + tokens > budget) {
+                continue;
+            }
+            selected.add(sample);
+            used += tokens;
+        }
+
+        return selected.stream()
+                .sorted(Comparator.comparingLong(ResponseSampler.SampledResponse::getResponseId))
+                .map(this::bullet)
+                .collect(Collectors.toList());
+    }
+
+    private String bullet(ResponseSampler.SampledResponse sample) {
+        String content = sample.getContent();
+        if (content.length() > maxCharsPerResponse) {
+            content = content.substring(0, maxCharsPerResponse) + "…";
+        }
+        return sample.getSimilarCount() > 1
+                ? "• " + content + " (유사 응답 " + sample.getSimilarCount() + "건)"
+                : "• " + content;
+    }
+
+    /**
+     * 토큰 수 추정 (보수적): 한글 등 비 ASCII 문자는 1자당 1토큰, ASCII 는 4자당 1토큰, 줄바꿈 1토큰
+     */
+    static int estimateTokens(String text) {
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 128) {
+                ascii++;
+            } else {
+                other++;
+            }
+        }
+        return other + (ascii + 3) / 4 + 1;
+    }
+}
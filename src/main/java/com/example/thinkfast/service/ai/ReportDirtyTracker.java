@@ -0,0 +1,77 @@
+package com.example.thinkfast.service.ai;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 리포트 재생성 대상(dirty) 설문 추적
+ * - 커밋된 제출마다 survey:reports:dirty 해시의 설문 필드를 HINCRBY 로 올린다.
+ * - 스케줄러는 스냅샷(HGETALL)을 읽고, 리포트 watermark 이후 새 응답이 없는 설문만 지운다.
+ *   지울 때 스냅샷 값과 같을 때만 HDEL 하므로, 그 사이 도착한 제출 표시는 남는다.
+ * - dirty 표시는 처리 대상을 줄이기 위한 힌트이며, 새 응답 여부는 INSIGHT_REPORTS.LAST_SESSION_COUNT 와 현재 응답 수로 최종 판단한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportDirtyTracker {
+
+    private static final String DIRTY_KEY = "survey:reports:dirty";
+
+    // 값이 스냅샷과 같을 때만 삭제 (ARGV[1]: 설문 ID, ARGV[2]: 스냅샷 값)
+    private static final RedisScript<Long> CLEAR_IF_UNCHANGED = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then " +
+            "return redis.call('HDEL', KEYS[1], ARGV[1]) end " +
+            "return 0", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 설문에 새 응답이 있음을 표시
+     */
+    public void markDirty(Long surveyId) {
+        try {
+            redisTemplate.opsForHash().increment(DIRTY_KEY, String.valueOf(surveyId), 1L);
+        } catch (DataAccessException e) {
+            // 표시하지 못해도 Redis 복구 전까지는 스케줄러가 전체 설문을 watermark 로 확인한다
+            log.warn("[리포트 dirty] 표시 실패: surveyId={}, reason={}", surveyId, e.getMessage());
+        }
+    }
+
+    /**
+     * dirty 설문 스냅샷
+     *
+     * @return surveyId → 표시 버전, Redis 조회 실패 시 null (호출부는 전체 설문을 대상으로 처리)
+     */
+    public Map<Long, String> snapshot() {
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(DIRTY_KEY);
+            Map<Long, String> dirty = new HashMap<>(entries.size());
+            entries.forEach((surveyId, version) -> dirty.put(Long.valueOf((String) surveyId), (String) version));
+            return dirty;
+        } catch (DataAccessException e) {
+            log.warn("[리포트 dirty] 조회 실패, 전체 설문 확인: reason={}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 스냅샷 이후 새 표시가 없으면 dirty 해제
+     */
+    public void clear(Long surveyId, String version) {
+        try {
+            redisTemplate.execute(CLEAR_IF_UNCHANGED, Collections.singletonList(DIRTY_KEY),
+                    String.valueOf(surveyId), version);
+        } catch (DataAccessException e) {
+            log.warn("[리포트 dirty] 해제 실패: surveyId={}, reason={}", surveyId, e.getMessage());
+        }
+    }
+}
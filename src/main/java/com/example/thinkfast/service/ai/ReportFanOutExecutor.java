@@ -0,0 +1,149 @@
+package com.example.thinkfast.service.ai;
+
+import com.example.thinkfast.common.logger.ReactorMdc;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 설문 단위 질문별 리포트 생성 fan-out (워드클라우드, 인사이트)
+ * - 질문(또는 질문 묶음)별 작업 Mono 를 설문당 최대 per-survey-parallelism 개까지 동시에 구독한다.
+ *   (설문 하나가 Gemini 호출 슬롯을 모두 차지하지 않으면서 질문들은 동시에 Gemini 를 호출)
+ * - 작업은 Gemini 응답을 기다리는 동안 스레드를 점유하지 않으며, 트랜잭션 없이 실행한다.
+ *   (저장은 ReportWriter 가 질문마다 짧은 트랜잭션으로 처리하므로 한 질문의 실패가 다른 질문에 영향을 주지 않음)
+ * - 묶음 작업은 여러 질문을 Gemini 요청 1회로 처리할 때 사용하며, 성공/실패는 묶음의 질문 수만큼 집계한다.
+ * - 모든 작업이 끝나면 결과(성공/실패 질문 수, 소요 시간)를 로그와 survey.report.fanout 메트릭으로 남긴다.
+ */
+@Slf4j
+@Component
+public class ReportFanOutExecutor {
+
+    private static final String FANOUT_TIMER = "survey.report.fanout";
+    private static final String FANOUT_QUESTIONS = "survey.report.fanout.questions";
+
+    /**
+     * 질문 1건 처리 작업
+     */
+    @FunctionalInterface
+    public interface QuestionTask {
+        Mono<?> run(Long questionId) throws Exception;
+    }
+
+    /**
+     * 질문 묶음 1건 처리 작업
+     */
+    @FunctionalInterface
+    public interface BatchTask {
+        Mono<?> run(List<Long> questionIds) throws Exception;
+    }
+
+    /**
+     * 설문 단위 fan-out 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class FanOutResult {
+        private final String job;
+        private final Long surveyId;
+        private final int total;
+        private final int succeeded;
+        private final int failed;
+        private final long elapsedMs;
+
+        public boolean isSuccess() {
+            return failed == 0;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final int perSurveyParallelism;
+
+    public ReportFanOutExecutor(MeterRegistry meterRegistry,
+                                @Value("${survey.reports.fan-out.per-survey-parallelism:4}") int perSurveyParallelism) {
+        this.meterRegistry = meterRegistry;
+        this.perSurveyParallelism = Math.max(1, perSurveyParallelism);
+    }
+
+    /**
+     * 질문별 작업 fan-out
+     *
+     * @param job 작업 이름 (wordcloud, insight) - 로그/메트릭 태그
+     * @return 모든 질문 처리가 끝나면 결과를 내보내는 Mono (에러로 끝나지 않음)
+     */
+    public Mono<FanOutResult> fanOut(String job, Long surveyId, List<Long> questionIds, QuestionTask task) {
+        List<List<Long>> batches = questionIds.stream()
+                .map(Collections::singletonList)
+                .collect(Collectors.toList());
+        return fanOutBatches(job, surveyId, batches, batch -> task.run(batch.get(0)));
+    }
+
+    /**
+     * 질문 묶음별 작업 fan-out
+     *
+     * @param job 작업 이름 (wordcloud, insight) - 로그/메트릭 태그
+     * @param batches 질문 묶음 (묶음 하나가 작업 1회)
+     * @return 모든 묶음 처리가 끝나면 결과를 내보내는 Mono (질문 수 기준, 에러로 끝나지 않음)
+     */
+    public Mono<FanOutResult> fanOutBatches(String job, Long surveyId, List<List<Long>> batches, BatchTask task) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            int total = batches.stream().mapToInt(List::size).sum();
+            AtomicInteger succeeded = new AtomicInteger();
+            AtomicInteger failed = new AtomicInteger();
+
+            return Flux.fromIterable(batches)
+                    .flatMap(batch -> runBatch(job, surveyId, batch, task, succeeded, failed), perSurveyParallelism)
+                    .then(ReactorMdc.fromCallable(() -> complete(job, surveyId, total,
+                            succeeded.get(), failed.get(), System.nanoTime() - start)));
+        });
+    }
+
+    private Mono<Void> runBatch(String job, Long surveyId, List<Long> batch, BatchTask task,
+                                AtomicInteger succeeded, AtomicInteger failed) {
+        return ReactorMdc.defer(() -> task.run(batch))
+                .then(Mono.fromRunnable(() -> succeeded.addAndGet(batch.size())))
+                .doOnEach(ReactorMdc.onError(e -> {
+                    failed.addAndGet(batch.size());
+                    log.error("[리포트 fan-out] 질문 처리 실패: job={}, surveyId={}, questionIds={}", job, surveyId, batch, e);
+                }))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    private FanOutResult complete(String job, Long surveyId, int total, int succeeded, int failed, long elapsedNanos) {
+        String outcome = failed == 0 ? "success" : (succeeded > 0 ? "partial" : "failure");
+        Timer.builder(FANOUT_TIMER)
+                .tag("job", job)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        questionCounter(job, "success").increment(succeeded);
+        questionCounter(job, "failure").increment(failed);
+
+        FanOutResult result = new FanOutResult(job, surveyId, total, succeeded, failed,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        log.info("[리포트 fan-out] 완료: job={}, surveyId={}, questions={}, succeeded={}, failed={}, elapsedMs={}",
+                job, surveyId, total, succeeded, failed, result.getElapsedMs());
+        return result;
+    }
+
+    private Counter questionCounter(String job, String result) {
+        return Counter.builder(FANOUT_QUESTIONS)
+                .tag("job", job)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.thinkfast.service.ai;
+
+import com.example.thinkfast.domain.ai.InsightReport;
+import com.example.thinkfast.domain.ai.QuestionInsight;
+import com.example.thinkfast.domain.ai.WordCloud;
+import com.example.thinkfast.repository.ai.InsightReportRepository;
+import com.example.thinkfast.repository.ai.QuestionInsightRepository;
+import com.example.thinkfast.repository.ai.WordCloudRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 생성된 리포트 저장 (persistenceExecutor)
+ * LLM 호출은 llmExecutor 에서 트랜잭션 없이 끝내고, 저장만 짧은 트랜잭션으로 실행한다.
+ * 반환된 future 는 커밋 후 완료되며, 저장 실패 시 예외로 완료된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportWriter {
+
+    private final InsightReportRepository insightReportRepository;
+    private final WordCloudRepository wordCloudRepository;
+    private final QuestionInsightRepository questionInsightRepository;
+
+    /**
+     * 요약 리포트 저장 또는 업데이트
+     */
+    @Async("persistenceExecutor")
+    @Transactional
+    public CompletableFuture<Void> saveSummaryReport(Long surveyId, String summaryText, String keywordsJson) {
+        InsightReport report = insightReportRepository.findBySurveyId(surveyId)
+                .orElseGet(() -> InsightReport.builder().surveyId(surveyId).build());
+        report.setSummaryText(summaryText);
+        report.setKeywords(keywordsJson);
+
+        insightReportRepository.save(report);
+        log.info("요약 리포트 저장 완료: surveyId={}", surveyId);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * 리포트 재생성 watermark 저장 (요약/워드클라우드/인사이트가 모두 저장된 뒤에만 호출)
+     *
+     * @param sessionCount 리포트 생성에 사용한 스냅샷의 설문 응답 수
+     */
+    @Async("persistenceExecutor")
+    @Transactional
+    public CompletableFuture<Void> saveReportWatermark(Long surveyId, long sessionCount) {
+        InsightReport report = insightReportRepository.findBySurveyId(surveyId)
+                .orElseGet(() -> InsightReport.builder().surveyId(surveyId).build());
+        report.setLastSessionCount(sessionCount);
+        report.setGeneratedAt(LocalDateTime.now());
+
+        insightReportRepository.save(report);
+        log.info("리포트 watermark 저장 완료: surveyId={}, sessionCount={}", surveyId, sessionCount);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * 워드클라우드 저장 또는 업데이트
+     */
+    @Async("persistenceExecutor")
+    @Transactional
+    public CompletableFuture<Void> saveWordCloud(Long questionId, String wordCloudData) {
+        WordCloud wordCloud = wordCloudRepository.findByQuestionId(questionId)
+                .orElseGet(() -> WordCloud.builder().questionId(questionId).build());
+        wordCloud.setWordCloudData(wordCloudData);
+
+        wordCloudRepository.save(wordCloud);
+        log.info("워드클라우드 저장 완료: questionId={}", questionId);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * 인사이트 텍스트 저장 또는 업데이트
+     */
+    @Async("persistenceExecutor")
+    @Transactional
+    public CompletableFuture<Void> saveInsight(Long questionId, String insightText) {
+        QuestionInsight questionInsight = questionInsightRepository.findByQuestionId(questionId)
+                .orElseGet(() -> QuestionInsight.builder().questionId(questionId).build());
+        questionInsight.setInsightText(insightText);
+
+        questionInsightRepository.save(questionInsight);
+        log.info("인사이트 텍스트 저장 완료: questionId={}", questionId);
+        return CompletableFuture.completedFuture(null);
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.thinkfast.service.ai;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+/**
+ * 주관식 응답 스트리밍 샘플러 (프롬프트용)
+ * 응답을 한 건씩 받아(DB 커서 순회 중) 메모리는 샘플 크기에 비례하게만 쓰고, 앞쪽 응답에 치우치지 않는 샘플을 만든다.
+ * - 길이 층(짧음/보통/김)마다 reservoir sampling 으로 후보를 capacity × 4 개까지 유지
+ * - 후보는 도착 순서로 시간 층(전체 기간 4등분)을 나눠, 시간 × 길이 칸마다 응답 수에 비례해(칸마다 최소 1개) 최종 샘플 선택
+ * - 공백/문장부호/반복 글자를 정규화해 같아지는 응답(거의 같은 응답)은 하나로 묶고 묶인 수를 센다
+ * 같은 seed 와 같은 입력이면 같은 샘플을 만든다. (프롬프트가 같으면 LlmResultCache 적중)
+ */
+public final class ResponseSampler {
+
+    private static final int TIME_STRATA = 4;
+    private static final int OVERSAMPLING = 4;
+    private static final int SHORT_MAX_LENGTH = 20;
+    private static final int MEDIUM_MAX_LENGTH = 100;
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern REPEATED = Pattern.compile("(.)\\1{2,}");
+
+    /**
+     * 샘플로 선택된 응답
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SampledResponse {
+        private final long responseId;
+        private final String content;
+        // 이 응답과 거의 같은 응답 수 (자신 포함)
+        private final int similarCount;
+    }
+
+    private static final class Candidate {
+        private final long responseId;
+        private final long position;
+        private final String content;
+        private final String key;
+        private final double priority;
+        private int similarCount = 1;
+
+        private Candidate(long responseId, long position, String content, String key, double priority) {
+            this.responseId = responseId;
+            this.position = position;
+            this.content = content;
+            this.key = key;
+            this.priority = priority;
+        }
+    }
+
+    private final int capacity;
+    private final int reservoirSize;
+    private final SplittableRandom random;
+    private final List<List<Candidate>> reservoirs = new ArrayList<>();
+    private final long[] seenPerStratum = new long[3];
+    private final Map<String, Candidate> held = new HashMap<>();
+    private long seen;
+
+    /**
+     * @param capacity 최종 샘플 수
+     * @param seed 난수 seed (질문 ID 등)
+     */
+    public ResponseSampler(int capacity, long seed) {
+        this.capacity = Math.max(1, capacity);
+        this.reservoirSize = this.capacity * OVERSAMPLING;
+        this.random = new SplittableRandom(seed);
+        for (int i = 0; i < seenPerStratum.length; i++) {
+            reservoirs.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * 응답 1건 추가 (도착 순서 = 시간 순서로 취급, 공백 응답은 무시)
+     */
+    public void add(long responseId, String content) {
+        if (content == null || content.trim().isEmpty()) {
+            return;
+        }
+        String trimmed = content.trim();
+        long position = seen++;
+
+        String key = normalize(trimmed);
+        Candidate similar = held.get(key);
+        if (similar != null) {
+            similar.similarCount++;
+            return;
+        }
+
+        int stratum = lengthStratum(trimmed.length());
+        long stratumSeen = ++seenPerStratum[stratum];
+        List<Candidate> reservoir = reservoirs.get(stratum);
+        Candidate candidate = new Candidate(responseId, position, trimmed, key, random.nextDouble());
+        if (reservoir.size() < reservoirSize) {
+            reservoir.add(candidate);
+        } else {
+            long slot = random.nextLong(stratumSeen);
+            if (slot >= reservoirSize) {
+                return;
+            }
+            held.remove(reservoir.set((int) slot, candidate).key);
+        }
+        held.put(key, candidate);
+    }
+
+    /**
+     * 최종 샘플
+     *
+     * @return 우선순위 순 (칸을 번갈아 하나씩, 토큰 예산으로 자를 때 앞쪽부터 사용)
+     */
+    public List<SampledResponse> sample() {
+        if (seen == 0) {
+            return new ArrayList<>();
+        }
+
+        // 시간 × 길이 칸 구성 (칸 안에서는 무작위 우선순위 순)
+        int cellCount = TIME_STRATA * reservoirs.size();
+        List<List<Candidate>> cells = new ArrayList<>(cellCount);
+        double[] weights = new double[cellCount];
+        for (int i = 0; i < cellCount; i++) {
+            cells.add(new ArrayList<>());
+        }
+        for (int stratum = 0; stratum < reservoirs.size(); stratum++) {
+            List<Candidate> reservoir = reservoirs.get(stratum);
+            for (Candidate candidate : reservoir) {
+                int timeStratum = (int) Math.min(TIME_STRATA - 1, candidate.position * TIME_STRATA / seen);
+                int cell = timeStratum * reservoirs.size() + stratum;
+                cells.get(cell).add(candidate);
+                // 후보 1개가 대표하는 응답 수 = 층의 응답 수 / 층의 후보 수
+                weights[cell] += (double) seenPerStratum[stratum] / reservoir.size();
+            }
+        }
+        cells.forEach(cell -> cell.sort(Comparator.comparingDouble(c -> c.priority)));
+
+        int[] allocation = allocate(cells, weights);
+
+        // 칸을 번갈아 하나씩 꺼내 우선순위 순서 구성
+        List<SampledResponse> result = new ArrayList<>();
+        for (int round = 0; result.size() < capacity; round++) {
+            boolean added = false;
+            for (int cell = 0; cell < cellCount; cell++) {
+                if (round < allocation[cell]) {
+                    Candidate candidate = cells.get(cell).get(round);
+                    result.add(new SampledResponse(candidate.responseId, candidate.content, candidate.similarCount));
+                    added = true;
+                }
+            }
+            if (!added) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    // 칸별 할당: 비어 있지 않은 칸마다 1개, 나머지는 응답 수 비례 (최대 잉여 방식)
+    private int[] allocate(List<List<Candidate>> cells, double[] weights) {
+        int[] allocation = new int[cells.size()];
+        int remaining = capacity;
+        double totalWeight = 0;
+        for (int cell = 0; cell < cells.size() && remaining > 0; cell++) {
+            if (!cells.get(cell).isEmpty()) {
+                allocation[cell] = 1;
+                remaining--;
+                totalWeight += weights[cell];
+            }
+        }
+
+        double[] remainders = new double[cells.size()];
+        int extra = remaining;
+        for (int cell = 0; cell < cells.size() && totalWeight > 0; cell++) {
+            if (allocation[cell] == 0) {
+                continue;
+            }
+            double share = extra * weights[cell] / totalWeight;
+            int whole = Math.min((int) share, cells.get(cell).size() - allocation[cell]);
+            allocation[cell] += whole;
+            remaining -= whole;
+            remainders[cell] = share - whole;
+        }
+
+        while (remaining > 0) {
+            int best = -1;
+            for (int cell = 0; cell < cells.size(); cell++) {
+                if (allocation[cell] > 0 && allocation[cell] < cells.get(cell).size()
+                        && (best < 0 || remainders[cell] > remainders[best])) {
+                    best = cell;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            allocation[best]++;
+            remainders[best] = -1;
+            remaining--;
+        }
+        return allocation;
+    }
+
+    private static int lengthStratum(int length) {
+        if (length <= SHORT_MAX_LENGTH) {
+            return 0;
+        }
+        return length <= MEDIUM_MAX_LENGTH ? 1 : 2;
+    }
+
+    // 대소문자, 공백/문장부호, 3번 이상 반복되는 글자(ㅋㅋㅋ, !!!)를 정규화
+    static String normalize(String content) {
+        String lower = NON_WORD.matcher(content.toLowerCase()).replaceAll("");
+        return REPEATED.matcher(lower).replaceAll("$1");
+    }
+}
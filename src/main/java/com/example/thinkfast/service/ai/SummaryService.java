@@ -1,25 +1,23 @@
 package com.example.thinkfast.service.ai;
 
+import com.example.thinkfast.common.logger.ReactorMdc;
 import com.example.thinkfast.domain.ai.InsightReport;
-import com.example.thinkfast.domain.survey.Question;
-import com.example.thinkfast.domain.survey.Response;
 import com.example.thinkfast.dto.ai.OptionStatisticsDto;
 import com.example.thinkfast.dto.ai.SummaryReportDto;
 import com.example.thinkfast.repository.ai.InsightReportRepository;
-import com.example.thinkfast.repository.survey.QuestionRepository;
-import com.example.thinkfast.repository.survey.ResponseRepository;
+import com.example.thinkfast.repository.survey.SurveySessionCountRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -35,9 +33,11 @@ public class SummaryService {
     private final ImprovementExtractionService improvementExtractionService;
     private final LlmSummaryGenerator llmSummaryGenerator;
     private final InsightReportRepository insightReportRepository;
-    private final ResponseRepository responseRepository;
-    private final QuestionRepository questionRepository;
+    private final ReportWriter reportWriter;
+    private final SurveyAnalysisContextLoader analysisContextLoader;
+    private final SurveySessionCountRepository surveySessionCountRepository;
     private final ObjectMapper objectMapper;
+    private final Scheduler persistenceScheduler;
 
     /**
      * 설문 요약 리포트 조회 (DB에서만 조회, 없으면 빈 데이터 반환)
@@ -74,28 +74,7 @@ public class SummaryService {
      */
     @Transactional(readOnly = true)
     public SummaryReportDto generateSummaryReport(Long surveyId) {
-        // 0. 설문에 응답이 있는지 확인
-        Long responseCount = responseRepository.countDistinctResponseSessionsBySurveyId(surveyId);
-        if (responseCount == null || responseCount == 0) {
-            // 응답이 없으면 빈 데이터 반환 (200 OK로 응답)
-            return new SummaryReportDto(null, null, new ArrayList<>());
-        }
-
-        // 1. 첫 번째 객관식 질문에서 비율이 가장 높은 옵션 추출 (mainPosition)
-        OptionStatisticsDto topOption = statisticsService.getFirstQuestionTopOption(surveyId);
-
-        String mainPosition = null;
-        Double mainPositionPercent = null;
-
-        if (topOption != null) {
-            mainPosition = topOption.getOptionContent();
-            mainPositionPercent = topOption.getPercent();
-        }
-
-        // 2. LLM 기반 개선/인사이트 생성 시도 (폴백 포함)
-        List<String> improvements = generateImprovementsWithFallback(surveyId, responseCount, topOption, 5);
-
-        return new SummaryReportDto(mainPosition, mainPositionPercent, improvements);
+        return loadAndGenerateSummaryReport(surveyId, 5);
     }
 
     /**
@@ -108,146 +87,101 @@ public class SummaryService {
     @Deprecated
     @Transactional(readOnly = true)
     public SummaryReportDto generateSummaryReport(Long surveyId, int maxImprovements) {
-        // 0. 설문에 응답이 있는지 확인
-        Long responseCount = responseRepository.countDistinctResponseSessionsBySurveyId(surveyId);
+        return loadAndGenerateSummaryReport(surveyId, maxImprovements);
+    }
+
+    /**
+     * 요약 리포트를 생성해 DB에 저장 (SurveyReportService 파이프라인)
+     * 키워드 추출은 구독 스레드(llmExecutor)에서, Gemini 응답 대기는 스레드 점유 없이,
+     * 저장은 ReportWriter(persistenceExecutor)에서 실행한다. (Gemini 응답을 받은 이벤트 루프가 아니라 persistenceScheduler 에서 제출)
+     * 실패는 로그만 남기고 false 로 끝난다. (에러로 끝나지 않음)
+     *
+     * @param context 설문 데이터 스냅샷
+     * @return 저장이 커밋되면 true, 생성/저장에 실패하면 false
+     */
+    public Mono<Boolean> saveSummaryReport(SurveyAnalysisContext context) {
+        Long surveyId = context.getSurveyId();
+        return ReactorMdc.fromCallable(() -> {
+                    log.info("요약 리포트 생성 시작: surveyId={}", surveyId);
+
+                    // 개선 사항 키워드 추출 (리포트 생성과 저장에 함께 사용)
+                    return improvementExtractionService.extractImprovementKeywords(context);
+                })
+                .flatMap(keywords -> generateSummaryReportAsync(context, keywords, 5)
+                        .flatMap(summary -> ReactorMdc.defer(() -> {
+                            // 리포트를 JSON으로 직렬화 후 DB에 저장 또는 업데이트 (커밋까지 대기)
+                            // 재생성 watermark 는 세 리포트가 모두 저장된 뒤 SurveyReportService 가 기록한다
+                            String summaryText = objectMapper.writeValueAsString(summary);
+                            String keywordsJson = objectMapper.writeValueAsString(keywords);
+                            return Mono.fromFuture(reportWriter.saveSummaryReport(surveyId, summaryText, keywordsJson));
+                        }).subscribeOn(persistenceScheduler)))
+                .thenReturn(true)
+                .doOnEach(ReactorMdc.onError(e -> log.error("요약 리포트 저장 실패: surveyId={}", surveyId, e)))
+                .onErrorReturn(false);
+    }
+
+    private SummaryReportDto loadAndGenerateSummaryReport(Long surveyId, int maxImprovements) {
+        // 0. 설문에 응답이 있는지 확인 (응답이 없으면 스냅샷을 적재하지 않음)
+        Long responseCount = surveySessionCountRepository.findSessionCountBySurveyId(surveyId);
         if (responseCount == null || responseCount == 0) {
             // 응답이 없으면 빈 데이터 반환 (200 OK로 응답)
             return new SummaryReportDto(null, null, new ArrayList<>());
         }
 
-        // 1. 첫 번째 객관식 질문에서 비율이 가장 높은 옵션 추출 (mainPosition)
-        OptionStatisticsDto topOption = statisticsService.getFirstQuestionTopOption(surveyId);
+        SurveyAnalysisContext context = analysisContextLoader.load(surveyId);
+        List<Map.Entry<String, Integer>> keywords = improvementExtractionService.extractImprovementKeywords(context);
 
-        String mainPosition = null;
-        Double mainPositionPercent = null;
+        // API 요청 스레드에서는 생성이 끝날 때까지 대기
+        return generateSummaryReportAsync(context, keywords, maxImprovements)
+                .contextWrite(ReactorMdc.capture())
+                .block();
+    }
 
-        if (topOption != null) {
-            mainPosition = topOption.getOptionContent();
-            mainPositionPercent = topOption.getPercent();
+    private Mono<SummaryReportDto> generateSummaryReportAsync(SurveyAnalysisContext context,
+                                                              List<Map.Entry<String, Integer>> keywords,
+                                                              int maxImprovements) {
+        // 0. 설문에 응답이 있는지 확인
+        if (context.isEmpty()) {
+            // 응답이 없으면 빈 데이터 반환 (200 OK로 응답)
+            return Mono.just(new SummaryReportDto(null, null, new ArrayList<>()));
         }
 
-        // 2. LLM 기반 개선/인사이트 생성 시도 (폴백 포함)
-        List<String> improvements = generateImprovementsWithFallback(surveyId, responseCount, topOption, maxImprovements);
+        // 1. 첫 번째 객관식 질문에서 비율이 가장 높은 옵션 추출 (mainPosition)
+        OptionStatisticsDto topOption = context.getFirstQuestionTopOption();
 
-        return new SummaryReportDto(mainPosition, mainPositionPercent, improvements);
-    }
+        String mainPosition = topOption != null ? topOption.getOptionContent() : null;
+        Double mainPositionPercent = topOption != null ? topOption.getPercent() : null;
 
-    /**
-     * 요약 리포트를 DB에 저장 (비동기 처리용)
-     *
-     * @param surveyId 설문 ID
-     */
-    @Async("taskExecutor")
-    @Transactional
-    public void saveSummaryReportAsync(Long surveyId) {
-        try {
-            log.info("요약 리포트 생성 시작: surveyId={}", surveyId);
-            
-            // 리포트 생성
-            SummaryReportDto summary = generateSummaryReport(surveyId);
-            
-            // JSON으로 직렬화
-            String summaryText = objectMapper.writeValueAsString(summary);
-            
-            // 개선 사항 키워드 추출 (키워드만)
-            List<Map.Entry<String, Integer>> keywords = 
-                improvementExtractionService.extractImprovementKeywordsFromSurvey(surveyId);
-            String keywordsJson = objectMapper.writeValueAsString(keywords);
-            
-            // DB에 저장 또는 업데이트
-            Optional<InsightReport> existing = insightReportRepository.findBySurveyId(surveyId);
-            
-            InsightReport report;
-            if (existing.isPresent()) {
-                // 기존 리포트 업데이트
-                report = existing.get();
-                report.setSummaryText(summaryText);
-                report.setKeywords(keywordsJson);
-            } else {
-                // 새 리포트 생성
-                report = InsightReport.builder()
-                        .surveyId(surveyId)
-                        .summaryText(summaryText)
-                        .keywords(keywordsJson)
-                        .build();
-            }
-            
-            insightReportRepository.save(report);
-            log.info("요약 리포트 저장 완료: surveyId={}", surveyId);
-            
-        } catch (Exception e) {
-            log.error("요약 리포트 저장 실패: surveyId={}", surveyId, e);
-        }
+        // 2. LLM 기반 개선/인사이트 생성 시도 (폴백 포함)
+        return generateImprovementsWithFallback(context, keywords, topOption, maxImprovements)
+                .map(improvements -> new SummaryReportDto(mainPosition, mainPositionPercent, improvements));
     }
 
     /**
      * LLM 기반 개선/인사이트 생성 후 실패 시 템플릿 기반으로 폴백.
      */
-    private List<String> generateImprovementsWithFallback(Long surveyId,
-                                                          Long totalResponses,
-                                                          OptionStatisticsDto topOption,
-                                                          int maxCount) {
+    private Mono<List<String>> generateImprovementsWithFallback(SurveyAnalysisContext context,
+                                                                List<Map.Entry<String, Integer>> keywordEntries,
+                                                                OptionStatisticsDto topOption,
+                                                                int maxCount) {
         // 1) LLM 시도
-        List<Map.Entry<String, Integer>> keywordEntries = improvementExtractionService
-                .extractImprovementKeywordsFromSurvey(surveyId);
         List<String> topKeywords = keywordEntries.stream()
                 .map(Map.Entry::getKey)
                 .limit(10)
                 .collect(Collectors.toList());
-        List<String> sampleResponses = collectSubjectiveSamples(surveyId, 20);
-
-        List<String> llmResults = llmSummaryGenerator.generateInsights(
-                surveyId,
-                totalResponses,
-                topOption,
-                topKeywords,
-                sampleResponses,
-                maxCount
-        );
-
-        if (llmResults != null && !llmResults.isEmpty()) {
-            return llmResults;
-        }
-
-        // 2) 폴백: 기존 템플릿 기반 개선 문장
-        return improvementExtractionService.extractImprovements(surveyId, maxCount);
-    }
-
-    /**
-     * 설문 내 주관식 응답 샘플을 수집한다.
-     */
-    private List<String> collectSubjectiveSamples(Long surveyId, int limit) {
-        try {
-            List<Question> questions = questionRepository.findBySurveyId(surveyId);
-            if (questions.isEmpty()) {
-                return new ArrayList<>();
-            }
-
-            // 주관식 질문 ID 집합
-            List<Long> subjectiveQuestionIds = questions.stream()
-                    .filter(q -> q.getType() == Question.QuestionType.SUBJECTIVE)
-                    .map(Question::getId)
-                    .collect(Collectors.toList());
-
-            if (subjectiveQuestionIds.isEmpty()) {
-                return new ArrayList<>();
-            }
-
-            // 설문 전체 응답에서 주관식만 필터링
-            List<Response> responses = responseRepository.findBySurveyId(surveyId);
-            return responses.stream()
-                    .filter(r -> r.getQuestionId() != null && subjectiveQuestionIds.contains(r.getQuestionId()))
-                    .map(Response::getSubjectiveContent)
-                    .filter(Objects::nonNull)
-                    .map(String::trim)
-                    .filter(s -> !s.isEmpty())
-                    .limit(limit)
-                    .collect(Collectors.toList());
-
-        } catch (Exception e) {
-            log.debug("주관식 응답 샘플 수집 중 예외: surveyId={}", surveyId, e);
-            return new ArrayList<>();
-        }
+        return llmSummaryGenerator.generateInsights(
+                        context.getSurveyId(),
+                        context.getRespondentCount(),
+                        topOption,
+                        topKeywords,
+                        context.getSubjectiveSample(),
+                        maxCount)
+                .map(llmResults -> {
+                    if (!llmResults.isEmpty()) {
+                        return llmResults;
+                    }
+                    // 2) 폴백: 기존 템플릿 기반 개선 문장
+                    return improvementExtractionService.generateImprovementSentences(keywordEntries, maxCount);
+                });
     }
 }
-
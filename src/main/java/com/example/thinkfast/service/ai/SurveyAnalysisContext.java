@@ -0,0 +1,180 @@
+package com.example.thinkfast.service.ai;
+
+import com.example.thinkfast.domain.survey.Question;
+import com.example.thinkfast.dto.ai.OptionStatisticsDto;
+import com.example.thinkfast.dto.survey.OptionDto;
+import com.example.thinkfast.dto.survey.QuestionDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 리포트 생성용 설문 데이터 스냅샷 (불변)
+ * 스케줄러 1회 실행에서 요약/워드클라우드/인사이트가 같은 응답을 각자 다시 읽지 않도록,
+ * SurveyAnalysisContextLoader 가 설문의 답변을 한 번 스트리밍으로 읽어 필요한 집계만 남긴다.
+ * - 질문/선택지: 설문 스키마 (orderIndex 순)
+ * - 질문별 응답자 수(중복 제거된 세션 수), 선택지별 응답 수, 주관식 응답 내용
+ * - 주관식 응답 샘플: 질문별/설문 전체 (프롬프트용, ResponseSampler 가 적재 중 스트리밍으로 선택)
+ * - sessionCount: 답변을 읽기 전에 조회한 설문 응답 수 (SURVEY_SESSION_COUNTS, 리포트 재생성 watermark)
+ */
+public final class SurveyAnalysisContext {
+
+    private final Long surveyId;
+    private final List<QuestionDto> questions;
+    private final long respondentCount;
+    private final Map<Long, Long> questionRespondentCounts;
+    private final Map<Long, Map<Long, Long>> optionCounts;
+    private final Map<Long, List<String>> subjectiveContents;
+    private final Map<Long, List<ResponseSampler.SampledResponse>> subjectiveSamples;
+    private final List<ResponseSampler.SampledResponse> surveySubjectiveSample;
+    private final long sessionCount;
+
+    SurveyAnalysisContext(Long surveyId, List<QuestionDto> questions, long respondentCount,
+                          Map<Long, Long> questionRespondentCounts, Map<Long, Map<Long, Long>> optionCounts,
+                          Map<Long, List<String>> subjectiveContents,
+                          Map<Long, List<ResponseSampler.SampledResponse>> subjectiveSamples,
+                          List<ResponseSampler.SampledResponse> surveySubjectiveSample, long sessionCount) {
+        this.surveyId = surveyId;
+        this.questions = questions;
+        this.respondentCount = respondentCount;
+        this.questionRespondentCounts = questionRespondentCounts;
+        this.optionCounts = optionCounts;
+        this.subjectiveContents = subjectiveContents;
+        this.subjectiveSamples = subjectiveSamples;
+        this.surveySubjectiveSample = surveySubjectiveSample;
+        this.sessionCount = sessionCount;
+    }
+
+    public Long getSurveyId() {
+        return surveyId;
+    }
+
+    /**
+     * @return 설문 질문 (orderIndex 순)
+     */
+    public List<QuestionDto> getQuestions() {
+        return questions;
+    }
+
+    /**
+     * @return 지정한 타입의 질문 ID (orderIndex 순)
+     */
+    public List<Long> getQuestionIds(Question.QuestionType... types) {
+        List<Question.QuestionType> targetTypes = Arrays.asList(types);
+        return questions.stream()
+                .filter(q -> targetTypes.contains(q.getType()))
+                .map(QuestionDto::getId)
+                .collect(Collectors.toList());
+    }
+
+    public QuestionDto getQuestion(Long questionId) {
+        for (QuestionDto question : questions) {
+            if (question.getId().equals(questionId)) {
+                return question;
+            }
+        }
+        throw new IllegalArgumentException("질문을 찾을 수 없습니다: " + questionId);
+    }
+
+    /**
+     * @return 설문 응답자 수 (중복 제거된 세션 수)
+     */
+    public long getRespondentCount() {
+        return respondentCount;
+    }
+
+    /**
+     * @return 질문 응답자 수 (중복 제거된 세션 수)
+     */
+    public long getRespondentCount(Long questionId) {
+        return questionRespondentCounts.getOrDefault(questionId, 0L);
+    }
+
+    /**
+     * @return 질문의 주관식 응답 (공백 응답 제외, 응답 ID 순)
+     */
+    public List<String> getSubjectiveContents(Long questionId) {
+        return subjectiveContents.getOrDefault(questionId, Collections.emptyList());
+    }
+
+    /**
+     * @return 설문 전체 주관식 응답 (질문 orderIndex 순, 질문 내에서는 응답 ID 순)
+     */
+    public List<String> getAllSubjectiveContents() {
+        List<String> contents = new ArrayList<>();
+        for (QuestionDto question : questions) {
+            contents.addAll(getSubjectiveContents(question.getId()));
+        }
+        return contents;
+    }
+
+    /**
+     * @return 질문의 주관식 응답 샘플 (우선순위 순, 프롬프트는 PromptSamplePolicy 로 토큰 예산에 맞춰 사용)
+     */
+    public List<ResponseSampler.SampledResponse> getSubjectiveSample(Long questionId) {
+        return subjectiveSamples.getOrDefault(questionId, Collections.emptyList());
+    }
+
+    /**
+     * @return 설문 전체 주관식 응답 샘플 (우선순위 순)
+     */
+    public List<ResponseSampler.SampledResponse> getSubjectiveSample() {
+        return surveySubjectiveSample;
+    }
+
+    /**
+     * 객관식 질문의 선택지별 통계 (SurveyStatisticsService 와 같은 계산)
+     */
+    public List<OptionStatisticsDto> getOptionStatistics(Long questionId) {
+        QuestionDto question = getQuestion(questionId);
+        long totalResponses = getRespondentCount(questionId);
+        Map<Long, Long> counts = optionCounts.getOrDefault(questionId, Collections.emptyMap());
+
+        List<OptionStatisticsDto> optionStatistics = new ArrayList<>(question.getOptions().size());
+        for (OptionDto option : question.getOptions()) {
+            long count = totalResponses > 0 ? counts.getOrDefault(option.getId(), 0L) : 0L;
+            double percent = totalResponses > 0 ? (double) count / totalResponses * 100.0 : 0.0;
+            optionStatistics.add(new OptionStatisticsDto(
+                    option.getId(),
+                    option.getContent(),
+                    count,
+                    Math.round(percent * 100.0) / 100.0 // 소수점 둘째 자리까지
+            ));
+        }
+        return optionStatistics;
+    }
+
+    /**
+     * 첫 번째 객관식 질문(orderIndex 순)에서 응답 수가 가장 많은 선택지
+     *
+     * @return 객관식 질문이 없거나 응답이 없으면 null
+     */
+    public OptionStatisticsDto getFirstQuestionTopOption() {
+        QuestionDto first = questions.stream()
+                .filter(q -> q.getType() == Question.QuestionType.MULTIPLE_CHOICE)
+                .findFirst()
+                .orElse(null);
+        if (first == null || getRespondentCount(first.getId()) == 0) {
+            return null;
+        }
+        return getOptionStatistics(first.getId()).stream()
+                .max(Comparator.comparing(OptionStatisticsDto::getCount))
+                .orElse(null);
+    }
+
+    /**
+     * @return 답변을 읽기 전에 조회한 설문 응답 수 (스냅샷은 최소 이만큼의 제출을 포함)
+     */
+    public long getSessionCount() {
+        return sessionCount;
+    }
+
+    public boolean isEmpty() {
+        return questions.isEmpty() || respondentCount == 0;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.thinkfast.service.ai;
+
+import com.example.thinkfast.domain.survey.Question;
+import com.example.thinkfast.dto.survey.QuestionDto;
+import com.example.thinkfast.repository.survey.ResponseJdbcRepository;
+import com.example.thinkfast.repository.survey.SurveySessionCountRepository;
+import com.example.thinkfast.service.survey.SurveySchema;
+import com.example.thinkfast.service.survey.SurveySchemaCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * SurveyAnalysisContext 적재
+ * 질문/선택지는 설문 스키마 캐시에서 가져오고, 답변은 RESPONSES 스트리밍 조회 1회로 읽어 집계한다.
+ * 응답 세션 ID 는 중복 제거에만 쓰고 스냅샷에는 수만 남긴다.
+ * 프롬프트용 주관식 응답 샘플도 같은 커서 순회 중에 ResponseSampler 로 고른다. (응답 ID 순 = 제출 순)
+ * 재생성 watermark 인 설문 응답 수는 답변을 읽기 전에 조회한다.
+ * 응답 수는 제출 트랜잭션에서 함께 증가하므로, 먼저 읽은 값에 포함된 제출은 모두 이후 스트리밍 조회에 보인다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SurveyAnalysisContextLoader {
+
+    private final SurveySchemaCache surveySchemaCache;
+    private final ResponseJdbcRepository responseJdbcRepository;
+    private final SurveySessionCountRepository surveySessionCountRepository;
+    private final PromptSamplePolicy promptSamplePolicy;
+
+    /**
+     * 설문 데이터 스냅샷 적재
+     *
+     * @param surveyId 설문 ID
+     * @return 스냅샷 (질문이 없는 설문은 빈 스냅샷)
+     */
+    public SurveyAnalysisContext load(Long surveyId) {
+        long start = System.currentTimeMillis();
+        List<QuestionDto> questions = surveySchemaCache.get(surveyId)
+                .map(SurveySchema::getQuestions)
+                .orElse(Collections.emptyList());
+        List<Long> questionIds = questions.stream().map(QuestionDto::getId).collect(Collectors.toList());
+        Set<Long> subjectiveQuestionIds = questions.stream()
+                .filter(q -> q.getType() == Question.QuestionType.SUBJECTIVE)
+                .map(QuestionDto::getId)
+                .collect(Collectors.toSet());
+        long sessionCount = surveySessionCountRepository.findSessionCountBySurveyId(surveyId);
+
+        Set<String> surveySessions = new HashSet<>();
+        Map<Long, Set<String>> questionSessions = new HashMap<>();
+        Map<Long, Map<Long, Long>> optionCounts = new HashMap<>();
+        Map<Long, List<String>> subjectiveContents = new HashMap<>();
+        Map<Long, ResponseSampler> samplers = new HashMap<>();
+        ResponseSampler surveySampler = promptSamplePolicy.newSampler(surveyId);
+        long[] rows = {0L};
+
+        responseJdbcRepository.forEachAnalysisRow(questionIds, (responseId, sessionId, questionId, optionId, content) -> {
+            surveySessions.add(sessionId);
+            questionSessions.computeIfAbsent(questionId, id -> new HashSet<>()).add(sessionId);
+            if (optionId != null) {
+                optionCounts.computeIfAbsent(questionId, id -> new HashMap<>()).merge(optionId, 1L, Long::sum);
+            }
+            if (content != null && !content.trim().isEmpty() && subjectiveQuestionIds.contains(questionId)) {
+                subjectiveContents.computeIfAbsent(questionId, id -> new ArrayList<>()).add(content);
+                samplers.computeIfAbsent(questionId, promptSamplePolicy::newSampler).add(responseId, content);
+                surveySampler.add(responseId, content);
+            }
+            rows[0]++;
+        });
+
+        Map<Long, Long> questionRespondentCounts = new HashMap<>();
+        questionSessions.forEach((questionId, sessions) -> questionRespondentCounts.put(questionId, (long) sessions.size()));
+        Map<Long, List<ResponseSampler.SampledResponse>> subjectiveSamples = new HashMap<>();
+        samplers.forEach((questionId, sampler) -> subjectiveSamples.put(questionId, sampler.sample()));
+
+        log.debug("[리포트 분석 스냅샷] 적재 완료: surveyId={}, questions={}, rows={}, respondents={}, elapsedMs={}",
+                surveyId, questions.size(), rows[0], surveySessions.size(), System.currentTimeMillis() - start);
+        return new SurveyAnalysisContext(surveyId, questions, surveySessions.size(), questionRespondentCounts,
+                optionCounts, subjectiveContents, subjectiveSamples, surveySampler.sample(), sessionCount);
+    }
+}
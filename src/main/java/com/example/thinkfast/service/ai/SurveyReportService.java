@@ -0,0 +1,94 @@
+package com.example.thinkfast.service.ai;
+
+import com.example.thinkfast.common.logger.ReactorMdc;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * 설문 AI 리포트(요약, 워드클라우드, 인사이트) 일괄 생성
+ * 설문 데이터 스냅샷(SurveyAnalysisContext)을 한 번 적재해 세 생성기가 함께 사용하므로,
+ * 설문당 RESPONSES 조회는 1회로 끝난다.
+ * 생성은 Reactor 파이프라인으로 실행되어 Gemini 응답을 기다리는 동안 스레드를 점유하지 않는다.
+ * 재생성 watermark(INSIGHT_REPORTS.LAST_SESSION_COUNT)는 세 리포트가 모두 저장된 뒤에만 기록하므로,
+ * 하나라도 실패한 설문은 다음 스케줄러 실행에서 다시 생성 대상이 된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SurveyReportService {
+
+    private final SurveyAnalysisContextLoader analysisContextLoader;
+    private final SummaryService summaryService;
+    private final WordCloudService wordCloudService;
+    private final InsightService insightService;
+    private final ReportWriter reportWriter;
+    private final Scheduler persistenceScheduler;
+
+    /**
+     * 설문 리포트 일괄 생성 (비동기)
+     * llmExecutor 스레드는 스냅샷 적재와 파이프라인 구독까지만 하고 바로 반환한다.
+     * 파이프라인 로그에는 호출 시점의 MDC(scheduler.* 등)가 이어진다.
+     *
+     * @param surveyId 설문 ID
+     */
+    @Async("llmExecutor")
+    public void generateReportsAsync(Long surveyId) {
+        SurveyAnalysisContext context;
+        try {
+            context = analysisContextLoader.load(surveyId);
+        } catch (Exception e) {
+            log.error("설문 리포트 생성 실패: surveyId={}", surveyId, e);
+            return;
+        }
+        if (context.getQuestions().isEmpty()) {
+            log.debug("리포트 생성 대상 질문 없음: surveyId={}", surveyId);
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        generateReports(context)
+                .doOnEach(ReactorMdc.onError(e -> log.error("설문 리포트 생성 실패: surveyId={}", surveyId, e)))
+                .doOnEach(ReactorMdc.onNext(success -> {
+                    if (success) {
+                        log.info("설문 리포트 생성 완료: surveyId={}, elapsedMs={}", surveyId, System.currentTimeMillis() - start);
+                    } else {
+                        log.warn("설문 리포트 일부 생성 실패 (watermark 유지, 다음 실행에서 재생성): surveyId={}, elapsedMs={}",
+                                surveyId, System.currentTimeMillis() - start);
+                    }
+                }))
+                .contextWrite(ReactorMdc.capture())
+                .onErrorResume(e -> Mono.empty())
+                .subscribe();
+    }
+
+    /**
+     * 스냅샷으로 리포트 생성 파이프라인 구성
+     * - 워드클라우드(질문 묶음별 Gemini 호출) → 인사이트 (주관식 인사이트는 저장된 워드클라우드를 읽으므로 순서대로)
+     * - 요약 리포트는 질문별 리포트와 동시에 생성
+     * - 세 생성기가 모두 성공하면 스냅샷의 설문 응답 수를 watermark 로 저장 (persistenceScheduler 에서 제출)
+     *
+     * @param context 설문 데이터 스냅샷
+     * @return 세 리포트와 watermark 가 모두 저장되면 true, 하나라도 실패해 watermark 를 남기지 않았으면 false
+     */
+    public Mono<Boolean> generateReports(SurveyAnalysisContext context) {
+        Mono<Boolean> questionReports = wordCloudService.saveWordCloudsForSurvey(context)
+                .flatMap(wordClouds -> insightService.saveInsightsForSurvey(context)
+                        .map(insights -> wordClouds.isSuccess() && insights.isSuccess()))
+                .defaultIfEmpty(false);
+
+        // 요약은 실패해도 false 로 끝나므로, 한쪽 실패가 다른 쪽을 취소하지 않는다
+        return Mono.zip(questionReports, summaryService.saveSummaryReport(context),
+                        (questions, summary) -> questions && summary)
+                .flatMap(success -> success ? saveReportWatermark(context).thenReturn(true) : Mono.just(false));
+    }
+
+    private Mono<Void> saveReportWatermark(SurveyAnalysisContext context) {
+        return ReactorMdc.defer(() -> Mono.fromFuture(
+                        reportWriter.saveReportWatermark(context.getSurveyId(), context.getSessionCount())))
+                .subscribeOn(persistenceScheduler);
+    }
+}
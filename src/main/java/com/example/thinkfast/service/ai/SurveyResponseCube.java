@@ -0,0 +1,246 @@
+package com.example.thinkfast.service.ai;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 설문 객관식 응답 큐브 (교차 분석용, 메모리 내 BitSet 저장)
+ * - 응답 세션마다 0 부터 증가하는 응답자 번호(ordinal)를 부여한다.
+ * - 선택지마다 응답자 BitSet 을 두고, 질문마다 선택지 BitSet 의 OR(그 질문에 응답한 응답자)를 함께 유지한다.
+ * - 필터는 선택지 BitSet 의 OR(같은 질문) / AND(질문 간) 로, 분포는 일치한 응답자 BitSet 과의 AND 개수(cardinality)로 계산한다.
+ * 한 질문에 여러 선택지를 고른 응답자는 고른 선택지마다 한 번씩 세고, 질문 응답자 수에는 한 번만 센다.
+ * 생성 시점의 설문 응답 수(SURVEY_SESSION_COUNTS)에 이후 반영한 제출 수를 더해 두어, 다른 노드에서 커밋된 제출이
+ * 얼마나 빠졌는지 DB 응답 수와 비교할 수 있다.
+ */
+public final class SurveyResponseCube {
+
+    private final Long surveyId;
+    private final long[] questionIds;
+    private final long[][] optionIds;
+    private final BitSet[][] optionBits;
+    private final BitSet[] answeredBits;
+
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private int respondents;
+    private long sessionCount;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * @param questionIds 객관식 질문 ID (오름차순)
+     * @param optionIds 질문별 선택지 ID (오름차순, questionIds 와 같은 순서)
+     * @param sessionCount 답변 적재 직전에 읽은 설문 응답 수
+     */
+    public SurveyResponseCube(Long surveyId, long[] questionIds, long[][] optionIds, long sessionCount) {
+        this.surveyId = surveyId;
+        this.sessionCount = sessionCount;
+        this.questionIds = questionIds;
+        this.optionIds = optionIds;
+        this.optionBits = new BitSet[questionIds.length][];
+        this.answeredBits = new BitSet[questionIds.length];
+        for (int q = 0; q < questionIds.length; q++) {
+            optionBits[q] = new BitSet[optionIds[q].length];
+            for (int o = 0; o < optionIds[q].length; o++) {
+                optionBits[q][o] = new BitSet();
+            }
+            answeredBits[q] = new BitSet();
+        }
+    }
+
+    public Long getSurveyId() {
+        return surveyId;
+    }
+
+    /**
+     * 큐브 생성 시 DB 의 답변 row 1건 적재 (같은 세션의 row 는 여러 번 호출됨)
+     */
+    void load(String responseSessionId, long questionId, long optionId) {
+        add(ordinal(responseSessionId), questionId, optionId);
+    }
+
+    /**
+     * 커밋된 제출 1건 반영 (이미 적재된 세션이면 답변은 무시)
+     * 객관식 답변이 없는 제출도 응답 수에는 포함되므로 빈 목록으로 호출한다.
+     *
+     * @param answers [questionId, optionId] 목록
+     */
+    public void apply(String responseSessionId, List<long[]> answers) {
+        lock.writeLock().lock();
+        try {
+            sessionCount++;
+            if (ordinals.containsKey(responseSessionId)) {
+                return;
+            }
+            int ordinal = -1;
+            for (long[] answer : answers) {
+                if (Arrays.binarySearch(questionIds, answer[0]) < 0) {
+                    continue;
+                }
+                if (ordinal < 0) {
+                    ordinal = ordinal(responseSessionId);
+                }
+                add(ordinal, answer[0], answer[1]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 필터 조건에 일치하는 응답자의 질문별 선택지 분포
+     *
+     * @param filters 질문 인덱스 → 선택지 인덱스 목록 (같은 질문은 OR, 질문 간 AND)
+     * @param targetQuestions 분포를 계산할 질문 인덱스
+     */
+    public Distribution distribution(Map<Integer, int[]> filters, int[] targetQuestions) {
+        lock.readLock().lock();
+        try {
+            BitSet matched = new BitSet(respondents);
+            matched.set(0, respondents);
+            for (Map.Entry<Integer, int[]> filter : filters.entrySet()) {
+                BitSet union = new BitSet(respondents);
+                for (int option : filter.getValue()) {
+                    union.or(optionBits[filter.getKey()][option]);
+                }
+                matched.and(union);
+            }
+
+            long[][] optionCounts = new long[targetQuestions.length][];
+            long[] answered = new long[targetQuestions.length];
+            BitSet intersection = new BitSet(respondents);
+            for (int t = 0; t < targetQuestions.length; t++) {
+                int q = targetQuestions[t];
+                long[] counts = new long[optionIds[q].length];
+                for (int o = 0; o < counts.length; o++) {
+                    counts[o] = intersectionCount(intersection, matched, optionBits[q][o]);
+                }
+                optionCounts[t] = counts;
+                answered[t] = intersectionCount(intersection, matched, answeredBits[q]);
+            }
+            return new Distribution(respondents, matched.cardinality(), optionCounts, answered);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 질문 인덱스 (없으면 음수)
+     */
+    public int questionIndex(long questionId) {
+        return Arrays.binarySearch(questionIds, questionId);
+    }
+
+    /**
+     * @return 선택지 인덱스 (없으면 음수)
+     */
+    public int optionIndex(int questionIndex, long optionId) {
+        return Arrays.binarySearch(optionIds[questionIndex], optionId);
+    }
+
+    public long optionId(int questionIndex, int optionIndex) {
+        return optionIds[questionIndex][optionIndex];
+    }
+
+    public int getRespondents() {
+        lock.readLock().lock();
+        try {
+            return respondents;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 큐브가 반영한 설문 응답 수 (생성 시 응답 수 + 이후 반영한 제출 수)
+     * 생성 전에 커밋되었지만 반영 이벤트가 생성 후에 도착한 제출은 두 번 세어질 수 있으므로 근사값이다.
+     */
+    public long getSessionCount() {
+        lock.readLock().lock();
+        try {
+            return sessionCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 대략적인 메모리 사용량 (캐시 가중치용, byte)
+     */
+    public long estimatedBytes() {
+        long bytes = (long) respondents * 64; // ordinals 맵 항목 (UUID 문자열 포함)
+        for (int q = 0; q < questionIds.length; q++) {
+            bytes += (long) (optionIds[q].length + 1) * (respondents / Byte.SIZE + 1);
+        }
+        return bytes;
+    }
+
+    /**
+     * 필터 통계 결과 (targetQuestions 순서)
+     */
+    public static final class Distribution {
+        private final long totalRespondents;
+        private final long matchedRespondents;
+        private final long[][] optionCounts;
+        private final long[] answered;
+
+        private Distribution(long totalRespondents, long matchedRespondents, long[][] optionCounts, long[] answered) {
+            this.totalRespondents = totalRespondents;
+            this.matchedRespondents = matchedRespondents;
+            this.optionCounts = optionCounts;
+            this.answered = answered;
+        }
+
+        public long getTotalRespondents() {
+            return totalRespondents;
+        }
+
+        public long getMatchedRespondents() {
+            return matchedRespondents;
+        }
+
+        // [대상 질문][선택지 인덱스] = 응답 수
+        public long[] getOptionCounts(int target) {
+            return optionCounts[target];
+        }
+
+        // 대상 질문에 응답한 일치 응답자 수
+        public long getAnswered(int target) {
+            return answered[target];
+        }
+    }
+
+    private int ordinal(String responseSessionId) {
+        Integer ordinal = ordinals.get(responseSessionId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        ordinal = respondents++;
+        ordinals.put(responseSessionId, ordinal);
+        return ordinal;
+    }
+
+    private void add(int ordinal, long questionId, long optionId) {
+        int q = Arrays.binarySearch(questionIds, questionId);
+        if (q < 0) {
+            return;
+        }
+        int o = Arrays.binarySearch(optionIds[q], optionId);
+        if (o < 0) {
+            return;
+        }
+        optionBits[q][o].set(ordinal);
+        answeredBits[q].set(ordinal);
+    }
+
+    // cardinality(matched AND bits), scratch 는 질문/선택지마다 재사용
+    private static long intersectionCount(BitSet scratch, BitSet matched, BitSet bits) {
+        scratch.clear();
+        scratch.or(matched);
+        scratch.and(bits);
+        return scratch.cardinality();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.thinkfast.service.ai;
+
+import com.example.thinkfast.domain.survey.Question;
+import com.example.thinkfast.dto.survey.OptionDto;
+import com.example.thinkfast.dto.survey.QuestionDto;
+import com.example.thinkfast.repository.survey.ResponseJdbcRepository;
+import com.example.thinkfast.repository.survey.SurveySessionCountRepository;
+import com.example.thinkfast.service.survey.SurveySchema;
+import com.example.thinkfast.service.survey.SurveySchemaCache;
+import com.example.thinkfast.service.survey.event.ResponseSubmittedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 설문 응답 큐브 캐시 (Caffeine)
+ * - 교차 분석 요청이 처음 들어올 때 RESPONSES 의 객관식 답변을 스트리밍으로 읽어 큐브를 만든다.
+ * - 이후 커밋된 제출은 apply 로 큐브에 바로 반영한다. (캐시에 없는 설문은 무시, 다음 생성 시 DB 에서 읽음)
+ * - 같은 설문의 생성과 반영은 캐시 항목 단위로 직렬화되므로, 생성 중 커밋된 제출도 누락되지 않는다.
+ * - 큐브는 노드마다 따로 있으므로 다른 노드에서 커밋된 제출은 apply 되지 않는다. 조회 시 DB 의 설문 응답 수
+ *   (SURVEY_SESSION_COUNTS, 제출 트랜잭션에서 함께 증가)가 큐브의 응답 수보다 max-missing-sessions 넘게 크면 다시 생성하고,
+ *   생성 후 expire-after-write-minutes 가 지나면 조회와 관계없이 다시 생성한다.
+ * - 메모리 사용량(가중치) 상한과 미사용 만료로 정리된다.
+ */
+@Slf4j
+@Component
+public class SurveyResponseCubeCache {
+
+    private final SurveySchemaCache surveySchemaCache;
+    private final ResponseJdbcRepository responseJdbcRepository;
+    private final SurveySessionCountRepository surveySessionCountRepository;
+    private final MeterRegistry meterRegistry;
+    private final Counter staleRebuildCounter;
+
+    @Value("${survey.crosstab.maximum-weight-mb:256}")
+    private long maximumWeightMb;
+
+    @Value("${survey.crosstab.expire-after-access-minutes:15}")
+    private long expireAfterAccessMinutes;
+
+    @Value("${survey.crosstab.expire-after-write-minutes:60}")
+    private long expireAfterWriteMinutes;
+
+    @Value("${survey.crosstab.max-missing-sessions:100}")
+    private long maxMissingSessions;
+
+    private Cache<Long, SurveyResponseCube> cache;
+
+    public SurveyResponseCubeCache(SurveySchemaCache surveySchemaCache,
+                                   ResponseJdbcRepository responseJdbcRepository,
+                                   SurveySessionCountRepository surveySessionCountRepository,
+                                   MeterRegistry meterRegistry) {
+        this.surveySchemaCache = surveySchemaCache;
+        this.responseJdbcRepository = responseJdbcRepository;
+        this.surveySessionCountRepository = surveySessionCountRepository;
+        this.meterRegistry = meterRegistry;
+        this.staleRebuildCounter = Counter.builder("survey.crosstab.cube.stale")
+                .description("다른 노드의 제출이 누락되어 다시 생성한 응답 큐브 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightMb * 1024 * 1024)
+                .weigher((Long surveyId, SurveyResponseCube cube) -> (int) Math.min(Integer.MAX_VALUE, cube.estimatedBytes()))
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "surveyResponseCube");
+    }
+
+    /**
+     * 설문 응답 큐브 조회 (없거나 DB 응답 수보다 뒤처졌으면 생성)
+     */
+    public Optional<SurveyResponseCube> get(Long surveyId) {
+        Optional<SurveySchema> schema = surveySchemaCache.get(surveyId);
+        if (!schema.isPresent()) {
+            return Optional.empty();
+        }
+        SurveyResponseCube cube = cache.get(surveyId, id -> build(schema.get()));
+
+        long sessionCount = surveySessionCountRepository.findSessionCountBySurveyId(surveyId);
+        long missing = sessionCount - cube.getSessionCount();
+        if (missing <= maxMissingSessions) {
+            return Optional.of(cube);
+        }
+
+        log.info("[응답 큐브 갱신] 다른 노드 제출 누락: surveyId={}, cubeSessions={}, dbSessions={}",
+                surveyId, cube.getSessionCount(), sessionCount);
+        staleRebuildCounter.increment();
+        SurveyResponseCube stale = cube;
+        // 다른 요청이 이미 다시 생성했으면 그 큐브를 사용
+        return Optional.of(cache.asMap().compute(surveyId,
+                (id, current) -> current != null && current != stale ? current : build(schema.get())));
+    }
+
+    /**
+     * 커밋된 제출 반영 (캐시에 있는 큐브만, 반영 후 가중치 재계산)
+     * 객관식 답변이 없는 제출도 큐브의 응답 수를 맞추기 위해 반영한다.
+     */
+    public void apply(ResponseSubmittedEvent event) {
+        List<long[]> answers = new ArrayList<>(event.getAnswers().size());
+        for (ResponseSubmittedEvent.Answer answer : event.getAnswers()) {
+            if (answer.getQuestionId() != null && answer.getOptionId() != null) {
+                answers.add(new long[]{answer.getQuestionId(), answer.getOptionId()});
+            }
+        }
+        cache.asMap().computeIfPresent(event.getSurveyId(), (surveyId, cube) -> {
+            cube.apply(event.getResponseSessionId(), answers);
+            return cube;
+        });
+    }
+
+    private SurveyResponseCube build(SurveySchema schema) {
+        long start = System.currentTimeMillis();
+
+        List<QuestionDto> questions = schema.getQuestions().stream()
+                .filter(q -> q.getType() == Question.QuestionType.MULTIPLE_CHOICE)
+                .sorted(Comparator.comparing(QuestionDto::getId))
+                .collect(Collectors.toList());
+
+        long[] questionIds = new long[questions.size()];
+        long[][] optionIds = new long[questions.size()][];
+        for (int i = 0; i < questions.size(); i++) {
+            questionIds[i] = questions.get(i).getId();
+            optionIds[i] = questions.get(i).getOptions().stream()
+                    .mapToLong(OptionDto::getId)
+                    .sorted()
+                    .toArray();
+        }
+
+        // 답변보다 먼저 읽어, 적재 중 커밋된 제출은 이후 apply 로 세어지게 한다
+        long sessionCount = surveySessionCountRepository.findSessionCountBySurveyId(schema.getSurveyId());
+        SurveyResponseCube cube = new SurveyResponseCube(schema.getSurveyId(), questionIds, optionIds, sessionCount);
+        List<Long> questionIdList = questions.stream().map(QuestionDto::getId).collect(Collectors.toList());
+        responseJdbcRepository.forEachChoiceAnswer(questionIdList, cube::load);
+
+        log.info("[응답 큐브 생성] surveyId={}, questions={}, respondents={}, elapsedMs={}",
+                schema.getSurveyId(), questionIds.length, cube.getRespondents(), System.currentTimeMillis() - start);
+        return cube;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.thinkfast.service.ai;
+
+import com.example.thinkfast.dto.ai.QuestionStatisticsDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 설문 전체 통계 캐시 (Caffeine)
+ * 항목마다 계산 당시의 설문 응답 수(SURVEY_SESSION_COUNTS)를 함께 보관하고, 조회 시 현재 응답 수와 다르면 다시 계산한다.
+ * 응답 수는 제출 트랜잭션에서 함께 증가하므로, 어느 노드에서 제출되었든 다음 제출 전까지만 캐시가 사용된다.
+ */
+@Component
+public class SurveyStatisticsCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${survey.statistics-cache.maximum-size:2000}")
+    private long maximumSize;
+
+    @Value("${survey.statistics-cache.expire-after-access-minutes:30}")
+    private long expireAfterAccessMinutes;
+
+    private Cache<Long, Entry> cache;
+
+    public SurveyStatisticsCache(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "surveyStatistics");
+    }
+
+    /**
+     * 캐시된 통계 조회 (응답 수가 달라졌으면 다시 계산해 저장)
+     *
+     * @param sessionCount 현재 설문 응답 수
+     */
+    public List<QuestionStatisticsDto> get(Long surveyId, long sessionCount, Supplier<List<QuestionStatisticsDto>> loader) {
+        Entry entry = cache.getIfPresent(surveyId);
+        if (entry != null && entry.sessionCount == sessionCount) {
+            return entry.statistics;
+        }
+
+        List<QuestionStatisticsDto> statistics = loader.get();
+        cache.put(surveyId, new Entry(sessionCount, statistics));
+        return statistics;
+    }
+
+    private static final class Entry {
+        private final long sessionCount;
+        private final List<QuestionStatisticsDto> statistics;
+
+        private Entry(long sessionCount, List<QuestionStatisticsDto> statistics) {
+            this.sessionCount = sessionCount;
+            this.statistics = statistics;
+        }
+    }
+}
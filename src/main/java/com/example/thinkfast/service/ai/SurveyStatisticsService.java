@@ -2,13 +2,23 @@ package com.example.thinkfast.service.ai;
 
 import com.example.thinkfast.domain.survey.Option;
 import com.example.thinkfast.domain.survey.Question;
+import com.example.thinkfast.domain.survey.QuestionOptionCount;
 import com.example.thinkfast.domain.survey.Response;
+import com.example.thinkfast.dto.ai.CrossTabRequest;
+import com.example.thinkfast.dto.ai.CrossTabResponseDto;
 import com.example.thinkfast.dto.ai.OptionStatisticsDto;
 import com.example.thinkfast.dto.ai.QuestionStatisticsDto;
 import com.example.thinkfast.dto.ai.QuestionStatisticsResponseDto;
+import com.example.thinkfast.dto.survey.OptionDto;
+import com.example.thinkfast.dto.survey.QuestionDto;
+import com.example.thinkfast.dto.survey.QuestionResponseCounts;
 import com.example.thinkfast.repository.survey.OptionRepository;
+import com.example.thinkfast.repository.survey.QuestionOptionCountRepository;
 import com.example.thinkfast.repository.survey.QuestionRepository;
-import com.example.thinkfast.repository.survey.ResponseRepository;
+import com.example.thinkfast.repository.survey.SurveySessionCountRepository;
+import com.example.thinkfast.service.survey.ResponseCountStore;
+import com.example.thinkfast.service.survey.SurveySchema;
+import com.example.thinkfast.service.survey.SurveySchemaCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,15 +29,21 @@ import java.util.stream.Collectors;
 
 /**
  * 설문 통계 집계 서비스
+ * 응답 수는 ResponseCountStore 의 카운터에서 읽으므로 조회마다 RESPONSES 를 집계하지 않는다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SurveyStatisticsService {
 
-    private final ResponseRepository responseRepository;
+    private final ResponseCountStore responseCountStore;
     private final QuestionRepository questionRepository;
     private final OptionRepository optionRepository;
+    private final QuestionOptionCountRepository questionOptionCountRepository;
+    private final SurveySessionCountRepository surveySessionCountRepository;
+    private final SurveySchemaCache surveySchemaCache;
+    private final SurveyStatisticsCache surveyStatisticsCache;
+    private final SurveyResponseCubeCache surveyResponseCubeCache;
 
     /**
      * 객관식 질문별 주요 응답 옵션 추출 및 통계 집계
@@ -45,8 +61,9 @@ public class SurveyStatisticsService {
             throw new IllegalArgumentException("객관식 질문만 통계를 제공할 수 있습니다: " + questionId);
         }
 
-        // 전체 응답 수 조회 (중복 제거된 세션 수)
-        Long totalResponses = responseRepository.countDistinctResponseSessionsByQuestionId(questionId);
+        // 전체 응답 수 및 옵션별 응답 수 조회 (카운터)
+        QuestionResponseCounts counts = responseCountStore.getCounts(questionId);
+        Long totalResponses = counts.getTotalResponses();
 
         // 옵션 정보 조회 (응답이 없을 때도 빈 통계를 위해 필요)
         List<Option> options = optionRepository.findByQuestionIdOrderByIdAsc(questionId);
@@ -66,19 +83,10 @@ public class SurveyStatisticsService {
             );
         }
 
-        // 옵션별 응답 수 집계
-        List<Object[]> optionCounts = responseRepository.countByQuestionIdAndOptionId(questionId);
-
         // 옵션별 통계 생성
         List<OptionStatisticsDto> optionStatistics = new ArrayList<>();
-        Map<Long, Long> optionCountMap = optionCounts.stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> (Long) arr[1]
-                ));
-
         for (Option option : options) {
-            Long count = optionCountMap.getOrDefault(option.getId(), 0L);
+            Long count = counts.getOptionCount(option.getId());
             Double percent = totalResponses > 0 
                     ? (count.doubleValue() / totalResponses.doubleValue()) * 100.0 
                     : 0.0;
@@ -108,25 +116,157 @@ public class SurveyStatisticsService {
 
     /**
      * 설문의 모든 객관식 질문별 통계 집계
+     * 질문/선택지는 설문 스키마 캐시에서, 응답 수는 집계 테이블 IN 조회 1회로 가져와 메모리에서 조립한다.
+     * 결과는 설문 응답 수가 바뀔 때까지(다음 제출 전까지) SurveyStatisticsCache 에 보관된다.
      *
      * @param surveyId 설문 ID
-     * @return 질문별 통계 리스트
+     * @return 질문별 통계 리스트 (orderIndex 순)
      */
     @Transactional(readOnly = true)
     public List<QuestionStatisticsDto> getSurveyStatistics(Long surveyId) {
-        // 설문의 모든 질문 조회
-        List<Question> questions = questionRepository.findBySurveyId(surveyId);
+        Optional<SurveySchema> schema = surveySchemaCache.get(surveyId);
+        if (!schema.isPresent()) {
+            return Collections.emptyList();
+        }
 
-        // 객관식 질문만 필터링
-        List<Question> multipleChoiceQuestions = questions.stream()
+        long sessionCount = surveySessionCountRepository.findSessionCountBySurveyId(surveyId);
+        return surveyStatisticsCache.get(surveyId, sessionCount, () -> buildSurveyStatistics(schema.get()));
+    }
+
+    private List<QuestionStatisticsDto> buildSurveyStatistics(SurveySchema schema) {
+        // 객관식 질문만 필터링 (스키마의 질문 목록은 orderIndex 순)
+        List<QuestionDto> multipleChoiceQuestions = schema.getQuestions().stream()
                 .filter(q -> q.getType() == Question.QuestionType.MULTIPLE_CHOICE)
-                .sorted(Comparator.comparing(Question::getOrderIndex))
                 .collect(Collectors.toList());
+        if (multipleChoiceQuestions.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 질문별 전체 응답 수 / 선택지별 응답 수
+        List<Long> questionIds = multipleChoiceQuestions.stream().map(QuestionDto::getId).collect(Collectors.toList());
+        Map<Long, Long> totalCounts = new HashMap<>();
+        Map<Long, Long> optionCounts = new HashMap<>();
+        for (QuestionOptionCount row : questionOptionCountRepository.findByQuestionIdIn(questionIds)) {
+            if (row.isTotal()) {
+                totalCounts.put(row.getQuestionId(), row.getResponseCount());
+            } else {
+                optionCounts.put(row.getOptionId(), row.getResponseCount());
+            }
+        }
 
-        // 각 질문별 통계 집계
-        return multipleChoiceQuestions.stream()
-                .map(question -> getQuestionStatistics(question.getId()))
+        List<QuestionStatisticsDto> statistics = new ArrayList<>(multipleChoiceQuestions.size());
+        for (QuestionDto question : multipleChoiceQuestions) {
+            long totalResponses = totalCounts.getOrDefault(question.getId(), 0L);
+
+            List<OptionStatisticsDto> optionStatistics = new ArrayList<>(question.getOptions().size());
+            for (OptionDto option : question.getOptions()) {
+                long count = totalResponses > 0 ? optionCounts.getOrDefault(option.getId(), 0L) : 0L;
+                double percent = totalResponses > 0 ? (double) count / totalResponses * 100.0 : 0.0;
+                optionStatistics.add(new OptionStatisticsDto(
+                        option.getId(),
+                        option.getContent(),
+                        count,
+                        Math.round(percent * 100.0) / 100.0 // 소수점 둘째 자리까지
+                ));
+            }
+
+            // 응답이 없으면 topOption 없음 (getQuestionStatistics 와 동일)
+            OptionStatisticsDto topOption = totalResponses > 0
+                    ? optionStatistics.stream().max(Comparator.comparing(OptionStatisticsDto::getCount)).orElse(null)
+                    : null;
+
+            statistics.add(new QuestionStatisticsDto(
+                    question.getId(),
+                    question.getType().toString(),
+                    question.getContent(),
+                    totalResponses,
+                    Collections.unmodifiableList(optionStatistics),
+                    topOption
+            ));
+        }
+        return Collections.unmodifiableList(statistics);
+    }
+
+    /**
+     * 교차 분석 (필터 조건을 만족하는 응답자의 질문별 선택지 분포)
+     * 예) "Q1 에서 선택지 X 를 고른 응답자는 Q3 에 어떻게 답했는가"
+     * 메모리 내 응답 큐브의 BitSet 연산으로 계산하므로 RESPONSES 를 조회하지 않는다. (큐브 최초 생성 시 제외)
+     *
+     * @param surveyId 설문 ID
+     * @param request 필터 조건 및 대상 질문
+     * @return 필터 적용 통계 (설문이 없으면 null)
+     * @throws IllegalArgumentException 설문의 객관식 질문/선택지가 아닌 조건이 포함된 경우
+     */
+    public CrossTabResponseDto getCrossTabStatistics(Long surveyId, CrossTabRequest request) {
+        Optional<SurveySchema> schema = surveySchemaCache.get(surveyId);
+        Optional<SurveyResponseCube> cubeOpt = surveyResponseCubeCache.get(surveyId);
+        if (!schema.isPresent() || !cubeOpt.isPresent()) {
+            return null;
+        }
+        SurveyResponseCube cube = cubeOpt.get();
+
+        // 1. 필터 조건 → 질문/선택지 인덱스
+        Map<Integer, int[]> filters = new HashMap<>();
+        if (request.getFilters() != null) {
+            for (CrossTabRequest.Filter filter : request.getFilters()) {
+                int questionIndex = filter.getQuestionId() != null ? cube.questionIndex(filter.getQuestionId()) : -1;
+                if (questionIndex < 0 || filter.getOptionIds() == null || filter.getOptionIds().isEmpty()) {
+                    throw new IllegalArgumentException("객관식 질문/선택지만 필터로 사용할 수 있습니다: questionId=" + filter.getQuestionId());
+                }
+                int[] optionIndexes = new int[filter.getOptionIds().size()];
+                for (int i = 0; i < optionIndexes.length; i++) {
+                    Long optionId = filter.getOptionIds().get(i);
+                    optionIndexes[i] = optionId != null ? cube.optionIndex(questionIndex, optionId) : -1;
+                    if (optionIndexes[i] < 0) {
+                        throw new IllegalArgumentException("질문에 없는 선택지입니다: questionId=" + filter.getQuestionId() + ", optionId=" + optionId);
+                    }
+                }
+                // 같은 질문이 여러 번 오면 선택지를 합친다 (OR)
+                filters.merge(questionIndex, optionIndexes, (a, b) -> {
+                    int[] merged = Arrays.copyOf(a, a.length + b.length);
+                    System.arraycopy(b, 0, merged, a.length, b.length);
+                    return merged;
+                });
+            }
+        }
+
+        // 2. 대상 질문 (orderIndex 순, 지정하지 않으면 전체 객관식 질문)
+        Set<Long> requested = request.getQuestionIds() == null || request.getQuestionIds().isEmpty()
+                ? null : new HashSet<>(request.getQuestionIds());
+        List<QuestionDto> targets = schema.get().getQuestions().stream()
+                .filter(q -> q.getType() == Question.QuestionType.MULTIPLE_CHOICE)
+                .filter(q -> requested == null || requested.contains(q.getId()))
                 .collect(Collectors.toList());
+        if (requested != null && targets.size() != requested.size()) {
+            throw new IllegalArgumentException("객관식 질문만 통계 대상으로 지정할 수 있습니다: questionIds=" + request.getQuestionIds());
+        }
+        int[] targetIndexes = targets.stream().mapToInt(q -> cube.questionIndex(q.getId())).toArray();
+
+        // 3. 큐브 집계 후 DTO 조립
+        SurveyResponseCube.Distribution distribution = cube.distribution(filters, targetIndexes);
+        List<QuestionStatisticsDto> questions = new ArrayList<>(targets.size());
+        for (int t = 0; t < targets.size(); t++) {
+            QuestionDto question = targets.get(t);
+            long answered = distribution.getAnswered(t);
+            long[] counts = distribution.getOptionCounts(t);
+
+            List<OptionStatisticsDto> optionStatistics = new ArrayList<>(question.getOptions().size());
+            for (OptionDto option : question.getOptions()) {
+                int optionIndex = cube.optionIndex(targetIndexes[t], option.getId());
+                long count = optionIndex >= 0 ? counts[optionIndex] : 0L;
+                double percent = answered > 0 ? (double) count / answered * 100.0 : 0.0;
+                optionStatistics.add(new OptionStatisticsDto(
+                        option.getId(), option.getContent(), count, Math.round(percent * 100.0) / 100.0));
+            }
+
+            OptionStatisticsDto topOption = answered > 0
+                    ? optionStatistics.stream().max(Comparator.comparing(OptionStatisticsDto::getCount)).orElse(null)
+                    : null;
+            questions.add(new QuestionStatisticsDto(
+                    question.getId(), question.getType().toString(), question.getContent(), answered, optionStatistics, topOption));
+        }
+
+        return new CrossTabResponseDto(distribution.getTotalRespondents(), distribution.getMatchedRespondents(), questions);
     }
 
     /**
@@ -150,17 +290,9 @@ public class SurveyStatisticsService {
      */
     @Transactional(readOnly = true)
     public OptionStatisticsDto getFirstQuestionTopOption(Long surveyId) {
-        List<Question> questions = questionRepository.findBySurveyId(surveyId);
-
-        Optional<Question> firstMultipleChoiceQuestion = questions.stream()
-                .filter(q -> q.getType() == Question.QuestionType.MULTIPLE_CHOICE)
-                .min(Comparator.comparing(Question::getOrderIndex));
-
-        if (firstMultipleChoiceQuestion.isPresent()) {
-            return getTopOption(firstMultipleChoiceQuestion.get().getId());
-        }
-
-        return null;
+        // 설문 전체 통계(orderIndex 순)의 첫 번째 객관식 질문
+        List<QuestionStatisticsDto> statistics = getSurveyStatistics(surveyId);
+        return statistics.isEmpty() ? null : statistics.get(0).getTopOption();
     }
 
     /**
@@ -180,7 +312,7 @@ public class SurveyStatisticsService {
         }
 
         // 전체 응답 수 조회 (중복 제거된 세션 수)
-        return responseRepository.countDistinctResponseSessionsByQuestionId(questionId);
+        return responseCountStore.getCounts(questionId).getTotalResponses();
     }
 
     /**
@@ -203,7 +335,8 @@ public class SurveyStatisticsService {
 
         if (question.getType() == Question.QuestionType.MULTIPLE_CHOICE) {
             // 객관식 질문 통계
-            Long totalResponses = responseRepository.countDistinctResponseSessionsByQuestionId(questionId);
+            QuestionResponseCounts counts = responseCountStore.getCounts(questionId);
+            Long totalResponses = counts.getTotalResponses();
 
             // 응답이 없으면 빈 통계 데이터 반환 (200 OK로 응답)
             if (totalResponses == null || totalResponses == 0) {
@@ -214,22 +347,13 @@ public class SurveyStatisticsService {
                 return response;
             }
 
-            // 옵션별 응답 수 집계
-            List<Object[]> optionCounts = responseRepository.countByQuestionIdAndOptionId(questionId);
-
             // 옵션 정보 조회
             List<Option> options = optionRepository.findByQuestionIdOrderByIdAsc(questionId);
 
             // 옵션별 통계 생성
             List<QuestionStatisticsResponseDto.OptionStatistics> optionStatistics = new ArrayList<>();
-            Map<Long, Long> optionCountMap = optionCounts.stream()
-                    .collect(Collectors.toMap(
-                            arr -> (Long) arr[0],
-                            arr -> (Long) arr[1]
-                    ));
-
             for (Option option : options) {
-                Long count = optionCountMap.getOrDefault(option.getId(), 0L);
+                Long count = counts.getOptionCount(option.getId());
                 Double percent = totalResponses > 0
                         ? (count.doubleValue() / totalResponses.doubleValue()) * 100.0
                         : 0.0;
@@ -252,10 +376,10 @@ public class SurveyStatisticsService {
 
         } else if (question.getType() == Question.QuestionType.SUBJECTIVE) {
             // 주관식 질문 통계 (전체 응답 수만)
-            Long totalResponses = responseRepository.countDistinctResponseSessionsByQuestionId(questionId);
+            Long totalResponses = responseCountStore.getCounts(questionId).getTotalResponses();
 
             // 응답이 없어도 빈 데이터 반환 (200 OK로 응답)
-            statistics.setTotalResponses(totalResponses != null ? totalResponses : 0L);
+            statistics.setTotalResponses(totalResponses);
             // options 필드는 null 또는 빈 리스트로 설정되지 않음 (필드 자체를 포함하지 않음)
             statistics.setOptions(null);
         } else {
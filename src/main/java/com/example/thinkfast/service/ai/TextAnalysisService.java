@@ -1,9 +1,11 @@
 package com.example.thinkfast.service.ai;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -234,6 +236,19 @@ public class TextAnalysisService {
         return keywords;
     }
 
+    /**
+     * 텍스트에서 상위 N개 키워드 추출 (analysisExecutor)
+     * 응답 전체를 합친 텍스트를 정규식으로 처리하는 CPU 작업이므로, LLM 호출 스레드 대신 코어 수만큼의 전용 실행기에서 실행한다.
+     *
+     * @param text 원본 텍스트
+     * @param topN 상위 N개
+     * @return 상위 N개 키워드와 빈도수 리스트
+     */
+    @Async("analysisExecutor")
+    public CompletableFuture<List<Map.Entry<String, Integer>>> getTopKeywordsAsync(String text, int topN) {
+        return CompletableFuture.completedFuture(getTopKeywords(extractKeywords(text), topN));
+    }
+
     /**
      * 키워드 빈도수 계산
      *
@@ -1,22 +1,29 @@
 package com.example.thinkfast.service.ai;
 
+import com.example.thinkfast.common.logger.ReactorMdc;
 import com.example.thinkfast.domain.ai.WordCloud;
 import com.example.thinkfast.domain.survey.Question;
 import com.example.thinkfast.domain.survey.Response;
 import com.example.thinkfast.dto.ai.WordCloudDto;
 import com.example.thinkfast.dto.ai.WordCloudResponseDto;
+import com.example.thinkfast.dto.survey.QuestionDto;
 import com.example.thinkfast.exception.AiServiceException;
 import com.example.thinkfast.repository.ai.WordCloudRepository;
 import com.example.thinkfast.repository.survey.QuestionRepository;
 import com.example.thinkfast.repository.survey.ResponseRepository;
+import com.example.thinkfast.service.survey.CountMode;
+import com.example.thinkfast.service.survey.RespondentCountService;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.util.*;
 import java.util.regex.Matcher;
@@ -33,14 +40,23 @@ public class WordCloudService {
 
     private final ResponseRepository responseRepository;
     private final QuestionRepository questionRepository;
+    private final RespondentCountService respondentCountService;
+    private final ReportFanOutExecutor reportFanOutExecutor;
+    private final ReportWriter reportWriter;
     private final TextAnalysisService textAnalysisService;
     private final WordCloudRepository wordCloudRepository;
     private final ObjectMapper objectMapper;
     private final GeminiApiService geminiApiService;
+    private final PromptSamplePolicy promptSamplePolicy;
+    private final Scheduler persistenceScheduler;
 
     @Value("${llm.wordcloud.enabled:true}")
     private boolean llmWordCloudEnabled;
 
+    // Gemini 요청 1회에 묶는 최대 질문 수 (1 이면 질문마다 요청)
+    @Value("${llm.wordcloud.batch-size:4}")
+    private int batchSize;
+
     /**
      * 질문별 워드클라우드 생성 (Gemini API 기반, 실패 시 Java 기반 폴백)
      *
@@ -66,9 +82,22 @@ public class WordCloudService {
                 .filter(content -> !content.trim().isEmpty())
                 .collect(Collectors.toList());
 
+        // 프롬프트용 응답 샘플 (응답 ID 순 = 제출 순)
+        ResponseSampler sampler = promptSamplePolicy.newSampler(questionId);
+        responses.forEach(response -> sampler.add(response.getId(), response.getSubjectiveContent()));
+
         // 전체 응답 수 (중복 제거된 세션 수)
-        Long totalResponses = responseRepository.countDistinctResponseSessionsByQuestionId(questionId);
+        Long totalResponses = respondentCountService.countQuestionRespondents(questionId, CountMode.EXACT);
+
+        return buildWordCloud(questionId, question.getContent(), subjectiveContents, sampler.sample(), totalResponses, topN);
+    }
 
+    private WordCloudResponseDto buildWordCloud(Long questionId,
+                                                String questionContent,
+                                                List<String> subjectiveContents,
+                                                List<ResponseSampler.SampledResponse> samples,
+                                                Long totalResponses,
+                                                int topN) {
         // 응답이 없으면 빈 워드클라우드 반환 (200 OK로 응답)
         if (totalResponses == null || totalResponses == 0 || subjectiveContents.isEmpty()) {
             return new WordCloudResponseDto(questionId, Collections.emptyList(), 0L);
@@ -79,8 +108,8 @@ public class WordCloudService {
             try {
                 List<WordCloudDto> llmKeywords = generateWordCloudWithGemini(
                         questionId,
-                        question.getContent(),
-                        subjectiveContents,
+                        questionContent,
+                        samples,
                         totalResponses,
                         topN
                 );
@@ -100,25 +129,232 @@ public class WordCloudService {
         return generateWordCloudWithJava(questionId, subjectiveContents, totalResponses, topN);
     }
 
+    /**
+     * 설문 데이터 스냅샷으로 여러 질문의 워드클라우드를 한 번에 생성 (응답을 다시 조회하지 않음)
+     * 응답이 있는 질문들은 Gemini 요청 1회(JSON 출력)로 키워드를 추출하고,
+     * 결과가 없거나 파싱되지 않은 질문만 Java 기반(analysisExecutor)으로 폴백한다.
+     * Gemini 응답을 기다리는 동안 스레드를 점유하지 않는다.
+     *
+     * @param context 설문 데이터 스냅샷
+     * @param questionIds 질문 ID 목록 (주관식)
+     * @param topN 질문별 상위 N개 키워드
+     * @return questionId → 워드클라우드 응답 DTO (입력 순서)
+     */
+    public Mono<Map<Long, WordCloudResponseDto>> generateWordClouds(SurveyAnalysisContext context, List<Long> questionIds, int topN) {
+        return ReactorMdc.defer(() -> {
+            Map<Long, WordCloudResponseDto> results = new LinkedHashMap<>();
+            List<QuestionDto> pending = new ArrayList<>();
+            for (Long questionId : questionIds) {
+                QuestionDto question = context.getQuestion(questionId);
+                if (question.getType() != Question.QuestionType.SUBJECTIVE) {
+                    throw new IllegalArgumentException("주관식 질문만 워드클라우드를 생성할 수 있습니다: " + questionId);
+                }
+                if (context.getRespondentCount(questionId) == 0 || context.getSubjectiveContents(questionId).isEmpty()) {
+                    // 응답이 없으면 빈 워드클라우드
+                    results.put(questionId, new WordCloudResponseDto(questionId, Collections.emptyList(), 0L));
+                } else {
+                    results.put(questionId, null);
+                    pending.add(question);
+                }
+            }
+
+            if (pending.isEmpty()) {
+                return Mono.just(results);
+            }
+
+            return generateKeywordsWithGemini(context, pending, topN)
+                    .flatMap(llmKeywords -> Flux.fromIterable(pending)
+                            .concatMap(question -> toWordCloud(context, question.getId(), llmKeywords.get(question.getId()), topN))
+                            .doOnNext(wordCloud -> results.put(wordCloud.getQuestionId(), wordCloud))
+                            .then(Mono.fromCallable(() -> results)));
+        });
+    }
+
+    /**
+     * 질문들의 키워드를 Gemini 로 추출 (질문이 하나면 단건 프롬프트, 여러 개면 묶음 프롬프트)
+     *
+     * @return questionId → 키워드 리스트 (비활성화/호출/파싱 실패 시 빈 맵)
+     */
+    private Mono<Map<Long, List<WordCloudDto>>> generateKeywordsWithGemini(SurveyAnalysisContext context,
+                                                                          List<QuestionDto> questions,
+                                                                          int topN) {
+        if (!llmWordCloudEnabled) {
+            return Mono.just(Collections.emptyMap());
+        }
+
+        if (questions.size() == 1) {
+            QuestionDto question = questions.get(0);
+            Long questionId = question.getId();
+            return generateWordCloudWithGeminiAsync(questionId, question.getContent(),
+                    context.getSubjectiveSample(questionId), context.getRespondentCount(questionId), topN)
+                    .map(keywords -> Collections.singletonMap(questionId, keywords))
+                    .defaultIfEmpty(Collections.emptyMap());
+        }
+
+        List<Long> questionIds = questions.stream().map(QuestionDto::getId).collect(Collectors.toList());
+        // 키워드가 있는 질문이 하나라도 있어야 캐시에 저장 (나머지 질문은 Java 기반 폴백)
+        return ReactorMdc.defer(() -> geminiApiService.generateTextAsync(buildBatchWordCloudPrompt(context, questions, topN),
+                        raw -> Optional.of(parseBatchWordCloudKeywords(raw, questionIds, topN))
+                                .filter(parsed -> parsed.values().stream().anyMatch(keywords -> !keywords.isEmpty()))))
+                .doOnEach(ReactorMdc.onNext(keywords -> log.info("Gemini API 기반 워드클라우드 묶음 생성: questionIds={}, 파싱된 질문 수={}",
+                        questionIds, keywords.size())))
+                .doOnEach(ReactorMdc.onError(e -> {
+                    if (e instanceof AiServiceException) {
+                        log.warn("Gemini API 묶음 호출 실패: questionIds={}, reason={}", questionIds, e.getMessage());
+                    } else {
+                        log.warn("Gemini API 기반 묶음 키워드 추출 중 예외 발생: questionIds={}", questionIds, e);
+                    }
+                }))
+                .onErrorResume(e -> Mono.just(Collections.emptyMap()));
+    }
+
+    /**
+     * Gemini 키워드가 있으면 그대로, 없으면 Java 기반으로 워드클라우드 생성
+     * Gemini 응답을 받은 이벤트 루프에서 호출되므로, 폴백 작업 제출은 persistenceScheduler 로 옮겨서 한다.
+     * (analysisExecutor 가 가득 차 CallerRuns 로 실행되더라도 이벤트 루프를 막지 않음)
+     */
+    private Mono<WordCloudResponseDto> toWordCloud(SurveyAnalysisContext context, Long questionId,
+                                                   List<WordCloudDto> llmKeywords, int topN) {
+        long totalResponses = context.getRespondentCount(questionId);
+        if (llmKeywords != null && !llmKeywords.isEmpty()) {
+            return Mono.just(new WordCloudResponseDto(questionId, llmKeywords, totalResponses));
+        }
+
+        return ReactorMdc.defer(() -> {
+            if (llmWordCloudEnabled) {
+                log.warn("Gemini API 결과에 질문 키워드 없음, Java 기반으로 폴백: questionId={}", questionId);
+            }
+            return generateWordCloudWithJavaAsync(questionId, context.getSubjectiveContents(questionId), totalResponses, topN);
+        }).subscribeOn(persistenceScheduler);
+    }
+
+    /**
+     * 여러 질문용 Gemini API 프롬프트 생성 (JSON 출력)
+     */
+    private String buildBatchWordCloudPrompt(SurveyAnalysisContext context, List<QuestionDto> questions, int topN) {
+        // 샘플 토큰 예산은 묶음 전체 기준 (질문 수로 나눔)
+        int tokenBudget = promptSamplePolicy.getTokenBudget() / questions.size();
+        StringBuilder questionsText = new StringBuilder();
+        for (QuestionDto question : questions) {
+            String joined = String.join("\n",
+                    promptSamplePolicy.toBullets(context.getSubjectiveSample(question.getId()), tokenBudget));
+            questionsText.append(String.format(
+                    "[질문 ID: %d]\n" +
+                            "질문 내용: %s\n" +
+                            "- 총 응답 수: %d\n" +
+                            "- 응답 샘플:\n%s\n\n",
+                    question.getId(),
+                    question.getContent() != null ? question.getContent() : "질문 내용 없음",
+                    context.getRespondentCount(question.getId()),
+                    joined));
+        }
+
+        return String.format(
+                "역할: 한국어 설문 분석가. 아래 각 질문의 내용과 응답을 분석하여 질문별로 가장 연관된 키워드를 추출하라.\n" +
+                        "\n" +
+                        "규칙:\n" +
+                        "- 질문마다 따로 분석하고, 다른 질문의 응답을 섞지 말 것\n" +
+                        "- 질문의 의도와 목적을 고려하여 관련성 높은 키워드만 추출\n" +
+                        "- 응답에서 실제로 언급된 단어/구문을 우선 추출\n" +
+                        "- 일반적인 불필요한 단어(예: '입니다', '있습니다' 등) 제외\n" +
+                        "- 키워드는 명사, 명사구 위주로 추출\n" +
+                        "- count 는 해당 키워드가 그 질문의 응답에서 언급된 횟수 ('(유사 응답 N건)' 표시는 같은 내용의 응답 N건)\n" +
+                        "- 질문마다 최대 %d개의 키워드만 추출\n" +
+                        "- 출력은 아래 JSON 형식만 사용 (설명, 코드 블록 없이)\n" +
+                        "{\"results\":[{\"questionId\":질문 ID,\"keywords\":[{\"word\":\"키워드\",\"count\":빈도수}]}]}\n" +
+                        "\n" +
+                        "질문 목록:\n" +
+                        "%s" +
+                        "위 정보를 바탕으로 모든 질문의 키워드를 JSON 으로 출력하라.",
+                topN,
+                questionsText
+        );
+    }
+
+    /**
+     * 묶음 응답(JSON) 파싱
+     * 요청하지 않은 질문 ID, 빈 키워드, 0 이하 빈도수는 버린다.
+     */
+    private Map<Long, List<WordCloudDto>> parseBatchWordCloudKeywords(String raw, List<Long> questionIds, int maxCount)
+            throws JsonProcessingException {
+        Map<Long, List<WordCloudDto>> result = new HashMap<>();
+        if (raw == null) {
+            return result;
+        }
+
+        // 코드 블록 등 JSON 바깥 텍스트 제거
+        int start = raw.indexOf('{');
+        int end = raw.lastIndexOf('}');
+        if (start < 0 || end <= start) {
+            return result;
+        }
+
+        JsonNode results = objectMapper.readTree(raw.substring(start, end + 1)).path("results");
+        for (JsonNode item : results) {
+            long questionId = item.path("questionId").asLong(-1L);
+            if (!questionIds.contains(questionId)) {
+                continue;
+            }
+
+            List<WordCloudDto> keywords = new ArrayList<>();
+            for (JsonNode keyword : item.path("keywords")) {
+                String word = keyword.path("word").asText("").trim();
+                int count = keyword.path("count").asInt(0);
+                if (!word.isEmpty() && count > 0) {
+                    keywords.add(new WordCloudDto(word, count));
+                }
+            }
+
+            // 빈도수 기준 내림차순 정렬
+            keywords.sort((a, b) -> b.getCount().compareTo(a.getCount()));
+            result.put(questionId, keywords.size() > maxCount ? new ArrayList<>(keywords.subList(0, maxCount)) : keywords);
+        }
+        return result;
+    }
+
+    /**
+     * Gemini API를 사용하여 질문과 연관된 키워드를 추출합니다. (비동기)
+     *
+     * @return 키워드 리스트 (실패 시 빈 Mono)
+     */
+    private Mono<List<WordCloudDto>> generateWordCloudWithGeminiAsync(Long questionId,
+                                                                      String questionContent,
+                                                                      List<ResponseSampler.SampledResponse> samples,
+                                                                      Long totalResponses,
+                                                                      int topN) {
+        return ReactorMdc.defer(() -> geminiApiService.generateTextAsync(
+                        buildWordCloudPrompt(questionContent, promptSamplePolicy.toBullets(samples), totalResponses, topN),
+                        raw -> nonEmpty(parseWordCloudKeywords(raw, topN))))
+                .doOnEach(ReactorMdc.onNext(keywords -> log.info("Gemini API 기반 워드클라우드 생성 성공: questionId={}, 키워드 수={}",
+                        questionId, keywords.size())))
+                .doOnEach(ReactorMdc.onError(e -> {
+                    if (e instanceof AiServiceException) {
+                        log.warn("Gemini API 호출 실패: questionId={}, reason={}", questionId, e.getMessage());
+                    } else {
+                        log.warn("Gemini API 기반 키워드 추출 중 예외 발생: questionId={}", questionId, e);
+                    }
+                }))
+                .onErrorResume(e -> Mono.empty());
+    }
+
     /**
      * Gemini API를 사용하여 질문과 연관된 키워드를 추출합니다.
      *
      * @param questionId 질문 ID
      * @param questionContent 질문 내용
-     * @param responses 주관식 응답 리스트
+     * @param samples 주관식 응답 샘플 (우선순위 순)
      * @param totalResponses 총 응답 수
      * @param topN 상위 N개 키워드
      * @return 키워드 리스트 (실패 시 null)
      */
     private List<WordCloudDto> generateWordCloudWithGemini(Long questionId,
                                                            String questionContent,
-                                                           List<String> responses,
+                                                           List<ResponseSampler.SampledResponse> samples,
                                                            Long totalResponses,
                                                            int topN) {
         try {
-            String prompt = buildWordCloudPrompt(questionContent, responses, totalResponses, topN);
-            String raw = geminiApiService.generateText(prompt);
-            return parseWordCloudKeywords(raw, topN);
+            String prompt = buildWordCloudPrompt(questionContent, promptSamplePolicy.toBullets(samples), totalResponses, topN);
+            return geminiApiService.generateText(prompt, raw -> nonEmpty(parseWordCloudKeywords(raw, topN)));
         } catch (AiServiceException e) {
             log.warn("Gemini API 호출 실패: questionId={}, reason={}", questionId, e.getMessage());
             return null;
@@ -132,19 +368,15 @@ public class WordCloudService {
      * Gemini API용 프롬프트 생성
      */
     private String buildWordCloudPrompt(String questionContent,
-                                        List<String> responses,
+                                        List<String> sampleBullets,
                                         Long totalResponses,
                                         int topN) {
-        // 응답 샘플 (최대 30개)
+        // 응답 샘플 (토큰 예산 안의 대표 샘플, 거의 같은 응답은 건수로 표시)
         String samplesText;
-        if (responses == null || responses.isEmpty()) {
+        if (sampleBullets == null || sampleBullets.isEmpty()) {
             samplesText = "- 응답 샘플: 없음";
         } else {
-            String joined = responses.stream()
-                    .limit(30)
-                    .map(s -> "• " + s)
-                    .collect(Collectors.joining("\n"));
-            samplesText = "- 응답 샘플:\n" + joined;
+            samplesText = "- 응답 샘플:\n" + String.join("\n", sampleBullets);
         }
 
         return String.format(
@@ -155,7 +387,7 @@ public class WordCloudService {
                         "- 응답에서 실제로 언급된 단어/구문을 우선 추출\n" +
                         "- 일반적인 불필요한 단어(예: '입니다', '있습니다' 등) 제외\n" +
                         "- 키워드는 명사, 명사구 위주로 추출\n" +
-                        "- 빈도수는 해당 키워드가 응답에서 언급된 횟수\n" +
+                        "- 빈도수는 해당 키워드가 응답에서 언급된 횟수 ('(유사 응답 N건)' 표시는 같은 내용의 응답 N건)\n" +
                         "- 출력 형식: \"키워드1:빈도수, 키워드2:빈도수, ...\" (쉼표로 구분)\n" +
                         "- 최대 %d개의 키워드만 추출\n" +
                         "\n" +
@@ -206,6 +438,11 @@ public class WordCloudService {
         return keywords;
     }
 
+    // 키워드가 하나도 없으면 해석 실패로 보고 캐시에 저장하지 않음
+    private static Optional<List<WordCloudDto>> nonEmpty(List<WordCloudDto> keywords) {
+        return keywords.isEmpty() ? Optional.empty() : Optional.of(keywords);
+    }
+
     /**
      * Java 기반 키워드 추출 (폴백)
      */
@@ -216,12 +453,27 @@ public class WordCloudService {
         // 모든 응답을 하나의 텍스트로 합치기
         String combinedText = String.join(" ", subjectiveContents);
 
-        // 키워드 추출 및 빈도수 계산
-        List<String> keywords = textAnalysisService.extractKeywords(combinedText);
+        // 키워드 추출 및 상위 N개 키워드 추출 (analysisExecutor)
+        List<Map.Entry<String, Integer>> topKeywords = textAnalysisService.getTopKeywordsAsync(combinedText, topN).join();
+        return toWordCloudResponse(questionId, topKeywords, totalResponses);
+    }
 
-        // 상위 N개 키워드 추출
-        List<Map.Entry<String, Integer>> topKeywords = textAnalysisService.getTopKeywords(keywords, topN);
+    /**
+     * Java 기반 키워드 추출 (폴백, analysisExecutor 완료를 기다리지 않음)
+     * ReactorMdc.defer 안에서 호출해야 작업 스레드에 MDC 가 전파된다.
+     */
+    private Mono<WordCloudResponseDto> generateWordCloudWithJavaAsync(Long questionId,
+                                                                      List<String> subjectiveContents,
+                                                                      Long totalResponses,
+                                                                      int topN) {
+        String combinedText = String.join(" ", subjectiveContents);
+        return Mono.fromFuture(textAnalysisService.getTopKeywordsAsync(combinedText, topN))
+                .map(topKeywords -> toWordCloudResponse(questionId, topKeywords, totalResponses));
+    }
 
+    private WordCloudResponseDto toWordCloudResponse(Long questionId,
+                                                     List<Map.Entry<String, Integer>> topKeywords,
+                                                     Long totalResponses) {
         // DTO 변환
         List<WordCloudDto> wordCloud = topKeywords.stream()
                 .map(entry -> new WordCloudDto(entry.getKey(), entry.getValue()))
@@ -271,76 +523,50 @@ public class WordCloudService {
     }
 
     /**
-     * 워드클라우드를 DB에 저장 (비동기 처리용)
+     * 질문 묶음의 워드클라우드를 생성해 DB에 저장
+     * 저장은 ReportWriter(persistenceExecutor)에서 질문마다 짧은 트랜잭션으로 실행한다. (제출은 persistenceScheduler 에서)
      *
-     * @param questionId 질문 ID
+     * @param context 설문 데이터 스냅샷
+     * @param questionIds 질문 ID 목록
+     * @return 묶음의 저장이 모두 커밋되면 완료되는 Mono
      */
-    @Async("taskExecutor")
-    @Transactional
-    public void saveWordCloudAsync(Long questionId) {
-        try {
-            log.info("워드클라우드 생성 시작: questionId={}", questionId);
-            
-            // 워드클라우드 생성
-            WordCloudResponseDto wordCloud = generateWordCloud(questionId);
-            
-            // JSON으로 직렬화
-            String wordCloudData = objectMapper.writeValueAsString(wordCloud);
-            
-            // DB에 저장 또는 업데이트
-            Optional<WordCloud> existing = wordCloudRepository.findByQuestionId(questionId);
-            
-            WordCloud wordCloudEntity;
-            if (existing.isPresent()) {
-                // 기존 워드클라우드 업데이트
-                wordCloudEntity = existing.get();
-                wordCloudEntity.setWordCloudData(wordCloudData);
-            } else {
-                // 새 워드클라우드 생성
-                wordCloudEntity = WordCloud.builder()
-                        .questionId(questionId)
-                        .wordCloudData(wordCloudData)
-                        .build();
-            }
-            
-            wordCloudRepository.save(wordCloudEntity);
-            log.info("워드클라우드 저장 완료: questionId={}", questionId);
-            
-        } catch (Exception e) {
-            log.error("워드클라우드 저장 실패: questionId={}", questionId, e);
-        }
+    public Mono<Void> saveWordClouds(SurveyAnalysisContext context, List<Long> questionIds) {
+        return ReactorMdc.defer(() -> {
+                    log.info("워드클라우드 생성 시작: questionIds={}", questionIds);
+
+                    // 워드클라우드 생성 (상위 50개)
+                    return generateWordClouds(context, questionIds, 50);
+                })
+                .flatMapMany(wordClouds -> Flux.fromIterable(wordClouds.entrySet()))
+                // JSON으로 직렬화 후 저장 또는 업데이트
+                .flatMap(entry -> ReactorMdc.defer(() -> Mono.fromFuture(reportWriter.saveWordCloud(
+                        entry.getKey(), objectMapper.writeValueAsString(entry.getValue()))))
+                        .subscribeOn(persistenceScheduler))
+                .then();
     }
 
     /**
      * 설문의 모든 주관식 질문에 대해 워드클라우드 생성 및 저장
+     * 질문을 batch-size 개씩 묶어 묶음마다 Gemini 를 1회 호출하며, 묶음들은 설문당 per-survey-parallelism 개까지 동시에 실행된다.
      *
-     * @param surveyId 설문 ID
+     * @param context 설문 데이터 스냅샷
+     * @return 모든 질문 처리가 끝나면 완료되는 결과
      */
-    @Async("taskExecutor")
-    @Transactional
-    public void saveWordCloudsForSurveyAsync(Long surveyId) {
-        try {
-            log.info("설문의 모든 주관식 질문 워드클라우드 생성 시작: surveyId={}", surveyId);
-            
-            // 설문의 모든 질문 조회
-            List<Question> questions = questionRepository.findBySurveyId(surveyId);
-            
-            // 주관식 질문만 필터링
-            List<Question> subjectiveQuestions = questions.stream()
-                    .filter(q -> q.getType() == Question.QuestionType.SUBJECTIVE)
-                    .collect(Collectors.toList());
-            
-            // 각 주관식 질문에 대해 워드클라우드 생성 및 저장
-            for (Question question : subjectiveQuestions) {
-                saveWordCloudAsync(question.getId());
+    public Mono<ReportFanOutExecutor.FanOutResult> saveWordCloudsForSurvey(SurveyAnalysisContext context) {
+        return ReactorMdc.defer(() -> {
+            log.info("설문의 모든 주관식 질문 워드클라우드 생성 시작: surveyId={}", context.getSurveyId());
+
+            // 설문의 주관식 질문만 필터링 후 묶음으로 분할
+            List<Long> subjectiveQuestionIds = context.getQuestionIds(Question.QuestionType.SUBJECTIVE);
+            int size = Math.max(1, batchSize);
+            List<List<Long>> batches = new ArrayList<>();
+            for (int from = 0; from < subjectiveQuestionIds.size(); from += size) {
+                batches.add(subjectiveQuestionIds.subList(from, Math.min(from + size, subjectiveQuestionIds.size())));
             }
-            
-            log.info("설문의 모든 주관식 질문 워드클라우드 생성 완료: surveyId={}, 질문 수={}", 
-                    surveyId, subjectiveQuestions.size());
-            
-        } catch (Exception e) {
-            log.error("설문 워드클라우드 저장 실패: surveyId={}", surveyId, e);
-        }
+
+            // 묶음별 워드클라우드 생성 및 저장 (묶음별 병렬)
+            return reportFanOutExecutor.fanOutBatches("wordcloud", context.getSurveyId(), batches,
+                    questionIds -> saveWordClouds(context, questionIds));
+        });
     }
 }
-
@@ -11,6 +11,7 @@ import com.example.thinkfast.dto.auth.UserProfileResponse;
 import com.example.thinkfast.repository.auth.RefreshTokenRepository;
 import com.example.thinkfast.repository.auth.UserRepository;
 import com.example.thinkfast.security.JwtTokenProvider;
+import com.example.thinkfast.service.survey.SurveyMetadataCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -32,6 +33,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
+    private final SurveyMetadataCache surveyMetadataCache;
 
     @Transactional
     public void signUp(SignUpRequest request) {
@@ -164,6 +166,8 @@ public class AuthService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
         user.updateRealUsername(request.getRealUsername());
         userRepository.save(user);
+        // 알림/권한 확인에 쓰이는 소유자 표시 이름 캐시 갱신
+        surveyMetadataCache.invalidateOwner(user.getId());
     }
 
     @Transactional(readOnly = true)
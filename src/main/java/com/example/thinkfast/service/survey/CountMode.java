@@ -0,0 +1,11 @@
+package com.example.thinkfast.service.survey;
+
+/**
+ * 응답자 수 조회 방식 (RespondentCountService)
+ * - EXACT: 집계 테이블(SURVEY_SESSION_COUNTS, QUESTION_OPTION_COUNTS) 기준 정확한 값
+ * - APPROXIMATE: Redis HyperLogLog 추정치 (표준 오차 약 0.81%), 준비되지 않았으면 EXACT 로 대체
+ */
+public enum CountMode {
+    EXACT,
+    APPROXIMATE
+}
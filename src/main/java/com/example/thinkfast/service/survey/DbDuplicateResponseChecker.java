@@ -0,0 +1,23 @@
+package com.example.thinkfast.service.survey;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사전 판별 없이 DB UNIQUE 키로만 중복을 판정 (survey.dedup.mode=db)
+ * 별도의 exists 조회를 하지 않으며, 중복은 이력 저장 결과(0 row)로 판정된다.
+ */
+@Component
+@ConditionalOnProperty(name = "survey.dedup.mode", havingValue = "db")
+public class DbDuplicateResponseChecker implements DuplicateResponseChecker {
+
+    @Override
+    public boolean isDuplicate(Long surveyId, String deviceIdHash, String ipAddressHash) {
+        return false;
+    }
+
+    @Override
+    public void recordResponse(Long surveyId, String deviceIdHash, String ipAddressHash) {
+        // DB 이력 INSERT 자체가 기록이므로 별도 처리 없음
+    }
+}
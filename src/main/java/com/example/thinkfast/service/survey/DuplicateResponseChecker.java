@@ -0,0 +1,18 @@
+package com.example.thinkfast.service.survey;
+
+/**
+ * 설문 중복 응답 사전 판별기
+ * 최종 판정은 이력 저장 시 SURVEY_RESPONSE_HISTORY UNIQUE 키와 SURVEY_RESPONSE_CLAIMS 가 하며,
+ * 판별기는 DB 까지 가지 않고 빠르게 거절하기 위한 필터다. (false 는 "모름"을 의미할 수 있음)
+ * 구현체는 survey.dedup.mode (redis | db) 로 선택한다.
+ * 해시값은 ResponseDedupKey 로 정규화된 값을 사용하고, 판정 정책도 ResponseDedupKey 를 따른다.
+ */
+public interface DuplicateResponseChecker {
+
+    boolean isDuplicate(Long surveyId, String deviceIdHash, String ipAddressHash);
+
+    /**
+     * 커밋된 응답 이력을 판별기에 반영 (DB 구현체는 별도 처리 없음)
+     */
+    void recordResponse(Long surveyId, String deviceIdHash, String ipAddressHash);
+}
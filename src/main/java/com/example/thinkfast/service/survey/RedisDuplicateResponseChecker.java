@@ -0,0 +1,148 @@
+package com.example.thinkfast.service.survey;
+
+import com.example.thinkfast.repository.survey.SurveyResponseHistoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis SET 기반 중복 응답 사전 판별기 (survey.dedup.mode=redis, 기본값)
+ * - 설문별로 정규화된 (deviceIdHash|ipAddressHash) SET 을 유지하고 SISMEMBER 로 판별한다.
+ *   한쪽만 있는 제출은 그 쪽의 모든 이력과 비교하므로 (deviceIdHash|*), (*|ipAddressHash) 도 함께 저장한다. (ResponseDedupKey)
+ * - warm 마커가 없으면 SETNX 로 loading 마커를 잡은 한 요청만 SURVEY_RESPONSE_HISTORY 에서 이력을 읽어 SET 을 채운다.
+ *   나머지 요청은 기다리지 않고 채워지는 중인 SET 으로 판별한다. (놓친 중복은 DB 저장 시 판정)
+ * - 새 이력은 커밋 이후 recordResponse 로 반영된다. loading 마커는 스냅샷 조회 전에 쓰이므로,
+ *   스냅샷 이후 커밋된 이력도 recordResponse 로 SET 에 들어간다.
+ * - Redis 장애 시에는 false 를 반환하고 최종 판정은 DB UNIQUE 키에 맡긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "survey.dedup.mode", havingValue = "redis", matchIfMissing = true)
+public class RedisDuplicateResponseChecker implements DuplicateResponseChecker {
+
+    private static final String KEY_PREFIX = "survey:dedup:";
+    private static final int WARM_CHUNK_SIZE = 1000;
+    // 한쪽만 비교할 때 다른 쪽 자리에 쓰는 값 (NONE, 해시와 겹치지 않음)
+    private static final String ANY = "*";
+
+    private final StringRedisTemplate redisTemplate;
+    private final SurveyResponseHistoryRepository surveyResponseHistoryRepository;
+
+    @Value("${survey.dedup.redis-ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${survey.dedup.warm-lock-seconds:60}")
+    private long warmLockSeconds;
+
+    public RedisDuplicateResponseChecker(StringRedisTemplate redisTemplate,
+                                         SurveyResponseHistoryRepository surveyResponseHistoryRepository) {
+        this.redisTemplate = redisTemplate;
+        this.surveyResponseHistoryRepository = surveyResponseHistoryRepository;
+    }
+
+    @Override
+    public boolean isDuplicate(Long surveyId, String deviceIdHash, String ipAddressHash) {
+        try {
+            ensureWarm(surveyId);
+            return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(keysKey(surveyId), checkMember(deviceIdHash, ipAddressHash)));
+        } catch (DataAccessException e) {
+            log.warn("[중복 응답 체크] Redis 조회 실패, DB UNIQUE 키로 판정: surveyId={}, reason={}", surveyId, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void recordResponse(Long surveyId, String deviceIdHash, String ipAddressHash) {
+        try {
+            // warm 되었거나 warm 중인 설문만 기록한다 (그 외에는 다음 조회 시 DB 에서 채워짐, TTL 없는 SET 생성 방지)
+            Long active = redisTemplate.countExistingKeys(Arrays.asList(warmKey(surveyId), loadingKey(surveyId)));
+            if (active == null || active == 0L) {
+                return;
+            }
+            redisTemplate.opsForSet().add(keysKey(surveyId), recordMembers(deviceIdHash, ipAddressHash).toArray(new String[0]));
+        } catch (DataAccessException e) {
+            log.warn("[중복 응답 기록] Redis 반영 실패: surveyId={}, reason={}", surveyId, e.getMessage());
+        }
+    }
+
+    private void ensureWarm(Long surveyId) {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(warmKey(surveyId)))) {
+            return;
+        }
+
+        // 한 요청만 이력을 읽는다. 마커를 스냅샷 전에 써 두어야 그 사이 커밋된 이력이 recordResponse 로 반영된다
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(loadingKey(surveyId), String.valueOf(System.currentTimeMillis()), warmLockSeconds, TimeUnit.SECONDS))) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        List<Object[]> rows = surveyResponseHistoryRepository.findHashesBySurveyId(surveyId);
+
+        List<String> chunk = new ArrayList<>(WARM_CHUNK_SIZE);
+        for (Object[] row : rows) {
+            chunk.addAll(recordMembers((String) row[0], (String) row[1]));
+            if (chunk.size() >= WARM_CHUNK_SIZE) {
+                redisTemplate.opsForSet().add(keysKey(surveyId), chunk.toArray(new String[0]));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            redisTemplate.opsForSet().add(keysKey(surveyId), chunk.toArray(new String[0]));
+        }
+
+        // SET 이 마커보다 먼저 만료되지 않도록 SET 에 여유 시간을 둔다
+        redisTemplate.expire(keysKey(surveyId), TimeUnit.HOURS.toMinutes(ttlHours) + 10, TimeUnit.MINUTES);
+        redisTemplate.opsForValue().set(warmKey(surveyId), String.valueOf(System.currentTimeMillis()), ttlHours, TimeUnit.HOURS);
+        redisTemplate.delete(loadingKey(surveyId));
+
+        log.info("[중복 응답 캐시 warm] surveyId={}, rows={}, elapsedMs={}", surveyId, rows.size(), System.currentTimeMillis() - start);
+    }
+
+    // 한쪽만 있는 제출은 그 쪽만 비교 (ResponseDedupKey 정책)
+    private String checkMember(String deviceIdHash, String ipAddressHash) {
+        if (ResponseDedupKey.NONE.equals(ipAddressHash)) {
+            return member(deviceIdHash, ANY);
+        }
+        if (ResponseDedupKey.NONE.equals(deviceIdHash)) {
+            return member(ANY, ipAddressHash);
+        }
+        return member(deviceIdHash, ipAddressHash);
+    }
+
+    private List<String> recordMembers(String deviceIdHash, String ipAddressHash) {
+        List<String> members = new ArrayList<>(3);
+        members.add(member(deviceIdHash, ipAddressHash));
+        if (!ResponseDedupKey.NONE.equals(deviceIdHash)) {
+            members.add(member(deviceIdHash, ANY));
+        }
+        if (!ResponseDedupKey.NONE.equals(ipAddressHash)) {
+            members.add(member(ANY, ipAddressHash));
+        }
+        return members;
+    }
+
+    private String member(String deviceIdHash, String ipAddressHash) {
+        return deviceIdHash + "|" + ipAddressHash;
+    }
+
+    private String warmKey(Long surveyId) {
+        return KEY_PREFIX + surveyId + ":warm";
+    }
+
+    private String loadingKey(Long surveyId) {
+        return KEY_PREFIX + surveyId + ":loading";
+    }
+
+    private String keysKey(Long surveyId) {
+        return KEY_PREFIX + surveyId + ":keys";
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.thinkfast.service.survey;
+
+import com.example.thinkfast.domain.survey.Question;
+import com.example.thinkfast.repository.survey.QuestionOptionCountRepository;
+import com.example.thinkfast.repository.survey.QuestionRepository;
+import com.example.thinkfast.repository.survey.ResponseJdbcRepository;
+import com.example.thinkfast.repository.survey.SurveySessionCountRepository;
+import com.example.thinkfast.service.survey.event.ResponseSubmittedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 설문/질문별 응답자 수 조회
+ * - EXACT: 집계 테이블 조회
+ * - APPROXIMATE: Redis HyperLogLog (survey:respondents:survey:{surveyId}, survey:respondents:question:{questionId})
+ *   커밋된 제출마다 응답 세션 ID 를 PFADD 하고, PFCOUNT 로 조회한다.
+ * - HLL 은 기존 응답 적재가 끝나야 ({key}:ready 존재) 사용하며, 그 전에는 EXACT 로 응답하고 설문 단위 적재를 예약한다.
+ *   PFADD 는 멱등이므로 적재 중 도착한 제출과 겹쳐도 결과가 같다.
+ * - Redis 장애 시 EXACT 로 대체한다.
+ */
+@Slf4j
+@Component
+public class RespondentCountService {
+
+    private static final String SURVEY_KEY_PREFIX = "survey:respondents:survey:";
+    private static final String QUESTION_KEY_PREFIX = "survey:respondents:question:";
+    private static final String READY_SUFFIX = ":ready";
+    private static final int WARM_CHUNK_SIZE = 1000;
+
+    // 모든 HLL 에 세션 추가 (ARGV[1]: TTL 초, ARGV[2]: 응답 세션 ID)
+    private static final RedisScript<Long> ADD_SESSION = new DefaultRedisScript<>(
+            "for i = 1, #KEYS do " +
+            "redis.call('PFADD', KEYS[i], ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[i], ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[i] .. '" + READY_SUFFIX + "', ARGV[1]) " +
+            "end " +
+            "return #KEYS", Long.class);
+
+    // 적재가 끝난 HLL 만 PFCOUNT, 아니면 -1
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> COUNT_IF_READY = new DefaultRedisScript<>(
+            "local result = {} " +
+            "for i = 1, #KEYS do " +
+            "if redis.call('EXISTS', KEYS[i] .. '" + READY_SUFFIX + "') == 1 then " +
+            "result[i] = redis.call('PFCOUNT', KEYS[i]) else result[i] = -1 end " +
+            "end " +
+            "return result", List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final SurveySessionCountRepository surveySessionCountRepository;
+    private final QuestionOptionCountRepository questionOptionCountRepository;
+    private final QuestionRepository questionRepository;
+    private final ResponseJdbcRepository responseJdbcRepository;
+    private final Counter exactFallbackCounter;
+
+    // HLL 적재 대기 설문
+    private final Set<Long> pendingWarm = ConcurrentHashMap.newKeySet();
+
+    @Value("${survey.respondent-count.ttl-days:30}")
+    private long ttlDays;
+
+    @Value("${survey.respondent-count.warm-batch-size:10}")
+    private int warmBatchSize;
+
+    public RespondentCountService(StringRedisTemplate redisTemplate,
+                                  SurveySessionCountRepository surveySessionCountRepository,
+                                  QuestionOptionCountRepository questionOptionCountRepository,
+                                  QuestionRepository questionRepository,
+                                  ResponseJdbcRepository responseJdbcRepository,
+                                  MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.surveySessionCountRepository = surveySessionCountRepository;
+        this.questionOptionCountRepository = questionOptionCountRepository;
+        this.questionRepository = questionRepository;
+        this.responseJdbcRepository = responseJdbcRepository;
+        this.exactFallbackCounter = Counter.builder("survey.respondent.count.exact.fallback")
+                .description("HyperLogLog 가 준비되지 않았거나 Redis 조회에 실패해 집계 테이블로 응답한 설문/질문 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커밋된 제출 1건 반영 (설문 및 답변한 질문의 HLL 에 응답 세션 추가)
+     */
+    public void record(ResponseSubmittedEvent event) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(surveyKey(event.getSurveyId()));
+        for (ResponseSubmittedEvent.Answer answer : event.getAnswers()) {
+            if (answer.getQuestionId() != null) {
+                keys.add(questionKey(answer.getQuestionId()));
+            }
+        }
+
+        try {
+            redisTemplate.execute(ADD_SESSION, new ArrayList<>(keys),
+                    String.valueOf(ttlSeconds()), event.getResponseSessionId());
+        } catch (DataAccessException e) {
+            // 반영하지 못한 세션은 HLL 만료 후 다시 적재될 때 포함된다 (그 전까지는 추정치가 조금 작을 수 있음)
+            log.warn("[응답자 수 HLL] 세션 추가 실패: surveyId={}, reason={}", event.getSurveyId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 설문 1건의 응답자 수
+     */
+    public long countSurveyRespondents(Long surveyId, CountMode mode) {
+        return countSurveyRespondents(Collections.singletonList(surveyId), mode).getOrDefault(surveyId, 0L);
+    }
+
+    /**
+     * 여러 설문의 응답자 수 (목록/스케줄러용 배치 조회)
+     *
+     * @return surveyId → 응답자 수 (응답이 없는 설문은 0 이거나 포함되지 않음)
+     */
+    public Map<Long, Long> countSurveyRespondents(Collection<Long> surveyIds, CountMode mode) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(surveyIds));
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+        if (mode == CountMode.EXACT) {
+            return exactSurveyCounts(ids);
+        }
+
+        Map<Long, Long> counts = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        List<Long> estimates = countIfReady(ids.stream().map(this::surveyKey).collect(Collectors.toList()));
+        for (int i = 0; i < ids.size(); i++) {
+            long estimate = estimates != null ? estimates.get(i) : -1L;
+            if (estimate >= 0) {
+                counts.put(ids.get(i), estimate);
+            } else {
+                missing.add(ids.get(i));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            exactFallbackCounter.increment(missing.size());
+            counts.putAll(exactSurveyCounts(missing));
+            if (estimates != null) {
+                pendingWarm.addAll(missing);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 질문 1건의 응답자 수
+     */
+    public long countQuestionRespondents(Long questionId, CountMode mode) {
+        if (mode == CountMode.APPROXIMATE) {
+            List<Long> estimates = countIfReady(Collections.singletonList(questionKey(questionId)));
+            if (estimates != null && estimates.get(0) >= 0) {
+                return estimates.get(0);
+            }
+            exactFallbackCounter.increment();
+            if (estimates != null) {
+                questionRepository.findById(questionId).map(Question::getSurveyId).ifPresent(pendingWarm::add);
+            }
+        }
+        return questionOptionCountRepository.findTotalCountByQuestionId(questionId);
+    }
+
+    /**
+     * 예약된 설문의 기존 응답 세션을 HLL 에 적재
+     * 여러 노드가 같은 설문을 적재해도 PFADD 가 멱등이므로 결과는 같다.
+     */
+    @Scheduled(fixedDelayString = "${survey.respondent-count.warm-interval-ms:5000}")
+    public void warmPending() {
+        Iterator<Long> iterator = pendingWarm.iterator();
+        for (int i = 0; i < warmBatchSize && iterator.hasNext(); i++) {
+            Long surveyId = iterator.next();
+            iterator.remove();
+            try {
+                warm(surveyId);
+            } catch (DataAccessException e) {
+                log.warn("[응답자 수 HLL] 적재 실패: surveyId={}, reason={}", surveyId, e.getMessage());
+            }
+        }
+    }
+
+    private void warm(Long surveyId) {
+        long start = System.currentTimeMillis();
+        List<Long> questionIds = questionRepository.findBySurveyId(surveyId).stream()
+                .map(Question::getId)
+                .collect(Collectors.toList());
+
+        String surveyKey = surveyKey(surveyId);
+        Map<String, List<String>> buffers = new HashMap<>();
+        long[] rows = {0L};
+        responseJdbcRepository.forEachAnswerSession(questionIds, (questionId, responseSessionId) -> {
+            buffer(buffers, surveyKey, responseSessionId);
+            buffer(buffers, questionKey(questionId), responseSessionId);
+            rows[0]++;
+        });
+        buffers.forEach(this::pfadd);
+
+        // 적재 완료 표시 (응답이 없는 질문도 0 으로 조회되도록 표시)
+        List<String> keys = new ArrayList<>(questionIds.size() + 1);
+        keys.add(surveyKey);
+        questionIds.forEach(questionId -> keys.add(questionKey(questionId)));
+        for (String key : keys) {
+            redisTemplate.opsForValue().set(key + READY_SUFFIX, "1", ttlSeconds(), TimeUnit.SECONDS);
+            redisTemplate.expire(key, ttlSeconds(), TimeUnit.SECONDS);
+        }
+        log.info("[응답자 수 HLL] 적재 완료: surveyId={}, questions={}, rows={}, elapsedMs={}",
+                surveyId, questionIds.size(), rows[0], System.currentTimeMillis() - start);
+    }
+
+    private void buffer(Map<String, List<String>> buffers, String key, String responseSessionId) {
+        List<String> buffer = buffers.computeIfAbsent(key, k -> new ArrayList<>(WARM_CHUNK_SIZE));
+        buffer.add(responseSessionId);
+        if (buffer.size() >= WARM_CHUNK_SIZE) {
+            pfadd(key, buffer);
+        }
+    }
+
+    private void pfadd(String key, List<String> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForHyperLogLog().add(key, members.toArray(new String[0]));
+        members.clear();
+    }
+
+    /**
+     * @return 키 순서대로 추정치 (-1: 적재 전), Redis 실패 시 null
+     */
+    @SuppressWarnings("unchecked")
+    private List<Long> countIfReady(List<String> keys) {
+        try {
+            return redisTemplate.execute(COUNT_IF_READY, keys);
+        } catch (DataAccessException e) {
+            log.warn("[응답자 수 HLL] 조회 실패, 집계 테이블 사용: keys={}, reason={}", keys.size(), e.getMessage());
+            return null;
+        }
+    }
+
+    private Map<Long, Long> exactSurveyCounts(List<Long> surveyIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : surveySessionCountRepository.findSessionCountsBySurveyIds(surveyIds)) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    private long ttlSeconds() {
+        return TimeUnit.DAYS.toSeconds(ttlDays);
+    }
+
+    private String surveyKey(Long surveyId) {
+        return SURVEY_KEY_PREFIX + surveyId;
+    }
+
+    private String questionKey(Long questionId) {
+        return QUESTION_KEY_PREFIX + questionId;
+    }
+}
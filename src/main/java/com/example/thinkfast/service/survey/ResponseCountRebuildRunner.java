@@ -0,0 +1,89 @@
+package com.example.thinkfast.service.survey;
+
+import com.example.thinkfast.domain.survey.Question;
+import com.example.thinkfast.repository.survey.QuestionRepository;
+import com.example.thinkfast.repository.survey.ResponseCountJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 응답 수 집계 테이블 재집계 명령
+ * - --statistics.rebuild           : 전체 설문
+ * - --statistics.rebuild=1,2,3     : 지정한 설문만
+ * 설문 단위 트랜잭션으로 RESPONSES 에서 다시 집계하고, 해당 질문의 Redis 카운터를 지운다.
+ * 옵션이 있으면 ThinkfastApplication 이 웹 서버 없이 실행하고, 끝나면 getExitCode() 로 종료한다. (실패한 설문이 있으면 1)
+ * (집계 누락이 의심될 때나 집계 테이블 도입 이전 버전 노드와 함께 운영한 뒤 실행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResponseCountRebuildRunner implements ApplicationRunner, ExitCodeGenerator {
+
+    public static final String REBUILD_OPTION = "statistics.rebuild";
+
+    private final ResponseCountJdbcRepository responseCountJdbcRepository;
+    private final QuestionRepository questionRepository;
+    private final ResponseCountStore responseCountStore;
+    private final PlatformTransactionManager transactionManager;
+
+    private volatile int exitCode;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(REBUILD_OPTION)) {
+            return;
+        }
+
+        List<Long> surveyIds = resolveSurveyIds(args.getOptionValues(REBUILD_OPTION));
+        log.info("[응답 수 재집계 시작] surveys={}", surveyIds.size());
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long start = System.currentTimeMillis();
+        int failed = 0;
+        for (Long surveyId : surveyIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> responseCountJdbcRepository.rebuildSurvey(surveyId));
+                responseCountStore.evict(questionRepository.findBySurveyId(surveyId).stream()
+                        .map(Question::getId)
+                        .collect(Collectors.toList()));
+            } catch (DataAccessException e) {
+                failed++;
+                log.error("[응답 수 재집계 실패] surveyId={}, reason={}", surveyId, e.getMessage(), e);
+            }
+        }
+
+        log.info("[응답 수 재집계 완료] surveys={}, failed={}, elapsedMs={}",
+                surveyIds.size(), failed, System.currentTimeMillis() - start);
+        exitCode = failed == 0 ? 0 : 1;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private List<Long> resolveSurveyIds(List<String> values) {
+        List<Long> surveyIds = new ArrayList<>();
+        if (values != null) {
+            for (String value : values) {
+                for (String token : value.split(",")) {
+                    if (!token.trim().isEmpty()) {
+                        surveyIds.add(Long.valueOf(token.trim()));
+                    }
+                }
+            }
+        }
+        return surveyIds.isEmpty() ? responseCountJdbcRepository.findAllSurveyIds() : surveyIds;
+    }
+}
@@ -0,0 +1,320 @@
+package com.example.thinkfast.service.survey;
+
+import com.example.thinkfast.domain.survey.QuestionOptionCount;
+import com.example.thinkfast.dto.survey.QuestionResponseCounts;
+import com.example.thinkfast.repository.survey.QuestionOptionCountRepository;
+import com.example.thinkfast.service.survey.event.ResponseSubmittedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 질문/선택지별 응답 수 카운터 저장소
+ * - 커밋된 제출마다 로컬 LongAdder(질문/선택지별)에 증분을 누적하고, flush-interval-ms 마다 Redis 해시에 HINCRBY 로 반영한다.
+ *   증분 맵은 flush 주기(epoch)마다 새로 바꿔 끼우고, 떼어 낸 맵은 기록 중인 스레드가 모두 빠진 뒤 읽고 버린다.
+ *   따라서 응답이 멈춘 질문의 항목은 메모리에 남지 않고, 교체 직전에 도착한 증분도 유실되지 않는다.
+ *   (survey:counts:question:{questionId} → total, o:{optionId})
+ * - 통계 조회는 HGETALL 1회로 끝나며, 해시가 없으면 집계 테이블(QUESTION_OPTION_COUNTS)에서 채운다.
+ * - 해시가 없을 때 도착한 증분은 이미 DB 에 커밋된 값이므로 버린다. (다음 조회 시 DB 집계에 포함됨)
+ * - 최근 증분이 반영된 질문은 주기적으로 집계 테이블과 맞춘다. (flush/적재 경합으로 생긴 오차 보정)
+ * - Redis 장애 시 조회는 집계 테이블로 대체하고, 증분은 다음 flush 에서 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class ResponseCountStore {
+
+    private static final String KEY_PREFIX = "survey:counts:question:";
+    private static final String DIRTY_KEY = "survey:counts:dirty";
+    private static final String TOTAL_FIELD = "total";
+    private static final String OPTION_FIELD_PREFIX = "o:";
+    // epoch 기록 중 표시 슬롯 수 (스레드 ID 로 분산, 2의 거듭제곱) / 슬롯 간 간격 (캐시 라인 공유 방지)
+    private static final int WRITER_STRIPES = 16;
+    private static final int WRITER_STRIPE_PADDING = 16;
+
+    // 해시가 있을 때만 증분 반영 (ARGV[1]: TTL 초, 이후 field/delta 쌍)
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "for i = 2, #ARGV, 2 do redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1", Long.class);
+
+    // DB 집계로 해시 적재 (ARGV[1]: 덮어쓰기 여부 1/0, ARGV[2]: TTL 초, 이후 field/value 쌍)
+    private static final RedisScript<Long> LOAD_COUNTS = new DefaultRedisScript<>(
+            "if ARGV[1] == '0' and redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "for i = 3, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final QuestionOptionCountRepository questionOptionCountRepository;
+    private final Counter dbFallbackCounter;
+    private final Counter reconciledCounter;
+
+    // 현재 flush 주기의 증분 (flush 가 새 Epoch 로 교체)
+    private final AtomicReference<Epoch> current = new AtomicReference<>(new Epoch());
+
+    @Value("${survey.response-counts.ttl-days:7}")
+    private long ttlDays;
+
+    @Value("${survey.response-counts.reconcile-batch-size:200}")
+    private int reconcileBatchSize;
+
+    public ResponseCountStore(StringRedisTemplate redisTemplate,
+                              QuestionOptionCountRepository questionOptionCountRepository,
+                              MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.questionOptionCountRepository = questionOptionCountRepository;
+        this.dbFallbackCounter = Counter.builder("survey.response.counts.db.fallback")
+                .description("Redis 카운터가 없거나 조회에 실패해 집계 테이블로 응답한 통계 조회 수")
+                .register(meterRegistry);
+        this.reconciledCounter = Counter.builder("survey.response.counts.reconciled")
+                .description("집계 테이블 기준으로 다시 맞춘 질문 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커밋된 제출 1건 반영 (로컬 증분만 누적)
+     * 질문별 total 은 제출당 1, 선택지는 답변 row 마다 1 을 더한다. (DB 의 COUNT DISTINCT 세션 / COUNT row 와 동일)
+     */
+    public void record(ResponseSubmittedEvent event) {
+        Map<Long, Map<String, Long>> deltas = new HashMap<>();
+        for (ResponseSubmittedEvent.Answer answer : event.getAnswers()) {
+            if (answer.getQuestionId() == null) {
+                continue;
+            }
+            Map<String, Long> fields = deltas.computeIfAbsent(answer.getQuestionId(), id -> new HashMap<>());
+            fields.put(TOTAL_FIELD, 1L);
+            if (answer.getOptionId() != null) {
+                fields.merge(OPTION_FIELD_PREFIX + answer.getOptionId(), 1L, Long::sum);
+            }
+        }
+        addPending(deltas);
+    }
+
+    /**
+     * 질문별 응답 수 조회
+     */
+    public QuestionResponseCounts getCounts(Long questionId) {
+        try {
+            Map<Object, Object> hash = redisTemplate.opsForHash().entries(key(questionId));
+            if (hash.isEmpty()) {
+                dbFallbackCounter.increment();
+                return loadFromDb(questionId, false);
+            }
+            return toCounts(hash);
+        } catch (DataAccessException e) {
+            log.warn("[응답 수 조회] Redis 조회 실패, 집계 테이블 사용: questionId={}, reason={}", questionId, e.getMessage());
+            dbFallbackCounter.increment();
+            return countFromDb(questionId);
+        }
+    }
+
+    /**
+     * 로컬 증분을 Redis 에 반영
+     * 증분 맵을 새 epoch 로 교체한 뒤, 이전 epoch 에 기록 중인 스레드가 없어질 때까지 기다렸다가 읽는다.
+     */
+    @Scheduled(fixedDelayString = "${survey.response-counts.flush-interval-ms:1000}")
+    public void flush() {
+        Epoch retired = current.getAndSet(new Epoch());
+        while (retired.hasWriters()) {
+            Thread.yield();
+        }
+
+        for (Map.Entry<Long, ConcurrentHashMap<String, LongAdder>> entry : retired.deltas.entrySet()) {
+            Long questionId = entry.getKey();
+            Map<String, Long> deltas = new HashMap<>();
+            entry.getValue().forEach((field, adder) -> {
+                long delta = adder.sum();
+                if (delta != 0) {
+                    deltas.put(field, delta);
+                }
+            });
+            if (deltas.isEmpty()) {
+                continue;
+            }
+
+            try {
+                List<String> args = new ArrayList<>(deltas.size() * 2 + 1);
+                args.add(String.valueOf(ttlSeconds()));
+                deltas.forEach((field, delta) -> {
+                    args.add(field);
+                    args.add(String.valueOf(delta));
+                });
+                Long applied = redisTemplate.execute(INCREMENT_IF_PRESENT, Collections.singletonList(key(questionId)), args.toArray());
+                if (applied != null && applied == 1L) {
+                    redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(questionId));
+                }
+            } catch (DataAccessException e) {
+                // 반영하지 못한 증분은 현재 epoch 에 되돌려 다음 flush 에서 재시도
+                addPending(Collections.singletonMap(questionId, deltas));
+                log.warn("[응답 수 flush] Redis 반영 실패: questionId={}, reason={}", questionId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 최근 증분이 반영된 질문의 카운터를 집계 테이블 기준으로 다시 맞춤
+     * SPOP 으로 대상을 가져가므로 여러 노드가 실행해도 같은 질문을 중복 처리하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${survey.response-counts.reconcile-interval-ms:600000}",
+            initialDelayString = "${survey.response-counts.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        try {
+            List<String> questionIds = redisTemplate.opsForSet().pop(DIRTY_KEY, reconcileBatchSize);
+            if (questionIds == null || questionIds.isEmpty()) {
+                return;
+            }
+
+            long start = System.currentTimeMillis();
+            for (String questionId : questionIds) {
+                loadFromDb(Long.valueOf(questionId), true);
+                reconciledCounter.increment();
+            }
+            log.info("[응답 수 보정] questions={}, elapsedMs={}", questionIds.size(), System.currentTimeMillis() - start);
+        } catch (DataAccessException e) {
+            log.warn("[응답 수 보정] 실패: reason={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 카운터 삭제 (집계 테이블 재집계 후 다음 조회에서 다시 적재되도록)
+     */
+    public void evict(Collection<Long> questionIds) {
+        if (questionIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(questionIds.size());
+        for (Long questionId : questionIds) {
+            keys.add(key(questionId));
+        }
+        try {
+            redisTemplate.delete(keys);
+        } catch (DataAccessException e) {
+            log.warn("[응답 수 카운터 삭제] 실패: questions={}, reason={}", questionIds.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private QuestionResponseCounts loadFromDb(Long questionId, boolean overwrite) {
+        QuestionResponseCounts counts = countFromDb(questionId);
+
+        List<String> args = new ArrayList<>(counts.getOptionCounts().size() * 2 + 4);
+        args.add(overwrite ? "1" : "0");
+        args.add(String.valueOf(ttlSeconds()));
+        args.add(TOTAL_FIELD);
+        args.add(String.valueOf(counts.getTotalResponses()));
+        counts.getOptionCounts().forEach((optionId, count) -> {
+            args.add(OPTION_FIELD_PREFIX + optionId);
+            args.add(String.valueOf(count));
+        });
+        redisTemplate.execute(LOAD_COUNTS, Collections.singletonList(key(questionId)), args.toArray());
+        return counts;
+    }
+
+    private QuestionResponseCounts countFromDb(Long questionId) {
+        long total = 0L;
+        Map<Long, Long> optionCounts = new HashMap<>();
+        for (QuestionOptionCount row : questionOptionCountRepository.findByQuestionId(questionId)) {
+            if (row.isTotal()) {
+                total = row.getResponseCount();
+            } else {
+                optionCounts.put(row.getOptionId(), row.getResponseCount());
+            }
+        }
+        return new QuestionResponseCounts(total, optionCounts);
+    }
+
+    private QuestionResponseCounts toCounts(Map<Object, Object> hash) {
+        long total = 0L;
+        Map<Long, Long> optionCounts = new HashMap<>();
+        for (Map.Entry<Object, Object> entry : hash.entrySet()) {
+            String field = (String) entry.getKey();
+            long value = Long.parseLong((String) entry.getValue());
+            if (TOTAL_FIELD.equals(field)) {
+                total = value;
+            } else if (field.startsWith(OPTION_FIELD_PREFIX)) {
+                optionCounts.put(Long.valueOf(field.substring(OPTION_FIELD_PREFIX.length())), value);
+            }
+        }
+        return new QuestionResponseCounts(total, optionCounts);
+    }
+
+    /**
+     * 현재 epoch 에 증분 누적
+     * 기록 중 표시를 남긴 뒤 epoch 가 그대로인지 확인하므로, flush 가 교체한 epoch 에는 교체 후 기록하지 않는다.
+     */
+    private void addPending(Map<Long, Map<String, Long>> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        int stripe = ((int) Thread.currentThread().getId() & (WRITER_STRIPES - 1)) * WRITER_STRIPE_PADDING;
+        while (true) {
+            Epoch epoch = current.get();
+            epoch.writers.incrementAndGet(stripe);
+            try {
+                if (current.get() != epoch) {
+                    continue;
+                }
+                deltas.forEach((questionId, fields) -> {
+                    ConcurrentHashMap<String, LongAdder> adders =
+                            epoch.deltas.computeIfAbsent(questionId, id -> new ConcurrentHashMap<>());
+                    fields.forEach((field, delta) -> adders.computeIfAbsent(field, f -> new LongAdder()).add(delta));
+                });
+                return;
+            } finally {
+                epoch.writers.decrementAndGet(stripe);
+            }
+        }
+    }
+
+    private long ttlSeconds() {
+        return TimeUnit.DAYS.toSeconds(ttlDays);
+    }
+
+    private String key(Long questionId) {
+        return KEY_PREFIX + questionId;
+    }
+
+    /**
+     * flush 주기 하나의 증분 (questionId → field → LongAdder)
+     * writers 는 이 epoch 에 기록 중인 스레드 수 (스레드 ID 로 나눈 슬롯별)
+     */
+    private static final class Epoch {
+        private final ConcurrentHashMap<Long, ConcurrentHashMap<String, LongAdder>> deltas = new ConcurrentHashMap<>();
+        private final AtomicIntegerArray writers = new AtomicIntegerArray(WRITER_STRIPES * WRITER_STRIPE_PADDING);
+
+        private boolean hasWriters() {
+            for (int i = 0; i < WRITER_STRIPES; i++) {
+                if (writers.get(i * WRITER_STRIPE_PADDING) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.thinkfast.service.survey;
+
+import com.example.thinkfast.common.utils.HashUtil;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * 중복 응답 판별 키
+ * - deviceId + IP: 같은 (deviceId, IP) 이력이 있으면 중복 (SURVEY_RESPONSE_HISTORY UNIQUE 키)
+ * - deviceId 만: 같은 deviceId 의 이력이 하나라도 있으면 중복 (SURVEY_RESPONSE_CLAIMS 의 DEVICE claim)
+ * - IP 만: 같은 IP 의 이력이 하나라도 있으면 중복 (SURVEY_RESPONSE_CLAIMS 의 IP claim)
+ * - deviceId / IP 가 없으면 NONE 으로 정규화하여 UNIQUE 키가 NULL 로 우회되지 않도록 한다.
+ * - 둘 다 없으면 중복 판별이 불가하므로 매번 다른 기본 deviceId 해시를 사용한다. (항상 허용)
+ */
+@Getter
+public class ResponseDedupKey {
+
+    // SHA-256 Base64 해시와 겹치지 않는 값
+    public static final String NONE = "-";
+
+    private final String deviceIdHash;
+    private final String ipAddressHash;
+    private final boolean enforceable;
+
+    private ResponseDedupKey(String deviceIdHash, String ipAddressHash, boolean enforceable) {
+        this.deviceIdHash = deviceIdHash;
+        this.ipAddressHash = ipAddressHash;
+        this.enforceable = enforceable;
+    }
+
+    public static ResponseDedupKey of(Long surveyId, String deviceId, String ipAddress) {
+        boolean hasDeviceId = deviceId != null && !deviceId.trim().isEmpty();
+        boolean hasIpAddress = ipAddress != null && !ipAddress.trim().isEmpty();
+
+        if (!hasDeviceId && !hasIpAddress) {
+            String defaultDeviceId = "UNKNOWN_DEVICE_" + surveyId + "_" + UUID.randomUUID();
+            return new ResponseDedupKey(HashUtil.encodeSha256(defaultDeviceId), NONE, false);
+        }
+
+        return new ResponseDedupKey(
+                hasDeviceId ? HashUtil.encodeSha256(deviceId) : NONE,
+                hasIpAddress ? HashUtil.encodeSha256(ipAddress) : NONE,
+                true);
+    }
+
+    public boolean isDeviceOnly() {
+        return enforceable && NONE.equals(ipAddressHash);
+    }
+
+    public boolean isIpAddressOnly() {
+        return enforceable && NONE.equals(deviceIdHash);
+    }
+
+    public boolean isPaired() {
+        return enforceable && !NONE.equals(deviceIdHash) && !NONE.equals(ipAddressHash);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.thinkfast.service.survey;
+
+import com.example.thinkfast.common.aop.ResponseMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 제출 Idempotency-Key 저장소 (Redis)
+ * - 첫 요청은 키를 IN_PROGRESS 로 선점(SET NX)하고, 처리 결과(ResponseMessage)를 TTL 과 함께 저장한다.
+ * - 재시도는 저장된 결과를 GET 1회로 돌려받으므로 DB 조회, 저장 트랜잭션, 알림이 다시 발생하지 않는다.
+ * - Redis 장애 시에는 키 없이 처리한 것과 동일하게 동작한다. (중복 저장은 DB UNIQUE 키가 방지)
+ */
+@Slf4j
+@Component
+public class ResponseIdempotencyStore {
+
+    public static final int MAX_KEY_LENGTH = 128;
+
+    private static final String KEY_PREFIX = "survey:idempotency:";
+    private static final String IN_PROGRESS = "IN_PROGRESS";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${survey.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${survey.idempotency.in-progress-ttl-seconds:30}")
+    private long inProgressTtlSeconds;
+
+    public ResponseIdempotencyStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 키 선점
+     *
+     * @return null 이면 선점 성공 (요청을 처리해야 함), 아니면 저장된 결과 (처리 중이면 RESPONSE_IN_PROGRESS)
+     */
+    public ResponseMessage claim(Long surveyId, String idempotencyKey) {
+        String key = key(surveyId, idempotencyKey);
+        try {
+            String stored = redisTemplate.opsForValue().get(key);
+            if (stored != null) {
+                return toOutcome(stored);
+            }
+
+            Boolean claimed = redisTemplate.opsForValue().setIfAbsent(key, IN_PROGRESS, inProgressTtlSeconds, TimeUnit.SECONDS);
+            if (Boolean.TRUE.equals(claimed)) {
+                return null;
+            }
+
+            // GET 과 SET NX 사이에 다른 요청이 선점한 경우
+            stored = redisTemplate.opsForValue().get(key);
+            return stored != null ? toOutcome(stored) : ResponseMessage.RESPONSE_IN_PROGRESS;
+        } catch (DataAccessException e) {
+            log.warn("[응답 멱등성] Redis 조회 실패, 키 없이 처리: surveyId={}, reason={}", surveyId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 처리 결과 저장
+     * 트랜잭션 밖(제출 저장 트랜잭션이 이미 커밋된 뒤)에서 호출하면 바로 저장한다.
+     * 트랜잭션 안에서 호출하면 커밋 이후 저장하고, 롤백되면 선점을 해제해 재시도가 다시 처리되도록 한다.
+     */
+    public void complete(Long surveyId, String idempotencyKey, ResponseMessage outcome) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            store(surveyId, idempotencyKey, outcome);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    store(surveyId, idempotencyKey, outcome);
+                } else {
+                    release(surveyId, idempotencyKey);
+                }
+            }
+        });
+    }
+
+    /**
+     * 선점 해제 (처리 중 예외 발생 시)
+     */
+    public void release(Long surveyId, String idempotencyKey) {
+        try {
+            redisTemplate.delete(key(surveyId, idempotencyKey));
+        } catch (DataAccessException e) {
+            log.warn("[응답 멱등성] 선점 해제 실패 (TTL 만료 후 해제됨): surveyId={}, reason={}", surveyId, e.getMessage());
+        }
+    }
+
+    private void store(Long surveyId, String idempotencyKey, ResponseMessage outcome) {
+        try {
+            redisTemplate.opsForValue().set(key(surveyId, idempotencyKey), outcome.name(), ttlHours, TimeUnit.HOURS);
+        } catch (DataAccessException e) {
+            log.warn("[응답 멱등성] 결과 저장 실패: surveyId={}, outcome={}, reason={}", surveyId, outcome, e.getMessage());
+        }
+    }
+
+    private ResponseMessage toOutcome(String stored) {
+        if (IN_PROGRESS.equals(stored)) {
+            return ResponseMessage.RESPONSE_IN_PROGRESS;
+        }
+        try {
+            return ResponseMessage.valueOf(stored);
+        } catch (IllegalArgumentException e) {
+            log.warn("[응답 멱등성] 알 수 없는 저장 값: {}", stored);
+            return ResponseMessage.RESPONSE_IN_PROGRESS;
+        }
+    }
+
+    private String key(Long surveyId, String idempotencyKey) {
+        return KEY_PREFIX + surveyId + ":" + idempotencyKey;
+    }
+}
@@ -0,0 +1,516 @@
+package com.example.thinkfast.service.survey;
+
+import com.example.thinkfast.dto.survey.CreateResponseRequest;
+import com.example.thinkfast.dto.survey.PendingSubmission;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 응답 제출 write-behind 버퍼 (opt-in: survey.ingestion.write-behind.enabled)
+ * - 요청 스레드는 검증 후 bounded 큐에 적재하고 즉시 응답한다.
+ * - writer 스레드가 큐를 비우며 여러 제출을 한 트랜잭션으로 group commit 한다.
+ * - 최대 flush 지연(max-flush-latency-ms)을 넘기지 않도록 배치를 끊는다.
+ * - 알림/종료 체크는 group commit 이후 ResponseSubmittedEvent 리스너가 처리한다.
+ * - flush 가 재시도 후에도 실패하면 제출마다 별도 트랜잭션으로 저장해, 한 제출의 오류가 배치 전체를 막지 않게 한다.
+ *   DB 연결/일시 오류로 저장하지 못한 제출과 종료 시 남은 제출은 디스크로 spill 하고, 기동/주기 작업에서 재적재한다.
+ *   그 외 오류로 따로 저장해도 실패한 제출은 dead-letter 파일로 옮긴다. (재적재하지 않음, 원인 확인 후 spill-dir 로 옮기면 다시 저장됨)
+ */
+@Slf4j
+@Component
+public class ResponseIngestionBuffer {
+
+    private static final String SPILL_FILE_PREFIX = "ingestion-spill-";
+    private static final String SPILL_FILE_SUFFIX = ".jsonl";
+    private static final String DEAD_LETTER_FILE_PREFIX = "ingestion-dead-letter-";
+    private static final long POLL_TIMEOUT_MS = 500;
+    // shutdownNow 이후 인터럽트된 writer 가 처리 중이던 배치를 spill 할 때까지 기다리는 시간
+    private static final long INTERRUPTED_FLUSH_TIMEOUT_SECONDS = 10;
+
+    /**
+     * 큐 적재 결과
+     */
+    public enum OfferResult {
+        // 큐에 적재됨 (저장은 writer 스레드가 처리)
+        ACCEPTED,
+        // 같은 설문/디바이스/IP 제출이 이미 대기 중 (중복 응답)
+        DUPLICATE,
+        // 비활성화/종료 중/큐 포화 → 호출부에서 동기 경로로 처리
+        REJECTED
+    }
+
+    private final ResponseService responseService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${survey.ingestion.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${survey.ingestion.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${survey.ingestion.write-behind.writer-threads:2}")
+    private int writerThreads;
+
+    @Value("${survey.ingestion.write-behind.max-batch-size:200}")
+    private int maxBatchSize;
+
+    @Value("${survey.ingestion.write-behind.max-flush-latency-ms:200}")
+    private long maxFlushLatencyMs;
+
+    @Value("${survey.ingestion.write-behind.flush-retries:3}")
+    private int flushRetries;
+
+    @Value("${survey.ingestion.write-behind.shutdown-timeout-seconds:30}")
+    private long shutdownTimeoutSeconds;
+
+    @Value("${survey.ingestion.write-behind.spill-dir:./data/ingestion-spill}")
+    private String spillDir;
+
+    @Value("${survey.ingestion.write-behind.dead-letter-dir:./data/ingestion-dead-letter}")
+    private String deadLetterDir;
+
+    private BlockingQueue<PendingSubmission> queue;
+    private ExecutorService writers;
+    private volatile boolean accepting;
+    private volatile boolean running;
+
+    // 접수되었지만 아직 커밋되지 않은 제출 키 (flush 전 중복 제출 방지)
+    private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+
+    private Counter acceptedCounter;
+    private Counter rejectedCounter;
+    private Counter spilledCounter;
+    private Counter deadLetteredCounter;
+    private Counter failedFlushCounter;
+    private Timer flushTimer;
+    private DistributionSummary batchSizeSummary;
+
+    public ResponseIngestionBuffer(ResponseService responseService,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry) {
+        this.responseService = responseService;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        registerMetrics();
+
+        running = true;
+        accepting = true;
+        AtomicInteger threadIndex = new AtomicInteger();
+        writers = Executors.newFixedThreadPool(writerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "ingestion-writer-" + threadIndex.incrementAndGet());
+            thread.setDaemon(false);
+            return thread;
+        });
+        for (int i = 0; i < writerThreads; i++) {
+            writers.submit(this::drainLoop);
+        }
+
+        log.info("[응답 write-behind] 활성화: queueCapacity={}, writerThreads={}, maxBatchSize={}, maxFlushLatencyMs={}",
+                queueCapacity, writerThreads, maxBatchSize, maxFlushLatencyMs);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 같은 설문/디바이스/IP 조합의 제출이 아직 flush 대기 중인지 확인
+     */
+    public boolean isPending(Long surveyId, String deviceId, String ipAddress) {
+        return enabled && pendingKeys.contains(pendingKey(surveyId, deviceId, ipAddress));
+    }
+
+    /**
+     * 제출을 큐에 적재
+     *
+     * @return 적재 결과 (REJECTED 면 호출부에서 동기 경로로 처리)
+     */
+    public OfferResult offer(Long surveyId, String ipAddress, CreateResponseRequest createResponseRequest) {
+        if (!enabled || !accepting) {
+            return OfferResult.REJECTED;
+        }
+
+        String deviceId = createResponseRequest.getClientInfo() != null
+                ? createResponseRequest.getClientInfo().getDeviceId()
+                : null;
+        PendingSubmission submission = new PendingSubmission(
+                surveyId,
+                responseService.getRandomUuid(),
+                ipAddress,
+                deviceId,
+                createResponseRequest.getAnswers(),
+                System.currentTimeMillis()
+        );
+
+        String key = pendingKey(surveyId, deviceId, ipAddress);
+        if (!pendingKeys.add(key)) {
+            // 같은 키의 제출이 이미 대기 중 (호출부의 isPending 체크와 경합한 경우)
+            return OfferResult.DUPLICATE;
+        }
+        if (!queue.offer(submission)) {
+            pendingKeys.remove(key);
+            rejectedCounter.increment();
+            log.warn("[응답 write-behind] 큐 포화로 동기 저장 경로 사용: surveyId={}, queueDepth={}", surveyId, queue.size());
+            return OfferResult.REJECTED;
+        }
+
+        acceptedCounter.increment();
+        return OfferResult.ACCEPTED;
+    }
+
+    private void drainLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<PendingSubmission> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[응답 write-behind] writer 루프 예외", e);
+            }
+        }
+    }
+
+    /**
+     * 배치 구성: 첫 제출이 접수된 시점부터 max-flush-latency-ms 가 지나거나 max-batch-size 에 도달하면 끊는다.
+     * 배치 구성 중 인터럽트(종료 시 shutdownNow)되면 이미 꺼낸 제출을 버리지 않도록 그때까지의 배치를 돌려준다.
+     * (인터럽트 상태는 유지되어 flush/spill 후 writer 루프가 종료된다)
+     */
+    private List<PendingSubmission> nextBatch() throws InterruptedException {
+        PendingSubmission first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return Collections.emptyList();
+        }
+
+        List<PendingSubmission> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+        long deadline = first.getAcceptedAtMillis() + maxFlushLatencyMs;
+
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.currentTimeMillis();
+            if (batch.size() >= maxBatchSize || remaining <= 0 || !running) {
+                break;
+            }
+            PendingSubmission next;
+            try {
+                next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void flush(List<PendingSubmission> batch) {
+        batchSizeSummary.record(batch.size());
+
+        boolean committed = false;
+        for (int attempt = 1; attempt <= flushRetries && !committed; attempt++) {
+            long start = System.nanoTime();
+            try {
+                responseService.createResponses(batch);
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                committed = true;
+            } catch (Exception e) {
+                failedFlushCounter.increment();
+                log.warn("[응답 write-behind] group commit 실패 ({}/{}): batchSize={}, reason={}",
+                        attempt, flushRetries, batch.size(), e.getMessage());
+                if (Thread.currentThread().isInterrupted()) {
+                    // 종료 중 인터럽트: 재시도하지 않고 바로 spill
+                    break;
+                }
+                if (attempt < flushRetries) {
+                    sleepQuietly(200L * attempt);
+                }
+            }
+        }
+
+        if (!committed) {
+            // 종료 중 인터럽트면 따로 저장하지 않고 바로 spill
+            spill(Thread.currentThread().isInterrupted() ? batch : saveIndividually(batch));
+        }
+
+        for (PendingSubmission submission : batch) {
+            pendingKeys.remove(pendingKey(submission.getSurveyId(), submission.getDeviceId(), submission.getIpAddress()));
+        }
+    }
+
+    /**
+     * 제출을 하나씩 별도 트랜잭션으로 저장 (group commit 이 재시도 후에도 실패한 경우)
+     * DB 연결/일시 오류가 나면 남은 제출도 저장할 수 없으므로 더 시도하지 않고 돌려준다.
+     * 그 외 오류로 실패한 제출은 다시 시도해도 같은 결과이므로 dead-letter 파일로 옮긴다.
+     *
+     * @return 일시 오류로 저장하지 못해 spill 해야 하는 제출
+     */
+    private List<PendingSubmission> saveIndividually(List<PendingSubmission> submissions) {
+        List<PendingSubmission> unsaved = new ArrayList<>();
+        List<PendingSubmission> deadLetters = new ArrayList<>();
+        for (int i = 0; i < submissions.size(); i++) {
+            PendingSubmission submission = submissions.get(i);
+            try {
+                responseService.createResponses(Collections.singletonList(submission));
+            } catch (Exception e) {
+                if (isTransient(e) || Thread.currentThread().isInterrupted()) {
+                    log.warn("[응답 write-behind] 개별 저장 중 일시 오류, 남은 제출은 spill: remaining={}, reason={}",
+                            submissions.size() - i, e.getMessage());
+                    unsaved.addAll(submissions.subList(i, submissions.size()));
+                    break;
+                }
+                log.error("[응답 write-behind] 개별 저장 실패, dead-letter 로 이동: surveyId={}, sessionId={}",
+                        submission.getSurveyId(), submission.getResponseSessionId(), e);
+                deadLetters.add(submission);
+            }
+        }
+        deadLetter(deadLetters);
+        return unsaved;
+    }
+
+    // 연결 실패/타임아웃 등 DB 가 회복되면 저장될 수 있는 오류
+    private boolean isTransient(Exception e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    /**
+     * 저장하지 못한 제출을 spill 파일로 기록 (재적재 대상)
+     *
+     * @return 기록할 제출이 없거나 기록에 성공하면 true
+     */
+    private boolean spill(List<PendingSubmission> submissions) {
+        if (submissions.isEmpty()) {
+            return true;
+        }
+        if (!write(submissions, spillDir, SPILL_FILE_PREFIX)) {
+            return false;
+        }
+        spilledCounter.increment(submissions.size());
+        return true;
+    }
+
+    /**
+     * 저장할 수 없는 제출을 dead-letter 파일로 기록 (재적재 대상 아님)
+     */
+    private void deadLetter(List<PendingSubmission> submissions) {
+        if (write(submissions, deadLetterDir, DEAD_LETTER_FILE_PREFIX)) {
+            deadLetteredCounter.increment(submissions.size());
+        }
+    }
+
+    /**
+     * 제출을 JSON Lines 파일로 기록 (fsync 포함)
+     * 종료 시 인터럽트된 writer 스레드에서도 호출되므로, 인터럽트에 닫히는 FileChannel 대신 FileOutputStream 을 쓰고
+     * 기록하는 동안 인터럽트 상태를 비워 두었다가 복원한다.
+     *
+     * @return 기록 성공 여부 (기록할 제출이 없으면 false)
+     */
+    private boolean write(List<PendingSubmission> submissions, String dir, String filePrefix) {
+        if (submissions.isEmpty()) {
+            return false;
+        }
+
+        boolean interrupted = Thread.interrupted();
+        Path file = Paths.get(dir, filePrefix + System.currentTimeMillis() + "-" + UUID.randomUUID() + SPILL_FILE_SUFFIX);
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileOutputStream out = new FileOutputStream(file.toFile());
+                 BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+                for (PendingSubmission submission : submissions) {
+                    writer.write(objectMapper.writeValueAsString(submission));
+                    writer.newLine();
+                }
+                writer.flush();
+                out.getFD().sync();
+            }
+            log.warn("[응답 write-behind] 저장하지 못한 제출을 디스크에 기록: file={}, count={}", file, submissions.size());
+            return true;
+        } catch (IOException e) {
+            // 디스크 기록까지 실패하면 유실되므로 원문을 로그로 남긴다
+            log.error("[응답 write-behind] 디스크 기록 실패, 제출 유실 위험: file={}, count={}", file, submissions.size(), e);
+            for (PendingSubmission submission : submissions) {
+                try {
+                    log.error("[응답 write-behind] 유실 제출: {}", objectMapper.writeValueAsString(submission));
+                } catch (IOException ignored) {
+                    log.error("[응답 write-behind] 유실 제출: surveyId={}, sessionId={}",
+                            submission.getSurveyId(), submission.getResponseSessionId());
+                }
+            }
+            return false;
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * spill 파일 재적재 (기동 직후 및 주기적으로 실행)
+     * 파일 하나를 한 트랜잭션으로 저장한다. 일부만 커밋된 채 파일이 남으면 다음 재적재에서 앞부분의 답변이 다시 저장되므로
+     * 나눠서 커밋하지 않는다. (커밋 후 파일 삭제 전에 종료되어도 이력 UNIQUE 키로 전부 중복 제외됨)
+     * 파일 단위 저장이 실패하면 flush 와 같이 제출마다 따로 저장하고, 일시 오류로 남은 제출만 새 spill 파일로 옮긴다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${survey.ingestion.write-behind.spill-replay-interval-ms:60000}")
+    public void replaySpilledSubmissions() {
+        Path dir = Paths.get(spillDir);
+        if (!enabled || !running || !Files.isDirectory(dir)) {
+            return;
+        }
+
+        // 처리 중 새로 기록하는 spill 파일은 이번 주기에 다시 읽지 않도록 목록을 먼저 고정
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, SPILL_FILE_PREFIX + "*" + SPILL_FILE_SUFFIX)) {
+            stream.forEach(files::add);
+        } catch (IOException e) {
+            log.error("[응답 write-behind] spill 디렉터리 처리 실패: dir={}", dir, e);
+            return;
+        }
+
+        for (Path file : files) {
+            try {
+                List<PendingSubmission> submissions = new ArrayList<>();
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    if (!line.trim().isEmpty()) {
+                        submissions.add(objectMapper.readValue(line, PendingSubmission.class));
+                    }
+                }
+
+                try {
+                    responseService.createResponses(submissions);
+                } catch (Exception e) {
+                    log.warn("[응답 write-behind] spill 재적재 실패, 제출별로 저장: file={}, reason={}", file, e.getMessage());
+                    List<PendingSubmission> unsaved = saveIndividually(submissions);
+                    // 하나도 처리하지 못했거나 남은 제출을 옮기지 못하면 파일을 그대로 두고 다음 주기에 재시도
+                    // (이미 저장된 제출은 다음 재적재에서 이력 UNIQUE 키로 중복 제외됨)
+                    if (unsaved.size() == submissions.size() || !spill(unsaved)) {
+                        continue;
+                    }
+                }
+
+                Files.delete(file);
+                log.info("[응답 write-behind] spill 재적재 완료: file={}, count={}", file, submissions.size());
+            } catch (IOException e) {
+                log.error("[응답 write-behind] spill 파일 처리 실패: file={}", file, e);
+            }
+        }
+    }
+
+    /**
+     * 종료 시 신규 접수를 막고 남은 큐를 flush, 시간 내에 처리하지 못한 제출은 spill
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled || writers == null) {
+            return;
+        }
+
+        accepting = false;
+        running = false;
+        writers.shutdown();
+        try {
+            if (!writers.awaitTermination(shutdownTimeoutSeconds, TimeUnit.SECONDS)) {
+                log.warn("[응답 write-behind] writer 종료 대기 시간 초과");
+                // 인터럽트된 writer 는 처리 중이던 배치를 바로 spill 하고 종료한다
+                writers.shutdownNow();
+                writers.awaitTermination(INTERRUPTED_FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            writers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        List<PendingSubmission> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        spill(remaining);
+        log.info("[응답 write-behind] 종료 완료: spilled={}", remaining.size());
+    }
+
+    private void registerMetrics() {
+        Gauge.builder("survey.ingestion.queue.depth", queue, BlockingQueue::size)
+                .description("write-behind 큐에 대기 중인 제출 수")
+                .register(meterRegistry);
+        Gauge.builder("survey.ingestion.queue.remaining", queue, BlockingQueue::remainingCapacity)
+                .description("write-behind 큐 잔여 용량")
+                .register(meterRegistry);
+        acceptedCounter = Counter.builder("survey.ingestion.accepted").register(meterRegistry);
+        rejectedCounter = Counter.builder("survey.ingestion.rejected")
+                .description("큐 포화로 동기 경로로 넘어간 제출 수")
+                .register(meterRegistry);
+        spilledCounter = Counter.builder("survey.ingestion.spilled").register(meterRegistry);
+        deadLetteredCounter = Counter.builder("survey.ingestion.dead-lettered")
+                .description("따로 저장해도 실패해 dead-letter 파일로 옮긴 제출 수")
+                .register(meterRegistry);
+        failedFlushCounter = Counter.builder("survey.ingestion.flush.failed").register(meterRegistry);
+        flushTimer = Timer.builder("survey.ingestion.flush").register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder("survey.ingestion.batch.size").register(meterRegistry);
+    }
+
+    private String pendingKey(Long surveyId, String deviceId, String ipAddress) {
+        return surveyId + "|" + deviceId + "|" + ipAddress;
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
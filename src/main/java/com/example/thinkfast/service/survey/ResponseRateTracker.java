@@ -0,0 +1,110 @@
+package com.example.thinkfast.service.survey;
+
+import com.example.thinkfast.service.survey.event.ResponseSubmittedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 설문별 최근 제출 수 링 버퍼 (분 단위)
+ * - 슬롯 하나에 (epochMinute << 32 | count) 를 저장하고 CAS 로 갱신하므로, 제출 스레드끼리 락을 잡지 않는다.
+ * - 슬롯의 분이 현재 분과 다르면 지난 주기의 값이므로 1 로 덮어쓴다. (ring-minutes 이전 분은 자연히 사라짐)
+ * - 이 노드에서 커밋된 제출만 기록하므로, 아직 rollup 되지 않은 최근 분에 대해서만 사용한다. (ResponseTimelineService)
+ */
+@Component
+public class ResponseRateTracker {
+
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+    private final ConcurrentHashMap<Long, Ring> rings = new ConcurrentHashMap<>();
+
+    @Value("${survey.timeline.ring-minutes:120}")
+    private int ringMinutes;
+
+    /**
+     * 커밋된 제출 1건 기록
+     */
+    public void record(ResponseSubmittedEvent event) {
+        long minute = epochMinute(LocalDateTime.now());
+        rings.computeIfAbsent(event.getSurveyId(), id -> new Ring(ringMinutes)).increment(minute);
+    }
+
+    /**
+     * 링 버퍼가 보관하는 가장 오래된 분 (현재 분 포함 ring-minutes 개)
+     */
+    public LocalDateTime coverageStart() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).minusMinutes(ringMinutes - 1L);
+    }
+
+    /**
+     * [from, to) 구간의 분별 제출 수
+     * 링 범위(coverageStart 이전)를 벗어난 분은 0 으로 채운다.
+     *
+     * @return 길이 = 구간의 분 수, index 0 = from
+     */
+    public long[] countsBetween(Long surveyId, LocalDateTime from, LocalDateTime to) {
+        long fromMinute = epochMinute(from);
+        long toMinute = epochMinute(to);
+        long[] counts = new long[(int) Math.max(0L, toMinute - fromMinute)];
+
+        Ring ring = rings.get(surveyId);
+        if (ring == null) {
+            return counts;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = ring.get(fromMinute + i);
+        }
+        return counts;
+    }
+
+    /**
+     * 마지막 제출 이후 ring-minutes 가 지난 설문의 링 정리
+     *
+     * @return 정리된 설문 수
+     */
+    public int evictIdle() {
+        long threshold = epochMinute(LocalDateTime.now()) - ringMinutes;
+        int before = rings.size();
+        rings.values().removeIf(ring -> ring.lastMinute < threshold);
+        return before - rings.size();
+    }
+
+    public int size() {
+        return rings.size();
+    }
+
+    public static long epochMinute(LocalDateTime time) {
+        return time.truncatedTo(ChronoUnit.MINUTES).toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private static final class Ring {
+        private final AtomicLongArray slots;
+        private volatile long lastMinute;
+
+        private Ring(int size) {
+            this.slots = new AtomicLongArray(size);
+        }
+
+        private void increment(long minute) {
+            int index = (int) (minute % slots.length());
+            while (true) {
+                long current = slots.get(index);
+                long next = (current >>> 32) == minute ? current + 1 : (minute << 32) | 1L;
+                if (slots.compareAndSet(index, current, next)) {
+                    break;
+                }
+            }
+            lastMinute = minute;
+        }
+
+        private long get(long minute) {
+            long value = slots.get((int) (minute % slots.length()));
+            return (value >>> 32) == minute ? value & COUNT_MASK : 0L;
+        }
+    }
+}
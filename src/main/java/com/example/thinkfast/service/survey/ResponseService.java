@@ -1,28 +1,37 @@
 package com.example.thinkfast.service.survey;
 
-import com.example.thinkfast.common.utils.HashUtil;
 import com.example.thinkfast.domain.survey.Option;
 import com.example.thinkfast.domain.survey.Question;
 import com.example.thinkfast.domain.survey.Response;
 import com.example.thinkfast.domain.survey.SurveyResponseHistory;
 import com.example.thinkfast.dto.survey.CreateResponseRequest;
 import com.example.thinkfast.dto.survey.PaginationDto;
+import com.example.thinkfast.dto.survey.PendingSubmission;
 import com.example.thinkfast.dto.survey.QuestionResponsesResponseDto;
+import com.example.thinkfast.dto.survey.ResponseCountDelta;
 import com.example.thinkfast.dto.survey.ResponseItemDto;
 import com.example.thinkfast.repository.auth.UserRepository;
 import com.example.thinkfast.repository.survey.OptionRepository;
 import com.example.thinkfast.repository.survey.QuestionRepository;
+import com.example.thinkfast.repository.survey.ResponseJdbcRepository;
+import com.example.thinkfast.repository.survey.ResponseCountJdbcRepository;
 import com.example.thinkfast.repository.survey.ResponseRepository;
-import com.example.thinkfast.repository.survey.SurveyResponseHistoryRepository;
 import com.example.thinkfast.security.UserDetailImpl;
 import lombok.RequiredArgsConstructor;
+import com.example.thinkfast.service.survey.event.ResponseSubmittedEvent;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -34,75 +43,192 @@ import java.util.stream.Collectors;
 public class ResponseService {
     private final ResponseRepository responseRepository;
     private final UserRepository userRepository;
-    private final SurveyResponseHistoryRepository surveyResponseHistoryRepository;
+    private final ResponseJdbcRepository responseJdbcRepository;
+    private final ResponseCountJdbcRepository responseCountJdbcRepository;
     private final QuestionRepository questionRepository;
     private final OptionRepository optionRepository;
-    private final SurveyService surveyService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DuplicateResponseChecker duplicateResponseChecker;
 
+    /**
+     * 설문 응답 저장
+     * 응답 이력을 먼저 저장하고, 중복 제출(ResponseDedupKey 정책)이면 답변을 저장하지 않는다.
+     * 한 번의 제출에 포함된 모든 응답은 multi-row INSERT 한 문장으로 저장한다. (답변 수만큼의 round trip 제거)
+     * 응답 수 집계 테이블도 같은 트랜잭션에서 증가시킨다. (재집계와의 잠금 순서를 위해 답변 저장보다 먼저)
+     *
+     * @return 저장 여부 (false 면 이미 응답한 제출)
+     */
     @Transactional
-    public void createResponse(UserDetailImpl userDetail, Long surveyId, String ipAddress, CreateResponseRequest createResponseRequest){
+    public boolean createResponse(UserDetailImpl userDetail, Long surveyId, String ipAddress, CreateResponseRequest createResponseRequest){
+        String deviceId = createResponseRequest.getClientInfo() != null 
+            ? createResponseRequest.getClientInfo().getDeviceId() 
+            : null;
+        if (!this.createSurveyResponseHistory(surveyId, ipAddress, deviceId)) {
+            return false;
+        }
+
+        ResponseCountDelta countDelta = new ResponseCountDelta();
+        countDelta.addSubmission(surveyId, createResponseRequest.getAnswers());
+        responseCountJdbcRepository.increment(countDelta);
+
         String responseSessionId = getRandomUuid();
-        LocalDateTime now = LocalDateTime.now();
+        List<Response> responses = buildResponses(responseSessionId, createResponseRequest.getAnswers(), LocalDateTime.now());
+        responseJdbcRepository.insertAll(responses);
+
+        // 종료 체크, 알림 등 후속 처리는 커밋 이후 ResponseSubmittedEventListener 에서 비동기로 수행
+        publishResponseSubmitted(surveyId, responseSessionId, createResponseRequest.getAnswers());
+        return true;
+    }
+
+    /**
+     * write-behind 모드의 group commit
+     * 여러 제출을 한 트랜잭션으로 저장한다. 이력은 제출마다 중복 정책(ResponseDedupKey)에 따라 저장하고,
+     * 저장된 제출의 답변만 하나의 multi-row INSERT 로 저장한다.
+     * 저장된 제출마다 ResponseSubmittedEvent 를 발행하며, 후속 처리는 커밋 이후 리스너에서 수행된다.
+     *
+     * @param submissions 접수된 제출 목록
+     * @return 실제로 저장된 제출 목록 (중복 제출 제외)
+     */
+    @Transactional
+    public List<PendingSubmission> createResponses(List<PendingSubmission> submissions) {
+        List<PendingSubmission> accepted = new ArrayList<>(submissions.size());
+        List<Response> responses = new ArrayList<>();
+        ResponseCountDelta countDelta = new ResponseCountDelta();
+        for (PendingSubmission submission : submissions) {
+            ResponseDedupKey dedupKey = ResponseDedupKey.of(submission.getSurveyId(), submission.getDeviceId(), submission.getIpAddress());
+            SurveyResponseHistory history = buildSurveyResponseHistory(submission.getSurveyId(), dedupKey);
+            if (!insertHistoryIfAbsent(dedupKey, history)) {
+                log.warn("[응답 group commit] 중복 제출 제외: surveyId={}, sessionId={}",
+                        submission.getSurveyId(), submission.getResponseSessionId());
+                continue;
+            }
+            LocalDateTime acceptedAt = LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(submission.getAcceptedAtMillis()), ZoneId.systemDefault());
+            responses.addAll(buildResponses(submission.getResponseSessionId(), submission.getAnswers(), acceptedAt));
+            countDelta.addSubmission(submission.getSurveyId(), submission.getAnswers());
+            recordDuplicateCheckAfterCommit(history);
+            publishResponseSubmitted(submission.getSurveyId(), submission.getResponseSessionId(), submission.getAnswers());
+            accepted.add(submission);
+        }
 
-        for (CreateResponseRequest.CreateResponseDto createResponseDto : createResponseRequest.getAnswers()){
+        responseCountJdbcRepository.increment(countDelta);
+        responseJdbcRepository.insertAll(responses);
+        return accepted;
+    }
+
+    /**
+     * 응답 이력 저장 (중복 정책은 ResponseDedupKey)
+     *
+     * @return 저장 여부 (false 면 이미 응답한 제출)
+     */
+    public boolean createSurveyResponseHistory(Long surveyId, String ipAddress, String deviceId){
+        log.info("[응답 이력 저장 시작] surveyId={}, deviceId={}, ipAddress={}", 
+            surveyId,
+            deviceId != null ? (deviceId.length() > 20 ? deviceId.substring(0, 20) + "..." : deviceId) : "null",
+            ipAddress != null ? ipAddress : "null");
+
+        ResponseDedupKey dedupKey = ResponseDedupKey.of(surveyId, deviceId, ipAddress);
+        SurveyResponseHistory surveyResponseHistory = buildSurveyResponseHistory(surveyId, dedupKey);
+        if (!insertHistoryIfAbsent(dedupKey, surveyResponseHistory)) {
+            log.warn("[응답 이력 저장 생략] surveyId={}, deviceIdHash={}, ipAddressHash={}, 사유=중복 응답",
+                surveyId, surveyResponseHistory.getDeviceIdHash(), surveyResponseHistory.getIpAddressHash());
+            return false;
+        }
+        recordDuplicateCheckAfterCommit(surveyResponseHistory);
+        
+        log.info("[응답 이력 저장 완료] surveyId={}, deviceIdHash={}, ipAddressHash={}", 
+            surveyId, surveyResponseHistory.getDeviceIdHash(), surveyResponseHistory.getIpAddressHash());
+        return true;
+    }
+
+    private List<Response> buildResponses(String responseSessionId,
+                                          List<CreateResponseRequest.CreateResponseDto> answers,
+                                          LocalDateTime createdAt) {
+        List<Response> responses = new ArrayList<>(answers.size());
+        for (CreateResponseRequest.CreateResponseDto createResponseDto : answers){
             Response response = Response.builder()
                     .responseSessionId(responseSessionId)
                     .questionId(createResponseDto.getQuestionId())
                     .optionId(createResponseDto.getOptionId())
                     .subjectiveContent(createResponseDto.getContent())
                     .questionType(createResponseDto.getType().toString())
-                    .createdAt(now)
+                    .createdAt(createdAt)
                     .build();
-            Response result =  responseRepository.save(response);
+            responses.add(response);
         }
-
-        String deviceId = createResponseRequest.getClientInfo() != null 
-            ? createResponseRequest.getClientInfo().getDeviceId() 
-            : null;
-        this.createSurveyResponseHistory(surveyId, ipAddress, deviceId);
-
-        // 응답 등록 후 설문 종료 여부 확인 및 리포트 업데이트
-        // 설문이 종료되었다면 summary, insight, statistics, wordcloud가 업데이트됨
-        surveyService.checkAndUpdateExpiredSurveyReports(surveyId);
+        return responses;
     }
 
-    public void createSurveyResponseHistory(Long surveyId, String ipAddress, String deviceId){
-        log.info("[응답 이력 저장 시작] surveyId={}, deviceId={}, ipAddress={}", 
-            surveyId,
-            deviceId != null ? (deviceId.length() > 20 ? deviceId.substring(0, 20) + "..." : deviceId) : "null",
-            ipAddress != null ? ipAddress : "null");
-        
-        // deviceId가 null이거나 빈 값이면 기본값 사용 (DEVICE_ID_HASH는 nullable=false이므로)
-        // 단, 기본값을 사용하면 중복 체크에서 제외됨 (SurveyService에서 null 체크)
-        boolean isDeviceIdEmpty = (deviceId == null || deviceId.trim().isEmpty());
-        String deviceIdHash;
-        if (isDeviceIdEmpty) {
-            String defaultDeviceId = "UNKNOWN_DEVICE_" + surveyId + "_" + System.currentTimeMillis();
-            deviceIdHash = HashUtil.encodeSha256(defaultDeviceId);
-            log.warn("[응답 이력 저장] surveyId={}, deviceId가 null/빈 값이어서 기본값 사용: {}", surveyId, defaultDeviceId);
-        } else {
-            deviceIdHash = HashUtil.encodeSha256(deviceId);
+    /**
+     * 중복 정책에 따라 이력 저장 (같은 트랜잭션에서 claim 과 이력을 함께 기록)
+     * - deviceId 만 / IP 만: 그 쪽 claim 이 이미 있으면 중복 (같은 deviceId/IP 의 이력이 있음)
+     * - deviceId + IP: 이력 UNIQUE 키로 판정하고, 저장되면 양쪽 claim 을 남겨 이후 한쪽만 있는 제출이 판정할 수 있게 한다.
+     *
+     * @return 저장 여부 (false 면 이미 응답한 제출)
+     */
+    private boolean insertHistoryIfAbsent(ResponseDedupKey dedupKey, SurveyResponseHistory history) {
+        Long surveyId = history.getSurveyId();
+        if (dedupKey.isDeviceOnly()
+                && responseJdbcRepository.claimIfAbsent(surveyId, ResponseJdbcRepository.CLAIM_DEVICE, dedupKey.getDeviceIdHash()) == 0) {
+            return false;
         }
-        
-        // ipAddress는 nullable이므로 null 허용
-        boolean isIpAddressEmpty = (ipAddress == null || ipAddress.trim().isEmpty());
-        String ipAddressHash;
-        if (isIpAddressEmpty) {
-            ipAddressHash = null;
-            log.warn("[응답 이력 저장] surveyId={}, ipAddress가 null/빈 값이어서 null로 저장", surveyId);
-        } else {
-            ipAddressHash = HashUtil.encodeSha256(ipAddress);
+        if (dedupKey.isIpAddressOnly()
+                && responseJdbcRepository.claimIfAbsent(surveyId, ResponseJdbcRepository.CLAIM_IP_ADDRESS, dedupKey.getIpAddressHash()) == 0) {
+            return false;
+        }
+        if (responseJdbcRepository.insertHistoryIfAbsent(history) == 0) {
+            return false;
+        }
+        if (dedupKey.isPaired()) {
+            responseJdbcRepository.claimIfAbsent(surveyId, ResponseJdbcRepository.CLAIM_DEVICE, dedupKey.getDeviceIdHash());
+            responseJdbcRepository.claimIfAbsent(surveyId, ResponseJdbcRepository.CLAIM_IP_ADDRESS, dedupKey.getIpAddressHash());
+        }
+        return true;
+    }
+
+    private SurveyResponseHistory buildSurveyResponseHistory(Long surveyId, ResponseDedupKey dedupKey) {
+        // deviceId / IP 가 없으면 NONE 으로 정규화 (UNIQUE 키가 NULL 로 우회되지 않도록)
+        // 둘 다 없으면 매번 다른 기본 deviceId 해시를 사용하므로 중복 체크에서 제외됨
+        if (!dedupKey.isEnforceable()) {
+            log.warn("[응답 이력 저장] surveyId={}, deviceId와 IP가 모두 없어서 기본값 사용 (중복 체크 불가)", surveyId);
         }
 
-        SurveyResponseHistory surveyResponseHistory = SurveyResponseHistory.builder()
+        return SurveyResponseHistory.builder()
                 .surveyId(surveyId)
-                .deviceIdHash(deviceIdHash)
-                .ipAddressHash(ipAddressHash)
+                .deviceIdHash(dedupKey.getDeviceIdHash())
+                .ipAddressHash(dedupKey.getIpAddressHash())
+                .respondedAt(LocalDateTime.now())
                 .build();
-        surveyResponseHistoryRepository.save(surveyResponseHistory);
-        
-        log.info("[응답 이력 저장 완료] surveyId={}, deviceIdHash={}, ipAddressHash={}", 
-            surveyId, deviceIdHash, ipAddressHash != null ? ipAddressHash : "null");
+    }
+
+    private void publishResponseSubmitted(Long surveyId, String responseSessionId,
+                                          List<CreateResponseRequest.CreateResponseDto> answers) {
+        List<ResponseSubmittedEvent.Answer> eventAnswers = new ArrayList<>(answers.size());
+        for (CreateResponseRequest.CreateResponseDto answer : answers) {
+            eventAnswers.add(new ResponseSubmittedEvent.Answer(
+                    answer.getQuestionId(), answer.getType().toString(), answer.getOptionId()));
+        }
+        eventPublisher.publishEvent(new ResponseSubmittedEvent(surveyId, responseSessionId, eventAnswers));
+    }
+
+    /**
+     * 저장된 이력을 커밋 이후 중복 응답 판별기(Redis)에 반영
+     * 롤백된 이력이 캐시에 남지 않도록 afterCommit 에서 처리한다.
+     */
+    private void recordDuplicateCheckAfterCommit(SurveyResponseHistory history) {
+        Runnable record = () -> duplicateResponseChecker.recordResponse(
+                history.getSurveyId(), history.getDeviceIdHash(), history.getIpAddressHash());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record.run();
+            }
+        });
     }
 
     public String getRandomUuid(){
@@ -0,0 +1,164 @@
+package com.example.thinkfast.service.survey;
+
+import com.example.thinkfast.dto.survey.ResponseTimelineResponse;
+import com.example.thinkfast.repository.survey.ResponseRollupJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 설문 제출 추이 (분/시간/일 단위 제출 수)
+ * - rollup 이 끝난 분(watermark 이전)은 SURVEY_RESPONSE_ROLLUPS 에서 조회한다.
+ * - 아직 rollup 되지 않은 최근 분은 ResponseRateTracker 링 버퍼에서 채운다.
+ * - 조회 요청에서 RESPONSES / SURVEY_RESPONSE_HISTORY 를 직접 집계하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResponseTimelineService {
+
+    private final ResponseRollupJdbcRepository responseRollupJdbcRepository;
+    private final ResponseRateTracker responseRateTracker;
+
+    // 마지막 rollup 구간을 다시 집계하는 범위 (rollup 이후 커밋된 제출 반영)
+    @Value("${survey.timeline.rollup-lag-minutes:5}")
+    private int rollupLagMinutes;
+
+    public enum Granularity {
+        MINUTE(ChronoUnit.MINUTES, ResponseRollupJdbcRepository.GRANULARITY_MINUTE, 1440),
+        HOUR(ChronoUnit.HOURS, ResponseRollupJdbcRepository.GRANULARITY_HOUR, 744),
+        DAY(ChronoUnit.DAYS, ResponseRollupJdbcRepository.GRANULARITY_DAY, 366);
+
+        private final ChronoUnit unit;
+        private final String format;
+        private final int maxLimit;
+
+        Granularity(ChronoUnit unit, String format, int maxLimit) {
+            this.unit = unit;
+            this.format = format;
+            this.maxLimit = maxLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public static Granularity of(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("지원하지 않는 granularity 입니다: " + value);
+            }
+        }
+
+        private LocalDateTime truncate(LocalDateTime time) {
+            return time.truncatedTo(unit);
+        }
+    }
+
+    /**
+     * 설문 제출 추이 조회
+     *
+     * @param granularity minute / hour / day
+     * @param limit 현재 구간을 포함한 최근 구간 수 (1 ~ granularity 별 최대값)
+     * @throws IllegalArgumentException granularity 또는 limit 이 유효하지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public ResponseTimelineResponse getTimeline(Long surveyId, String granularity, int limit) {
+        Granularity g = Granularity.of(granularity);
+        if (limit < 1 || limit > g.getMaxLimit()) {
+            throw new IllegalArgumentException("limit 은 1 이상 " + g.getMaxLimit() + " 이하여야 합니다: " + limit);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime to = g.truncate(now).plus(1, g.unit);
+        LocalDateTime from = to.minus(limit, g.unit);
+        LocalDateTime watermark = responseRollupJdbcRepository.findWatermark();
+
+        // 1. rollup 이 끝난 구간
+        Map<LocalDateTime, Long> counts = new HashMap<>();
+        LocalDateTime rollupTo = watermark.isBefore(to) ? watermark : to;
+        if (from.isBefore(rollupTo)) {
+            counts.putAll(responseRollupJdbcRepository.findBuckets(surveyId, g.format, from, rollupTo));
+        }
+
+        // 2. 아직 rollup 되지 않은 최근 분 (링 버퍼)
+        LocalDateTime ringFrom = latest(from, watermark, responseRateTracker.coverageStart());
+        LocalDateTime ringTo = now.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        long[] recent = responseRateTracker.countsBetween(surveyId, ringFrom, ringTo);
+        for (int i = 0; i < recent.length; i++) {
+            if (recent[i] > 0) {
+                counts.merge(g.truncate(ringFrom.plusMinutes(i)), recent[i], Long::sum);
+            }
+        }
+
+        // 3. 빈 구간 0 으로 채우기
+        List<ResponseTimelineResponse.Bucket> buckets = new ArrayList<>(limit);
+        long total = 0L;
+        for (LocalDateTime start = from; start.isBefore(to); start = start.plus(1, g.unit)) {
+            long count = counts.getOrDefault(start, 0L);
+            buckets.add(new ResponseTimelineResponse.Bucket(start, count));
+            total += count;
+        }
+        return new ResponseTimelineResponse(g.name().toLowerCase(Locale.ROOT), total, buckets);
+    }
+
+    /**
+     * 여러 설문의 since 이후 제출 수 (스케줄러 적응형 갱신용)
+     *
+     * @return surveyId → 제출 수 (제출이 없는 설문은 포함되지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> countSubmissionsSince(List<Long> surveyIds, LocalDateTime since) {
+        LocalDateTime from = since.truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime watermark = responseRollupJdbcRepository.findWatermark();
+        Map<Long, Long> counts = responseRollupJdbcRepository.sumBySurveyIds(surveyIds, from, watermark);
+
+        LocalDateTime ringFrom = latest(from, watermark, responseRateTracker.coverageStart());
+        LocalDateTime ringTo = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        for (Long surveyId : surveyIds) {
+            long recent = 0L;
+            for (long count : responseRateTracker.countsBetween(surveyId, ringFrom, ringTo)) {
+                recent += count;
+            }
+            if (recent > 0) {
+                counts.merge(surveyId, recent, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 지난 분들의 제출 수를 rollup 테이블에 반영하고 watermark 를 현재 분 시작으로 옮긴다.
+     * 마지막 rollup-lag-minutes 분은 매번 다시 집계하므로 (덮어쓰기) 여러 노드에서 동시에 실행해도 결과는 같다.
+     *
+     * @return 갱신된 rollup row 수
+     */
+    @Transactional
+    public int rollup() {
+        LocalDateTime to = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime from = responseRollupJdbcRepository.findWatermark().minusMinutes(rollupLagMinutes);
+
+        int rows = responseRollupJdbcRepository.rollupMinutes(from, to);
+        responseRollupJdbcRepository.advanceWatermark(to);
+        int evicted = responseRateTracker.evictIdle();
+        log.debug("[제출 추이 rollup] from={}, to={}, rows={}, evictedRings={}", from, to, rows, evicted);
+        return rows;
+    }
+
+    // 링 버퍼 조회 시작 시각: rollup 이 끝난 분과 링이 보관하지 않는 분은 제외
+    private static LocalDateTime latest(LocalDateTime from, LocalDateTime watermark, LocalDateTime coverageStart) {
+        LocalDateTime latest = watermark.isAfter(from) ? watermark : from;
+        return coverageStart.isAfter(latest) ? coverageStart : latest;
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.thinkfast.service.survey;
+
+import com.example.thinkfast.dto.survey.SurveyMetadata;
+import com.example.thinkfast.repository.survey.SurveyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 설문 메타데이터 로컬 캐시 (Caffeine)
+ * - 응답 제출, 결과 조회 권한 확인, 종료 체크, 알림 전송에서 반복되던 설문/소유자 조회를 대체한다.
+ * - 크기 제한(survey.metadata-cache.maximum-size)과 TTL(survey.metadata-cache.ttl-seconds)을 둔다.
+ * - 설문 삭제/종료, 소유자 프로필 변경 시 커밋 이후 무효화하고, Redis 채널로 다른 노드에도 전파한다.
+ * - hit/miss 는 cache.gets 등 Micrometer 캐시 지표(cache=surveyMetadata)로 노출된다.
+ */
+@Slf4j
+@Component
+public class SurveyMetadataCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "survey-metadata-invalidation";
+
+    private static final String SURVEY_PREFIX = "survey:";
+    private static final String OWNER_PREFIX = "owner:";
+
+    private final SurveyRepository surveyRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${survey.metadata-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${survey.metadata-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Cache<Long, SurveyMetadata> cache;
+
+    public SurveyMetadataCache(SurveyRepository surveyRepository,
+                               StringRedisTemplate redisTemplate,
+                               MeterRegistry meterRegistry) {
+        this.surveyRepository = surveyRepository;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "surveyMetadata");
+    }
+
+    /**
+     * 설문 메타데이터 조회 (캐시 miss 시 DB 1회 조회, 존재하지 않는 설문은 캐시하지 않음)
+     */
+    public Optional<SurveyMetadata> get(Long surveyId) {
+        if (surveyId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(surveyId, id -> surveyRepository.findMetadataById(id).orElse(null)));
+    }
+
+    /**
+     * 설문 캐시 무효화 (설문 삭제, 종료 등 설문 상태 변경 시)
+     */
+    public void invalidate(Long surveyId) {
+        afterCommit(() -> {
+            cache.invalidate(surveyId);
+            broadcast(SURVEY_PREFIX + surveyId);
+        });
+    }
+
+    /**
+     * 소유자의 모든 설문 캐시 무효화 (프로필 변경 시)
+     */
+    public void invalidateOwner(Long ownerId) {
+        afterCommit(() -> {
+            evictOwnerLocally(ownerId);
+            broadcast(OWNER_PREFIX + ownerId);
+        });
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (body.startsWith(SURVEY_PREFIX)) {
+                cache.invalidate(Long.valueOf(body.substring(SURVEY_PREFIX.length())));
+            } else if (body.startsWith(OWNER_PREFIX)) {
+                evictOwnerLocally(Long.valueOf(body.substring(OWNER_PREFIX.length())));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("[설문 메타데이터 캐시] 알 수 없는 무효화 메시지: {}", body);
+        }
+    }
+
+    private void evictOwnerLocally(Long ownerId) {
+        cache.asMap().values().removeIf(metadata -> ownerId.equals(metadata.getOwnerId()));
+    }
+
+    private void broadcast(String message) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (DataAccessException e) {
+            // 전파 실패 시 다른 노드는 TTL 만료 후 갱신됨
+            log.warn("[설문 메타데이터 캐시] 무효화 전파 실패: message={}, reason={}", message, e.getMessage());
+        }
+    }
+
+    // 롤백된 변경으로 캐시가 비워진 뒤 이전 값이 다시 적재되는 것을 막기 위해 커밋 이후 무효화
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
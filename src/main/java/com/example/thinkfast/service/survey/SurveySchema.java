@@ -0,0 +1,139 @@
+package com.example.thinkfast.service.survey;
+
+import com.example.thinkfast.common.aop.RawJson;
+import com.example.thinkfast.domain.survey.Option;
+import com.example.thinkfast.domain.survey.Question;
+import com.example.thinkfast.dto.survey.CreateResponseRequest;
+import com.example.thinkfast.dto.survey.OptionDto;
+import com.example.thinkfast.dto.survey.QuestionDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 컴파일된 설문 스키마 (불변)
+ * 설문은 createSurvey 이후 수정되지 않으므로 한 번 만들어 SurveySchemaCache 에 보관한다.
+ * - 제출 검증용: 정렬된 질문 ID 배열, 질문별 타입, 질문별 정렬된 선택지 ID 배열 (이진 탐색)
+ * - 조회용: GET /survey/{surveyId}/questions 응답 (orderIndex 순, 미리 직렬화된 JSON 포함)
+ */
+public final class SurveySchema {
+
+    private final Long surveyId;
+    private final long[] questionIds;
+    private final Question.QuestionType[] questionTypes;
+    private final long[][] optionIds;
+    private final List<QuestionDto> questions;
+    private final RawJson questionsJson;
+
+    private SurveySchema(Long surveyId, long[] questionIds, Question.QuestionType[] questionTypes,
+                         long[][] optionIds, List<QuestionDto> questions, RawJson questionsJson) {
+        this.surveyId = surveyId;
+        this.questionIds = questionIds;
+        this.questionTypes = questionTypes;
+        this.optionIds = optionIds;
+        this.questions = questions;
+        this.questionsJson = questionsJson;
+    }
+
+    public static SurveySchema compile(Long surveyId, List<Question> questions, List<Option> options, ObjectMapper objectMapper) {
+        Map<Long, List<Option>> optionsByQuestion = options.stream()
+                .collect(Collectors.groupingBy(Option::getQuestionId));
+
+        // 검증용 배열 (질문 ID 오름차순)
+        List<Question> byId = new ArrayList<>(questions);
+        byId.sort(Comparator.comparing(Question::getId));
+        long[] questionIds = new long[byId.size()];
+        Question.QuestionType[] questionTypes = new Question.QuestionType[byId.size()];
+        long[][] optionIds = new long[byId.size()][];
+        for (int i = 0; i < byId.size(); i++) {
+            Question question = byId.get(i);
+            questionIds[i] = question.getId();
+            questionTypes[i] = question.getType();
+            optionIds[i] = optionsByQuestion.getOrDefault(question.getId(), Collections.emptyList()).stream()
+                    .mapToLong(Option::getId)
+                    .sorted()
+                    .toArray();
+        }
+
+        // 조회용 DTO (orderIndex 순)
+        List<Question> byOrder = new ArrayList<>(questions);
+        byOrder.sort(Comparator.comparingInt(Question::getOrderIndex).thenComparing(Question::getId));
+        List<QuestionDto> questionDtos = new ArrayList<>(byOrder.size());
+        for (Question question : byOrder) {
+            QuestionDto questionDto = new QuestionDto(
+                    question.getId(), question.getSurveyId(), question.getType(), question.getContent(), question.getOrderIndex());
+            List<OptionDto> optionDtos = new ArrayList<>();
+            for (Option option : optionsByQuestion.getOrDefault(question.getId(), Collections.emptyList())) {
+                optionDtos.add(new OptionDto(option.getId(), option.getContent()));
+            }
+            questionDto.setOptions(Collections.unmodifiableList(optionDtos));
+            questionDtos.add(questionDto);
+        }
+
+        // 조회 응답은 변경되지 않으므로 컴파일 시 한 번만 직렬화
+        RawJson questionsJson;
+        try {
+            questionsJson = RawJson.of(objectMapper.writeValueAsString(questionDtos));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("설문 질문 직렬화 실패: surveyId=" + surveyId, e);
+        }
+
+        return new SurveySchema(surveyId, questionIds, questionTypes, optionIds,
+                Collections.unmodifiableList(questionDtos), questionsJson);
+    }
+
+    public Long getSurveyId() {
+        return surveyId;
+    }
+
+    public List<QuestionDto> getQuestions() {
+        return questions;
+    }
+
+    public RawJson getQuestionsJson() {
+        return questionsJson;
+    }
+
+    /**
+     * 제출 답변 검증 (DB 조회 없음)
+     *
+     * @return 위반 사유 (유효하면 null)
+     */
+    public String validate(List<CreateResponseRequest.CreateResponseDto> answers) {
+        if (answers == null || answers.isEmpty()) {
+            return "답변이 없습니다.";
+        }
+
+        for (CreateResponseRequest.CreateResponseDto answer : answers) {
+            if (answer.getQuestionId() == null || answer.getType() == null) {
+                return "questionId/type 누락";
+            }
+
+            int index = Arrays.binarySearch(questionIds, answer.getQuestionId());
+            if (index < 0) {
+                return "설문에 없는 질문: questionId=" + answer.getQuestionId();
+            }
+
+            Question.QuestionType questionType = questionTypes[index];
+            if (!questionType.name().equals(answer.getType().name())) {
+                return "질문 타입 불일치: questionId=" + answer.getQuestionId() + ", expected=" + questionType + ", actual=" + answer.getType();
+            }
+
+            if (questionType == Question.QuestionType.MULTIPLE_CHOICE) {
+                if (answer.getOptionId() == null || Arrays.binarySearch(optionIds[index], answer.getOptionId()) < 0) {
+                    return "질문에 없는 선택지: questionId=" + answer.getQuestionId() + ", optionId=" + answer.getOptionId();
+                }
+            } else if (answer.getOptionId() != null) {
+                return "객관식이 아닌 질문에 선택지 지정: questionId=" + answer.getQuestionId();
+            }
+        }
+        return null;
+    }
+}
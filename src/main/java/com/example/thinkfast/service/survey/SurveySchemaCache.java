@@ -0,0 +1,82 @@
+package com.example.thinkfast.service.survey;
+
+import com.example.thinkfast.domain.survey.Option;
+import com.example.thinkfast.domain.survey.Question;
+import com.example.thinkfast.repository.survey.OptionRepository;
+import com.example.thinkfast.repository.survey.QuestionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 설문 스키마 캐시 (Caffeine)
+ * 설문 질문/선택지는 생성 이후 변경되지 않으므로 무효화 없이 크기 제한과 미사용 만료만 둔다.
+ * 캐시 miss 시 질문 조회 1회 + 선택지 IN 조회 1회로 컴파일하고, 질문 목록 응답 JSON 도 이때 한 번만 직렬화한다.
+ */
+@Component
+public class SurveySchemaCache {
+
+    private final QuestionRepository questionRepository;
+    private final OptionRepository optionRepository;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${survey.schema-cache.maximum-size:5000}")
+    private long maximumSize;
+
+    @Value("${survey.schema-cache.expire-after-access-minutes:60}")
+    private long expireAfterAccessMinutes;
+
+    private Cache<Long, SurveySchema> cache;
+
+    public SurveySchemaCache(QuestionRepository questionRepository,
+                             OptionRepository optionRepository,
+                             MeterRegistry meterRegistry,
+                             ObjectMapper objectMapper) {
+        this.questionRepository = questionRepository;
+        this.optionRepository = optionRepository;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "surveySchema");
+    }
+
+    /**
+     * 설문 스키마 조회 (질문이 없는 설문은 캐시하지 않음)
+     */
+    public Optional<SurveySchema> get(Long surveyId) {
+        if (surveyId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(surveyId, this::load));
+    }
+
+    private SurveySchema load(Long surveyId) {
+        List<Question> questions = questionRepository.findBySurveyId(surveyId);
+        if (questions.isEmpty()) {
+            return null;
+        }
+
+        List<Long> questionIds = questions.stream().map(Question::getId).collect(Collectors.toList());
+        List<Option> options = optionRepository.findByQuestionIdInOrderByIdAsc(questionIds);
+        return SurveySchema.compile(surveyId, questions, options, objectMapper);
+    }
+}
@@ -1,6 +1,5 @@
 package com.example.thinkfast.service.survey;
 
-import com.example.thinkfast.common.utils.HashUtil;
 import com.example.thinkfast.domain.survey.Option;
 import com.example.thinkfast.domain.survey.Question;
 import com.example.thinkfast.domain.survey.Survey;
@@ -10,17 +9,15 @@ import com.example.thinkfast.dto.survey.GetSurveyDetailResponse;
 import com.example.thinkfast.dto.survey.PaginationDto;
 import com.example.thinkfast.dto.survey.PublicSurveyDto;
 import com.example.thinkfast.dto.survey.PublicSurveyListResponse;
+import com.example.thinkfast.dto.survey.SurveyMetadata;
 import com.example.thinkfast.realtime.RedisPublisher;
 import com.example.thinkfast.repository.ai.InsightReportRepository;
 import com.example.thinkfast.repository.survey.OptionRepository;
 import com.example.thinkfast.repository.survey.QuestionRepository;
 import com.example.thinkfast.repository.survey.SurveyRepository;
-import com.example.thinkfast.repository.survey.SurveyResponseHistoryRepository;
 import com.example.thinkfast.repository.auth.UserRepository;
 import com.example.thinkfast.security.UserDetailImpl;
-import com.example.thinkfast.service.ai.InsightService;
-import com.example.thinkfast.service.ai.SummaryService;
-import com.example.thinkfast.service.ai.WordCloudService;
+import com.example.thinkfast.service.ai.SurveyReportService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -42,12 +39,11 @@ public class SurveyService {
     private final OptionRepository optionRepository;
     private final QuestionRepository questionRepository;
     private final SurveyRepository surveyRepository;
-    private final SurveyResponseHistoryRepository surveyResponseHistoryRepository;
-    private final SummaryService summaryService;
-    private final WordCloudService wordCloudService;
-    private final InsightService insightService;
+    private final DuplicateResponseChecker duplicateResponseChecker;
+    private final SurveyReportService surveyReportService;
     private final InsightReportRepository insightReportRepository;
     private final RedisPublisher redisPublisher;
+    private final SurveyMetadataCache surveyMetadataCache;
 
     @Transactional
     public void createSurvey(UserDetailImpl userDetail, CreateSurveyRequest createSurveyRequest) {
@@ -96,6 +92,7 @@ public class SurveyService {
         Survey survey = surveyRepository.findById(id).get();
         survey.setIsDeleted(true);
         surveyRepository.save(survey);
+        surveyMetadataCache.invalidate(id);
     }
 
     @Transactional(readOnly = true)
@@ -118,56 +115,31 @@ public class SurveyService {
         return surveyRepository.findByIdAndIsDeletedFalse(id);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 비활성화 또는 삭제된 설문인지 확인 (설문 메타데이터 캐시 사용)
+     */
     public Boolean isSurveyInactive(Long id){
-        return surveyRepository.chekcIsInactiveOrDeleted(id ,true, false);
+        return surveyMetadataCache.get(id)
+                .map(metadata -> !metadata.isAcceptingResponses())
+                .orElse(false);
     }
 
+    /**
+     * 중복 응답 사전 체크 (Redis 등 DB 조회 없는 필터)
+     * 최종 판정은 응답 저장 시 이루어진다. (ResponseService.createResponse)
+     * - deviceId + IP 는 조합으로, 한쪽만 있으면 그 쪽만으로 판별 (ResponseDedupKey)
+     * - 둘 다 없으면 중복 체크 불가 (허용)
+     */
     public Boolean isDuplicateResponse(Long surveyId, String deviceId, String ipAddress){
-        log.info("[중복 응답 체크 시작] surveyId={}, deviceId={}, ipAddress={}", 
-            surveyId, 
-            deviceId != null ? (deviceId.length() > 20 ? deviceId.substring(0, 20) + "..." : deviceId) : "null",
-            ipAddress != null ? ipAddress : "null");
-        
-        // deviceId와 IP를 모두 사용하여 중복 체크 (둘 다 같아야 중복으로 판단)
-        // 이렇게 하면 같은 브라우저(User-Agent 기반 deviceId)를 사용하더라도 다른 IP에서는 응답 가능
-        String deviceIdHash = null;
-        String ipAddressHash = null;
-        boolean isDuplicate = false;
-        
-        // deviceId와 IP가 모두 존재하는 경우에만 조합으로 체크
-        if (deviceId != null && !deviceId.trim().isEmpty() && 
-            ipAddress != null && !ipAddress.trim().isEmpty()) {
-            deviceIdHash = HashUtil.encodeSha256(deviceId);
-            ipAddressHash = HashUtil.encodeSha256(ipAddress);
-            isDuplicate = surveyResponseHistoryRepository.existsBySurveyIdAndDeviceIdHashAndIpAddressHash(
-                surveyId, deviceIdHash, ipAddressHash);
-            log.info("[중복 응답 체크 - DeviceId+IP 조합] surveyId={}, deviceIdHash={}, ipAddressHash={}, 중복여부={}", 
-                surveyId, deviceIdHash, ipAddressHash, isDuplicate);
-        } 
-        // deviceId만 있는 경우 (IP가 없는 경우)
-        else if (deviceId != null && !deviceId.trim().isEmpty()) {
-            deviceIdHash = HashUtil.encodeSha256(deviceId);
-            isDuplicate = surveyResponseHistoryRepository.existsBySurveyIdAndDeviceIdHash(surveyId, deviceIdHash);
-            log.info("[중복 응답 체크 - DeviceId만] surveyId={}, deviceIdHash={}, 중복여부={}", 
-                surveyId, deviceIdHash, isDuplicate);
-            log.warn("[중복 응답 체크] surveyId={}, IP가 없어서 DeviceId만으로 체크", surveyId);
-        }
-        // IP만 있는 경우 (deviceId가 없는 경우)
-        else if (ipAddress != null && !ipAddress.trim().isEmpty()) {
-            ipAddressHash = HashUtil.encodeSha256(ipAddress);
-            isDuplicate = surveyResponseHistoryRepository.existsBySurveyIdAndIpAddressHash(surveyId, ipAddressHash);
-            log.info("[중복 응답 체크 - IP만] surveyId={}, ipAddressHash={}, 중복여부={}", 
-                surveyId, ipAddressHash, isDuplicate);
-            log.warn("[중복 응답 체크] surveyId={}, deviceId가 없어서 IP만으로 체크", surveyId);
-        }
-        // 둘 다 없는 경우
-        else {
+        ResponseDedupKey dedupKey = ResponseDedupKey.of(surveyId, deviceId, ipAddress);
+        if (!dedupKey.isEnforceable()) {
             log.warn("[중복 응답 체크] surveyId={}, deviceId와 IP가 모두 없어서 중복 체크 불가 (허용)", surveyId);
-            isDuplicate = false;
+            return false;
         }
 
-        log.info("[중복 응답 체크 결과] surveyId={}, 최종결과={}", surveyId, isDuplicate);
+        boolean isDuplicate = duplicateResponseChecker.isDuplicate(surveyId, dedupKey.getDeviceIdHash(), dedupKey.getIpAddressHash());
+        log.info("[중복 응답 체크 결과] surveyId={}, deviceIdHash={}, ipAddressHash={}, 중복여부={}",
+            surveyId, dedupKey.getDeviceIdHash(), dedupKey.getIpAddressHash(), isDuplicate);
         return isDuplicate;
     }
 
@@ -234,6 +206,17 @@ public class SurveyService {
     @Transactional
     public void checkAndUpdateExpiredSurveyReports(Long surveyId) {
         try {
+            // 캐시된 메타데이터로 먼저 판단하여, 종료 대상이 아닌 대부분의 경우 DB 조회를 생략
+            Optional<SurveyMetadata> metadataOpt = surveyMetadataCache.get(surveyId);
+            if (metadataOpt.isPresent()) {
+                SurveyMetadata metadata = metadataOpt.get();
+                if (!Boolean.TRUE.equals(metadata.getIsActive())
+                        || metadata.getEndTime() == null
+                        || !metadata.getEndTime().isBefore(LocalDateTime.now())) {
+                    return;
+                }
+            }
+
             Optional<Survey> surveyOpt = surveyRepository.findById(surveyId);
             if (!surveyOpt.isPresent()) {
                 log.warn("[설문 종료 체크] 설문을 찾을 수 없음: surveyId={}", surveyId);
@@ -251,6 +234,7 @@ public class SurveyService {
                 // 설문 비활성화 처리
                 survey.setIsActive(false);
                 surveyRepository.save(survey);
+                surveyMetadataCache.invalidate(surveyId);
 
                 // Redis 알림 전송
                 redisPublisher.sendAlarm(surveyId, "SURVEY_EXPIRED");
@@ -273,14 +257,8 @@ public class SurveyService {
         try {
             log.info("[AI 리포트 업데이트 시작] surveyId={}", surveyId);
 
-            // 설문 종료 후 요약 리포트 업데이트 (비동기)
-            summaryService.saveSummaryReportAsync(surveyId);
-
-            // 설문 종료 후 워드클라우드 업데이트 (비동기)
-            wordCloudService.saveWordCloudsForSurveyAsync(surveyId);
-
-            // 설문 종료 후 인사이트 텍스트 업데이트 (비동기)
-            insightService.saveInsightsForSurveyAsync(surveyId);
+            // 설문 종료 후 요약 리포트, 워드클라우드, 인사이트 텍스트 업데이트 (비동기, 설문 데이터는 1회 조회)
+            surveyReportService.generateReportsAsync(surveyId);
 
             // Statistics는 실시간 계산되므로 별도 업데이트 불필요
             // 필요시 통계 캐시 무효화 로직을 여기에 추가할 수 있음
@@ -0,0 +1,26 @@
+package com.example.thinkfast.service.survey.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 설문 응답 제출 이벤트
+ * 응답 저장 트랜잭션 안에서 발행되며, 리스너는 커밋 이후(AFTER_COMMIT)에만 실행된다.
+ */
+@Getter
+@AllArgsConstructor
+public class ResponseSubmittedEvent {
+    private final Long surveyId;
+    private final String responseSessionId;
+    private final List<Answer> answers;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Answer {
+        private final Long questionId;
+        private final String questionType;
+        private final Long optionId; // 객관식 선택지 (nullable)
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.thinkfast.service.survey.event;
+
+import com.example.thinkfast.realtime.RedisPublisher;
+import com.example.thinkfast.service.ai.ReportDirtyTracker;
+import com.example.thinkfast.service.ai.SurveyResponseCubeCache;
+import com.example.thinkfast.service.survey.ResponseCountStore;
+import com.example.thinkfast.service.survey.ResponseRateTracker;
+import com.example.thinkfast.service.survey.RespondentCountService;
+import com.example.thinkfast.service.survey.SurveyService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 응답 제출 후속 처리 리스너
+ * 응답 저장 커밋 이후 responseEventExecutor 에서 실행되므로, 제출 요청의 지연 시간은 답변 저장까지만 포함한다.
+ * 리스너별 소요 시간은 survey.response.event.listener (tag: listener) 로 기록된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResponseSubmittedEventListener {
+
+    private static final String LISTENER_TIMER = "survey.response.event.listener";
+
+    private final SurveyService surveyService;
+    private final RedisPublisher redisPublisher;
+    private final ResponseCountStore responseCountStore;
+    private final ResponseRateTracker responseRateTracker;
+    private final RespondentCountService respondentCountService;
+    private final ReportDirtyTracker reportDirtyTracker;
+    private final SurveyResponseCubeCache surveyResponseCubeCache;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 설문 종료 여부 확인 및 리포트 업데이트
+     * 설문이 종료되었다면 summary, insight, statistics, wordcloud가 업데이트됨
+     */
+    @Async("responseEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void checkSurveyExpiry(ResponseSubmittedEvent event) {
+        timer("expiry-check").record(() -> surveyService.checkAndUpdateExpiredSurveyReports(event.getSurveyId()));
+    }
+
+    /**
+     * 설문 소유자 알림 저장 및 Redis pub/sub 전송
+     */
+    @Async("responseEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void notifySurveyOwner(ResponseSubmittedEvent event) {
+        timer("notification").record(() -> redisPublisher.sendAlarm(event.getSurveyId(), "SURVEY_RESPONSE"));
+    }
+
+    /**
+     * 질문/선택지별 응답 수 카운터 반영
+     * 로컬 맵에 증분만 누적하므로 커밋 스레드에서 바로 실행한다. (Redis 반영은 ResponseCountStore.flush)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void recordResponseCounts(ResponseSubmittedEvent event) {
+        responseCountStore.record(event);
+    }
+
+    /**
+     * 설문별 분 단위 제출 수 링 버퍼 반영 (CAS 1회이므로 커밋 스레드에서 바로 실행)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void recordResponseRate(ResponseSubmittedEvent event) {
+        responseRateTracker.record(event);
+    }
+
+    /**
+     * 설문/질문별 응답자 수 HyperLogLog 반영 (Redis 호출이므로 실행기에서 처리)
+     */
+    @Async("responseEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void recordRespondent(ResponseSubmittedEvent event) {
+        timer("respondent-hll").record(() -> respondentCountService.record(event));
+    }
+
+    /**
+     * 리포트 재생성 대상 표시 (SurveySchedule 은 dirty 설문만 새 응답 여부를 확인)
+     */
+    @Async("responseEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void markReportDirty(ResponseSubmittedEvent event) {
+        timer("report-dirty").record(() -> reportDirtyTracker.markDirty(event.getSurveyId()));
+    }
+
+    /**
+     * 교차 분석 큐브 반영 (큐브가 생성 중이면 완료될 때까지 대기하므로 실행기에서 처리)
+     */
+    @Async("responseEventExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void updateResponseCube(ResponseSubmittedEvent event) {
+        timer("response-cube").record(() -> surveyResponseCubeCache.apply(event));
+    }
+
+    private Timer timer(String listener) {
+        return Timer.builder(LISTENER_TIMER)
+                .tag("listener", listener)
+                .register(meterRegistry);
+    }
+}
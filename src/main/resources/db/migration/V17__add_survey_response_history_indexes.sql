@@ -0,0 +1,3 @@
+-- 중복 응답 체크 및 중복 응답 캐시 warm 조회용 인덱스
+CREATE INDEX IDX_RESPONSE_HISTORY_SURVEY_DEVICE ON SURVEY_RESPONSE_HISTORY (SURVEY_ID, DEVICE_ID_HASH);
+CREATE INDEX IDX_RESPONSE_HISTORY_SURVEY_IP ON SURVEY_RESPONSE_HISTORY (SURVEY_ID, IP_ADDRESS_HASH);
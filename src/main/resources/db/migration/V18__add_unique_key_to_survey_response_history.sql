@@ -0,0 +1,26 @@
+-- 중복 응답을 DB UNIQUE 키로 강제 (동시 제출 시 exists 조회 후 INSERT 사이의 경합 제거)
+
+-- 1. IP 가 없는 이력은 NONE('-') 으로 정규화 (NULL 은 UNIQUE 키에서 서로 다른 값으로 취급됨)
+UPDATE SURVEY_RESPONSE_HISTORY
+SET IP_ADDRESS_HASH = '-'
+WHERE IP_ADDRESS_HASH IS NULL;
+
+ALTER TABLE SURVEY_RESPONSE_HISTORY
+MODIFY COLUMN IP_ADDRESS_HASH VARCHAR(255) NOT NULL DEFAULT '-';
+
+-- 2. 기존 중복 이력 정리 (가장 먼저 저장된 이력만 유지)
+DELETE h
+FROM SURVEY_RESPONSE_HISTORY h
+JOIN SURVEY_RESPONSE_HISTORY k
+  ON h.SURVEY_ID = k.SURVEY_ID
+ AND h.DEVICE_ID_HASH = k.DEVICE_ID_HASH
+ AND h.IP_ADDRESS_HASH = k.IP_ADDRESS_HASH
+ AND h.ID > k.ID;
+
+-- 3. UNIQUE 키 추가
+--    중복 판정이 이 키 하나로 이루어지므로 V17 의 보조 인덱스는 제거 (SURVEY_ID 조회는 이 키의 prefix 사용)
+ALTER TABLE SURVEY_RESPONSE_HISTORY
+ADD CONSTRAINT UK_RESPONSE_HISTORY_SURVEY_DEVICE_IP UNIQUE (SURVEY_ID, DEVICE_ID_HASH, IP_ADDRESS_HASH);
+
+DROP INDEX IDX_RESPONSE_HISTORY_SURVEY_DEVICE ON SURVEY_RESPONSE_HISTORY;
+DROP INDEX IDX_RESPONSE_HISTORY_SURVEY_IP ON SURVEY_RESPONSE_HISTORY;
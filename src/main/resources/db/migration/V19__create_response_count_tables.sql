@@ -0,0 +1,36 @@
+-- 응답 수 집계 테이블 (통계/설문 목록 조회 시 RESPONSES GROUP BY 제거)
+-- 응답 저장 트랜잭션 안에서 INSERT ... ON DUPLICATE KEY UPDATE 로 증가시킨다. (ResponseCountJdbcRepository)
+
+-- 1. 질문/선택지별 응답 수
+--    OPTION_ID = 0 인 row 는 질문 전체 응답(세션) 수
+CREATE TABLE IF NOT EXISTS QUESTION_OPTION_COUNTS (
+    QUESTION_ID BIGINT NOT NULL,
+    OPTION_ID BIGINT NOT NULL,
+    RESPONSE_COUNT BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (QUESTION_ID, OPTION_ID)
+);
+
+-- 2. 설문별 응답(세션) 수
+CREATE TABLE IF NOT EXISTS SURVEY_SESSION_COUNTS (
+    SURVEY_ID BIGINT NOT NULL PRIMARY KEY,
+    SESSION_COUNT BIGINT NOT NULL DEFAULT 0,
+    UPDATED_AT TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+-- 3. 기존 응답 backfill
+INSERT INTO QUESTION_OPTION_COUNTS (QUESTION_ID, OPTION_ID, RESPONSE_COUNT)
+SELECT QUESTION_ID, 0, COUNT(DISTINCT RESPONSE_SESSION_ID)
+FROM RESPONSES
+GROUP BY QUESTION_ID;
+
+INSERT INTO QUESTION_OPTION_COUNTS (QUESTION_ID, OPTION_ID, RESPONSE_COUNT)
+SELECT QUESTION_ID, OPTION_ID, COUNT(*)
+FROM RESPONSES
+WHERE OPTION_ID IS NOT NULL
+GROUP BY QUESTION_ID, OPTION_ID;
+
+INSERT INTO SURVEY_SESSION_COUNTS (SURVEY_ID, SESSION_COUNT)
+SELECT q.SURVEY_ID, COUNT(DISTINCT r.RESPONSE_SESSION_ID)
+FROM RESPONSES r
+JOIN QUESTIONS q ON q.ID = r.QUESTION_ID
+GROUP BY q.SURVEY_ID;
@@ -0,0 +1,30 @@
+-- 설문 제출 수 시간대별 rollup (GET /survey/{id}/timeline, 스케줄러 적응형 갱신)
+-- 제출 1건 = SURVEY_RESPONSE_HISTORY 1 row 이므로 이력 테이블을 RESPONDED_AT 범위로 집계한다.
+
+-- 1. 분 단위 제출 수
+CREATE TABLE IF NOT EXISTS SURVEY_RESPONSE_ROLLUPS (
+    SURVEY_ID BIGINT NOT NULL,
+    BUCKET_MINUTE DATETIME NOT NULL,
+    SUBMISSION_COUNT BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (SURVEY_ID, BUCKET_MINUTE)
+);
+
+-- 2. rollup 진행 위치 (이 시각 이전의 분은 rollup 에 반영 완료)
+CREATE TABLE IF NOT EXISTS SURVEY_RESPONSE_ROLLUP_STATE (
+    ID TINYINT NOT NULL PRIMARY KEY,
+    LAST_MINUTE DATETIME NOT NULL
+);
+
+-- 3. rollup 범위 조회용 인덱스
+CREATE INDEX IDX_RESPONSE_HISTORY_RESPONDED_AT ON SURVEY_RESPONSE_HISTORY (RESPONDED_AT);
+
+-- 4. 기존 이력 backfill (마지막 분은 스케줄러가 다시 집계)
+INSERT INTO SURVEY_RESPONSE_ROLLUPS (SURVEY_ID, BUCKET_MINUTE, SUBMISSION_COUNT)
+SELECT SURVEY_ID, DATE_FORMAT(RESPONDED_AT, '%Y-%m-%d %H:%i:00'), COUNT(*)
+FROM SURVEY_RESPONSE_HISTORY
+WHERE RESPONDED_AT IS NOT NULL
+GROUP BY SURVEY_ID, DATE_FORMAT(RESPONDED_AT, '%Y-%m-%d %H:%i:00');
+
+INSERT INTO SURVEY_RESPONSE_ROLLUP_STATE (ID, LAST_MINUTE)
+SELECT 1, COALESCE(DATE_FORMAT(MAX(RESPONDED_AT), '%Y-%m-%d %H:%i:00'), '1970-01-01 00:00:00')
+FROM SURVEY_RESPONSE_HISTORY;
@@ -0,0 +1,9 @@
+-- 리포트 재생성 watermark (SurveySchedule 은 마지막 생성 이후 새 응답이 있는 설문만 다시 생성)
+-- LAST_RESPONSE_ID: 리포트 생성 시작 시점의 설문 최신 응답 ID (RESPONSES.ID)
+-- GENERATED_AT: 마지막 리포트 생성 완료 시각
+ALTER TABLE INSIGHT_REPORTS
+ADD COLUMN LAST_RESPONSE_ID BIGINT NULL,
+ADD COLUMN GENERATED_AT DATETIME NULL;
+
+-- 설문별 최신 응답 ID 조회용 인덱스 (질문별 MAX(ID) 를 인덱스 끝에서 바로 읽음)
+CREATE INDEX IDX_RESPONSES_QUESTION_ID_ID ON RESPONSES (QUESTION_ID, ID);
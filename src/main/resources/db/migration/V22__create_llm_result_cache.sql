@@ -0,0 +1,13 @@
+-- Gemini 생성 결과 캐시 (Redis 캐시의 DB 대체 저장소)
+-- 키는 캐시 버전 + API URL(모델) + 프롬프트의 SHA-256 이므로, 같은 입력이면 같은 row 를 읽는다.
+
+CREATE TABLE IF NOT EXISTS LLM_RESULT_CACHE (
+    PROMPT_HASH VARCHAR(64) NOT NULL PRIMARY KEY,
+    CACHE_NAMESPACE VARCHAR(512) NOT NULL,
+    RESULT_TEXT MEDIUMTEXT NOT NULL,
+    CREATED_AT DATETIME NOT NULL,
+    EXPIRES_AT DATETIME NOT NULL
+);
+
+-- 만료 row 정리용 인덱스
+CREATE INDEX IDX_LLM_RESULT_CACHE_EXPIRES_AT ON LLM_RESULT_CACHE (EXPIRES_AT);
@@ -0,0 +1,14 @@
+-- 스케줄러 job 별 마지막으로 쓰기를 허용한 fencing token (SchedulerFence)
+-- job 의 DB 쓰기와 같은 트랜잭션에서 FENCING_TOKEN < 자신의 token 일 때만 갱신하므로,
+-- lease 가 만료된 뒤 늦게 깨어난 노드(더 작은 token)의 쓰기는 커밋되지 않는다.
+
+CREATE TABLE IF NOT EXISTS SCHEDULER_JOB_FENCES (
+    JOB_NAME VARCHAR(128) NOT NULL PRIMARY KEY,
+    FENCING_TOKEN BIGINT NOT NULL,
+    NODE_ID VARCHAR(255),
+    UPDATED_AT DATETIME NOT NULL
+);
+
+INSERT INTO SCHEDULER_JOB_FENCES (JOB_NAME, FENCING_TOKEN, NODE_ID, UPDATED_AT) VALUES
+    ('updateExpiredSurvey', 0, NULL, NOW()),
+    ('updateActiveSurveyReports', 0, NULL, NOW());
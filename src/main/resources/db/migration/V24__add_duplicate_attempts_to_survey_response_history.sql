@@ -0,0 +1,7 @@
+-- SURVEY_RESPONSE_HISTORY 에 DUPLICATE_ATTEMPTS 칼럼 추가 (UNIQUE 키 충돌로 거절된 제출 수)
+-- 이력 저장을 INSERT IGNORE 에서 INSERT ... ON DUPLICATE KEY UPDATE 로 바꾸면서, 충돌 시 이 값을 올려
+-- 드라이버가 건별 결과 2 를 돌려주게 한다. (insert 는 1, 값이 그대로인 ID = ID 는 found rows 설정에서 1)
+ALTER TABLE SURVEY_RESPONSE_HISTORY
+ADD COLUMN DUPLICATE_ATTEMPTS INT NOT NULL DEFAULT 0;
+
+-- 기존 데이터는 기본값 0 으로 설정됨
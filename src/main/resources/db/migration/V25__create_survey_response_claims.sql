@@ -0,0 +1,26 @@
+-- 설문별 deviceId / IP claim (한쪽만 있는 제출의 중복 판정용, ResponseDedupKey)
+-- deviceId 만 있는 제출은 같은 deviceId 의 이력이, IP 만 있는 제출은 같은 IP 의 이력이 하나라도 있으면 중복이다.
+-- 이력이 저장될 때 그 deviceId / IP 의 claim 을 같은 트랜잭션에서 남기고, 한쪽만 있는 제출은 claim 을 먼저 잡아
+-- 이미 있으면 중복으로 판정한다. (claim row 잠금으로 같은 deviceId / IP 의 동시 제출이 직렬화됨)
+
+CREATE TABLE IF NOT EXISTS SURVEY_RESPONSE_CLAIMS (
+    SURVEY_ID BIGINT NOT NULL,
+    CLAIM_TYPE VARCHAR(16) NOT NULL,
+    CLAIM_HASH VARCHAR(255) NOT NULL,
+    ATTEMPTS INT NOT NULL DEFAULT 1,
+    CREATED_AT DATETIME NOT NULL,
+    PRIMARY KEY (SURVEY_ID, CLAIM_TYPE, CLAIM_HASH)
+);
+
+-- 기존 이력의 claim 채우기 (NONE('-') 은 claim 대상 아님)
+INSERT IGNORE INTO SURVEY_RESPONSE_CLAIMS (SURVEY_ID, CLAIM_TYPE, CLAIM_HASH, CREATED_AT)
+SELECT SURVEY_ID, 'DEVICE', DEVICE_ID_HASH, COALESCE(MIN(RESPONDED_AT), NOW())
+FROM SURVEY_RESPONSE_HISTORY
+WHERE DEVICE_ID_HASH <> '-'
+GROUP BY SURVEY_ID, DEVICE_ID_HASH;
+
+INSERT IGNORE INTO SURVEY_RESPONSE_CLAIMS (SURVEY_ID, CLAIM_TYPE, CLAIM_HASH, CREATED_AT)
+SELECT SURVEY_ID, 'IP', IP_ADDRESS_HASH, COALESCE(MIN(RESPONDED_AT), NOW())
+FROM SURVEY_RESPONSE_HISTORY
+WHERE IP_ADDRESS_HASH <> '-'
+GROUP BY SURVEY_ID, IP_ADDRESS_HASH;
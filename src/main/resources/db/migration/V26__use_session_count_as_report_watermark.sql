@@ -0,0 +1,8 @@
+-- 리포트 재생성 watermark 를 설문 응답 수(SURVEY_SESSION_COUNTS.SESSION_COUNT)로 변경
+-- RESPONSES.ID 는 커밋 순서와 다르게 발급되므로(늦게 커밋된 작은 ID), 최신 ID 비교로는 새 응답을 놓칠 수 있다.
+-- SESSION_COUNT 는 제출 트랜잭션에서 함께 증가하므로, 스냅샷 적재 전에 읽은 값과 현재 값이 다르면 새 응답이 있다.
+-- LAST_SESSION_COUNT: 리포트 생성에 사용한 스냅샷의 설문 응답 수 (세 리포트가 모두 저장된 뒤에만 기록)
+-- 기존 리포트는 값이 없으므로 다음 스케줄러 실행에서 한 번 다시 생성된다.
+ALTER TABLE INSIGHT_REPORTS
+ADD COLUMN LAST_SESSION_COUNT BIGINT NULL,
+DROP COLUMN LAST_RESPONSE_ID;
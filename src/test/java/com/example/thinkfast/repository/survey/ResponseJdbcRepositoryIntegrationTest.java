@@ -0,0 +1,96 @@
+package com.example.thinkfast.repository.survey;
+
+import com.example.thinkfast.domain.survey.SurveyResponseHistory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 응답 이력 upsert 의 건별 결과 검증 (실제 MariaDB 드라이버 설정 그대로)
+ * 실제 DB 가 필요하므로 THINKFAST_INTEGRATION=true 일 때만 실행되며, 생성한 데이터는 테스트 후 삭제한다.
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "THINKFAST_INTEGRATION", matches = "true")
+class ResponseJdbcRepositoryIntegrationTest {
+
+    private static final Long TEST_SURVEY_ID = -5L;
+
+    @Autowired
+    private ResponseJdbcRepository responseJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM SURVEY_RESPONSE_HISTORY WHERE SURVEY_ID = ?", TEST_SURVEY_ID);
+        jdbcTemplate.update("DELETE FROM SURVEY_RESPONSE_CLAIMS WHERE SURVEY_ID = ?", TEST_SURVEY_ID);
+    }
+
+    @Test
+    void groupCommitReportsDuplicatesPerRow() {
+        responseJdbcRepository.insertHistoryIfAbsent(history("device-0", "ip-0"));
+
+        List<SurveyResponseHistory> histories = Arrays.asList(
+                history("device-1", "ip-1"),
+                history("device-0", "ip-0"),
+                history("device-1", "ip-1"),
+                history("device-1", "ip-2"));
+        int[] inserted = new TransactionTemplate(transactionManager).execute(status ->
+                histories.stream().mapToInt(responseJdbcRepository::insertHistoryIfAbsent).toArray());
+
+        // 기존 이력과의 중복, 같은 group commit 안의 중복 모두 0
+        assertThat(inserted).containsExactly(1, 0, 0, 1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM SURVEY_RESPONSE_HISTORY WHERE SURVEY_ID = ?", Integer.class, TEST_SURVEY_ID))
+                .isEqualTo(3);
+    }
+
+    @Test
+    void claimIsTakenOncePerSurveyAndSide() {
+        assertThat(responseJdbcRepository.claimIfAbsent(TEST_SURVEY_ID, ResponseJdbcRepository.CLAIM_DEVICE, "device-0")).isEqualTo(1);
+        assertThat(responseJdbcRepository.claimIfAbsent(TEST_SURVEY_ID, ResponseJdbcRepository.CLAIM_DEVICE, "device-0")).isEqualTo(0);
+        // 같은 해시라도 IP claim 은 별개
+        assertThat(responseJdbcRepository.claimIfAbsent(TEST_SURVEY_ID, ResponseJdbcRepository.CLAIM_IP_ADDRESS, "device-0")).isEqualTo(1);
+    }
+
+    @Test
+    void dataErrorIsNotTreatedAsDuplicate() {
+        String sqlMode = jdbcTemplate.queryForObject("SELECT @@SESSION.sql_mode", String.class);
+        assumeTrue(sqlMode != null && sqlMode.contains("STRICT_TRANS_TABLES"), "strict 모드에서만 검증");
+
+        // VARCHAR(255) 를 넘는 해시는 경고로 잘리지 않고 예외
+        StringBuilder tooLong = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            tooLong.append('x');
+        }
+        assertThatThrownBy(() -> responseJdbcRepository.insertHistoryIfAbsent(history(tooLong.toString(), "ip-0")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private SurveyResponseHistory history(String deviceIdHash, String ipAddressHash) {
+        return SurveyResponseHistory.builder()
+                .surveyId(TEST_SURVEY_ID)
+                .deviceIdHash(deviceIdHash)
+                .ipAddressHash(ipAddressHash)
+                .respondedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.thinkfast.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 설문 샤딩용 consistent hashing 링 검증
+ */
+class ConsistentHashRingTest {
+
+    private static final int SURVEYS = 10000;
+
+    @Test
+    void surveysAreSpreadAcrossNodes() {
+        ConsistentHashRing ring = new ConsistentHashRing(Arrays.asList("node-a", "node-b", "node-c"), 64);
+
+        Map<String, Integer> owned = new HashMap<>();
+        for (long surveyId = 1; surveyId <= SURVEYS; surveyId++) {
+            owned.merge(ring.ownerOf(surveyId), 1, Integer::sum);
+        }
+
+        assertThat(owned).containsOnlyKeys("node-a", "node-b", "node-c");
+        // 균등 분배(1/3)에서 크게 벗어나지 않음
+        owned.values().forEach(count -> assertThat(count).isBetween(SURVEYS / 5, SURVEYS / 2));
+    }
+
+    @Test
+    void addingNodeOnlyMovesSurveysToNewNode() {
+        ConsistentHashRing before = new ConsistentHashRing(Arrays.asList("node-a", "node-b", "node-c"), 64);
+        ConsistentHashRing after = new ConsistentHashRing(Arrays.asList("node-a", "node-b", "node-c", "node-d"), 64);
+
+        int moved = 0;
+        for (long surveyId = 1; surveyId <= SURVEYS; surveyId++) {
+            String previousOwner = before.ownerOf(surveyId);
+            String owner = after.ownerOf(surveyId);
+            if (!owner.equals(previousOwner)) {
+                assertThat(owner).isEqualTo("node-d");
+                moved++;
+            }
+        }
+        // 새 노드 몫(약 1/4)만 이동
+        assertThat(moved).isBetween(SURVEYS / 8, SURVEYS / 2);
+    }
+
+    @Test
+    void sameNodesGiveSameOwnerRegardlessOfOrder() {
+        ConsistentHashRing ring = new ConsistentHashRing(Arrays.asList("node-a", "node-b"), 64);
+        ConsistentHashRing reordered = new ConsistentHashRing(Arrays.asList("node-b", "node-a"), 64);
+
+        for (long surveyId = 1; surveyId <= 1000; surveyId++) {
+            assertThat(reordered.ownerOf(surveyId)).isEqualTo(ring.ownerOf(surveyId));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.thinkfast.scheduler;
+
+import com.example.thinkfast.repository.scheduler.SchedulerJobFenceJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 스케줄러 DB fence 판정 검증 (DB/Redis 없이 저장소와 잠금을 대역으로 사용)
+ */
+class SchedulerFenceTest {
+
+    private static final String JOB = "updateExpiredSurvey";
+
+    private SchedulerJobFenceJdbcRepository repository;
+    private SchedulerLock schedulerLock;
+    private SimpleMeterRegistry meterRegistry;
+    private SchedulerFence schedulerFence;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(SchedulerJobFenceJdbcRepository.class);
+        schedulerLock = mock(SchedulerLock.class);
+        meterRegistry = new SimpleMeterRegistry();
+        schedulerFence = new SchedulerFence(repository, schedulerLock, meterRegistry);
+    }
+
+    @Test
+    void newerTokenEntersFence() {
+        when(repository.advance(JOB, 7L, "node-a")).thenReturn(true);
+
+        assertThat(schedulerFence.tryEnter(lease("node-a", 7L, false))).isTrue();
+    }
+
+    @Test
+    void staleLeaseIsRejectedAfterNewOwnerEntered() {
+        // 노드 B 가 token 8 로 먼저 통과한 뒤 노드 A(token 7)가 깨어남
+        when(repository.advance(JOB, 7L, "node-a")).thenReturn(false);
+        when(repository.findToken(JOB)).thenReturn(Optional.of(8L));
+        when(schedulerLock.isHeld(any())).thenReturn(false);
+
+        assertThat(schedulerFence.tryEnter(lease("node-a", 7L, false))).isFalse();
+
+        verify(schedulerLock, never()).raiseFencingToken(anyString(), anyLong());
+        assertThat(meterRegistry.get("scheduler.fence.rejected").tag("job", JOB).counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void resetTokenCounterIsRaisedAboveStoredToken() {
+        // Redis 카운터가 초기화되어 잠금을 보유한 노드의 token 이 DB 기록보다 작음
+        when(repository.advance(JOB, 2L, "node-a")).thenReturn(false);
+        when(repository.findToken(JOB)).thenReturn(Optional.of(120L));
+        when(schedulerLock.isHeld(any())).thenReturn(true);
+
+        assertThat(schedulerFence.tryEnter(lease("node-a", 2L, false))).isFalse();
+
+        verify(schedulerLock).raiseFencingToken(JOB, 120L);
+    }
+
+    @Test
+    void localLeaseSkipsFence() {
+        assertThat(schedulerFence.tryEnter(lease("node-a", 0L, true))).isTrue();
+
+        verify(repository, never()).advance(anyString(), anyLong(), anyString());
+    }
+
+    private static SchedulerLease lease(String nodeId, long token, boolean local) {
+        return new SchedulerLease(JOB, nodeId, token, System.currentTimeMillis(), local);
+    }
+}
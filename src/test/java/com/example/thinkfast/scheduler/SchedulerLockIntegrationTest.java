@@ -0,0 +1,166 @@
+package com.example.thinkfast.scheduler;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 Redis 를 쓰는 두 노드(애플리케이션 컨텍스트)에서 스케줄러 잠금/샤딩 검증
+ * 로컬 Redis 가 필요하므로 THINKFAST_INTEGRATION=true 일 때만 실행되며, 사용한 키는 테스트 후 삭제한다.
+ */
+@EnabledIfEnvironmentVariable(named = "THINKFAST_INTEGRATION", matches = "true")
+class SchedulerLockIntegrationTest {
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+    private String jobName;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = startNode("test-node-a");
+        nodeB = startNode("test-node-b");
+        jobName = "test-job-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        StringRedisTemplate redisTemplate = nodeA.getBean(StringRedisTemplate.class);
+        redisTemplate.delete(Arrays.asList("scheduler:lock:{" + jobName + "}", "scheduler:lock:{" + jobName + "}:fence"));
+        // 종료 시 노드 목록에서도 제거됨 (@PreDestroy)
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void onlyOneNodeRunsJobPerTick() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        CompletableFuture<Optional<SchedulerLease>> a = tryAcquireAfter(start, nodeA);
+        CompletableFuture<Optional<SchedulerLease>> b = tryAcquireAfter(start, nodeB);
+        start.countDown();
+
+        int acquired = (a.get(10, TimeUnit.SECONDS).isPresent() ? 1 : 0) + (b.get(10, TimeUnit.SECONDS).isPresent() ? 1 : 0);
+        assertThat(acquired).isEqualTo(1);
+    }
+
+    @Test
+    void leaseIsKeptForLockAtLeastAfterRelease() {
+        SchedulerLease lease = lock(nodeA).tryAcquire(jobName).orElseThrow(IllegalStateException::new);
+        lock(nodeA).release(lease);
+
+        // 실행 주기가 어긋난 다른 노드가 같은 주기에 다시 실행하지 않음
+        assertThat(lock(nodeB).tryAcquire(jobName)).isEmpty();
+    }
+
+    @Test
+    void staleLeaseIsFencedAfterExpiry() {
+        SchedulerLease stale = lock(nodeA).tryAcquire(jobName).orElseThrow(IllegalStateException::new);
+
+        // 노드 A 가 멈춘 사이 lease 만료
+        nodeA.getBean(StringRedisTemplate.class).delete("scheduler:lock:{" + jobName + "}");
+        SchedulerLease current = lock(nodeB).tryAcquire(jobName).orElseThrow(IllegalStateException::new);
+
+        assertThat(current.getFencingToken()).isGreaterThan(stale.getFencingToken());
+        assertThat(lock(nodeA).isHeld(stale)).isFalse();
+        assertThat(lock(nodeB).isHeld(current)).isTrue();
+
+        // 늦게 깨어난 노드의 해제는 새 소유자의 lease 를 지우지 않음
+        lock(nodeA).release(stale);
+        assertThat(lock(nodeB).isHeld(current)).isTrue();
+        assertThat(nodeA.getBean(MeterRegistry.class).get("scheduler.lock.lost").tag("job", jobName).counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void liveNodesSplitSurveysWithoutOverlap() {
+        SchedulerNodeRegistry registryA = nodeA.getBean(SchedulerNodeRegistry.class);
+        SchedulerNodeRegistry registryB = nodeB.getBean(SchedulerNodeRegistry.class);
+        registryA.heartbeat();
+        registryB.heartbeat();
+
+        // 같은 Redis 에 다른 노드가 떠 있어도 두 노드의 링은 같고, 담당 설문은 겹치지 않음
+        ConsistentHashRing ringA = registryA.currentRing().orElseThrow(IllegalStateException::new);
+        ConsistentHashRing ringB = registryB.currentRing().orElseThrow(IllegalStateException::new);
+        Set<Long> ownedByA = new HashSet<>();
+        Set<Long> ownedByB = new HashSet<>();
+        for (long surveyId = 1; surveyId <= 1000; surveyId++) {
+            assertThat(ringB.ownerOf(surveyId)).isEqualTo(ringA.ownerOf(surveyId));
+            if (registryA.getNodeId().equals(ringA.ownerOf(surveyId))) {
+                ownedByA.add(surveyId);
+            }
+            if (registryB.getNodeId().equals(ringB.ownerOf(surveyId))) {
+                ownedByB.add(surveyId);
+            }
+        }
+        assertThat(ownedByA).isNotEmpty().doesNotContainAnyElementsOf(ownedByB);
+        assertThat(ownedByB).isNotEmpty();
+
+        // 노드 B 가 빠지면 B 의 설문만 다른 노드로 이동
+        registryB.leave();
+        ConsistentHashRing ringWithoutB = registryA.currentRing().orElseThrow(IllegalStateException::new);
+        for (long surveyId = 1; surveyId <= 1000; surveyId++) {
+            assertThat(ringWithoutB.ownerOf(surveyId)).isNotEqualTo(registryB.getNodeId());
+            if (ownedByA.contains(surveyId)) {
+                assertThat(ringWithoutB.ownerOf(surveyId)).isEqualTo(registryA.getNodeId());
+            }
+        }
+    }
+
+    private CompletableFuture<Optional<SchedulerLease>> tryAcquireAfter(CountDownLatch start, ConfigurableApplicationContext node) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return lock(node).tryAcquire(jobName);
+        });
+    }
+
+    private static SchedulerLock lock(ConfigurableApplicationContext node) {
+        return node.getBean(SchedulerLock.class);
+    }
+
+    private static ConfigurableApplicationContext startNode(String nodeId) {
+        return new SpringApplicationBuilder(NodeConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "scheduler.cluster.node-id=" + nodeId,
+                        "scheduler.cluster.lock-at-least-seconds=30",
+                        "spring.main.banner-mode=off")
+                .run();
+    }
+
+    @Configuration
+    @ImportAutoConfiguration(RedisAutoConfiguration.class)
+    @Import({SchedulerLock.class, SchedulerNodeRegistry.class})
+    static class NodeConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.thinkfast.service.ai;
+
+import com.example.thinkfast.exception.AiServiceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Gemini 응답 캐시 저장 조건 검증 (네트워크 없이 WebClient 응답만 흉내)
+ * 해석기는 "ok:" 로 시작하는 응답만 받아들인다.
+ */
+class GeminiApiServiceTest {
+
+    private static final String PROMPT = "prompt";
+    private static final GeminiApiService.ReplyParser<String> PARSER =
+            raw -> raw.startsWith("ok:") ? Optional.of(raw.substring(3)) : Optional.empty();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private LlmResultCache llmResultCache;
+    private String reply;
+    private GeminiApiService geminiApiService;
+
+    @BeforeEach
+    void setUp() {
+        llmResultCache = mock(LlmResultCache.class);
+        when(llmResultCache.get(anyString())).thenReturn(Optional.empty());
+
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    calls.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(geminiBody(reply))
+                            .build());
+                })
+                .build();
+        GeminiGateway gateway = new GeminiGateway(new SimpleMeterRegistry(), 100, 2, 1000, 3, 60);
+
+        geminiApiService = new GeminiApiService(webClient, llmResultCache, gateway, Schedulers.immediate());
+        ReflectionTestUtils.setField(geminiApiService, "apiUrl", "http://gemini.test/generate");
+        ReflectionTestUtils.setField(geminiApiService, "apiKey", "test-key");
+        ReflectionTestUtils.setField(geminiApiService, "timeoutSeconds", 5);
+    }
+
+    @Test
+    void unparsableReplyIsNotCached() {
+        reply = "죄송합니다. 요청을 처리할 수 없습니다.";
+
+        assertThatThrownBy(() -> geminiApiService.generateTextAsync(PROMPT, PARSER).block(Duration.ofSeconds(5)))
+                .isInstanceOf(AiServiceException.class);
+        assertThatThrownBy(() -> geminiApiService.generateText(PROMPT, PARSER))
+                .isInstanceOf(AiServiceException.class);
+
+        verify(llmResultCache, never()).put(anyString(), anyString());
+    }
+
+    @Test
+    void parsedReplyIsCached() {
+        reply = "ok:키워드";
+
+        assertThat(geminiApiService.generateTextAsync(PROMPT, PARSER).block(Duration.ofSeconds(5))).isEqualTo("키워드");
+
+        verify(llmResultCache).put(PROMPT, "ok:키워드");
+    }
+
+    @Test
+    void unparsableCachedResultIsReplacedByNewCall() {
+        when(llmResultCache.get(PROMPT)).thenReturn(Optional.of("이전 버전에서 저장된 응답"));
+        reply = "ok:키워드";
+
+        assertThat(geminiApiService.generateText(PROMPT, PARSER)).isEqualTo("키워드");
+
+        assertThat(calls.get()).isEqualTo(1);
+        verify(llmResultCache).put(PROMPT, "ok:키워드");
+    }
+
+    @Test
+    void parsedCachedResultSkipsCall() {
+        when(llmResultCache.get(PROMPT)).thenReturn(Optional.of("ok:캐시"));
+
+        assertThat(geminiApiService.generateTextAsync(PROMPT, PARSER).block(Duration.ofSeconds(5))).isEqualTo("캐시");
+
+        assertThat(calls.get()).isZero();
+    }
+
+    private String geminiBody(String text) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.putArray("candidates").addObject()
+                .putObject("content")
+                .putArray("parts").addObject()
+                .put("text", text);
+        return body.toString();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.thinkfast.service.ai;
+
+import com.example.thinkfast.exception.GeminiRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Gemini 호출 관문 검증 (네트워크 없이 호출 결과만 흉내)
+ */
+class GeminiGatewayTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void circuitOpensAfterRepeatedThrottlingAndSkipsCalls() {
+        GeminiGateway gateway = gateway(100, 60);
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> gateway.execute(() -> {
+                calls.incrementAndGet();
+                throw WebClientResponseException.create(429, "Too Many Requests", null, null, null);
+            })).isInstanceOf(WebClientResponseException.TooManyRequests.class);
+        }
+        assertThat(gateway.getCircuitState()).isEqualTo(GeminiGateway.CircuitState.OPEN);
+
+        // 회로가 열린 동안은 호출하지 않고 바로 거부
+        assertThatThrownBy(() -> gateway.execute(calls::incrementAndGet))
+                .isInstanceOf(GeminiRejectedException.class);
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("gemini.gateway.rejected").tag("reason", "circuit_open").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("gemini.gateway.circuit.state").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    void successfulProbeClosesCircuit() {
+        GeminiGateway gateway = gateway(100, 0);
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> gateway.execute(() -> {
+                throw WebClientResponseException.create(503, "Service Unavailable", null, null, null);
+            })).isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+        }
+        assertThat(gateway.getCircuitState()).isEqualTo(GeminiGateway.CircuitState.OPEN);
+
+        // open-seconds 가 지나면 시험 호출 1건 허용, 성공하면 닫힘
+        assertThat(gateway.execute(() -> "ok")).isEqualTo("ok");
+        assertThat(gateway.getCircuitState()).isEqualTo(GeminiGateway.CircuitState.CLOSED);
+    }
+
+    @Test
+    void requestsBeyondBucketAreRejectedWithoutWaiting() {
+        GeminiGateway gateway = gateway(2, 60);
+
+        assertThat(gateway.execute(() -> 1)).isEqualTo(1);
+        assertThat(gateway.execute(() -> 2)).isEqualTo(2);
+        // 분당 2건: 다음 토큰은 30초 뒤라 대기 한도(100ms)를 넘으므로 거부
+        assertThatThrownBy(() -> gateway.execute(() -> 3)).isInstanceOf(GeminiRejectedException.class);
+        assertThat(meterRegistry.get("gemini.gateway.rejected").tag("reason", "rate_limited").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void asyncCallWaitsForFreeSlotWithoutBlocking() {
+        GeminiGateway gateway = new GeminiGateway(meterRegistry, 100, 2, 2000, 3, 60);
+        // 슬롯 2개를 잠시 점유하는 호출
+        gateway.execute(Mono.delay(Duration.ofMillis(100))).subscribe();
+        gateway.execute(Mono.delay(Duration.ofMillis(100))).subscribe();
+
+        assertThat(gateway.execute(Mono.just("ok")).block(Duration.ofSeconds(5))).isEqualTo("ok");
+    }
+
+    @Test
+    void asyncCallIsRejectedWhenSlotsStayBusy() {
+        GeminiGateway gateway = gateway(100, 60);
+        gateway.execute(Mono.never()).subscribe();
+        gateway.execute(Mono.never()).subscribe();
+
+        assertThatThrownBy(() -> gateway.execute(Mono.just("ok")).block(Duration.ofSeconds(5)))
+                .isInstanceOf(GeminiRejectedException.class);
+        assertThat(meterRegistry.get("gemini.gateway.rejected").tag("reason", "concurrency").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private GeminiGateway gateway(int requestsPerMinute, long openSeconds) {
+        return new GeminiGateway(meterRegistry, requestsPerMinute, 2, 100, 3, openSeconds);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.thinkfast.service.ai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 질문별 리포트 생성 fan-out 검증 (DB/Gemini 없이 파이프라인 동작만 확인)
+ */
+class ReportFanOutExecutorTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void questionsRunConcurrently() {
+        // 4개 질문이 모두 barrier 에 동시에 도달해야 통과 (순차 실행이면 await 시간 초과로 실패)
+        CyclicBarrier barrier = new CyclicBarrier(4);
+        ReportFanOutExecutor fanOut = fanOut(4);
+
+        ReportFanOutExecutor.FanOutResult result = fanOut
+                .fanOut("insight", 1L, Arrays.asList(1L, 2L, 3L, 4L), questionId ->
+                        Mono.fromCallable(() -> barrier.await(5, TimeUnit.SECONDS))
+                                .subscribeOn(Schedulers.boundedElastic()))
+                .block(TIMEOUT);
+
+        assertThat(result.getTotal()).isEqualTo(4);
+        assertThat(result.getSucceeded()).isEqualTo(4);
+        assertThat(result.getFailed()).isZero();
+        assertThat(meterRegistry.get("survey.report.fanout").tag("outcome", "success").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    void perSurveyParallelismIsBounded() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ReportFanOutExecutor fanOut = fanOut(2);
+
+        ReportFanOutExecutor.FanOutResult result = fanOut
+                .fanOut("wordcloud", 1L, Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L), questionId ->
+                        Mono.delay(Duration.ofMillis(50))
+                                .doOnSubscribe(s -> maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max))
+                                .doFinally(signal -> running.decrementAndGet()))
+                .block(TIMEOUT);
+
+        assertThat(result.getSucceeded()).isEqualTo(6);
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    void failedQuestionsAreRecordedInResult() {
+        ReportFanOutExecutor fanOut = fanOut(3);
+
+        ReportFanOutExecutor.FanOutResult result = fanOut
+                .fanOut("insight", 1L, Arrays.asList(1L, 2L, 3L, 4L), questionId -> {
+                    if (questionId == 2L) {
+                        return Mono.error(new IllegalStateException("gemini unavailable"));
+                    }
+                    if (questionId == 3L) {
+                        // 작업 조립 중 예외도 실패로 집계
+                        throw new IllegalStateException("invalid question");
+                    }
+                    return Mono.empty();
+                })
+                .block(TIMEOUT);
+
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(meterRegistry.get("survey.report.fanout").tag("outcome", "partial").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    void batchResultsAreCountedPerQuestion() {
+        ReportFanOutExecutor fanOut = fanOut(2);
+        List<List<Long>> batches = Arrays.asList(Arrays.asList(1L, 2L, 3L), Arrays.asList(4L, 5L), Arrays.asList(6L));
+
+        ReportFanOutExecutor.FanOutResult result = fanOut
+                .fanOutBatches("wordcloud", 1L, batches, questionIds -> questionIds.contains(4L)
+                        ? Mono.error(new IllegalStateException("gemini unavailable"))
+                        : Mono.empty())
+                .block(TIMEOUT);
+
+        assertThat(result.getTotal()).isEqualTo(6);
+        assertThat(result.getSucceeded()).isEqualTo(4);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(meterRegistry.get("survey.report.fanout.questions").tag("result", "failure").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    private ReportFanOutExecutor fanOut(int perSurveyParallelism) {
+        return new ReportFanOutExecutor(meterRegistry, perSurveyParallelism);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.thinkfast.service.ai;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프롬프트용 주관식 응답 샘플러 검증
+ */
+class ResponseSamplerTest {
+
+    @Test
+    void nearDuplicatesAreMergedWithCount() {
+        ResponseSampler sampler = new ResponseSampler(10, 1L);
+        sampler.add(1L, "배송이 빨라요");
+        sampler.add(2L, "배송이   빨라요!!");
+        sampler.add(3L, "배송이 빨라요.");
+        sampler.add(4L, "가격이 비싸요");
+
+        List<ResponseSampler.SampledResponse> samples = sampler.sample();
+
+        assertThat(samples).hasSize(2);
+        ResponseSampler.SampledResponse merged = samples.stream()
+                .filter(sample -> sample.getResponseId() == 1L)
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        assertThat(merged.getSimilarCount()).isEqualTo(3);
+    }
+
+    @Test
+    void everyTimeQuarterIsRepresented() {
+        // 앞쪽 응답만 고르면 실패 (응답 ID = 도착 순서)
+        ResponseSampler sampler = new ResponseSampler(8, 42L);
+        for (long id = 0; id < 1000; id++) {
+            sampler.add(id, "응답 " + id);
+        }
+
+        List<ResponseSampler.SampledResponse> samples = sampler.sample();
+
+        assertThat(samples).hasSize(8);
+        List<Long> quarters = samples.stream()
+                .map(sample -> sample.getResponseId() / 250)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        assertThat(quarters).containsExactly(0L, 1L, 2L, 3L);
+    }
+
+    @Test
+    void rareLongAnswersAreRepresented() {
+        ResponseSampler sampler = new ResponseSampler(8, 7L);
+        for (long id = 0; id < 500; id++) {
+            sampler.add(id, "좋아요 " + id);
+        }
+        StringBuilder longAnswer = new StringBuilder("설문 문항이 많아서 응답하는 데 시간이 오래 걸렸습니다.");
+        while (longAnswer.length() <= 120) {
+            longAnswer.append(" 모바일 화면에서 선택지가 잘려 보이는 문제도 개선되면 좋겠습니다.");
+        }
+        sampler.add(500L, longAnswer.toString());
+
+        List<ResponseSampler.SampledResponse> samples = sampler.sample();
+
+        assertThat(samples).extracting(ResponseSampler.SampledResponse::getResponseId).contains(500L);
+    }
+
+    @Test
+    void sameSeedProducesSameSample() {
+        assertThat(sampleIds(3L)).isEqualTo(sampleIds(3L));
+    }
+
+    @Test
+    void normalizeCollapsesPunctuationAndRepeats() {
+        assertThat(ResponseSampler.normalize("Good!!  Goooood...")).isEqualTo("goodgod");
+        assertThat(ResponseSampler.normalize("최고예요ㅋㅋㅋㅋ")).isEqualTo(ResponseSampler.normalize("최고예요 ㅋㅋㅋ!"));
+    }
+
+    private List<Long> sampleIds(long seed) {
+        ResponseSampler sampler = new ResponseSampler(10, seed);
+        for (long id = 0; id < 300; id++) {
+            sampler.add(id, id % 7 == 0 ? "비슷한 응답" : "응답 내용 " + id);
+        }
+        return sampler.sample().stream()
+                .map(ResponseSampler.SampledResponse::getResponseId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.thinkfast.service.ai;
+
+import com.example.thinkfast.domain.survey.Question;
+import com.example.thinkfast.dto.survey.QuestionDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 리포트 재생성 watermark 가 세 생성기가 모두 성공했을 때만 저장되는지 검증 (생성기/저장은 대역 사용)
+ */
+class SurveyReportServiceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final Long SURVEY_ID = 10L;
+    private static final long SESSION_COUNT = 7L;
+
+    private SummaryService summaryService;
+    private WordCloudService wordCloudService;
+    private InsightService insightService;
+    private ReportWriter reportWriter;
+    private SurveyReportService surveyReportService;
+    private SurveyAnalysisContext context;
+
+    @BeforeEach
+    void setUp() {
+        summaryService = mock(SummaryService.class);
+        wordCloudService = mock(WordCloudService.class);
+        insightService = mock(InsightService.class);
+        reportWriter = mock(ReportWriter.class);
+        surveyReportService = new SurveyReportService(mock(SurveyAnalysisContextLoader.class), summaryService,
+                wordCloudService, insightService, reportWriter, Schedulers.immediate());
+        context = new SurveyAnalysisContext(SURVEY_ID,
+                Collections.singletonList(new QuestionDto(1L, SURVEY_ID, Question.QuestionType.SUBJECTIVE, "좋았던 점", 0)),
+                SESSION_COUNT, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(),
+                Collections.emptyMap(), Collections.emptyList(), SESSION_COUNT);
+        when(reportWriter.saveReportWatermark(SURVEY_ID, SESSION_COUNT)).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    void watermarkIsSavedAfterAllReportsSucceed() {
+        stubReports(result("wordcloud", 0), result("insight", 0), true);
+
+        assertThat(surveyReportService.generateReports(context).block(TIMEOUT)).isTrue();
+        verify(reportWriter).saveReportWatermark(SURVEY_ID, SESSION_COUNT);
+    }
+
+    @Test
+    void rejectedSummarySaveKeepsWatermark() {
+        // 요약 저장이 persistenceScheduler 에서 거부되면 SummaryService 는 false 로 끝난다
+        stubReports(result("wordcloud", 0), result("insight", 0), false);
+
+        assertThat(surveyReportService.generateReports(context).block(TIMEOUT)).isFalse();
+        verify(reportWriter, never()).saveReportWatermark(anyLong(), anyLong());
+    }
+
+    @Test
+    void failedQuestionReportKeepsWatermark() {
+        // 워드클라우드 저장 거부는 fan-out 결과의 실패 질문으로 집계된다
+        stubReports(result("wordcloud", 1), result("insight", 0), true);
+
+        assertThat(surveyReportService.generateReports(context).block(TIMEOUT)).isFalse();
+        verify(reportWriter, never()).saveReportWatermark(anyLong(), anyLong());
+    }
+
+    private void stubReports(ReportFanOutExecutor.FanOutResult wordClouds, ReportFanOutExecutor.FanOutResult insights,
+                             boolean summary) {
+        when(wordCloudService.saveWordCloudsForSurvey(context)).thenReturn(Mono.just(wordClouds));
+        when(insightService.saveInsightsForSurvey(context)).thenReturn(Mono.just(insights));
+        when(summaryService.saveSummaryReport(context)).thenReturn(Mono.just(summary));
+    }
+
+    private static ReportFanOutExecutor.FanOutResult result(String job, int failed) {
+        return new ReportFanOutExecutor.FanOutResult(job, SURVEY_ID, 1, 1 - failed, failed, 0L);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.thinkfast.service.ai;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 교차 분석용 응답 큐브 필터/분포 계산 검증
+ * 질문 10(선택지 100, 101), 질문 20(선택지 200, 201, 202)
+ */
+class SurveyResponseCubeTest {
+
+    private SurveyResponseCube cube;
+
+    @BeforeEach
+    void setUp() {
+        cube = new SurveyResponseCube(1L, new long[]{10L, 20L}, new long[][]{{100L, 101L}, {200L, 201L, 202L}}, 4L);
+        cube.load("s1", 10L, 100L);
+        cube.load("s1", 20L, 200L);
+        cube.load("s2", 10L, 100L);
+        cube.load("s2", 20L, 201L);
+        cube.load("s3", 10L, 101L);
+        cube.load("s3", 20L, 201L);
+        // 질문 20 미응답
+        cube.load("s4", 10L, 101L);
+    }
+
+    @Test
+    void distributionWithoutFilterCountsAllRespondents() {
+        SurveyResponseCube.Distribution distribution = cube.distribution(Collections.emptyMap(), new int[]{0, 1});
+
+        assertThat(distribution.getTotalRespondents()).isEqualTo(4);
+        assertThat(distribution.getMatchedRespondents()).isEqualTo(4);
+        assertThat(distribution.getOptionCounts(0)).containsExactly(2, 2);
+        assertThat(distribution.getAnswered(0)).isEqualTo(4);
+        assertThat(distribution.getOptionCounts(1)).containsExactly(1, 2, 0);
+        assertThat(distribution.getAnswered(1)).isEqualTo(3);
+    }
+
+    @Test
+    void optionsOfSameQuestionAreOredAndQuestionsAreAnded() {
+        Map<Integer, int[]> sameQuestion = new HashMap<>();
+        sameQuestion.put(1, new int[]{0, 1});
+        assertThat(cube.distribution(sameQuestion, new int[]{0}).getMatchedRespondents()).isEqualTo(3);
+
+        Map<Integer, int[]> acrossQuestions = new HashMap<>();
+        acrossQuestions.put(0, new int[]{0});
+        acrossQuestions.put(1, new int[]{1});
+        SurveyResponseCube.Distribution distribution = cube.distribution(acrossQuestions, new int[]{0, 1});
+        assertThat(distribution.getMatchedRespondents()).isEqualTo(1);
+        assertThat(distribution.getOptionCounts(0)).containsExactly(1, 0);
+        assertThat(distribution.getOptionCounts(1)).containsExactly(0, 1, 0);
+    }
+
+    @Test
+    void applyAddsNewSessionAndIgnoresLoadedSession() {
+        cube.apply("s5", Arrays.asList(new long[]{10L, 101L}, new long[]{20L, 202L}, new long[]{99L, 999L}));
+        cube.apply("s1", Collections.singletonList(new long[]{10L, 101L}));
+
+        SurveyResponseCube.Distribution distribution = cube.distribution(Collections.emptyMap(), new int[]{0, 1});
+        assertThat(distribution.getTotalRespondents()).isEqualTo(5);
+        assertThat(distribution.getOptionCounts(0)).containsExactly(2, 3);
+        assertThat(distribution.getOptionCounts(1)).containsExactly(1, 2, 1);
+        // 답변 반영 여부와 관계없이 제출 수는 모두 반영
+        assertThat(cube.getSessionCount()).isEqualTo(6);
+    }
+
+    @Test
+    void submissionWithoutChoiceAnswersIsCountedButNotLoaded() {
+        cube.apply("s6", Collections.emptyList());
+
+        assertThat(cube.getRespondents()).isEqualTo(4);
+        assertThat(cube.getSessionCount()).isEqualTo(5);
+    }
+
+    @Test
+    void multipleChoicesOfOneRespondentAreAllCounted() {
+        // s5 는 질문 20 에서 두 선택지를 고름
+        cube.apply("s5", Arrays.asList(new long[]{10L, 100L}, new long[]{20L, 200L}, new long[]{20L, 202L}));
+
+        SurveyResponseCube.Distribution distribution = cube.distribution(Collections.emptyMap(), new int[]{1});
+        assertThat(distribution.getOptionCounts(0)).containsExactly(2, 2, 1);
+        // 질문 응답자 수에는 한 번만 포함
+        assertThat(distribution.getAnswered(0)).isEqualTo(4);
+
+        Map<Integer, int[]> filter = new HashMap<>();
+        filter.put(0, new int[]{0});
+        SurveyResponseCube.Distribution filtered = cube.distribution(filter, new int[]{1});
+        assertThat(filtered.getMatchedRespondents()).isEqualTo(3);
+        assertThat(filtered.getOptionCounts(0)).containsExactly(2, 1, 1);
+        assertThat(filtered.getAnswered(0)).isEqualTo(3);
+    }
+
+    @Test
+    void respondentsGrowBeyondInitialBitSetSize() {
+        for (int i = 0; i < 200; i++) {
+            cube.apply("grow-" + i, Collections.singletonList(new long[]{20L, 202L}));
+        }
+
+        Map<Integer, int[]> filter = new HashMap<>();
+        filter.put(1, new int[]{2});
+        SurveyResponseCube.Distribution distribution = cube.distribution(filter, new int[]{0, 1});
+        assertThat(distribution.getTotalRespondents()).isEqualTo(204);
+        assertThat(distribution.getMatchedRespondents()).isEqualTo(200);
+        assertThat(distribution.getOptionCounts(1)).containsExactly(0, 0, 200);
+        // 질문 10 은 응답하지 않았으므로 분포에서 제외
+        assertThat(distribution.getAnswered(0)).isEqualTo(0);
+    }
+
+    @Test
+    void unknownQuestionOrOptionIsNegativeIndex() {
+        assertThat(cube.questionIndex(20L)).isEqualTo(1);
+        assertThat(cube.questionIndex(30L)).isNegative();
+        assertThat(cube.optionIndex(1, 201L)).isEqualTo(1);
+        assertThat(cube.optionIndex(1, 100L)).isNegative();
+        assertThat(cube.optionId(1, 2)).isEqualTo(202L);
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.thinkfast.service.ai;
+
+import com.example.thinkfast.domain.survey.Question;
+import com.example.thinkfast.dto.ai.WordCloudDto;
+import com.example.thinkfast.dto.ai.WordCloudResponseDto;
+import com.example.thinkfast.dto.survey.QuestionDto;
+import com.example.thinkfast.exception.AiServiceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 묶음 워드클라우드 응답 파싱과 질문별 Java 폴백 검증 (Gemini/DB 없이 대역 사용)
+ */
+class WordCloudServiceTest {
+
+    private static final List<Long> QUESTION_IDS = Arrays.asList(1L, 2L);
+
+    private GeminiApiService geminiApiService;
+    private TextAnalysisService textAnalysisService;
+    private WordCloudService wordCloudService;
+
+    @BeforeEach
+    void setUp() {
+        geminiApiService = mock(GeminiApiService.class);
+        textAnalysisService = mock(TextAnalysisService.class);
+        wordCloudService = new WordCloudService(null, null, null, null, null, textAnalysisService, null,
+                new ObjectMapper(), geminiApiService, mock(PromptSamplePolicy.class), Schedulers.immediate());
+        ReflectionTestUtils.setField(wordCloudService, "llmWordCloudEnabled", true);
+        ReflectionTestUtils.setField(wordCloudService, "batchSize", 4);
+    }
+
+    @Test
+    void batchReplyIsParsedFromSurroundingText() {
+        String raw = "다음은 결과입니다.\n```json\n" +
+                "{\"results\":[{\"questionId\":1,\"keywords\":[{\"word\":\"배송\",\"count\":3},{\"word\":\"가격\",\"count\":5}]}," +
+                "{\"questionId\":2,\"keywords\":[{\"word\":\"친절\",\"count\":2}]}]}\n```\n감사합니다.";
+
+        Map<Long, List<WordCloudDto>> keywords = parse(raw, 10);
+
+        assertThat(keywords).containsOnlyKeys(1L, 2L);
+        // 빈도수 내림차순
+        assertThat(keywords.get(1L)).extracting(WordCloudDto::getWord).containsExactly("가격", "배송");
+        assertThat(keywords.get(2L)).extracting(WordCloudDto::getCount).containsExactly(2);
+    }
+
+    @Test
+    void unknownQuestionIdsAreIgnored() {
+        String raw = "{\"results\":[{\"questionId\":99,\"keywords\":[{\"word\":\"무관\",\"count\":9}]}," +
+                "{\"questionId\":\"abc\",\"keywords\":[{\"word\":\"무관\",\"count\":9}]}," +
+                "{\"questionId\":2,\"keywords\":[{\"word\":\"친절\",\"count\":2}]}]}";
+
+        assertThat(parse(raw, 10)).containsOnlyKeys(2L);
+    }
+
+    @Test
+    void blankWordsAndNonPositiveCountsAreDropped() {
+        String raw = "{\"results\":[{\"questionId\":1,\"keywords\":[" +
+                "{\"word\":\"  \",\"count\":4},{\"word\":\"가격\",\"count\":0},{\"word\":\"배송\",\"count\":-1}," +
+                "{\"word\":\"품질\"},{\"word\":\"친절\",\"count\":\"x\"},{\"word\":\" 포장 \",\"count\":1}]}]}";
+
+        Map<Long, List<WordCloudDto>> keywords = parse(raw, 10);
+
+        assertThat(keywords.get(1L)).extracting(WordCloudDto::getWord).containsExactly("포장");
+    }
+
+    @Test
+    void keywordsAreLimitedToMaxCount() {
+        String raw = "{\"results\":[{\"questionId\":1,\"keywords\":[" +
+                "{\"word\":\"a\",\"count\":1},{\"word\":\"b\",\"count\":3},{\"word\":\"c\",\"count\":2}]}]}";
+
+        assertThat(parse(raw, 2).get(1L)).extracting(WordCloudDto::getWord).containsExactly("b", "c");
+    }
+
+    @Test
+    void replyWithoutJsonParsesToEmptyMap() {
+        assertThat(parse("키워드를 추출할 수 없습니다.", 10)).isEmpty();
+        assertThat(parse(null, 10)).isEmpty();
+    }
+
+    @Test
+    void questionMissingFromBatchReplyFallsBackToJava() {
+        // 질문 1 만 응답에 포함됨
+        String raw = "{\"results\":[{\"questionId\":1,\"keywords\":[{\"word\":\"배송\",\"count\":3}]}]}";
+        replyWith(raw);
+        when(textAnalysisService.getTopKeywordsAsync(anyString(), anyInt())).thenReturn(CompletableFuture.completedFuture(
+                Collections.singletonList(new AbstractMap.SimpleEntry<>("친절", 4))));
+
+        Map<Long, WordCloudResponseDto> wordClouds = wordCloudService.generateWordClouds(context(), QUESTION_IDS, 10)
+                .block(Duration.ofSeconds(5));
+
+        assertThat(wordClouds).containsOnlyKeys(1L, 2L);
+        assertThat(wordClouds.get(1L).getWordCloud()).extracting(WordCloudDto::getWord).containsExactly("배송");
+        assertThat(wordClouds.get(2L).getWordCloud()).extracting(WordCloudDto::getWord).containsExactly("친절");
+        assertThat(wordClouds.get(2L).getTotalResponses()).isEqualTo(2L);
+        // Java 폴백은 누락된 질문의 응답만 분석
+        verify(textAnalysisService).getTopKeywordsAsync(eq("친절해요 직원이 친절"), eq(10));
+        verify(textAnalysisService, never()).getTopKeywordsAsync(eq("배송이 빨라요 배송 좋음"), anyInt());
+    }
+
+    @Test
+    void unparsableBatchReplyFallsBackToJavaForEveryQuestion() {
+        replyWith("죄송합니다.");
+        when(textAnalysisService.getTopKeywordsAsync(anyString(), anyInt())).thenReturn(CompletableFuture.completedFuture(
+                Collections.singletonList(new AbstractMap.SimpleEntry<>("폴백", 1))));
+
+        Map<Long, WordCloudResponseDto> wordClouds = wordCloudService.generateWordClouds(context(), QUESTION_IDS, 10)
+                .block(Duration.ofSeconds(5));
+
+        assertThat(wordClouds.values()).allSatisfy(wordCloud ->
+                assertThat(wordCloud.getWordCloud()).extracting(WordCloudDto::getWord).containsExactly("폴백"));
+    }
+
+    private Map<Long, List<WordCloudDto>> parse(String raw, int maxCount) {
+        return ReflectionTestUtils.invokeMethod(wordCloudService, "parseBatchWordCloudKeywords", raw, QUESTION_IDS, maxCount);
+    }
+
+    // 실제 해석기로 응답을 해석해, 해석되지 않으면 GeminiApiService 처럼 오류로 끝냄
+    @SuppressWarnings("unchecked")
+    private void replyWith(String raw) {
+        when(geminiApiService.generateTextAsync(anyString(), any())).thenAnswer(invocation -> {
+            GeminiApiService.ReplyParser<Object> parser = invocation.getArgument(1);
+            return parser.parse(raw)
+                    .map(Mono::just)
+                    .orElseGet(() -> Mono.error(new AiServiceException("unparsable")));
+        });
+    }
+
+    private static SurveyAnalysisContext context() {
+        List<QuestionDto> questions = Arrays.asList(
+                new QuestionDto(1L, 10L, Question.QuestionType.SUBJECTIVE, "좋았던 점", 0),
+                new QuestionDto(2L, 10L, Question.QuestionType.SUBJECTIVE, "직원 응대", 1));
+        Map<Long, Long> respondentCounts = new HashMap<>();
+        respondentCounts.put(1L, 2L);
+        respondentCounts.put(2L, 2L);
+        Map<Long, List<String>> contents = new HashMap<>();
+        contents.put(1L, Arrays.asList("배송이 빨라요", "배송 좋음"));
+        contents.put(2L, Arrays.asList("친절해요", "직원이 친절"));
+        return new SurveyAnalysisContext(10L, questions, 2L, respondentCounts, Collections.emptyMap(), contents,
+                Collections.emptyMap(), Collections.emptyList(), 2L);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.thinkfast.service.survey;
+
+import com.example.thinkfast.repository.survey.QuestionOptionCountRepository;
+import com.example.thinkfast.service.survey.event.ResponseSubmittedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 증분 누적/flush 검증 (Redis 는 대역으로 HINCRBY 인자만 합산)
+ * 기록과 flush 가 동시에 실행되어도 epoch 교체 시점의 증분이 빠지거나 두 번 반영되지 않아야 한다.
+ */
+class ResponseCountStoreTest {
+
+    private final Map<String, AtomicLong> flushed = new ConcurrentHashMap<>();
+
+    private ResponseCountStore responseCountStore;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.opsForSet()).thenReturn(mock(SetOperations.class));
+        doAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(1);
+            Object[] args = invocation.getArguments();
+            // args[2..]: TTL, field/delta 쌍
+            for (int i = 3; i + 1 < args.length; i += 2) {
+                flushed.computeIfAbsent(keys.get(0) + "|" + args[i], key -> new AtomicLong())
+                        .addAndGet(Long.parseLong((String) args[i + 1]));
+            }
+            return 1L;
+        }).when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        responseCountStore = new ResponseCountStore(redisTemplate, mock(QuestionOptionCountRepository.class),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void concurrentRecordsAreFlushedExactlyOnce() throws Exception {
+        int threads = 4;
+        int perThread = 5000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean recording = new AtomicBoolean(true);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    responseCountStore.record(event(i % 2 == 0 ? 100L : 101L));
+                }
+                done.countDown();
+            });
+        }
+        // 기록 도중 계속 flush (epoch 교체)
+        Thread flusher = new Thread(() -> {
+            while (recording.get()) {
+                responseCountStore.flush();
+            }
+        });
+        flusher.start();
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        recording.set(false);
+        flusher.join();
+        executor.shutdown();
+        responseCountStore.flush();
+
+        long submissions = (long) threads * perThread;
+        assertThat(flushed.get("survey:counts:question:1|total").get()).isEqualTo(submissions);
+        assertThat(flushed.get("survey:counts:question:1|o:100").get()).isEqualTo(submissions / 2);
+        assertThat(flushed.get("survey:counts:question:1|o:101").get()).isEqualTo(submissions / 2);
+        assertThat(flushed.get("survey:counts:question:2|total").get()).isEqualTo(submissions);
+    }
+
+    private ResponseSubmittedEvent event(long optionId) {
+        return new ResponseSubmittedEvent(1L, "session", Arrays.asList(
+                new ResponseSubmittedEvent.Answer(1L, "MULTIPLE_CHOICE", optionId),
+                new ResponseSubmittedEvent.Answer(2L, "SUBJECTIVE", null)));
+    }
+}
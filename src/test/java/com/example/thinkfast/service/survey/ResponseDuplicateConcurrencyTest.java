@@ -0,0 +1,133 @@
+package com.example.thinkfast.service.survey;
+
+import com.example.thinkfast.dto.survey.CreateResponseRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 디바이스/IP 의 동시 제출 중 정확히 한 건만 저장되는지, 한쪽만 있는 제출의 중복 정책이 지켜지는지 검증
+ * (SURVEY_RESPONSE_HISTORY UNIQUE 키, SURVEY_RESPONSE_CLAIMS)
+ * 실제 DB 가 필요하므로 THINKFAST_INTEGRATION=true 일 때만 실행되며, 생성한 데이터는 테스트 후 삭제한다.
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "THINKFAST_INTEGRATION", matches = "true")
+class ResponseDuplicateConcurrencyTest {
+
+    private static final int CONCURRENT_SUBMISSIONS = 16;
+    private static final Long TEST_SURVEY_ID = -4L;
+    private static final Long TEST_QUESTION_ID = -4L;
+
+    @Autowired
+    private ResponseService responseService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM RESPONSES WHERE QUESTION_ID = ?", TEST_QUESTION_ID);
+        jdbcTemplate.update("DELETE FROM SURVEY_RESPONSE_HISTORY WHERE SURVEY_ID = ?", TEST_SURVEY_ID);
+        jdbcTemplate.update("DELETE FROM SURVEY_RESPONSE_CLAIMS WHERE SURVEY_ID = ?", TEST_SURVEY_ID);
+        jdbcTemplate.update("DELETE FROM QUESTION_OPTION_COUNTS WHERE QUESTION_ID = ?", TEST_QUESTION_ID);
+        jdbcTemplate.update("DELETE FROM SURVEY_SESSION_COUNTS WHERE SURVEY_ID = ?", TEST_SURVEY_ID);
+    }
+
+    @Test
+    void onlyOneOfConcurrentDuplicateSubmissionsIsStored() throws Exception {
+        CreateResponseRequest request = request("concurrency-test-device");
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_SUBMISSIONS);
+        CountDownLatch ready = new CountDownLatch(CONCURRENT_SUBMISSIONS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_SUBMISSIONS; i++) {
+                Callable<Boolean> submit = () -> {
+                    ready.countDown();
+                    start.await();
+                    return responseService.createResponse(null, TEST_SURVEY_ID, "10.0.0.4", request);
+                };
+                results.add(executor.submit(submit));
+            }
+            ready.await(10, TimeUnit.SECONDS);
+            start.countDown();
+
+            int stored = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(30, TimeUnit.SECONDS)) {
+                    stored++;
+                }
+            }
+
+            assertThat(stored).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM SURVEY_RESPONSE_HISTORY WHERE SURVEY_ID = ?", Integer.class, TEST_SURVEY_ID))
+                    .isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM RESPONSES WHERE QUESTION_ID = ?", Integer.class, TEST_QUESTION_ID))
+                    .isEqualTo(1);
+            // 집계 테이블도 저장된 제출 1건만 반영 (중복 제출은 같은 트랜잭션에서 증가하지 않음)
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT SESSION_COUNT FROM SURVEY_SESSION_COUNTS WHERE SURVEY_ID = ?", Long.class, TEST_SURVEY_ID))
+                    .isEqualTo(1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void ipOnlySubmissionIsDuplicateOfAnyHistoryWithSameIp() throws Exception {
+        assertThat(responseService.createResponse(null, TEST_SURVEY_ID, "10.0.0.4", request("device-a"))).isTrue();
+
+        // deviceId 를 빼고 다시 제출해도 같은 IP 의 이력이 있으므로 중복
+        assertThat(responseService.createResponse(null, TEST_SURVEY_ID, "10.0.0.4", request(null))).isFalse();
+        // 다른 deviceId 와 같은 IP 의 조합은 허용
+        assertThat(responseService.createResponse(null, TEST_SURVEY_ID, "10.0.0.4", request("device-b"))).isTrue();
+    }
+
+    @Test
+    void deviceOnlySubmissionIsDuplicateOfAnyHistoryWithSameDevice() throws Exception {
+        assertThat(responseService.createResponse(null, TEST_SURVEY_ID, "10.0.0.4", request("device-a"))).isTrue();
+
+        assertThat(responseService.createResponse(null, TEST_SURVEY_ID, null, request("device-a"))).isFalse();
+        assertThat(responseService.createResponse(null, TEST_SURVEY_ID, "10.0.0.5", request("device-a"))).isTrue();
+    }
+
+    @Test
+    void pairedSubmissionIsOnlyDuplicateOfSamePair() throws Exception {
+        assertThat(responseService.createResponse(null, TEST_SURVEY_ID, "10.0.0.4", request(null))).isTrue();
+        assertThat(responseService.createResponse(null, TEST_SURVEY_ID, null, request("device-a"))).isTrue();
+
+        // 한쪽만 있던 이력과는 조합이 다르므로 허용
+        assertThat(responseService.createResponse(null, TEST_SURVEY_ID, "10.0.0.4", request("device-a"))).isTrue();
+        assertThat(responseService.createResponse(null, TEST_SURVEY_ID, "10.0.0.4", request("device-a"))).isFalse();
+    }
+
+    private CreateResponseRequest request(String deviceId) throws IOException {
+        String clientInfo = deviceId != null ? "{\"deviceId\":\"" + deviceId + "\"}" : "{}";
+        return objectMapper.readValue(
+                "{\"clientInfo\":" + clientInfo + "," +
+                "\"answers\":[{\"questionId\":" + TEST_QUESTION_ID + ",\"type\":\"SUBJECTIVE\",\"content\":\"answer\"}]}",
+                CreateResponseRequest.class);
+    }
+}
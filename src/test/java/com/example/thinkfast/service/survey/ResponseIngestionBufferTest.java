@@ -0,0 +1,234 @@
+package com.example.thinkfast.service.survey;
+
+import com.example.thinkfast.dto.survey.CreateResponseRequest;
+import com.example.thinkfast.dto.survey.PendingSubmission;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * write-behind 버퍼 종료/실패 처리 검증 (DB 없이 ResponseService 를 대역으로 사용)
+ * 종료 대기 시간을 0 으로 두어 shutdown 이 곧바로 writer 를 인터럽트하게 한다.
+ */
+class ResponseIngestionBufferTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    private Path spillDir;
+    private Path deadLetterDir;
+    private ResponseService responseService;
+    private ResponseIngestionBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        spillDir = tempDir.resolve("spill");
+        deadLetterDir = tempDir.resolve("dead-letter");
+        responseService = mock(ResponseService.class);
+        when(responseService.getRandomUuid()).thenReturn("session-1", "session-2", "session-3");
+
+        buffer = new ResponseIngestionBuffer(responseService, objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(buffer, "enabled", true);
+        ReflectionTestUtils.setField(buffer, "queueCapacity", 100);
+        ReflectionTestUtils.setField(buffer, "writerThreads", 1);
+        ReflectionTestUtils.setField(buffer, "maxBatchSize", 10);
+        ReflectionTestUtils.setField(buffer, "flushRetries", 3);
+        ReflectionTestUtils.setField(buffer, "shutdownTimeoutSeconds", 0L);
+        ReflectionTestUtils.setField(buffer, "spillDir", spillDir.toString());
+        ReflectionTestUtils.setField(buffer, "deadLetterDir", deadLetterDir.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(buffer, "shutdownTimeoutSeconds", 5L);
+        buffer.shutdown();
+    }
+
+    @Test
+    void interruptedFlushIsSpilledToDisk() throws Exception {
+        ReflectionTestUtils.setField(buffer, "maxFlushLatencyMs", 0L);
+        CountDownLatch flushing = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            flushing.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                // JDBC 드라이버처럼 인터럽트 상태를 남기고 예외로 실패
+                Thread.currentThread().interrupt();
+                throw new QueryTimeoutException("interrupted");
+            }
+            return invocation.getArgument(0);
+        }).when(responseService).createResponses(anyList());
+        buffer.start();
+
+        assertThat(buffer.offer(1L, "10.0.0.1", request("device-1"))).isEqualTo(ResponseIngestionBuffer.OfferResult.ACCEPTED);
+        assertThat(flushing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        buffer.shutdown();
+
+        List<PendingSubmission> spilled = read(spillDir);
+        assertThat(spilled).extracting(PendingSubmission::getDeviceId).containsExactly("device-1");
+        assertThat(buffer.isPending(1L, "device-1", "10.0.0.1")).isFalse();
+    }
+
+    @Test
+    void batchBeingCollectedIsFlushedWhenInterrupted() throws Exception {
+        // 배치 마감까지 오래 기다리는 동안 종료
+        ReflectionTestUtils.setField(buffer, "maxFlushLatencyMs", TimeUnit.SECONDS.toMillis(30));
+        List<List<PendingSubmission>> flushed = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<PendingSubmission> batch = new ArrayList<>(invocation.getArgument(0));
+            flushed.add(batch);
+            return batch;
+        }).when(responseService).createResponses(anyList());
+        buffer.start();
+
+        buffer.offer(1L, "10.0.0.1", request("device-1"));
+        buffer.offer(1L, "10.0.0.2", request("device-2"));
+        Thread.sleep(200);
+
+        buffer.shutdown();
+
+        assertThat(flushed).hasSize(1);
+        assertThat(flushed.get(0)).extracting(PendingSubmission::getDeviceId).containsExactly("device-1", "device-2");
+        assertThat(read(spillDir)).isEmpty();
+    }
+
+    @Test
+    void pendingDuplicateIsReportedAsDuplicate() throws Exception {
+        ReflectionTestUtils.setField(buffer, "maxFlushLatencyMs", TimeUnit.SECONDS.toMillis(30));
+        buffer.start();
+
+        assertThat(buffer.offer(1L, "10.0.0.1", request("device-1"))).isEqualTo(ResponseIngestionBuffer.OfferResult.ACCEPTED);
+        assertThat(buffer.offer(1L, "10.0.0.1", request("device-1"))).isEqualTo(ResponseIngestionBuffer.OfferResult.DUPLICATE);
+    }
+
+    @Test
+    void failingSubmissionIsDeadLetteredAndRestOfBatchIsSaved() throws Exception {
+        ReflectionTestUtils.setField(buffer, "maxFlushLatencyMs", 300L);
+        ReflectionTestUtils.setField(buffer, "flushRetries", 1);
+        List<String> saved = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            List<PendingSubmission> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(submission -> "device-2".equals(submission.getDeviceId()))) {
+                throw new DataIntegrityViolationException("bad answer");
+            }
+            batch.forEach(submission -> saved.add(submission.getDeviceId()));
+            return batch;
+        }).when(responseService).createResponses(anyList());
+        buffer.start();
+
+        buffer.offer(1L, "10.0.0.1", request("device-1"));
+        buffer.offer(1L, "10.0.0.2", request("device-2"));
+        buffer.offer(1L, "10.0.0.3", request("device-3"));
+        awaitFiles(deadLetterDir);
+
+        assertThat(saved).containsExactly("device-1", "device-3");
+        assertThat(read(deadLetterDir)).extracting(PendingSubmission::getDeviceId).containsExactly("device-2");
+        assertThat(read(spillDir)).isEmpty();
+    }
+
+    @Test
+    void transientFailureSpillsWithoutDeadLetter() throws Exception {
+        ReflectionTestUtils.setField(buffer, "maxFlushLatencyMs", 300L);
+        ReflectionTestUtils.setField(buffer, "flushRetries", 1);
+        when(responseService.createResponses(anyList())).thenThrow(new QueryTimeoutException("db down"));
+        buffer.start();
+
+        buffer.offer(1L, "10.0.0.1", request("device-1"));
+        buffer.offer(1L, "10.0.0.2", request("device-2"));
+        awaitFiles(spillDir);
+
+        assertThat(read(spillDir)).extracting(PendingSubmission::getDeviceId).containsExactly("device-1", "device-2");
+        assertThat(read(deadLetterDir)).isEmpty();
+    }
+
+    @Test
+    void replayDeadLettersFailingSubmissionAndRemovesSpillFile() throws Exception {
+        Files.createDirectories(spillDir);
+        Files.write(spillDir.resolve("ingestion-spill-1-test.jsonl"), Stream.of("device-1", "device-2")
+                .map(deviceId -> toJson(new PendingSubmission(1L, "session-" + deviceId, "10.0.0.1", deviceId,
+                        Collections.emptyList(), 0L)))
+                .collect(Collectors.toList()), StandardCharsets.UTF_8);
+        List<String> saved = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            List<PendingSubmission> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(submission -> "device-2".equals(submission.getDeviceId()))) {
+                throw new DataIntegrityViolationException("bad answer");
+            }
+            batch.forEach(submission -> saved.add(submission.getDeviceId()));
+            return batch;
+        }).when(responseService).createResponses(anyList());
+        buffer.start();
+
+        buffer.replaySpilledSubmissions();
+
+        assertThat(saved).containsExactly("device-1");
+        assertThat(read(deadLetterDir)).extracting(PendingSubmission::getDeviceId).containsExactly("device-2");
+        assertThat(read(spillDir)).isEmpty();
+    }
+
+    private CreateResponseRequest request(String deviceId) throws IOException {
+        return objectMapper.readValue(
+                "{\"clientInfo\":{\"deviceId\":\"" + deviceId + "\"}," +
+                "\"answers\":[{\"questionId\":1,\"type\":\"SUBJECTIVE\",\"content\":\"answer\"}]}",
+                CreateResponseRequest.class);
+    }
+
+    private String toJson(PendingSubmission submission) {
+        try {
+            return objectMapper.writeValueAsString(submission);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitFiles(Path dir) throws Exception {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (read(dir).isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private List<PendingSubmission> read(Path dir) throws IOException {
+        List<PendingSubmission> submissions = new ArrayList<>();
+        if (!Files.isDirectory(dir)) {
+            return submissions;
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    submissions.add(objectMapper.readValue(line, PendingSubmission.class));
+                }
+            }
+        }
+        return submissions;
+    }
+}
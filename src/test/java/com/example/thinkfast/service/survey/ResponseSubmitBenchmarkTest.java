@@ -0,0 +1,124 @@
+package com.example.thinkfast.service.survey;
+
+import com.example.thinkfast.domain.survey.Response;
+import com.example.thinkfast.domain.survey.SurveyResponseHistory;
+import com.example.thinkfast.repository.survey.ResponseJdbcRepository;
+import com.example.thinkfast.repository.survey.ResponseRepository;
+import com.example.thinkfast.repository.survey.SurveyResponseHistoryRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 응답 제출 저장 경로 벤치마크 (답변 10 / 50 / 200 개)
+ * - before: responseRepository.save() 반복 + 이력 JPA save
+ * - after : ResponseJdbcRepository multi-row INSERT + 이력 JDBC INSERT
+ * 실제 DB 가 필요하므로 THINKFAST_BENCHMARK=true 일 때만 실행되며, 모든 트랜잭션은 롤백된다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "THINKFAST_BENCHMARK", matches = "true")
+class ResponseSubmitBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 30;
+    private static final Long BENCHMARK_SURVEY_ID = -1L;
+
+    @Autowired
+    private ResponseRepository responseRepository;
+
+    @Autowired
+    private SurveyResponseHistoryRepository surveyResponseHistoryRepository;
+
+    @Autowired
+    private ResponseJdbcRepository responseJdbcRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void compareSubmitLatency() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        System.out.println("answers | before p50 / p95 (ms) | after p50 / p95 (ms)");
+        for (int answerCount : new int[]{10, 50, 200}) {
+            long[] before = measure(transactionTemplate, answerCount, false);
+            long[] after = measure(transactionTemplate, answerCount, true);
+            System.out.printf("%7d | %8.2f / %8.2f     | %8.2f / %8.2f%n",
+                    answerCount,
+                    percentile(before, 50), percentile(before, 95),
+                    percentile(after, 50), percentile(after, 95));
+        }
+    }
+
+    private long[] measure(TransactionTemplate transactionTemplate, int answerCount, boolean batched) {
+        long[] samples = new long[MEASURE_ROUNDS];
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURE_ROUNDS; round++) {
+            List<Response> responses = buildResponses(answerCount);
+            SurveyResponseHistory history = SurveyResponseHistory.builder()
+                    .surveyId(BENCHMARK_SURVEY_ID)
+                    .deviceIdHash(UUID.randomUUID().toString())
+                    .ipAddressHash(UUID.randomUUID().toString())
+                    .respondedAt(LocalDateTime.now())
+                    .build();
+
+            long start = System.nanoTime();
+            transactionTemplate.execute(status -> {
+                if (batched) {
+                    responseJdbcRepository.insertAll(responses);
+                    responseJdbcRepository.insertHistoryIfAbsent(history);
+                } else {
+                    for (Response response : responses) {
+                        responseRepository.save(response);
+                    }
+                    surveyResponseHistoryRepository.save(history);
+                }
+                // flush 까지 포함해 측정한 뒤 롤백 (벤치마크 데이터를 남기지 않음)
+                responseRepository.flush();
+                status.setRollbackOnly();
+                return null;
+            });
+            long elapsed = System.nanoTime() - start;
+
+            if (round >= WARMUP_ROUNDS) {
+                samples[round - WARMUP_ROUNDS] = elapsed;
+            }
+        }
+        return samples;
+    }
+
+    private List<Response> buildResponses(int answerCount) {
+        String sessionId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        List<Response> responses = new ArrayList<>(answerCount);
+        for (int i = 0; i < answerCount; i++) {
+            boolean subjective = i % 2 == 0;
+            responses.add(Response.builder()
+                    .responseSessionId(sessionId)
+                    .questionId((long) -(i + 1))
+                    .questionType(subjective ? "SUBJECTIVE" : "MULTIPLE_CHOICE")
+                    .optionId(subjective ? null : (long) -(i + 1))
+                    .subjectiveContent(subjective ? "benchmark answer " + i : null)
+                    .createdAt(now)
+                    .build());
+        }
+        return responses;
+    }
+
+    private double percentile(long[] samples, int percentile) {
+        long[] sorted = Arrays.copyOf(samples, samples.length);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}